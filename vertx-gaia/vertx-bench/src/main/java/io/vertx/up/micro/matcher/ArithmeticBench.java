@@ -0,0 +1,90 @@
+package io.vertx.up.micro.matcher;
+
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.servicediscovery.Record;
+import io.vertx.servicediscovery.types.HttpEndpoint;
+import io.vertx.up.micro.discovery.Origin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Api Gateway: uri -> record by CommonArithmetic with route index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArithmeticBench {
+
+    @Param({"100", "1000"})
+    private int routes;
+
+    @Param({"ROUND_ROBIN", "LEAST"})
+    private String balancer;
+
+    private Arithmetic arithmetic;
+    private RouteIndex index;
+    private RoutingContext staticPath;
+    private RoutingContext variablePath;
+
+    private static RoutingContext context(final String path) {
+        final HttpServerRequest request = (HttpServerRequest) Proxy.newProxyInstance(
+                ArithmeticBench.class.getClassLoader(), new Class<?>[]{HttpServerRequest.class},
+                (proxy, method, args) -> "path".equals(method.getName()) ? path : null);
+        return (RoutingContext) Proxy.newProxyInstance(
+                ArithmeticBench.class.getClassLoader(), new Class<?>[]{RoutingContext.class},
+                (proxy, method, args) -> "request".equals(method.getName()) ? request : null);
+    }
+
+    private static Record record(final String name, final int port, final String path) {
+        return HttpEndpoint.createRecord(name, "localhost", port, "/*",
+                new JsonObject().put(Origin.ID, name + port + path).put(Origin.PATH, path));
+    }
+
+    @Setup
+    public void setUp() {
+        final List<Record> records = new ArrayList<>();
+        for (int idx = 0; idx < this.routes; idx++) {
+            for (final int port : new int[]{6083, 6084}) {
+                records.add(record("api-" + idx % 10, port, "/api/module" + idx + "/list"));
+                records.add(record("api-" + idx % 10, port, "/api/module" + idx + "/:key"));
+            }
+        }
+        this.index = RouteIndex.create(1L, records);
+        this.arithmetic = new CommonArithmetic(new JsonObject().put("type", this.balancer));
+        this.staticPath = context("/api/module" + (this.routes - 1) + "/list");
+        this.variablePath = context("/api/module" + (this.routes - 1) + "/zero");
+    }
+
+    @Benchmark
+    public Record searchStatic() {
+        final Record record = this.arithmetic.search(this.index, this.staticPath);
+        this.arithmetic.release(record);
+        return record;
+    }
+
+    @Benchmark
+    public Record searchVariable() {
+        final Record record = this.arithmetic.search(this.index, this.variablePath);
+        this.arithmetic.release(record);
+        return record;
+    }
+}
@@ -0,0 +1,54 @@
+package io.vertx.zero.bench;
+
+import io.vertx.up.log.Annal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logger lookup and disabled ( debug ) logs, run with "-prof gc" to compare gc.alloc.rate.norm,
+ * the guarded / supplier logs should be 0 B/op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnnalBench {
+
+    private static final Annal LOGGER = Annal.get(AnnalBench.class);
+    private static final String MESSAGE = "[ ZERO Bench ] key = {0}, value = {1}";
+
+    private int value = 1024;
+
+    @Benchmark
+    public Annal get() {
+        return Annal.get(AnnalBench.class);
+    }
+
+    @Benchmark
+    public void debug() {
+        LOGGER.debug(MESSAGE, "key", this.value);
+    }
+
+    @Benchmark
+    public void debugGuarded() {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(MESSAGE, "key", this.value);
+        }
+    }
+
+    @Benchmark
+    public void debugSupplier() {
+        LOGGER.debug(() -> MESSAGE);
+    }
+}
@@ -0,0 +1,140 @@
+package io.vertx.zero.bench;
+
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.EnvelopCodec;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.handler.BodyHandler;
+import io.vertx.up.atom.Envelop;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.ServerSocket;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End to end: Http Request -> Event Bus -> Worker -> Event Bus -> Http Response,
+ * the same flow as @EndPoint + @Address and @Queue + @Address of zero.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class DispatchBench {
+
+    private static final String ADDRESS = "ZERO://BENCH/DISPATCH";
+    private static final String URI = "/api/bench/dispatch";
+    private static final long TIMEOUT = 10L;
+
+    @Param({"10", "100"})
+    private int items;
+
+    private Vertx vertx;
+    private HttpServer server;
+    private HttpClient client;
+    private Buffer body;
+    private int port;
+
+    private static <T> T await(final CompletableFuture<T> future) throws Exception {
+        return future.get(TIMEOUT, TimeUnit.SECONDS);
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        try (final ServerSocket socket = new ServerSocket(0)) {
+            this.port = socket.getLocalPort();
+        }
+        this.vertx = Vertx.vertx();
+        this.vertx.eventBus().registerDefaultCodec(Envelop.class, new EnvelopCodec());
+        // Worker ( @Queue )
+        final CompletableFuture<String> deployed = new CompletableFuture<>();
+        this.vertx.deployVerticle(WorkerVerticle.class.getName(),
+                new DeploymentOptions().setWorker(true).setInstances(4), res -> {
+                    if (res.succeeded()) {
+                        deployed.complete(res.result());
+                    } else {
+                        deployed.completeExceptionally(res.cause());
+                    }
+                });
+        await(deployed);
+        // Agent ( @EndPoint )
+        final Router router = Router.router(this.vertx);
+        router.route().handler(BodyHandler.create());
+        router.post(URI).handler(context -> {
+            final Envelop request = Envelop.success(context.getBodyAsJson());
+            this.vertx.eventBus().<Envelop>send(ADDRESS, request, reply -> {
+                if (reply.succeeded()) {
+                    final Envelop response = reply.result().body();
+                    context.response().putHeader("Content-Type", "application/json")
+                            .end(response.responseString());
+                } else {
+                    context.fail(reply.cause());
+                }
+            });
+        });
+        final CompletableFuture<HttpServer> started = new CompletableFuture<>();
+        this.vertx.createHttpServer().requestHandler(router).listen(this.port, "localhost", res -> {
+            if (res.succeeded()) {
+                started.complete(res.result());
+            } else {
+                started.completeExceptionally(res.cause());
+            }
+        });
+        this.server = await(started);
+        this.client = this.vertx.createHttpClient(new HttpClientOptions()
+                .setDefaultHost("localhost").setDefaultPort(this.port)
+                .setKeepAlive(true).setMaxPoolSize(16));
+        this.body = EnvelopBench.payload(this.items).toBuffer();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        this.client.close();
+        final CompletableFuture<Void> closed = new CompletableFuture<>();
+        this.vertx.close(res -> closed.complete(null));
+        await(closed);
+    }
+
+    @Benchmark
+    public Buffer dispatch() throws Exception {
+        final CompletableFuture<Buffer> future = new CompletableFuture<>();
+        this.client.post(URI, response -> {
+            response.exceptionHandler(future::completeExceptionally);
+            response.bodyHandler(future::complete);
+        }).exceptionHandler(future::completeExceptionally).end(this.body);
+        return await(future);
+    }
+
+    public static class WorkerVerticle extends AbstractVerticle {
+
+        @Override
+        public void start() {
+            this.vertx.eventBus().<Envelop>consumer(ADDRESS, message -> {
+                final Envelop envelop = message.body();
+                final JsonObject data = envelop.data();
+                message.reply(Envelop.success(data.put("handled", true)));
+            });
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package io.vertx.zero.bench;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.EnvelopBinaryCodec;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.up.atom.Envelop;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Envelop over event bus ( clustered ) by binary codec, EnvelopCodec ( java serialization )
+ * is not measured because JsonObject is not Serializable.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnvelopBench {
+
+    @Param({"10", "1000"})
+    private int items;
+
+    private EnvelopBinaryCodec codec;
+    private Envelop envelop;
+    private Buffer encoded;
+
+    static JsonObject payload(final int items) {
+        final JsonArray list = new JsonArray();
+        for (int idx = 0; idx < items; idx++) {
+            list.add(new JsonObject().put("id", idx).put("name", "user-" + idx)
+                    .put("email", "user" + idx + "@zero.io").put("active", 0 == idx % 2));
+        }
+        return new JsonObject().put("list", list).put("count", items);
+    }
+
+    @Setup
+    public void setUp() {
+        this.codec = new EnvelopBinaryCodec();
+        this.envelop = Envelop.success(payload(this.items));
+        this.encoded = Buffer.buffer();
+        this.codec.encodeToWire(this.encoded, this.envelop);
+    }
+
+    @Benchmark
+    public Buffer encode() {
+        final Buffer buffer = Buffer.buffer();
+        this.codec.encodeToWire(buffer, this.envelop);
+        return buffer;
+    }
+
+    @Benchmark
+    public Envelop decode() {
+        return this.codec.decodeFromWire(0, this.encoded);
+    }
+}
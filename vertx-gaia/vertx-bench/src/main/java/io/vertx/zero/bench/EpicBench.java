@@ -0,0 +1,112 @@
+package io.vertx.zero.bench;
+
+import io.vertx.core.json.JsonObject;
+import io.zero.epic.Ut;
+import io.zero.epic.container.JsonPath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tool hot paths of io.zero.epic:
+ * 1. Jackson.searchData by Ut.visitXxx / precompiled JsonPath, `deep` is 8 levels with siblings on each level
+ * 2. Period.toDateTime / parse by shape of literal ( iso / readable / zoned / invalid )
+ * 3. Instance by Ut.instance / Ut.singleton
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EpicBench {
+
+    private static final JsonPath DEEP = JsonPath.create("l0", "l1", "l2", "l3", "l4", "l5", "l6", "l7");
+
+    private JsonObject small;
+    private JsonObject large;
+    private JsonObject deep;
+
+    @Setup
+    public void setUp() {
+        this.small = new JsonObject().put("server", new JsonObject()
+                .put("http", new JsonObject().put("port", 6083).put("host", "0.0.0.0")));
+        this.large = this.small.copy().put("data", EnvelopBench.payload(1000));
+        this.deep = new JsonObject().put("l7", "leaf");
+        for (int level = 6; level >= 0; level--) {
+            this.deep = new JsonObject().put("l" + level, this.deep).put("data", EnvelopBench.payload(100));
+        }
+    }
+
+    @Benchmark
+    public String visitSmall() {
+        return Ut.visitString(this.small, "server", "http", "host");
+    }
+
+    @Benchmark
+    public String visitLarge() {
+        // The siblings of path should not impact the cost
+        return Ut.visitString(this.large, "server", "http", "host");
+    }
+
+    @Benchmark
+    public String visitDeep() {
+        return Ut.visitString(this.deep, "l0", "l1", "l2", "l3", "l4", "l5", "l6", "l7");
+    }
+
+    @Benchmark
+    public String pathDeep() {
+        return DEEP.read(this.deep, String.class);
+    }
+
+    @Benchmark
+    public LocalDateTime dateTimeIso() {
+        return Ut.toDateTime("2018-08-12T10:22:33");
+    }
+
+    @Benchmark
+    public LocalDateTime dateTimeReadable() {
+        return Ut.toDateTime("2018-08-12 10:22:33");
+    }
+
+    @Benchmark
+    public LocalDateTime dateTimeInvalid() {
+        return Ut.toDateTime("2018/08/12");
+    }
+
+    @Benchmark
+    public Date parseZoned() {
+        return Ut.parse("2018-08-12T10:22:33.123+08:00");
+    }
+
+    @Benchmark
+    public Date parseInvalid() {
+        return Ut.parse("2018/08/12");
+    }
+
+    @Benchmark
+    public Object instance() {
+        return Ut.instance(StringBuilder.class);
+    }
+
+    @Benchmark
+    public Object instanceArgs() {
+        return Ut.instance(StringBuilder.class, "zero");
+    }
+
+    @Benchmark
+    public Object singleton() {
+        return Ut.singleton(StringBuilder.class);
+    }
+}
@@ -0,0 +1,151 @@
+package io.vertx.zero.bench;
+
+import io.vertx.core.json.JsonObject;
+import io.zero.epic.Ut;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pojo <-> Json: `literal` serialize to String and parse again,
+ * `tree` token stream without String, `accessor` token stream with generated accessors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonBench {
+
+    private Item item;
+    private JsonObject json;
+
+    @Setup
+    public void setUp() {
+        this.item = new Item();
+        this.item.setId(1024L);
+        this.item.setName("Lang");
+        this.item.setCode("ZERO-1024");
+        this.item.setScore(87);
+        this.item.setPrice(new BigDecimal("12.50"));
+        this.item.setActive(Boolean.TRUE);
+        this.item.setCreated(Timestamp.valueOf("2019-05-01 10:00:00"));
+        this.item.setTags(Arrays.asList("web", "jooq", "zero"));
+        this.json = Ut.serializeJson(this.item);
+    }
+
+    @Benchmark
+    public JsonObject toJsonLiteral() {
+        return new JsonObject(Ut.serialize(this.item));
+    }
+
+    @Benchmark
+    public JsonObject toJsonTree() {
+        return Ut.serializeJson(this.item);
+    }
+
+    @Benchmark
+    public JsonObject toJsonAccessor() {
+        return Ut.serializeJson(this.item, true);
+    }
+
+    @Benchmark
+    public Item fromJsonLiteral() {
+        return Ut.deserialize(this.json.encode(), Item.class);
+    }
+
+    @Benchmark
+    public Item fromJsonTree() {
+        return Ut.deserialize(this.json, Item.class);
+    }
+
+    public static class Item {
+
+        private Long id;
+        private String name;
+        private String code;
+        private Integer score;
+        private BigDecimal price;
+        private Boolean active;
+        private Timestamp created;
+        private List<String> tags;
+
+        public Long getId() {
+            return this.id;
+        }
+
+        public void setId(final Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public void setName(final String name) {
+            this.name = name;
+        }
+
+        public String getCode() {
+            return this.code;
+        }
+
+        public void setCode(final String code) {
+            this.code = code;
+        }
+
+        public Integer getScore() {
+            return this.score;
+        }
+
+        public void setScore(final Integer score) {
+            this.score = score;
+        }
+
+        public BigDecimal getPrice() {
+            return this.price;
+        }
+
+        public void setPrice(final BigDecimal price) {
+            this.price = price;
+        }
+
+        public Boolean getActive() {
+            return this.active;
+        }
+
+        public void setActive(final Boolean active) {
+            this.active = active;
+        }
+
+        public Timestamp getCreated() {
+            return this.created;
+        }
+
+        public void setCreated(final Timestamp created) {
+            this.created = created;
+        }
+
+        public List<String> getTags() {
+            return this.tags;
+        }
+
+        public void setTags(final List<String> tags) {
+            this.tags = tags;
+        }
+    }
+}
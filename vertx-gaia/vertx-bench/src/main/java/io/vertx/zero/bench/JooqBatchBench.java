@@ -0,0 +1,115 @@
+package io.vertx.zero.bench;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.up.aiki.Ux;
+import io.vertx.up.aiki.UxJooq;
+import io.zero.quiz.H2Item;
+import io.zero.quiz.H2ItemDao;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing `rows` entities into embedded H2 ( in-memory ) table:
+ * `single` one INSERT per entity, `dao` jOOQ DAOImpl.insert(Collection),
+ * `values` / `jdbc` UxJooq.insertBatch in chunks, `upsert` UxJooq.upsertBatch on existing rows.
+ * The round trips of real database are not included, the result is the lower bound of the gain.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JooqBatchBench {
+
+    private static final Timestamp CREATED = Timestamp.valueOf("2019-05-01 10:00:00");
+
+    @Param({"1000"})
+    private int rows;
+
+    private Connection connection;
+    private H2ItemDao dao;
+    private UxJooq jooq;
+    private List<H2Item> existing;
+    private int next;
+
+    @Setup
+    public void setUp() throws Exception {
+        this.connection = H2ItemDao.connect("batch");
+        // Only the sync api is used in benchmark, the dao does not require vertx
+        this.dao = H2ItemDao.create(null, this.connection);
+        this.jooq = Ux.Jooq.on(H2Item.class, this.dao);
+        this.existing = this.items(-this.rows);
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        this.dao.configuration().dsl().truncate(H2ItemDao.ItemTable.H2_ITEM).execute();
+        this.dao.insert(this.existing);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        this.connection.close();
+    }
+
+    @Benchmark
+    public int single() {
+        final List<H2Item> items = this.items(this.next);
+        items.forEach(this.dao::insert);
+        return items.size();
+    }
+
+    @Benchmark
+    public int dao() {
+        final List<H2Item> items = this.items(this.next);
+        this.dao.insert(items);
+        return items.size();
+    }
+
+    @Benchmark
+    public int values() {
+        return this.jooq.batch(new JsonObject().put("mode", "values").put("size", 500))
+                .insertBatch(this.items(this.next)).size();
+    }
+
+    @Benchmark
+    public int jdbc() {
+        return this.jooq.batch(new JsonObject().put("mode", "jdbc").put("size", 500))
+                .insertBatch(this.items(this.next)).size();
+    }
+
+    @Benchmark
+    public int upsert() {
+        return this.jooq.batch(new JsonObject().put("mode", "values").put("size", 500))
+                .upsertBatch(this.existing).size();
+    }
+
+    private List<H2Item> items(final int from) {
+        final List<H2Item> items = new ArrayList<>(this.rows);
+        for (int idx = 0; idx < this.rows; idx++) {
+            items.add(new H2Item(from + idx, "name" + idx, idx % 16, CREATED));
+        }
+        if (0 <= from) {
+            this.next += this.rows;
+        }
+        return items;
+    }
+}
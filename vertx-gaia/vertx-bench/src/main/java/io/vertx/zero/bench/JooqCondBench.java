@@ -0,0 +1,73 @@
+package io.vertx.zero.bench;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.up.aiki.UxJooq;
+import org.jooq.Condition;
+import org.jooq.Operator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Criteria ( JsonObject ) -> jOOQ Condition, LINEAR and TREE mode.
+ * The plan of the same filters shape is cached, `nested` changes the values in every invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JooqCondBench {
+
+    private JsonObject linear;
+    private JsonObject tree;
+    private JsonObject nested;
+    private int counter;
+
+    @Setup
+    public void setUp() {
+        this.linear = new JsonObject().put("name", "Lang").put("code,c", "zero")
+                .put("age,>", 16).put("status,i", new JsonArray().add("A").add("B"));
+        this.tree = new JsonObject().put("", true).put("name,c", "Lang")
+                .put("$1", new JsonObject().put("", false)
+                        .put("code,s", "zero").put("email,e", "@zero.io"));
+        this.nested = new JsonObject().put("", true)
+                .put("sigma", "ENhwBAJPZuSgIAE5EDakR6yrIQbOoOPq")
+                .put("active", true)
+                .put("$1", new JsonObject().put("", false)
+                        .put("name,c", "Lang").put("code,s", "zero").put("email,e", "@zero.io")
+                        .put("$2", new JsonObject().put("", true)
+                                .put("age,>=", 16).put("age,<", 60)
+                                .put("status,i", new JsonArray().add("A").add("B").add("C"))))
+                .put("$3", new JsonObject().put("", false)
+                        .put("type,!i", new JsonArray().add("X").add("Y"))
+                        .put("order,<>", 3).put("parentId,!n", ""));
+    }
+
+    @Benchmark
+    public Condition linear() {
+        return UxJooq.transform(this.linear.copy(), Operator.AND);
+    }
+
+    @Benchmark
+    public Condition tree() {
+        return UxJooq.transform(this.tree.copy(), null);
+    }
+
+    @Benchmark
+    public Condition nested() {
+        this.nested.getJsonObject("$1").getJsonObject("$2").put("age,>=", this.counter++ & 63);
+        return UxJooq.transform(this.nested, null);
+    }
+}
@@ -0,0 +1,139 @@
+package io.vertx.zero.bench;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.handler.CookieHandler;
+import io.vertx.ext.web.handler.CorsHandler;
+import io.vertx.ext.web.handler.SessionHandler;
+import io.vertx.ext.web.sstore.LocalSessionStore;
+import io.vertx.up.annotations.Stateful;
+import io.vertx.up.atom.agent.Event;
+import io.vertx.up.eon.Orders;
+import io.vertx.up.rs.router.WebScope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Handler chain of stateless json api:
+ * GLOBAL - cookie / session / cors handlers on every route ( the session is created per request );
+ * SCOPED - the handlers are mounted on @Stateful routes only ( WebScope ).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class RouterChainBench {
+
+    private static final String STATELESS = "/api/bench/stateless";
+    private static final String STATEFUL = "/api/bench/stateful";
+    private static final String ORIGIN = "http://www.vertxup.cn";
+    private static final long TIMEOUT = 10L;
+
+    @Param({"GLOBAL", "SCOPED"})
+    private String chain;
+
+    private Vertx vertx;
+    private HttpServer server;
+    private HttpClient client;
+    private int port;
+
+    private static <T> T await(final CompletableFuture<T> future) throws Exception {
+        return future.get(TIMEOUT, TimeUnit.SECONDS);
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        this.vertx = Vertx.vertx();
+        final Router router = Router.router(this.vertx);
+        final SessionHandler session = SessionHandler.create(LocalSessionStore.create(this.vertx));
+        if ("GLOBAL".equals(this.chain)) {
+            router.route().order(Orders.CORS).handler(CorsHandler.create("*"));
+            router.route().order(Orders.COOKIE).handler(CookieHandler.create());
+            router.route().order(Orders.SESSION).handler(session);
+        } else {
+            final Event event = new Event();
+            event.setPath(STATEFUL);
+            event.setMethod(HttpMethod.GET);
+            event.setAction(Api.class.getDeclaredMethod("stateful"));
+            final WebScope scope = WebScope.create(new JsonObject(), Collections.singleton(event));
+            scope.cookie(router);
+            scope.session(router, session);
+            scope.cors(router);
+        }
+        router.get().order(Orders.EVENT).handler(context -> context.response()
+                .putHeader("Content-Type", "application/json")
+                .end(new JsonObject().put("data", context.request().path()).encode()));
+        final CompletableFuture<HttpServer> started = new CompletableFuture<>();
+        this.vertx.createHttpServer().requestHandler(router).listen(0, "localhost", res -> {
+            if (res.succeeded()) {
+                started.complete(res.result());
+            } else {
+                started.completeExceptionally(res.cause());
+            }
+        });
+        this.server = await(started);
+        this.port = this.server.actualPort();
+        this.client = this.vertx.createHttpClient(new HttpClientOptions()
+                .setDefaultHost("localhost").setDefaultPort(this.port)
+                .setKeepAlive(true).setMaxPoolSize(16));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        this.client.close();
+        final CompletableFuture<Void> closed = new CompletableFuture<>();
+        this.vertx.close(res -> closed.complete(null));
+        await(closed);
+    }
+
+    @Benchmark
+    public Buffer stateless() throws Exception {
+        return this.request(STATELESS);
+    }
+
+    @Benchmark
+    public Buffer stateful() throws Exception {
+        return this.request(STATEFUL);
+    }
+
+    private Buffer request(final String uri) throws Exception {
+        final CompletableFuture<Buffer> future = new CompletableFuture<>();
+        this.client.get(uri, response -> {
+            response.exceptionHandler(future::completeExceptionally);
+            response.bodyHandler(future::complete);
+        }).exceptionHandler(future::completeExceptionally).putHeader("Origin", ORIGIN).end();
+        return await(future);
+    }
+
+    public static class Api {
+
+        @Stateful
+        public String stateful() {
+            return "stateful";
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.vertx.zero.bench;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.up.web.ZeroSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parameter binding ( literal -> T ) and response serialization ( T -> Json ).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializerBench {
+
+    private JsonObject json;
+    private Date date;
+
+    @Setup
+    public void setUp() {
+        this.json = EnvelopBench.payload(10);
+        this.date = new Date();
+    }
+
+    @Benchmark
+    public Object getInteger() {
+        return ZeroSerializer.getValue(Integer.class, "1024");
+    }
+
+    @Benchmark
+    public Object getDate() {
+        return ZeroSerializer.getValue(Date.class, "2018-08-12T10:22:33.000Z");
+    }
+
+    @Benchmark
+    public Object getJson() {
+        return ZeroSerializer.getValue(JsonObject.class, "{\"name\":\"Lang\",\"code\":\"Zero\"}");
+    }
+
+    @Benchmark
+    public Object toSupportJson() {
+        return ZeroSerializer.toSupport(this.json);
+    }
+
+    @Benchmark
+    public Object toSupportDate() {
+        return ZeroSerializer.toSupport(this.date);
+    }
+}
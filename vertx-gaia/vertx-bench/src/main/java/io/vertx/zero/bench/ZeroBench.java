@@ -0,0 +1,31 @@
+package io.vertx.zero.bench;
+
+import org.openjdk.jmh.Main;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Entry of benchmarks.jar, all the JMH command line options are supported:
+ * java -jar benchmarks.jar [regexp] [-f 1 -wi 3 -i 5 ...]
+ * The results will be written into zero-bench.json ( JMH json format ) when -rf / -rff
+ * are not specified, it could be compared between releases.
+ */
+public class ZeroBench {
+
+    private static final String RESULT = "zero-bench.json";
+
+    public static void main(final String[] args) throws Exception {
+        final List<String> arguments = new ArrayList<>(Arrays.asList(args));
+        if (!arguments.contains("-rf")) {
+            arguments.add("-rf");
+            arguments.add("json");
+        }
+        if (!arguments.contains("-rff")) {
+            arguments.add("-rff");
+            arguments.add(RESULT);
+        }
+        Main.main(arguments.toArray(new String[0]));
+    }
+}
@@ -0,0 +1,35 @@
+package io.vertx.up.annotations;
+
+import io.vertx.up.eon.em.BodyMode;
+
+import java.lang.annotation.*;
+
+/**
+ * Request body handling of current api, the configured values
+ * of `zero.body` are used when it's missing.
+ */
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+public @interface Body {
+    /**
+     * @return body mode of route
+     */
+    BodyMode value() default BodyMode.BUFFER;
+
+    /**
+     * @return max body size ( bytes ), -1 means configured limit
+     */
+    long limit() default -1L;
+
+    /**
+     * @return upload directory, empty means configured directory
+     */
+    String uploads() default "";
+
+    /**
+     * @return delete the uploaded files when response end
+     */
+    boolean deleteOnEnd() default false;
+}
@@ -0,0 +1,14 @@
+package io.vertx.up.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Cors handler is mounted on the routes of current class / method,
+ * the origin whitelist and preflight cache come from `zero.web.cors`.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+public @interface Cors {
+}
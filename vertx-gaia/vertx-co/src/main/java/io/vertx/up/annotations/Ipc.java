@@ -46,4 +46,20 @@ public @interface Ipc {
      * @return Default value help to identify roles.
      */
     String value() default "";
+
+    /**
+     * Data format of sender: BINARY / JSON, the receiver will reply with the
+     * same format, empty means `rpc.format` or JSON.
+     *
+     * @return format name
+     */
+    String format() default "";
+
+    /**
+     * Compression of sender: NONE / GZIP / DEFLATE, the data will be compressed
+     * only when the size reached `rpc.threshold`, empty means `rpc.compression` or NONE.
+     *
+     * @return compression name
+     */
+    String compression() default "";
 }
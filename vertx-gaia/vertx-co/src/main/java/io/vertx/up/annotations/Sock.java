@@ -0,0 +1,25 @@
+package io.vertx.up.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Socket endpoint on sock server ( SockJS, raw websocket is `{value}/websocket` )
+ * 1. The public method with one Envelop parameter handles the frames from client,
+ * the result is written back, @Address on it sends the result to event bus;
+ * 2. The Envelop published to broadcast address is written to all connections.
+ */
+@Target({ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+public @interface Sock {
+    /**
+     * @return path of socket endpoint
+     */
+    String value();
+
+    /**
+     * @return event bus address of broadcast, empty means no broadcast
+     */
+    String broadcast() default "";
+}
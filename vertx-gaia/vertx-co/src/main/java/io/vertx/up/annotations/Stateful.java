@@ -0,0 +1,15 @@
+package io.vertx.up.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Cookie and session handlers are mounted on the routes of
+ * current class / method only, other routes are stateless.
+ * The path patterns of `zero.web` could enable them also.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+public @interface Stateful {
+}
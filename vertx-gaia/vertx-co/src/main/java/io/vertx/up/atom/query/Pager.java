@@ -14,6 +14,8 @@ public class Pager implements Serializable {
     private static final Annal LOGGER = Annal.get(Pager.class);
     private static final String PAGE = "page";
     private static final String SIZE = "size";
+    private static final String CURSOR = "cursor";
+    private static final String COUNT = "count";
     /**
      * Start page: >= 1
      */
@@ -30,6 +32,14 @@ public class Pager implements Serializable {
      * To index: limit
      */
     private transient int end;
+    /**
+     * Keyset mode: the cursor of previous page, empty string for the first page
+     */
+    private transient String cursor;
+    /**
+     * Total count mode
+     */
+    private transient Counter counter = Counter.EXACT;
 
     private Pager(final Integer page, final Integer size) {
         this.init(page, size);
@@ -37,7 +47,10 @@ public class Pager implements Serializable {
 
     private Pager(final JsonObject pageJson) {
         this.ensure(pageJson);
-        this.init(pageJson.getInteger(PAGE), pageJson.getInteger(SIZE));
+        // Keyset mode does not require page, it always starts from 1
+        this.init(pageJson.getInteger(PAGE, 1), pageJson.getInteger(SIZE));
+        this.cursor = pageJson.getString(CURSOR);
+        this.counter = Counter.from(pageJson.getString(COUNT));
     }
 
     /**
@@ -65,8 +78,8 @@ public class Pager implements Serializable {
         // Pager building checking
         Fn.outWeb(null == pageJson, LOGGER,
                 _500QueryMetaNullException.class, this.getClass());
-        // Required
-        Fn.outWeb(!pageJson.containsKey(PAGE), LOGGER,
+        // Required, page is not required in keyset mode
+        Fn.outWeb(!pageJson.containsKey(PAGE) && !pageJson.containsKey(CURSOR), LOGGER,
                 _400PagerInvalidException.class, this.getClass(), PAGE);
         Fn.outWeb(!pageJson.containsKey(SIZE), LOGGER,
                 _400PagerInvalidException.class, this.getClass(), SIZE);
@@ -75,6 +88,10 @@ public class Pager implements Serializable {
                 Ut::isInteger, this.getClass());
         Inquiry.ensureType(pageJson, SIZE, Integer.class,
                 Ut::isInteger, this.getClass());
+        Inquiry.ensureType(pageJson, CURSOR, String.class,
+                item -> item instanceof String, this.getClass());
+        Inquiry.ensureType(pageJson, COUNT, String.class,
+                item -> item instanceof String, this.getClass());
     }
 
     private void init(final Integer page, final Integer size) {
@@ -95,6 +112,12 @@ public class Pager implements Serializable {
         final JsonObject data = new JsonObject();
         data.put(PAGE, this.page);
         data.put(SIZE, this.size);
+        if (null != this.cursor) {
+            data.put(CURSOR, this.cursor);
+        }
+        if (Counter.EXACT != this.counter) {
+            data.put(COUNT, this.counter.name().toLowerCase());
+        }
         return data;
     }
 
@@ -117,4 +140,41 @@ public class Pager implements Serializable {
     public int getTop() {
         return this.size;
     }
+
+    /**
+     * @return true when the pager is in keyset ( seek ) mode
+     */
+    public boolean isKeyset() {
+        return null != this.cursor;
+    }
+
+    public String getCursor() {
+        return this.cursor;
+    }
+
+    public Counter getCounter() {
+        return this.counter;
+    }
+
+    /**
+     * The total count of search result
+     * EXACT:    run another `COUNT` query ( default )
+     * SKIP:     the total count is not calculated
+     * ESTIMATE: bounded count, the database stops counting when the upper limit reached
+     */
+    public enum Counter {
+        EXACT,
+        SKIP,
+        ESTIMATE;
+
+        static Counter from(final String literal) {
+            if ("skip".equalsIgnoreCase(literal)) {
+                return SKIP;
+            } else if ("estimate".equalsIgnoreCase(literal)) {
+                return ESTIMATE;
+            } else {
+                return EXACT;
+            }
+        }
+    }
 }
@@ -0,0 +1,19 @@
+package io.vertx.up.eon.em;
+
+/**
+ * Request body handling of route
+ */
+public enum BodyMode {
+    /**
+     * Read the whole body ( uploads are spooled to files )
+     **/
+    BUFFER,
+    /**
+     * Do not read body
+     **/
+    NONE,
+    /**
+     * The body is not read, it's passed to method as ReadStream<Buffer>
+     **/
+    STREAM
+}
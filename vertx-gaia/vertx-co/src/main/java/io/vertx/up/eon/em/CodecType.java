@@ -0,0 +1,11 @@
+package io.vertx.up.eon.em;
+
+/**
+ * Event bus codec of Envelop
+ */
+public enum CodecType {
+    // Binary wire format ( Default )
+    BINARY,
+    // Java serialization ( Old codec )
+    JAVA
+}
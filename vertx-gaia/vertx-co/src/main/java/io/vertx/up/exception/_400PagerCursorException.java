@@ -0,0 +1,14 @@
+package io.vertx.up.exception;
+
+public class _400PagerCursorException extends WebException {
+
+    public _400PagerCursorException(final Class<?> clazz,
+                                    final String cursor) {
+        super(clazz, cursor);
+    }
+
+    @Override
+    public int getCode() {
+        return -60037;
+    }
+}
@@ -0,0 +1,14 @@
+package io.vertx.up.exception;
+
+public class _400PagerOrderException extends WebException {
+
+    public _400PagerOrderException(final Class<?> clazz,
+                                   final String table) {
+        super(clazz, table);
+    }
+
+    @Override
+    public int getCode() {
+        return -60039;
+    }
+}
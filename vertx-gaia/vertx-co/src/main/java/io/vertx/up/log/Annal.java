@@ -9,16 +9,21 @@ import io.vertx.zero.exception.ZeroException;
 import io.vertx.zero.log.Log;
 import io.vertx.zero.log.internal.Log4JAnnal;
 import io.zero.epic.Ut;
+import io.zero.epic.fn.Fn;
 
 import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * Unite Logging system connect to vert.x, io.zero.epic kit of Vertx-Zero
  */
 public interface Annal {
 
+    /**
+     * The Annal of each class is created once and cached.
+     */
     static Annal get(final Class<?> clazz) {
-        return new CommonAnnal(clazz);
+        return Fn.pool(Pool.ANNALS, clazz, () -> new CommonAnnal(clazz));
     }
 
     void vertx(VertxException ex);
@@ -34,6 +39,32 @@ public interface Annal {
     void info(String key, Object... args);
 
     void debug(String key, Object... args);
+
+    /*
+     * Level guards, the caller could check it before building arguments of the message.
+     */
+    default boolean isDebugEnabled() {
+        return true;
+    }
+
+    default boolean isInfoEnabled() {
+        return true;
+    }
+
+    /*
+     * The message is built only when the level is enabled.
+     */
+    default void info(final Supplier<String> message) {
+        if (this.isInfoEnabled()) {
+            this.info(message.get());
+        }
+    }
+
+    default void debug(final Supplier<String> message) {
+        if (this.isDebugEnabled()) {
+            this.debug(message.get());
+        }
+    }
 }
 
 class CommonAnnal implements Annal {
@@ -91,4 +122,24 @@ class CommonAnnal implements Annal {
     public void debug(final String key, final Object... args) {
         this.logger.debug(key, args);
     }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return this.logger.isDebugEnabled();
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return this.logger.isInfoEnabled();
+    }
+
+    @Override
+    public void info(final Supplier<String> message) {
+        this.logger.info(message);
+    }
+
+    @Override
+    public void debug(final Supplier<String> message) {
+        this.logger.debug(message);
+    }
 }
@@ -1,8 +1,16 @@
 package io.vertx.up.log;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 interface Info {
     /** **/
     String INF_ANNAL = "[ZERO] The logger ( Annal = {0} ) has been selected for {1} to record logs.";
     /** **/
     String INF_INJECT = "[ZERO] The inject Annal has not been configured, will select internal for {0}.";
 }
+
+interface Pool {
+
+    ConcurrentMap<Class<?>, Annal> ANNALS = new ConcurrentHashMap<>();
+}
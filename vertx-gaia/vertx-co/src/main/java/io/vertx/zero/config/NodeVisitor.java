@@ -2,6 +2,7 @@ package io.vertx.zero.config;
 
 import io.vertx.core.ClusterOptions;
 import io.vertx.core.VertxOptions;
+import io.vertx.up.eon.em.CodecType;
 import io.vertx.zero.marshal.Visitor;
 
 import java.util.concurrent.ConcurrentMap;
@@ -20,10 +21,19 @@ public interface NodeVisitor
 
     String YKEY_NAME = "name";
 
+    String YKEY_CODEC = "codec";
+
     /**
      * Get cluster configuration from vertx initialization.
      *
      * @return io.vertx.core.ClusterOptions that defined by zero.
      */
     ClusterOptions getCluster();
+
+    /**
+     * Get codec type of Envelop on event bus.
+     *
+     * @return io.vertx.up.eon.em.CodecType, BINARY by default.
+     */
+    CodecType getCodec();
 }
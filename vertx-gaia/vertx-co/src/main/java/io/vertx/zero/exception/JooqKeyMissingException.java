@@ -0,0 +1,15 @@
+package io.vertx.zero.exception;
+
+public class JooqKeyMissingException extends UpException {
+
+    public JooqKeyMissingException(
+            final Class<?> clazz,
+            final String table) {
+        super(clazz, table);
+    }
+
+    @Override
+    public int getCode() {
+        return -40061;
+    }
+}
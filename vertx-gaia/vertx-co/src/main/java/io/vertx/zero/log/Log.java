@@ -6,7 +6,6 @@ import io.vertx.zero.exception.ZeroException;
 import io.zero.epic.fn.Fn;
 
 import java.text.MessageFormat;
-import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 public final class Log {
@@ -24,32 +23,44 @@ public final class Log {
         Fn.safeNull(logger::warn, ex);
     }
 
+    /*
+     * Level is checked before formatting, the disabled logs do not create any message.
+     */
     public static void info(final Logger logger, final String pattern, final Object... rest) {
-        log(logger::isInfoEnabled, logger::info, pattern, rest);
+        if (logger.isInfoEnabled()) {
+            logger.info(format(pattern, rest));
+        }
     }
 
     public static void debug(final Logger logger, final String pattern, final Object... rest) {
-        log(() -> true, logger::debug, pattern, rest);
+        if (logger.isDebugEnabled()) {
+            logger.debug(format(pattern, rest));
+        }
     }
 
     public static void warn(final Logger logger, final String pattern, final Object... rest) {
-        log(() -> true, logger::warn, pattern, rest);
+        if (logger.isWarnEnabled()) {
+            logger.warn(format(pattern, rest));
+        }
     }
 
     public static void error(final Logger logger, final String pattern, final Object... rest) {
-        log(() -> true, logger::error, pattern, rest);
-    }
-
-    private static void log(final Supplier<Boolean> fnPre,
-                            final Consumer<Object> fnLog,
-                            final String message,
-                            final Object... rest) {
-        if (fnPre.get()) {
-            if (0 < rest.length) {
-                fnLog.accept(MessageFormat.format(message, rest));
-            } else {
-                fnLog.accept(message);
-            }
+        logger.error(format(pattern, rest));
+    }
+
+    public static void info(final Logger logger, final Supplier<String> message) {
+        if (logger.isInfoEnabled()) {
+            logger.info(message.get());
         }
     }
+
+    public static void debug(final Logger logger, final Supplier<String> message) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(message.get());
+        }
+    }
+
+    private static String format(final String message, final Object... rest) {
+        return 0 < rest.length ? MessageFormat.format(message, rest) : message;
+    }
 }
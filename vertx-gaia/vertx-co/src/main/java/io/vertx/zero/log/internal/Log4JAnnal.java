@@ -7,6 +7,8 @@ import io.vertx.up.log.Annal;
 import io.vertx.zero.exception.ZeroException;
 import io.vertx.zero.log.Log;
 
+import java.util.function.Supplier;
+
 public class Log4JAnnal implements Annal {
 
     private transient final Logger logger;
@@ -49,4 +51,24 @@ public class Log4JAnnal implements Annal {
     public void debug(final String key, final Object... args) {
         Log.debug(this.logger, key, args);
     }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return this.logger.isDebugEnabled();
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return this.logger.isInfoEnabled();
+    }
+
+    @Override
+    public void info(final Supplier<String> message) {
+        Log.info(this.logger, message);
+    }
+
+    @Override
+    public void debug(final Supplier<String> message) {
+        Log.debug(this.logger, message);
+    }
 }
@@ -27,4 +27,10 @@ interface Key {
 interface Info {
 
     String UNIFORM = "[ ZERO ] Uniform resources hitted to {0}, skipped keys {1}.";
+
+    String WATCH = "[ ZERO ] Configuration watching started, interval = {0} ms, notify address = {1}.";
+
+    String RELOAD = "[ ZERO ] Configuration files {0} changed, the snapshots have been reloaded.";
+
+    String RELOAD_FAILURE = "[ ZERO ] Configuration files {0} changed, but reloading met error, the snapshots are kept: {1}.";
 }
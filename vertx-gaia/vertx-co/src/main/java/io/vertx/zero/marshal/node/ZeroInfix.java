@@ -6,13 +6,23 @@ import io.zero.epic.fn.Fn;
 public class ZeroInfix implements Node<JsonObject> {
 
     private transient final String key;
+    private transient final ZeroSnapshot snapshot;
 
     ZeroInfix(final String key) {
         this.key = key;
+        this.snapshot = new ZeroSnapshot(this::build);
     }
 
     @Override
     public JsonObject read() {
+        return this.snapshot.get();
+    }
+
+    ZeroSnapshot snapshot() {
+        return this.snapshot;
+    }
+
+    private JsonObject build() {
         // Not null because execNil
         final JsonObject config = ZeroTool.read(this.key, true);
         return Fn.getJvm(new JsonObject(), () -> config, config);
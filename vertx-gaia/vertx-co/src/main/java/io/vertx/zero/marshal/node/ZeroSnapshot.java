@@ -0,0 +1,194 @@
+package io.vertx.zero.marshal.node;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Immutable configuration built once, the read is a reference load.
+ * reload() builds the new data completely and swaps the reference atomically,
+ * the readers always see the old or the new snapshot, never the partial one.
+ * Modification on the snapshot ( put / remove ) throws UnsupportedOperationException,
+ * copy() of it is mutable and keeps the order of keys.
+ */
+final class ZeroSnapshot {
+
+    private final transient AtomicReference<JsonObject> reference = new AtomicReference<>();
+    private final transient Supplier<JsonObject> builder;
+
+    ZeroSnapshot(final Supplier<JsonObject> builder) {
+        this.builder = builder;
+    }
+
+    JsonObject get() {
+        final JsonObject data = this.reference.get();
+        if (null != data) {
+            return data;
+        }
+        synchronized (this) {
+            if (null == this.reference.get()) {
+                this.reference.set(freeze(this.builder.get()));
+            }
+            return this.reference.get();
+        }
+    }
+
+    JsonObject reload() {
+        final JsonObject data = this.prepare();
+        this.swap(data);
+        return data;
+    }
+
+    /*
+     * Build the new data without swapping, the snapshots of one reload are swapped
+     * together after all of them have been built.
+     */
+    JsonObject prepare() {
+        return freeze(this.builder.get());
+    }
+
+    void swap(final JsonObject data) {
+        this.reference.set(data);
+    }
+
+    static JsonObject freeze(final JsonObject data) {
+        return new JsonObject(null == data ? new Frozen(Collections.emptyMap()) : freeze(data.getMap()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object freeze(final Object value) {
+        if (value instanceof JsonObject) {
+            return freeze(((JsonObject) value).getMap());
+        } else if (value instanceof Map) {
+            final Map<String, Object> frozen = new LinkedHashMap<>();
+            ((Map<String, Object>) value).forEach((key, item) -> frozen.put(key, freeze(item)));
+            return new Frozen(frozen);
+        } else if (value instanceof JsonArray) {
+            return freeze(((JsonArray) value).getList());
+        } else if (value instanceof List) {
+            final List<Object> frozen = new ArrayList<>();
+            ((List<Object>) value).forEach(item -> frozen.add(freeze(item)));
+            return Collections.unmodifiableList(frozen);
+        } else {
+            return value;
+        }
+    }
+
+    private static Frozen freeze(final Map<String, Object> map) {
+        return (Frozen) freeze((Object) map);
+    }
+
+    /*
+     * LinkedHashMap could be copied by JsonObject.copy() with the same order.
+     */
+    private static class Frozen extends LinkedHashMap<String, Object> {
+
+        Frozen(final Map<String, Object> map) {
+            super(map);
+        }
+
+        @Override
+        public Object put(final String key, final Object value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void putAll(final Map<? extends String, ?> map) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Object putIfAbsent(final String key, final Object value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Object remove(final Object key) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean remove(final Object key, final Object value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Object replace(final String key, final Object value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean replace(final String key, final Object oldValue, final Object newValue) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void replaceAll(final BiFunction<? super String, ? super Object, ?> function) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Object computeIfAbsent(final String key, final Function<? super String, ?> function) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Object computeIfPresent(final String key,
+                                       final BiFunction<? super String, ? super Object, ?> function) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Object compute(final String key, final BiFunction<? super String, ? super Object, ?> function) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Object merge(final String key, final Object value,
+                            final BiFunction<? super Object, ? super Object, ?> function) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Set<String> keySet() {
+            return Collections.unmodifiableSet(super.keySet());
+        }
+
+        @Override
+        public Collection<Object> values() {
+            return Collections.unmodifiableCollection(super.values());
+        }
+
+        /*
+         * The entries of unmodifiable map reject setValue(), unmodifiableMap(this) could not be used
+         * because its entrySet() calls this one.
+         */
+        @Override
+        public Set<Map.Entry<String, Object>> entrySet() {
+            final Set<Map.Entry<String, Object>> entries = super.entrySet();
+            return Collections.unmodifiableMap(new AbstractMap<String, Object>() {
+                @Override
+                public Set<Map.Entry<String, Object>> entrySet() {
+                    return entries;
+                }
+            }).entrySet();
+        }
+    }
+}
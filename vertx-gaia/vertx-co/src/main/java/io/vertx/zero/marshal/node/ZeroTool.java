@@ -25,11 +25,12 @@ public class ZeroTool {
             // Read the internal configuration instead
             final JsonObject internal = readDirect("ke/config/" + produce(key));
             if (null != internal) {
-                merged.mergeIn(internal, true);
+                // Deep merge modifies the nested nodes, the pooled data must not be shared
+                merged.mergeIn(internal.copy(), true);
             }
         }
         if (null != original) {
-            merged.mergeIn(original, true);
+            merged.mergeIn(original.copy(), true);
         }
         return merged;
     }
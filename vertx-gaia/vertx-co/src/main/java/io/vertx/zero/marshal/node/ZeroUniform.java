@@ -1,38 +1,82 @@
 package io.vertx.zero.marshal.node;
 
-import io.reactivex.Observable;
+import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
 import io.vertx.up.eon.Plugins;
+import io.vertx.up.log.Annal;
 import io.zero.epic.Ut;
 import io.zero.epic.fn.Fn;
 
 import java.util.Arrays;
-import java.util.Objects;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
+/**
+ * Merged configuration of all lime files, it's built once into immutable snapshot.
+ * The fragments are deep merged in the order of lime key, the latter overwrites the former.
+ */
 public class ZeroUniform implements Node<JsonObject> {
 
+    private static final Annal LOGGER = Annal.get(ZeroUniform.class);
+
     private static final Node<ConcurrentMap<String, String>> node
             = Ut.singleton(ZeroLime.class);
 
-    @Override
-    public JsonObject read() {
-        final JsonObject data = new JsonObject();
-        final ConcurrentMap<String, String> keys = node.read();
+    private static final ZeroSnapshot SNAPSHOT = new ZeroSnapshot(ZeroUniform::build);
+
+    /**
+     * Watch the configuration files and reload when they are changed, the message
+     * ( changed file names ) will be published to `address` after reloaded.
+     *
+     * @param vertx    Vertx reference for timer / event bus
+     * @param interval Checking interval ( ms )
+     * @param address  Event bus address of notification
+     */
+    public static void watch(final Vertx vertx, final long interval, final String address) {
+        ZeroWatcher.start(vertx, interval, address);
+    }
+
+    /**
+     * Rebuild the snapshots of uniform and infix configuration, all of them are built
+     * before swapping, any failure keeps the old snapshots.
+     */
+    static void reload() {
+        final Map<ZeroSnapshot, JsonObject> prepared = new LinkedHashMap<>();
+        prepared.put(SNAPSHOT, SNAPSHOT.prepare());
+        Node.REFERENCES.values().stream()
+                .filter(item -> item instanceof ZeroInfix)
+                .map(item -> ((ZeroInfix) item).snapshot())
+                .forEach(snapshot -> prepared.put(snapshot, snapshot.prepare()));
+        prepared.forEach(ZeroSnapshot::swap);
+    }
+
+    private static JsonObject build() {
         final Set<String> skipped = Arrays
                 .stream(Plugins.DATA).collect(Collectors.toSet());
-        // RxJava2 version
-        Observable.fromIterable(keys.keySet())
-                .filter(item -> !skipped.contains(item))
-                .map(key -> Fn.pool(Storage.CONFIG, keys.get(key),
-                        () -> Fn.getJvm(new JsonObject(),
-                                () -> Ut.ioYaml(keys.get(key)),
-                                keys.get(key))))
-                .filter(Objects::nonNull)
-                .subscribe(item -> data.mergeIn(item, true))
-                .dispose();
+        final Map<String, String> files = new TreeMap<>(node.read());
+        skipped.forEach(files::remove);
+        final JsonObject data = build(files);
+        LOGGER.info(Info.UNIFORM, files.keySet(), skipped);
         return data;
     }
+
+    static JsonObject build(final Map<String, String> files) {
+        final JsonObject data = new JsonObject();
+        files.values().stream()
+                .map(file -> Fn.pool(Storage.CONFIG, file,
+                        () -> Fn.getJvm(new JsonObject(), () -> Ut.ioYaml(file), file)))
+                .filter(item -> null != item)
+                // Deep merge modifies nested nodes, the pooled data must not be shared
+                .forEach(item -> data.mergeIn(item.copy(), true));
+        return data;
+    }
+
+    @Override
+    public JsonObject read() {
+        return SNAPSHOT.get();
+    }
 }
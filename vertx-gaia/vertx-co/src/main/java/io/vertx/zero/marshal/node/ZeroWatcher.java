@@ -0,0 +1,136 @@
+package io.vertx.zero.marshal.node;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.up.log.Annal;
+import io.vertx.zero.exception.heart.JsonFormatException;
+import io.zero.epic.Ut;
+import io.zero.epic.fn.Fn;
+
+import java.io.File;
+import java.net.URL;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Polling the modified time of configuration files that have been loaded ( Storage.CONFIG ),
+ * the files in jar could not be modified and they are ignored.
+ * When any file changed:
+ * 1. Remove the changed files from Storage.CONFIG;
+ * 2. Rebuild the snapshots ( uniform / infix ) and swap them, when any file is broken or any
+ * snapshot failed, the removed files are put back and the old snapshots are kept;
+ * 3. Publish the changed file names to event bus.
+ */
+final class ZeroWatcher {
+
+    private static final Annal LOGGER = Annal.get(ZeroWatcher.class);
+
+    private static final String FILES = "files";
+    private static final long STOPPED = -1L;
+
+    private static final AtomicLong TIMER = new AtomicLong(STOPPED);
+    private static final ConcurrentMap<String, Long> STAMPS = new ConcurrentHashMap<>();
+
+    private ZeroWatcher() {
+    }
+
+    static void start(final Vertx vertx, final long interval, final String address) {
+        if (STOPPED != TIMER.get()) {
+            return;
+        }
+        synchronized (ZeroWatcher.class) {
+            if (STOPPED == TIMER.get()) {
+                STAMPS.clear();
+                check();
+                TIMER.set(vertx.setPeriodic(interval, id -> vertx.<Set<String>>executeBlocking(
+                        future -> future.complete(check()), true, handler -> {
+                            if (handler.succeeded() && !handler.result().isEmpty()) {
+                                vertx.eventBus().publish(address, new JsonObject()
+                                        .put(FILES, new JsonArray(new ArrayList<>(handler.result()))));
+                            }
+                        })));
+                LOGGER.info(Info.WATCH, String.valueOf(interval), address);
+            }
+        }
+    }
+
+    static void stop(final Vertx vertx) {
+        synchronized (ZeroWatcher.class) {
+            final long timer = TIMER.getAndSet(STOPPED);
+            if (STOPPED != timer) {
+                vertx.cancelTimer(timer);
+            }
+            STAMPS.clear();
+        }
+    }
+
+    /*
+     * The changed files, new loaded files are recorded only.
+     */
+    static Set<String> check() {
+        final Set<String> files = new HashSet<>(Storage.CONFIG.keySet());
+        files.addAll(STAMPS.keySet());
+        final Set<String> changed = new TreeSet<>();
+        files.forEach(file -> {
+            final long modified = modified(file);
+            final Long previous = STAMPS.put(file, modified);
+            if (null != previous && previous != modified) {
+                changed.add(file);
+            }
+        });
+        if (!changed.isEmpty()) {
+            final Map<String, JsonObject> evicted = new HashMap<>();
+            changed.forEach(file -> {
+                final JsonObject data = Storage.CONFIG.remove(file);
+                if (null != data) {
+                    evicted.put(file, data);
+                }
+            });
+            try {
+                changed.forEach(ZeroWatcher::verify);
+                ZeroUniform.reload();
+                LOGGER.info(Info.RELOAD, changed);
+            } catch (final Throwable ex) {
+                // The old data matches the kept snapshots, the broken file is not read again until it's changed
+                Storage.CONFIG.putAll(evicted);
+                LOGGER.warn(Info.RELOAD_FAILURE, changed, ex.getMessage());
+            }
+        }
+        return changed;
+    }
+
+    /*
+     * The broken file is read as null silently when building snapshots, it's detected here
+     * to keep the old snapshots. The removed or blank file is not broken.
+     */
+    private static void verify(final String filename) {
+        if (STOPPED == STAMPS.getOrDefault(filename, STOPPED)) {
+            return;
+        }
+        final String content = Ut.ioString(filename);
+        if (Ut.notNil(content) && null == Ut.ioYaml(filename)) {
+            throw new JsonFormatException(filename);
+        }
+    }
+
+    private static long modified(final String filename) {
+        final File file = new File(filename);
+        if (file.exists()) {
+            return file.lastModified();
+        }
+        final URL url = Thread.currentThread().getContextClassLoader().getResource(filename);
+        if (null == url || !"file".equals(url.getProtocol())) {
+            return STOPPED;
+        }
+        return Fn.getJvm(STOPPED, () -> Paths.get(url.toURI()).toFile().lastModified(), url);
+    }
+}
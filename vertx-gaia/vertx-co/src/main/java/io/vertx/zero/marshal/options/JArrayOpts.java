@@ -16,6 +16,8 @@ public class JArrayOpts implements Visitor<JsonArray> {
     public JsonArray visit(final String... nodes) {
         Ut.ensureMinLength(this.getClass(), 0, (Object[]) nodes);
         final JsonObject tree = NODE.read();
-        return Ut.visitJArray(tree, nodes);
+        // The tree nodes are shared with configuration pool
+        final JsonArray visited = Ut.visitJArray(tree, nodes);
+        return null == visited ? null : visited.copy();
     }
 }
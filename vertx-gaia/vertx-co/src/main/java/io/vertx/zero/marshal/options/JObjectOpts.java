@@ -18,6 +18,8 @@ public class JObjectOpts implements Visitor<JsonObject> {
         Ut.ensureMinLength(this.getClass(), 0, (Object[]) nodes);
         // Tree Data
         final JsonObject tree = NODE.read();
-        return Ut.visitJObject(tree, nodes);
+        // The tree nodes are shared with configuration pool
+        final JsonObject visited = Ut.visitJObject(tree, nodes);
+        return null == visited ? null : visited.copy();
     }
 }
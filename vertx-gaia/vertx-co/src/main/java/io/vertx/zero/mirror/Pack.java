@@ -20,6 +20,8 @@ public final class Pack {
 
     private static final Set<Class<?>> CLASSES = new HashSet<>();
 
+    private static final Set<Class<?>> INDEXED = new HashSet<>();
+
     private static final ConcurrentHashSet<String> FORBIDDEN = new ConcurrentHashSet<String>() {
         {
             this.add("java");
@@ -65,29 +67,54 @@ public final class Pack {
     private Pack() {
     }
 
+    /**
+     * All the classes of classpath, the injection ( implementation of interface, unique child )
+     * requires the complete class list, the class index is not used here.
+     */
     public static Set<Class<?>> getClasses(final Predicate<Class<?>> filter,
                                            final String... zeroScans) {
         if (CLASSES.isEmpty()) {
-            if (0 < zeroScans.length) {
-                CLASSES.addAll(multiClasses(zeroScans, filter));
+            CLASSES.addAll(multiClasses(packages(zeroScans), filter, false));
+        }
+        return CLASSES;
+    }
+
+    /**
+     * Classes for annotation inquirers of ZeroAnno: the classes listed in the index of jars and
+     * all the classes of other roots. The index only contains annotated types and the types with
+     * annotated members, it could not be used to find un-annotated implementation classes.
+     */
+    public static Set<Class<?>> getIndexed(final String... zeroScans) {
+        if (INDEXED.isEmpty()) {
+            if (CLASSES.isEmpty()) {
+                INDEXED.addAll(PackIndex.getClasses());
+                INDEXED.addAll(multiClasses(packages(zeroScans), null, true));
             } else {
-                final Package[] packages = Package.getPackages();
-                final Set<String> packageDirs = new HashSet<>();
-                for (final Package pkg : packages) {
-                    final String pending = pkg.getName();
-                    final boolean skip = FORBIDDEN.stream().anyMatch(pending::startsWith);
-                    if (!skip) {
-                        packageDirs.add(pending);
-                    }
-                }
-                // Fix big issue of current classpath scan, Must put . of classpath into current scan path.
-                packageDirs.add(Strings.DOT);
-                LOGGER.info(Info.PACKAGES, String.valueOf(packageDirs.size()),
-                        String.valueOf(packages.length));
-                CLASSES.addAll(multiClasses(packageDirs.toArray(new String[]{}), filter));
+                // The complete class list has been scanned
+                INDEXED.addAll(CLASSES);
             }
         }
-        return CLASSES;
+        return INDEXED;
+    }
+
+    private static String[] packages(final String... zeroScans) {
+        if (0 < zeroScans.length) {
+            return zeroScans;
+        }
+        final Package[] packages = Package.getPackages();
+        final Set<String> packageDirs = new HashSet<>();
+        for (final Package pkg : packages) {
+            final String pending = pkg.getName();
+            final boolean skip = FORBIDDEN.stream().anyMatch(pending::startsWith);
+            if (!skip) {
+                packageDirs.add(pending);
+            }
+        }
+        // Fix big issue of current classpath scan, Must put . of classpath into current scan path.
+        packageDirs.add(Strings.DOT);
+        LOGGER.info(Info.PACKAGES, String.valueOf(packageDirs.size()),
+                String.valueOf(packages.length));
+        return packageDirs.toArray(new String[]{});
     }
 
     @SuppressWarnings("unused")
@@ -102,11 +129,12 @@ public final class Pack {
 
     private static Set<Class<?>> multiClasses(
             final String[] packageDir,
-            final Predicate<Class<?>> filter) {
+            final Predicate<Class<?>> filter,
+            final boolean indexed) {
         // Counter
         final Set<PackThread> references = new HashSet<>();
         final Disposable disposable = Observable.fromArray(packageDir)
-                .map(item -> new PackThread(item, filter))
+                .map(item -> new PackThread(item, filter, indexed))
                 .map(item -> Ut.addThen(references, item))
                 .subscribe(Thread::start);
 
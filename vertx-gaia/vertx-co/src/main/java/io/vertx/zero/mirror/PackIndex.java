@@ -0,0 +1,124 @@
+package io.vertx.zero.mirror;
+
+import io.vertx.up.log.Annal;
+import io.vertx.zero.eon.Protocols;
+import io.vertx.zero.eon.Strings;
+import io.zero.epic.fn.Fn;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Class index written by ZeroIndexer at compile time, the jar that contains index will be read
+ * from index only instead of scanning. The index of directory ( output of IDE / incremental compile )
+ * may only contain the classes of the compiled sources, such directory is always scanned.
+ */
+class PackIndex {
+
+    static final String INDEX = "META-INF/zero/index";
+
+    private static final Annal LOGGER = Annal.get(PackIndex.class);
+
+    /* Jars that contain index, such as jar:file:/lib/app.jar!/ */
+    private static Set<String> ROOTS;
+    private static Set<String> NAMES;
+
+    private PackIndex() {
+    }
+
+    /**
+     * @return Indexed class names of all the roots
+     */
+    static synchronized Set<String> getNames() {
+        if (null == NAMES) {
+            final Set<String> roots = new HashSet<>();
+            final Set<String> names = new LinkedHashSet<>();
+            Fn.safeJvm(() -> {
+                final Enumeration<URL> indexes = Thread.currentThread()
+                        .getContextClassLoader().getResources(INDEX);
+                while (indexes.hasMoreElements()) {
+                    final URL url = indexes.nextElement();
+                    final String literal = url.toString();
+                    if (Protocols.JAR.equals(url.getProtocol())) {
+                        roots.add(literal.substring(0, literal.length() - INDEX.length()));
+                        read(url, names);
+                    } else {
+                        LOGGER.info(Info.INDEX_PARTIAL, literal);
+                    }
+                }
+            }, LOGGER);
+            ROOTS = Collections.unmodifiableSet(roots);
+            NAMES = Collections.unmodifiableSet(names);
+            LOGGER.info(Info.INDEXES, String.valueOf(names.size()), String.valueOf(roots.size()));
+        }
+        return NAMES;
+    }
+
+    static synchronized Set<String> getRoots() {
+        getNames();
+        return ROOTS;
+    }
+
+    /**
+     * @return Classes that loaded from index, the class will not be initialized.
+     */
+    static Set<Class<?>> getClasses() {
+        final Set<Class<?>> classes = new LinkedHashSet<>();
+        final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        for (final String name : getNames()) {
+            try {
+                classes.add(Class.forName(name, false, loader));
+            } catch (final Throwable ex) {
+                // Same as scanning: the class could not be loaded will be ignored.
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * Check whether the resource of package belong to indexed root.
+     *
+     * @param url        resource url of package
+     * @param packageDir package path such as io/vertx/up
+     * @return true when the root contains index
+     */
+    static boolean isIndexed(final URL url, final String packageDir) {
+        getNames();
+        if (ROOTS.isEmpty()) {
+            return false;
+        }
+        String literal = url.toString();
+        if (literal.endsWith(Strings.SLASH)) {
+            literal = literal.substring(0, literal.length() - 1);
+        }
+        if (!packageDir.isEmpty() && literal.endsWith(packageDir)) {
+            literal = literal.substring(0, literal.length() - packageDir.length());
+        }
+        if (!literal.endsWith(Strings.SLASH)) {
+            literal = literal + Strings.SLASH;
+        }
+        return ROOTS.contains(literal);
+    }
+
+    static void read(final URL url, final Set<String> names) throws Exception {
+        try (final InputStream in = url.openStream();
+             final BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while (null != (line = reader.readLine())) {
+                final String name = line.trim();
+                if (!name.isEmpty() && !name.startsWith("#")) {
+                    names.add(name);
+                }
+            }
+        }
+    }
+}
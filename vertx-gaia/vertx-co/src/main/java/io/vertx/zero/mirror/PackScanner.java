@@ -26,6 +26,18 @@ class PackScanner {
 
     static Set<Class<?>> getClasses(final Predicate<Class<?>> filter,
                                     final String zeroScan) {
+        return getClasses(filter, zeroScan, false);
+    }
+
+    /**
+     * @param filter   class filter
+     * @param zeroScan package name
+     * @param skip     skip the roots that contain class index
+     * @return scanned classes
+     */
+    static Set<Class<?>> getClasses(final Predicate<Class<?>> filter,
+                                    final String zeroScan,
+                                    final boolean skip) {
         // The first class collection
         final Set<Class<?>> classes = new LinkedHashSet<>();
         return Fn.getNull(() -> {
@@ -43,8 +55,8 @@ class PackScanner {
                 while (dirs.hasMoreElements()) {
                     // Next element
                     final URL url = dirs.nextElement();
-                    // Protocols
-                    if (null != url) {
+                    // Protocols, the indexed root has been loaded by PackIndex
+                    if (null != url && !(skip && PackIndex.isIndexed(url, packageDir))) {
                         final String protocol = url.getProtocol();
                         if (Protocols.FILE.equals(protocol)) {
                             // Get path of this package
@@ -11,18 +11,21 @@ class PackThread extends Thread {
 
     private final transient String pkg;
     private final transient Predicate<Class<?>> filter;
+    private final transient boolean indexed;
     private final Set<Class<?>> classes = new HashSet<>();
 
     PackThread(final String pkg,
-               final Predicate<Class<?>> filter) {
+               final Predicate<Class<?>> filter,
+               final boolean indexed) {
         this.setName("package-scanner-" + super.getId());
         this.pkg = pkg;
         this.filter = filter;
+        this.indexed = indexed;
     }
 
     @Override
     public void run() {
-        final Set<Class<?>> clazzes = PackScanner.getClasses(this.filter, this.pkg);
+        final Set<Class<?>> clazzes = PackScanner.getClasses(this.filter, this.pkg, this.indexed);
         this.classes.addAll(clazzes);
     }
 
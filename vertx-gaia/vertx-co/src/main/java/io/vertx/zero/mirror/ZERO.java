@@ -3,4 +3,9 @@ package io.vertx.zero.mirror;
 interface Info {
 
     String PACKAGES = "[ ZERO ] Zero system scanned {0}/{1} packages.";
+
+    String INDEXES = "[ ZERO ] Zero system loaded {0} classes from {1} class indexes.";
+
+    String INDEX_PARTIAL = "[ ZERO ] The class index {0} of directory is ignored because it may be partial, "
+            + "the directory will be scanned.";
 }
\ No newline at end of file
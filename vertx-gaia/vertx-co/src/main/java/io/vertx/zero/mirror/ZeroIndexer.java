@@ -0,0 +1,156 @@
+package io.vertx.zero.mirror;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor to write class index ( META-INF/zero/index ) into jar at compile time,
+ * the following classes will be indexed:
+ * 1. Classes annotated with @EndPoint, @Queue, @Worker, @Agent, @Wall, @Plugin, @Sock, @WebFilter
+ * 2. Classes that contain methods / fields annotated with @Ipc, @Address, @Plugin, @Inject or infix
+ * 3. Implementation classes of @EndPoint interface
+ * The zero system will load these classes directly instead of scanning the jar that contains index,
+ * the classes required by injection are still scanned ( Pack.getClasses ).
+ * The processor is not registered as service, it's enabled by `annotationProcessors` of maven-compiler-plugin:
+ * io.vertx.zero.mirror.ZeroIndexer
+ */
+@SupportedAnnotationTypes("*")
+public class ZeroIndexer extends AbstractProcessor {
+
+    private static final Set<String> TYPES = new HashSet<>(Arrays.asList(
+            "io.vertx.up.annotations.EndPoint",
+            "io.vertx.up.annotations.Queue",
+            "io.vertx.up.annotations.Worker",
+            "io.vertx.up.annotations.Agent",
+            "io.vertx.up.annotations.Wall",
+            "io.vertx.up.annotations.Plugin",
+            "io.vertx.up.annotations.Sock",
+            "javax.servlet.annotation.WebFilter"
+    ));
+
+    private static final Set<String> MEMBERS = new HashSet<>(Arrays.asList(
+            "io.vertx.up.annotations.Ipc",
+            "io.vertx.up.annotations.Address",
+            "io.vertx.up.annotations.Plugin",
+            "javax.inject.Inject",
+            "javax.inject.infix.Jooq",
+            "javax.inject.infix.Mongo",
+            "javax.inject.infix.MySql",
+            "javax.inject.infix.Redis",
+            "javax.inject.infix.Rpc"
+    ));
+
+    private static final Set<String> ENDPOINT = new HashSet<>(Arrays.asList(
+            "io.vertx.up.annotations.EndPoint"
+    ));
+
+    private final transient Set<String> indexed = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations,
+                           final RoundEnvironment round) {
+        if (round.processingOver()) {
+            this.write();
+        } else {
+            round.getRootElements().forEach(this::visit);
+        }
+        // Do not claim any annotations, other processors could process them.
+        return false;
+    }
+
+    private void visit(final Element element) {
+        if (element instanceof TypeElement) {
+            final TypeElement type = (TypeElement) element;
+            if (this.isIndexed(type)) {
+                this.indexed.add(this.processingEnv.getElementUtils().getBinaryName(type).toString());
+            }
+            // Nested classes
+            type.getEnclosedElements().forEach(this::visit);
+        }
+    }
+
+    private boolean isIndexed(final TypeElement type) {
+        // Type annotations ( include @Inherited from super class )
+        if (this.isAnnotated(type, TYPES, true)) {
+            return true;
+        }
+        // Member annotations
+        for (final Element member : type.getEnclosedElements()) {
+            if ((ElementKind.FIELD == member.getKind() || ElementKind.METHOD == member.getKind())
+                    && this.isAnnotated(member, MEMBERS, false)) {
+                return true;
+            }
+        }
+        // Implementation of @EndPoint interface
+        return ElementKind.CLASS == type.getKind() && this.isEndPoint(type.asType());
+    }
+
+    private boolean isAnnotated(final Element element, final Set<String> names, final boolean inherited) {
+        for (final AnnotationMirror mirror : inherited
+                ? this.processingEnv.getElementUtils().getAllAnnotationMirrors(element)
+                : element.getAnnotationMirrors()) {
+            final TypeElement annotation = (TypeElement) mirror.getAnnotationType().asElement();
+            if (names.contains(annotation.getQualifiedName().toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isEndPoint(final TypeMirror type) {
+        for (final TypeMirror parent : this.processingEnv.getTypeUtils().directSupertypes(type)) {
+            if (TypeKind.DECLARED == parent.getKind()) {
+                final Element element = ((DeclaredType) parent).asElement();
+                if ((ElementKind.INTERFACE == element.getKind()
+                        && this.isAnnotated(element, ENDPOINT, false))
+                        || this.isEndPoint(parent)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void write() {
+        // Empty index is also written, the jar will not be scanned any more.
+        try {
+            final FileObject file = this.processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", PackIndex.INDEX);
+            try (final Writer writer = new OutputStreamWriter(file.openOutputStream(),
+                    StandardCharsets.UTF_8)) {
+                for (final String name : this.indexed) {
+                    writer.write(name);
+                    writer.write('\n');
+                }
+            }
+        } catch (final IOException ex) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "[ ZERO ] Class index could not be written: " + ex.getMessage());
+        }
+    }
+}
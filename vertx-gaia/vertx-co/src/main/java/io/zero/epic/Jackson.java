@@ -1,21 +1,32 @@
 package io.zero.epic;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.module.ZeroModule;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
 import io.reactivex.Observable;
 import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
-import io.vertx.zero.eon.Strings;
-import io.vertx.zero.eon.Values;
+import io.zero.epic.container.JsonPath;
 import io.zero.epic.fn.Fn;
 
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Supplier;
 
@@ -52,6 +63,22 @@ final class Jackson {
         return MAPPER.copy();
     }
 
+    /*
+     * Lazy mapper with generated accessors ( afterburner ), the same configuration as MAPPER.
+     */
+    private static class Accessor {
+        private static final ObjectMapper MAPPER = Jackson.MAPPER.copy()
+                .registerModule(new AfterburnerModule());
+    }
+
+    static Object visit(
+            final JsonObject item,
+            final String... keys
+    ) {
+        Ensurer.gtLength(Jackson.class, 0, (Object[]) keys);
+        return JsonPath.create(keys).read(item);
+    }
+
     static JsonObject visitJObject(
             final JsonObject item,
             final String... keys
@@ -85,44 +112,13 @@ final class Jackson {
         return Jackson.searchData(item, String.class, keys);
     }
 
+    /*
+     * Read only lookup, the nodes on the path are not copied.
+     */
     private static <T> T searchData(final JsonObject data,
                                     final Class<T> clazz,
                                     final String... pathes) {
-        if (null == data || Values.ZERO == pathes.length) {
-            return null;
-        }
-        /* 1. Get current node  **/
-        final JsonObject current = data.copy();
-        /* 2. Extract current input key **/
-        final String path = pathes[Values.IDX];
-        /* 3. Continue searching if key existing, otherwise terminal. **/
-        return Fn.getSemi(current.containsKey(path) && null != current.getValue(path),
-                null,
-                () -> {
-                    final Object curVal = current.getValue(path);
-                    T result = null;
-                    if (Values.ONE == pathes.length) {
-                        /* 3.1. Get the end node. **/
-                        if (clazz == curVal.getClass()) {
-                            result = (T) curVal;
-                        }
-                    } else {
-                        /* 3.2. Address the middle search **/
-                        if (Types.isJObject(curVal)) {
-                            final JsonObject continueNode = current.getJsonObject(path);
-                            /* 4.Extract new key **/
-                            final String[] continueKeys =
-                                    Arrays.copyOfRange(pathes,
-                                            Values.ONE,
-                                            pathes.length);
-                            result = Jackson.searchData(continueNode,
-                                    clazz,
-                                    continueKeys);
-                        }
-                    }
-                    return result;
-                },
-                Fn::nil);
+        return JsonPath.create(pathes).read(data, clazz);
     }
 
     static JsonArray mergeZip(final JsonArray source, final JsonArray target,
@@ -179,31 +175,68 @@ final class Jackson {
         return result;
     }
 
+    /*
+     * T -> JsonObject / JsonArray without literal, the serialized tokens are read into JsonObject / JsonArray
+     * directly, the value types are the same as `new JsonObject(literal)`.
+     * accessor = true, the mapper with generated accessors ( afterburner ) is used instead of reflection.
+     */
     static <T, R extends Iterable> R serializeJson(final T t) {
-        final String content = Jackson.serialize(t);
-        return Fn.getJvm(null,
-                () -> Fn.getSemi(content.trim().startsWith(Strings.LEFT_BRACES), null,
-                        () -> (R) new JsonObject(content),
-                        () -> (R) new JsonArray(content)), content);
+        return Jackson.serializeJson(t, Jackson.MAPPER);
+    }
+
+    static <T, R extends Iterable> R serializeJson(final T t, final boolean accessor) {
+        return Jackson.serializeJson(t, accessor ? Accessor.MAPPER : Jackson.MAPPER);
+    }
+
+    private static <T, R extends Iterable> R serializeJson(final T t, final ObjectMapper mapper) {
+        return Fn.getJvm(null, () -> {
+            final TokenBuffer buffer = new TokenBuffer(mapper, false);
+            mapper.writeValue(buffer, t);
+            try (final JsonParser parser = buffer.asParser()) {
+                final JsonToken token = parser.nextToken();
+                final Object result;
+                if (JsonToken.START_OBJECT == token) {
+                    result = Jackson.readObject(parser);
+                } else if (JsonToken.START_ARRAY == token) {
+                    result = Jackson.readArray(parser);
+                } else {
+                    result = null;
+                }
+                return (R) result;
+            }
+        }, t);
     }
 
     static <T> String serialize(final T t) {
         return Fn.getNull(null, () -> Fn.getJvm(() -> Jackson.MAPPER.writeValueAsString(t), t), t);
     }
 
+    /*
+     * JsonObject / JsonArray -> T without literal, the tokens are written from json tree directly.
+     */
     static <T> T deserialize(final JsonObject value, final Class<T> type) {
         return Fn.getNull(null,
-                () -> Jackson.deserialize(value.encode(), type), value);
+                () -> Jackson.deserialize(value, Jackson.MAPPER.constructType(type)), value);
     }
 
     static <T> T deserialize(final JsonArray value, final Class<T> type) {
         return Fn.getNull(null,
-                () -> Jackson.deserialize(value.encode(), type), value);
+                () -> Jackson.deserialize(value, Jackson.MAPPER.constructType(type)), value);
     }
 
     static <T> List<T> deserialize(final JsonArray value, final TypeReference<List<T>> type) {
         return Fn.getNull(new ArrayList<>(),
-                () -> Jackson.deserialize(value.encode(), type), value);
+                () -> Jackson.deserialize(value, Jackson.MAPPER.getTypeFactory().constructType(type)), value);
+    }
+
+    private static <T> T deserialize(final Object value, final JavaType type) {
+        return Fn.getJvm(() -> {
+            final TokenBuffer buffer = new TokenBuffer(Jackson.MAPPER, false);
+            Jackson.writeValue(buffer, value);
+            try (final JsonParser parser = buffer.asParser()) {
+                return Jackson.MAPPER.readValue(parser, type);
+            }
+        });
     }
 
     static <T> T deserialize(final String value, final Class<T> type) {
@@ -211,6 +244,14 @@ final class Jackson {
                 () -> Fn.getJvm(() -> Jackson.MAPPER.readValue(value, type)), value);
     }
 
+    /*
+     * Raw bytes ( request body ) -> T, the bytes are parsed directly without String.
+     */
+    static <T> T deserialize(final byte[] value, final Class<T> type) {
+        return Fn.getNull(null,
+                () -> Fn.getJvm(() -> Jackson.MAPPER.readValue(value, type)), value);
+    }
+
     static <T> T deserialize(final String value, final TypeReference<T> type) {
         return Fn.getNull(null,
                 () -> Fn.getJvm(() -> Jackson.MAPPER.readValue(value, type)), value);
@@ -218,10 +259,149 @@ final class Jackson {
 
     static <T> List<T> convert(final List<JsonObject> result, final Class<T> clazz) {
         final List<T> entities = new ArrayList<>();
-        result.forEach(item -> entities.add(Jackson.deserialize(item.encode(), clazz)));
+        result.forEach(item -> entities.add(Jackson.deserialize(item, clazz)));
         return entities;
     }
 
+    // Tokens -> JsonObject / JsonArray
+
+    private static JsonObject readObject(final JsonParser parser) throws IOException {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        while (JsonToken.FIELD_NAME == parser.nextToken()) {
+            final String field = parser.getCurrentName();
+            map.put(field, Jackson.readValue(parser, parser.nextToken()));
+        }
+        return new JsonObject(map);
+    }
+
+    private static JsonArray readArray(final JsonParser parser) throws IOException {
+        final List<Object> list = new ArrayList<>();
+        JsonToken token = parser.nextToken();
+        while (JsonToken.END_ARRAY != token) {
+            list.add(Jackson.readValue(parser, token));
+            token = parser.nextToken();
+        }
+        return new JsonArray(list);
+    }
+
+    private static Object readValue(final JsonParser parser, final JsonToken token) throws IOException {
+        switch (token) {
+            case START_OBJECT:
+                return Jackson.readObject(parser);
+            case START_ARRAY:
+                return Jackson.readArray(parser);
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+                return Jackson.readInteger(parser);
+            case VALUE_NUMBER_FLOAT:
+                return Jackson.readFloat(parser);
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_EMBEDDED_OBJECT:
+                return Jackson.readEmbedded(parser.getEmbeddedObject());
+            default:
+                return null;
+        }
+    }
+
+    /*
+     * The literal integer is parsed as int / long / BigInteger by its range.
+     */
+    private static Object readInteger(final JsonParser parser) throws IOException {
+        final JsonParser.NumberType type = parser.getNumberType();
+        if (JsonParser.NumberType.INT == type) {
+            return parser.getIntValue();
+        } else if (JsonParser.NumberType.LONG == type) {
+            final long value = parser.getLongValue();
+            if ((int) value == value) {
+                return (int) value;
+            }
+            return value;
+        } else {
+            return Jackson.readInteger(parser.getBigIntegerValue());
+        }
+    }
+
+    private static Object readInteger(final BigInteger value) {
+        if (value.bitLength() < Integer.SIZE) {
+            return value.intValue();
+        } else if (value.bitLength() < Long.SIZE) {
+            return value.longValue();
+        } else {
+            return value;
+        }
+    }
+
+    /*
+     * float is written as Float.toString, BigDecimal without fraction is written as integer literal.
+     */
+    private static Object readFloat(final JsonParser parser) throws IOException {
+        final JsonParser.NumberType type = parser.getNumberType();
+        if (JsonParser.NumberType.FLOAT == type) {
+            return Double.valueOf(Float.toString(parser.getFloatValue()));
+        } else if (JsonParser.NumberType.BIG_DECIMAL == type) {
+            final BigDecimal decimal = parser.getDecimalValue();
+            if (0 == decimal.scale()) {
+                return Jackson.readInteger(decimal.toBigInteger());
+            }
+            return decimal.doubleValue();
+        } else {
+            return parser.getDoubleValue();
+        }
+    }
+
+    private static Object readEmbedded(final Object value) throws IOException {
+        if (null == value) {
+            return null;
+        } else if (value instanceof byte[]) {
+            return Base64.getEncoder().encodeToString((byte[]) value);
+        } else {
+            return Json.decodeValue(Jackson.MAPPER.writeValueAsString(value), Object.class);
+        }
+    }
+
+    // JsonObject / JsonArray -> Tokens, the same format as JsonObject.encode()
+
+    private static void writeValue(final JsonGenerator generator, final Object value) throws IOException {
+        if (null == value) {
+            generator.writeNull();
+        } else if (value instanceof JsonObject || value instanceof Map) {
+            final Map<?, ?> map = value instanceof JsonObject ? ((JsonObject) value).getMap() : (Map<?, ?>) value;
+            generator.writeStartObject();
+            for (final Map.Entry<?, ?> entry : map.entrySet()) {
+                generator.writeFieldName(String.valueOf(entry.getKey()));
+                Jackson.writeValue(generator, entry.getValue());
+            }
+            generator.writeEndObject();
+        } else if (value instanceof JsonArray || value instanceof List) {
+            final List<?> list = value instanceof JsonArray ? ((JsonArray) value).getList() : (List<?>) value;
+            generator.writeStartArray();
+            for (final Object item : list) {
+                Jackson.writeValue(generator, item);
+            }
+            generator.writeEndArray();
+        } else if (value instanceof CharSequence) {
+            generator.writeString(value.toString());
+        } else if (value instanceof Integer) {
+            generator.writeNumber((Integer) value);
+        } else if (value instanceof Long) {
+            generator.writeNumber((Long) value);
+        } else if (value instanceof Double) {
+            generator.writeNumber((Double) value);
+        } else if (value instanceof Boolean) {
+            generator.writeBoolean((Boolean) value);
+        } else if (value instanceof Instant) {
+            generator.writeString(DateTimeFormatter.ISO_INSTANT.format((Instant) value));
+        } else if (value instanceof byte[]) {
+            generator.writeString(Base64.getEncoder().encodeToString((byte[]) value));
+        } else {
+            // Float, BigDecimal, BigInteger, Enum and others
+            Json.mapper.writeValue(generator, value);
+        }
+    }
 
     static Object readJson(final Object value, final JsonObject data, final String key) {
         return Fn.getNull(value, () -> {
@@ -0,0 +1,271 @@
+package io.zero.epic;
+
+import io.zero.epic.fn.Fn;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Date / time literal parsed once by the shape of literal, no exception is used to detect the format.
+ * 1. date:     yyyy-MM-dd, yyyyMMdd, yyyy-DDD
+ * 2. time:     HH:mm[:ss[.S ( 1 ~ 9 )]]
+ * 3. datetime: date ( 'T' | ' ' ) time
+ * 4. zone suffix of above: Z, +HH, +HHmm, +HH:mm, +HH:mm:ss, [Region]
+ * 5. text:     RFC-1123 ( Tue, 3 Jun 2008 11:05:30 GMT ), Date.toString() ( Wed Jul 25 16:40:56 CST 2018 )
+ * The zone of Date.toString() is ignored as before because the short names such as CST are ambiguous.
+ */
+final class Moment {
+
+    private static final String TEXT_DATE = "EEE MMM dd HH:mm:ss zzz yyyy";
+    private static final Set<String> REGIONS = ZoneId.getAvailableZoneIds();
+
+    private final transient String literal;
+    private final transient int length;
+    private transient int pos;
+    /* Parsed */
+    private transient LocalDate date;
+    private transient LocalTime time;
+    private transient ZoneId zone;
+
+    private Moment(final String literal) {
+        this.literal = literal;
+        this.length = literal.length();
+    }
+
+    /**
+     * @param literal input literal
+     * @return null when the literal is not a supported date / time
+     */
+    static Moment parse(final String literal) {
+        if (null == literal || 0 == literal.length()) {
+            return null;
+        }
+        final Moment moment = new Moment(literal);
+        return moment.analyze() ? moment : null;
+    }
+
+    static DateTimeFormatter formatter(final String pattern) {
+        return Fn.pool(Pool.FORMATTERS, pattern, () -> DateTimeFormatter.ofPattern(pattern, Locale.US));
+    }
+
+    LocalDate getDate() {
+        return this.date;
+    }
+
+    LocalTime getTime() {
+        return this.time;
+    }
+
+    /**
+     * @return zone in literal, null when it's not specified
+     */
+    ZoneId getZone() {
+        return this.zone;
+    }
+
+    private boolean analyze() {
+        final char first = this.literal.charAt(0);
+        // RFC-1123 without day of week starts with day of month: 3 Jun 2008 11:05:30 GMT
+        if (Character.isLetter(first) || (2 < this.length
+                && (' ' == this.literal.charAt(1) || ' ' == this.literal.charAt(2)))) {
+            return this.analyzeText();
+        }
+        if (2 < this.length && ':' == this.literal.charAt(2)) {
+            // Time only
+            return this.analyzeTime() && this.analyzeZone();
+        }
+        if (!this.analyzeDate()) {
+            return false;
+        }
+        if (this.pos < this.length) {
+            final char separator = this.literal.charAt(this.pos);
+            if ('T' == separator || 't' == separator || ' ' == separator) {
+                this.pos++;
+                if (!this.analyzeTime()) {
+                    return false;
+                }
+            }
+        }
+        return this.analyzeZone();
+    }
+
+    private boolean analyzeDate() {
+        if (10 <= this.length && '-' == this.literal.charAt(4) && '-' == this.literal.charAt(7)) {
+            // yyyy-MM-dd
+            final int year = this.digits(0, 4);
+            final int month = this.digits(5, 2);
+            final int day = this.digits(8, 2);
+            this.pos = 10;
+            return this.ofDate(year, month, day);
+        } else if (8 <= this.length && '-' == this.literal.charAt(4)) {
+            // yyyy-DDD
+            final int year = this.digits(0, 4);
+            final int dayOfYear = this.digits(5, 3);
+            this.pos = 8;
+            if (0 > year || 0 >= dayOfYear || dayOfYear > Year.of(year).length()) {
+                return false;
+            }
+            this.date = LocalDate.ofYearDay(year, dayOfYear);
+            return true;
+        } else if (8 <= this.length) {
+            // yyyyMMdd
+            final int year = this.digits(0, 4);
+            final int month = this.digits(4, 2);
+            final int day = this.digits(6, 2);
+            this.pos = 8;
+            return this.ofDate(year, month, day);
+        }
+        return false;
+    }
+
+    private boolean ofDate(final int year, final int month, final int day) {
+        if (0 > year || 1 > month || 12 < month || 1 > day
+                || day > Month.of(month).length(Year.isLeap(year))) {
+            return false;
+        }
+        this.date = LocalDate.of(year, month, day);
+        return true;
+    }
+
+    private boolean analyzeTime() {
+        final int start = this.pos;
+        if (this.length < start + 5 || ':' != this.literal.charAt(start + 2)) {
+            return false;
+        }
+        final int hour = this.digits(start, 2);
+        final int minute = this.digits(start + 3, 2);
+        int second = 0;
+        int nano = 0;
+        this.pos = start + 5;
+        if (this.pos < this.length && ':' == this.literal.charAt(this.pos)) {
+            second = this.digits(this.pos + 1, 2);
+            this.pos += 3;
+            if (this.pos < this.length && '.' == this.literal.charAt(this.pos)) {
+                // Fraction of second, 1 ~ 9 digits
+                int scale = 100000000;
+                int index = this.pos + 1;
+                while (index < this.length && 0 < scale && isDigit(this.literal.charAt(index))) {
+                    nano += (this.literal.charAt(index) - '0') * scale;
+                    scale /= 10;
+                    index++;
+                }
+                if (index == this.pos + 1) {
+                    return false;
+                }
+                this.pos = index;
+            }
+        }
+        if (0 > hour || 23 < hour || 0 > minute || 59 < minute || 0 > second || 59 < second) {
+            return false;
+        }
+        this.time = LocalTime.of(hour, minute, second, nano);
+        return true;
+    }
+
+    private boolean analyzeZone() {
+        if (this.pos == this.length) {
+            return true;
+        }
+        final char flag = this.literal.charAt(this.pos);
+        if ('Z' == flag || 'z' == flag) {
+            this.zone = ZoneOffset.UTC;
+            this.pos++;
+        } else if ('+' == flag || '-' == flag) {
+            if (!this.analyzeOffset('-' == flag)) {
+                return false;
+            }
+        }
+        if (this.pos < this.length && '[' == this.literal.charAt(this.pos)
+                && ']' == this.literal.charAt(this.length - 1)) {
+            // Region such as [Europe/Paris]
+            final String region = this.literal.substring(this.pos + 1, this.length - 1);
+            if (!REGIONS.contains(region)) {
+                return false;
+            }
+            this.zone = ZoneId.of(region);
+            this.pos = this.length;
+        }
+        return this.pos == this.length;
+    }
+
+    private boolean analyzeOffset(final boolean negative) {
+        int index = this.pos + 1;
+        final int hours = this.digits(index, 2);
+        index += 2;
+        int minutes = 0;
+        int seconds = 0;
+        if (index < this.length && ':' == this.literal.charAt(index)) {
+            minutes = this.digits(index + 1, 2);
+            index += 3;
+            if (index < this.length && ':' == this.literal.charAt(index)) {
+                seconds = this.digits(index + 1, 2);
+                index += 3;
+            }
+        } else if (index + 1 < this.length && isDigit(this.literal.charAt(index))) {
+            minutes = this.digits(index, 2);
+            index += 2;
+        }
+        if (0 > hours || 18 < hours || 0 > minutes || 59 < minutes || 0 > seconds || 59 < seconds
+                || (18 == hours && (0 < minutes || 0 < seconds))) {
+            return false;
+        }
+        final int total = hours * 3600 + minutes * 60 + seconds;
+        this.zone = ZoneOffset.ofTotalSeconds(negative ? -total : total);
+        this.pos = index;
+        return true;
+    }
+
+    private boolean analyzeText() {
+        final boolean rfc = 0 < this.literal.indexOf(',') || !Character.isLetter(this.literal.charAt(0));
+        final DateTimeFormatter formatter = rfc ? DateTimeFormatter.RFC_1123_DATE_TIME : formatter(TEXT_DATE);
+        final ParsePosition position = new ParsePosition(0);
+        final TemporalAccessor unresolved = formatter.parseUnresolved(this.literal, position);
+        if (null == unresolved || 0 <= position.getErrorIndex() || this.length != position.getIndex()) {
+            return false;
+        }
+        try {
+            // The shape has been matched, only the invalid value ( such as Feb 30 ) could be failed here.
+            final TemporalAccessor resolved = formatter.parse(this.literal);
+            final LocalDateTime datetime = LocalDateTime.from(resolved);
+            this.date = datetime.toLocalDate();
+            this.time = datetime.toLocalTime();
+            this.zone = rfc ? ZoneId.from(resolved) : null;
+            return true;
+        } catch (final DateTimeException ex) {
+            return false;
+        }
+    }
+
+    /*
+     * Fixed length digits, -1 when the range is out of literal or contains non-digit character.
+     */
+    private int digits(final int start, final int count) {
+        if (start + count > this.length) {
+            return -1;
+        }
+        int value = 0;
+        for (int idx = start; idx < start + count; idx++) {
+            final char ch = this.literal.charAt(idx);
+            if (!isDigit(ch)) {
+                return -1;
+            }
+            value = value * 10 + (ch - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(final char ch) {
+        return '0' <= ch && '9' >= ch;
+    }
+}
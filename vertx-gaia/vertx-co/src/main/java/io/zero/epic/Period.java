@@ -1,9 +1,6 @@
 package io.zero.epic;
 
-import io.zero.epic.fn.Fn;
-
 import java.time.*;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.function.Consumer;
 
@@ -12,30 +9,6 @@ import java.util.function.Consumer;
  */
 class Period {
 
-    private static final List<DateTimeFormatter> DATETIMES = new ArrayList<DateTimeFormatter>() {
-        {
-            this.add(Iso.DATE_TIME);
-            this.add(Iso.INSTANT);
-            this.add(Iso.RFC1123_DATE_TIME);
-            this.add(Iso.COMMON);
-            this.add(Iso.READBALE);
-        }
-    };
-
-    private static final List<DateTimeFormatter> DATES = new ArrayList<DateTimeFormatter>() {
-        {
-            this.add(Iso.DATE);
-            this.add(Iso.BASIC_DATE);
-            this.add(Iso.ORDINAL_DATE);
-        }
-    };
-
-    private static final List<DateTimeFormatter> TIMES = new ArrayList<DateTimeFormatter>() {
-        {
-            this.add(Iso.TIME);
-        }
-    };
-
     private Period() {
     }
 
@@ -46,16 +19,9 @@ class Period {
      * @return
      */
     static LocalDateTime toDateTime(final String literal) {
-        final Optional<DateTimeFormatter> hit =
-                Fn.getNull(Optional.empty(),
-                        () -> DATETIMES.stream()
-                                .filter(formatter ->
-                                        null != Fn.getJvm(
-                                                null,
-                                                () -> LocalDateTime.parse(literal, formatter),
-                                                literal))
-                                .findAny(), literal);
-        return hit.isPresent() ? LocalDateTime.parse(literal, hit.get()) : null;
+        final Moment moment = Moment.parse(literal);
+        return null == moment || null == moment.getDate() || null == moment.getTime() ? null :
+                LocalDateTime.of(moment.getDate(), moment.getTime());
     }
 
     /**
@@ -68,7 +34,6 @@ class Period {
         return toDateTime(date.toInstant());
     }
 
-
     static LocalDateTime toDateTime(final Instant instant) {
         final ZoneId zone = ZoneId.systemDefault();
         final ZoneOffset offset = zone.getRules().getOffset(Instant.now());
@@ -82,16 +47,8 @@ class Period {
      * @return
      */
     static LocalDate toDate(final String literal) {
-        final Optional<DateTimeFormatter> hit =
-                Fn.getNull(Optional.empty(),
-                        () -> DATES.stream()
-                                .filter(formatter ->
-                                        null != Fn.getJvm(
-                                                null,
-                                                () -> LocalDate.parse(literal, formatter),
-                                                literal))
-                                .findFirst(), literal);
-        return hit.isPresent() ? LocalDate.parse(literal, hit.get()) : null;
+        final Moment moment = Moment.parse(literal);
+        return null == moment || null != moment.getTime() ? null : moment.getDate();
     }
 
     /**
@@ -117,16 +74,8 @@ class Period {
      * @return
      */
     static LocalTime toTime(final String literal) {
-        final Optional<DateTimeFormatter> hit =
-                Fn.getNull(Optional.empty(),
-                        () -> TIMES.stream()
-                                .filter(formatter ->
-                                        null != Fn.getJvm(
-                                                null,
-                                                () -> LocalTime.parse(literal, formatter),
-                                                literal))
-                                .findFirst(), literal);
-        return hit.isPresent() ? LocalTime.parse(literal, hit.get()) : null;
+        final Moment moment = Moment.parse(literal);
+        return null == moment || null != moment.getDate() ? null : moment.getTime();
     }
 
     /**
@@ -156,58 +105,19 @@ class Period {
         return null != parsed;
     }
 
-    private static DateTimeFormatter analyzeFormatter(final String pattern, final String literal) {
-        final DateTimeFormatter formatter;
-        if (19 == pattern.length()) {
-            // 2018-07-29T16:26:49格式的特殊处理
-            formatter = DateTimeFormatter.ofPattern(pattern, Locale.US);
-        } else if (23 == pattern.length()) {
-            formatter = DateTimeFormatter.ofPattern(pattern, Locale.US);
-        } else if (literal.contains("\\+") || literal.contains("\\-")) {
-            formatter = DateTimeFormatter.ofPattern(Storage.ADJUST_TIME, Locale.US);
-        } else {
-            formatter = DateTimeFormatter.ofPattern(pattern, Locale.US);
-        }
-        return formatter;
-    }
-
     static Date parse(final String literal) {
-
-        return Fn.getNull(null, () -> {
-            String target = literal;
-            if (target.contains("T")) {
-                target = target.replace('T', ' ');
-            }
-            final int length = target.length();
-            final String pattern = Storage.PATTERNS_MAP.get(length);
-            if (null != pattern) {
-                final DateTimeFormatter formatter = analyzeFormatter(pattern, literal);
-                final Date converted;
-                if (10 == pattern.length()) {
-                    final LocalDate date = LocalDate.parse(target, formatter);
-                    final ZoneId zoneId = getAdjust(literal);
-                    converted = parse(date, zoneId);
-                } else if (15 > pattern.length()) {
-                    final LocalTime time = LocalTime.parse(target, formatter);
-                    final ZoneId zoneId = getAdjust(literal);
-                    converted = parse(time, zoneId);
-                } else {
-                    final LocalDateTime datetime = LocalDateTime.parse(target, formatter);
-                    final ZoneId zoneId = getAdjust(literal);
-                    converted = parse(datetime, zoneId);
-                }
-                return converted;
-            } else {
-                return parseFull(literal);
-            }
-        }, literal);
-    }
-
-    private static ZoneId getAdjust(final String literal) {
-        if (literal.endsWith("Z")) {
-            return ZoneId.from(ZoneOffset.UTC);
+        final Moment moment = Moment.parse(literal);
+        if (null == moment) {
+            return null;
+        }
+        // Zone in literal first, otherwise system default zone.
+        final ZoneId zoneId = null == moment.getZone() ? ZoneId.systemDefault() : moment.getZone();
+        if (null == moment.getTime()) {
+            return parse(moment.getDate(), zoneId);
+        } else if (null == moment.getDate()) {
+            return parse(moment.getTime(), zoneId);
         } else {
-            return ZoneId.systemDefault();
+            return parse(LocalDateTime.of(moment.getDate(), moment.getTime()), zoneId);
         }
     }
 
@@ -218,39 +128,21 @@ class Period {
      * @return
      */
     static Date parseFull(final String literal) {
-        return Fn.getNull(null, () -> {
-            // Datetime parsing
-            final LocalDateTime datetime = toDateTime(literal);
-            final ZoneId zoneId = getAdjust(literal);
-            return Fn.nullFlow(datetime,
-                    (ref) -> Date.from(ref.atZone(zoneId).toInstant()),
-                    () -> {
-                        // Date parsing
-                        final LocalDate date = toDate(literal);
-                        return Fn.nullFlow(date,
-                                (ref) -> Date.from(ref.atStartOfDay().atZone(zoneId).toInstant()),
-                                () -> {
-                                    // Time parsing
-                                    final LocalTime time = toTime(literal);
-                                    return null == time ? null : parse(time);
-                                });
-                    });
-        }, literal);
+        return parse(literal);
     }
 
     static List<String> valueDurationDays(final String from, final String to) {
         final List<String> result = new ArrayList<String>();
         LocalDate begin = LocalDate.parse(from);
-        result.add(begin.format(DateTimeFormatter.ofPattern("yyyy-MM-dd", Locale.US)));
+        result.add(begin.format(Moment.formatter("yyyy-MM-dd")));
         final LocalDate end = LocalDate.parse(to);
         while (end.isAfter(begin)) {
             begin = begin.plusDays(1);
-            result.add(begin.format(DateTimeFormatter.ofPattern("yyyy-MM-dd", Locale.US)));
+            result.add(begin.format(Moment.formatter("yyyy-MM-dd")));
         }
         return result;
     }
 
-
     static void itDay(final String from, final String to,
                       final Consumer<Date> consumer) {
         LocalDateTime begin = toDateTime(parseFull(from));
@@ -9,6 +9,7 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.zero.exception.ZeroException;
+import io.zero.epic.container.JsonPath;
 import io.zero.epic.fn.Actuator;
 import io.zero.epic.fn.ZeroBiConsumer;
 
@@ -370,6 +371,10 @@ public class Ut {
         return Jackson.serializeJson(t);
     }
 
+    public static <T, R extends Iterable> R serializeJson(final T t, final boolean accessor) {
+        return Jackson.serializeJson(t, accessor);
+    }
+
     public static <T> String serialize(final T t) {
         return Jackson.serialize(t);
     }
@@ -390,6 +395,10 @@ public class Ut {
         return Jackson.deserialize(value, clazz);
     }
 
+    public static <T> T deserialize(final byte[] value, final Class<T> clazz) {
+        return Jackson.deserialize(value, clazz);
+    }
+
     public static <T> T deserialize(final String value, final TypeReference<T> type) {
         return Jackson.deserialize(value, type);
     }
@@ -464,7 +473,15 @@ public class Ut {
         return Period.valueDurationDays(from, to);
     }
 
-    // --- Json Visit
+    // --- Json Visit, read only, the JsonObject / JsonArray returned is the reference in item ( copy before modification )
+    public static JsonPath path(final String... keys) {
+        return JsonPath.create(keys);
+    }
+
+    public static Object visit(final JsonObject item, final String... keys) {
+        return Jackson.visit(item, keys);
+    }
+
     public static JsonObject visitJObject(final JsonObject item, final String... keys) {
         return Jackson.visitJObject(item, keys);
     }
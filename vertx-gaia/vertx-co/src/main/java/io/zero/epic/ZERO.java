@@ -80,23 +80,6 @@ interface Storage {
      * Memory pool for each up.god.file of ConfigStoreOptions
      */
     ConcurrentMap<String, ConfigStoreOptions> STORE = new ConcurrentHashMap<>();
-    /**
-     * Date Time patterns
-     */
-    ConcurrentMap<Integer, String> PATTERNS_MAP = new ConcurrentHashMap<Integer, String>() {
-        {
-            this.put(19, "yyyy-MM-dd HH:mm:ss");
-            this.put(24, "yyyy-MM-dd HH:mm:ss.SSS'Z'");
-            this.put(25, "yyyy-MM-dd HH:mm:ss.SSS+'z'");
-            this.put(23, "yyyy-MM-dd HH:mm:ss.SSS");
-            this.put(28, "EEE MMM dd HH:mm:ss 'CST' yyyy");
-            this.put(12, "HH:mm:ss.SSS");
-            this.put(10, "yyyy-MM-dd");
-            this.put(8, "HH:mm:ss");
-        }
-    };
-
-    String ADJUST_TIME = "yyyy-MM-dd HH:mm:ss.SSS'z'";
 }
 
 interface Info {
@@ -119,6 +102,8 @@ interface Info {
 interface Pool {
 
     ConcurrentMap<String, InputStream> STREAM_CACHE = new ConcurrentHashMap<>();
+
+    ConcurrentMap<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
 }
 
 /**
@@ -0,0 +1,94 @@
+package io.zero.epic.container;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiled path of nested keys in json tree, it's immutable and could be shared.
+ * The lookup is read only: no node is copied, the returned JsonObject / JsonArray
+ * is the reference of the node in tree, copy it before modification.
+ */
+public final class JsonPath {
+
+    private final String[] keys;
+
+    private JsonPath(final String[] keys) {
+        this.keys = keys;
+    }
+
+    public static JsonPath create(final String... keys) {
+        return new JsonPath(null == keys ? new String[0] : Arrays.copyOf(keys, keys.length));
+    }
+
+    /*
+     * Raw value of path, Map / List are wrapped as JsonObject / JsonArray ( not copied ).
+     */
+    public Object read(final JsonObject data) {
+        if (null == data || 0 == this.keys.length) {
+            return null;
+        }
+        Map<String, Object> current = data.getMap();
+        final int last = this.keys.length - 1;
+        for (int idx = 0; idx < last; idx++) {
+            current = asMap(current.get(this.keys[idx]));
+            if (null == current) {
+                return null;
+            }
+        }
+        return wrap(current.get(this.keys[last]));
+    }
+
+    /*
+     * Value of path only when the type is exactly `clazz`, otherwise null.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T read(final JsonObject data, final Class<T> clazz) {
+        final Object value = this.read(data);
+        return null != value && clazz == value.getClass() ? (T) value : null;
+    }
+
+    public String[] keys() {
+        return Arrays.copyOf(this.keys, this.keys.length);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(final Object value) {
+        if (value instanceof JsonObject) {
+            return ((JsonObject) value).getMap();
+        } else if (value instanceof Map) {
+            return (Map<String, Object>) value;
+        } else {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object wrap(final Object value) {
+        if (value instanceof Map) {
+            return new JsonObject((Map<String, Object>) value);
+        } else if (value instanceof List) {
+            return new JsonArray((List) value);
+        } else {
+            return value;
+        }
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj || (obj instanceof JsonPath && Arrays.equals(this.keys, ((JsonPath) obj).keys));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.keys);
+    }
+
+    @Override
+    public String toString() {
+        return String.join(".", this.keys);
+    }
+}
@@ -0,0 +1,46 @@
+package io.vertx.up.log;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+public class AnnalTc {
+
+    private static final String MESSAGE = "[ ZERO Test ] key = {0}, value = {1}";
+    private static final int TIMES = 100000;
+
+    @Test
+    public void testCached() {
+        final Annal logger = Annal.get(AnnalTc.class);
+        Assert.assertSame(logger, Annal.get(AnnalTc.class));
+        Assert.assertNotSame(logger, Annal.get(Annal.class));
+    }
+
+    @Test
+    public void testDisabled() {
+        final Annal logger = Annal.get(AnnalTc.class);
+        // Debug is disabled ( info level by default )
+        Assert.assertFalse(logger.isDebugEnabled());
+        Assert.assertTrue(logger.isInfoEnabled());
+        final com.sun.management.ThreadMXBean bean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long thread = Thread.currentThread().getId();
+        // Warm up
+        this.debug(logger);
+        final long start = bean.getThreadAllocatedBytes(thread);
+        this.debug(logger);
+        final long allocated = bean.getThreadAllocatedBytes(thread) - start;
+        // Zero garbage for disabled level, a few bytes are allowed for the measurement itself.
+        Assert.assertTrue("Allocated: " + allocated, 1024 > allocated);
+    }
+
+    private void debug(final Annal logger) {
+        for (int idx = 0; idx < TIMES; idx++) {
+            if (logger.isDebugEnabled()) {
+                logger.debug(MESSAGE, "key", idx);
+            }
+            logger.debug(() -> MESSAGE);
+        }
+    }
+}
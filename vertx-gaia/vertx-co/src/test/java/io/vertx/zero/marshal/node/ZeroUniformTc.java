@@ -0,0 +1,176 @@
+package io.vertx.zero.marshal.node;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ZeroUniformTc {
+
+    private static final String ALPHA = "test/uniform/vertx-alpha.yml";
+    private static final String BETA = "test/uniform/vertx-beta.yml";
+
+    @Test
+    public void testPrecedence() {
+        final Map<String, String> files = new TreeMap<>();
+        files.put("beta", BETA);
+        files.put("alpha", ALPHA);
+        final JsonObject data = ZeroUniform.build(files);
+        final JsonObject shared = data.getJsonObject("shared");
+        // The latter ( beta ) overwrites the former ( alpha ), nested nodes are deep merged.
+        Assert.assertEquals("beta", shared.getString("name"));
+        Assert.assertTrue(shared.getBoolean("alpha"));
+        Assert.assertEquals(2000, shared.getJsonObject("nested").getInteger("timeout").intValue());
+        Assert.assertEquals(3, shared.getJsonObject("nested").getInteger("retry").intValue());
+        Assert.assertEquals("localhost", data.getJsonObject("alpha").getString("host"));
+        Assert.assertEquals(6379, data.getJsonObject("beta").getInteger("port").intValue());
+        // The pooled fragment is not modified by merging
+        Assert.assertEquals("alpha", Storage.CONFIG.get(ALPHA).getJsonObject("shared").getString("name"));
+        Assert.assertEquals(1000, Storage.CONFIG.get(ALPHA).getJsonObject("shared")
+                .getJsonObject("nested").getInteger("timeout").intValue());
+    }
+
+    @Test
+    public void testSnapshot() {
+        final Node<JsonObject> node = new ZeroUniform();
+        Assert.assertSame(node.read(), new ZeroUniform().read());
+
+        final JsonObject frozen = ZeroSnapshot.freeze(new JsonObject()
+                .put("second", new JsonObject().put("key", "value"))
+                .put("first", new JsonArray().add(new JsonObject().put("key", 1))));
+        this.assertImmutable(() -> frozen.put("key", "value"));
+        this.assertImmutable(() -> frozen.remove("second"));
+        this.assertImmutable(() -> frozen.getJsonObject("second").put("key", "updated"));
+        this.assertImmutable(() -> frozen.getJsonArray("first").add(2));
+        this.assertImmutable(() -> frozen.getJsonArray("first").getJsonObject(0).put("key", 2));
+        this.assertImmutable(() -> frozen.getMap().entrySet().iterator().next().setValue("updated"));
+        this.assertImmutable(() -> frozen.getJsonObject("second").iterator().next().setValue("updated"));
+        // The copy is mutable and keeps the order
+        final JsonObject copied = frozen.copy();
+        copied.getJsonObject("second").put("key", "updated");
+        Assert.assertEquals("[\"second\",\"first\"]", new JsonArray(new ArrayList<>(copied.fieldNames())).encode());
+        Assert.assertEquals("value", frozen.getJsonObject("second").getString("key"));
+    }
+
+    @Test
+    public void testConcurrentReload() throws Exception {
+        final AtomicInteger generation = new AtomicInteger();
+        // Slow builder, the readers must not see the snapshot that is building
+        final ZeroSnapshot snapshot = new ZeroSnapshot(() -> {
+            final int current = generation.incrementAndGet();
+            final JsonObject data = new JsonObject().put("first", new JsonObject().put("gen", current));
+            Thread.yield();
+            return data.put("second", new JsonObject().put("gen", current));
+        });
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final AtomicReference<String> failure = new AtomicReference<>();
+        final AtomicInteger reads = new AtomicInteger();
+        final List<Thread> readers = new ArrayList<>();
+        for (int idx = 0; idx < 4; idx++) {
+            final Thread reader = new Thread(() -> {
+                while (running.get()) {
+                    final JsonObject data = snapshot.get();
+                    final Integer first = data.getJsonObject("first").getInteger("gen");
+                    final Integer second = data.getJsonObject("second").getInteger("gen");
+                    if (!first.equals(second)) {
+                        failure.set(data.encode());
+                    }
+                    reads.incrementAndGet();
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+        for (int idx = 0; idx < 200; idx++) {
+            snapshot.reload();
+        }
+        running.set(false);
+        for (final Thread reader : readers) {
+            reader.join();
+        }
+        Assert.assertNull(failure.get());
+        Assert.assertTrue(reads.get() > 0);
+        Assert.assertEquals(generation.get(), snapshot.get().getJsonObject("first").getInteger("gen").intValue());
+    }
+
+    @Test
+    public void testWatch() throws Exception {
+        final Vertx vertx = Vertx.vertx();
+        final File file = File.createTempFile("vertx-watch", ".yml");
+        try {
+            this.write(file, "watch:\n  value: 1\n", 0L);
+            final String filename = file.getAbsolutePath();
+            Storage.CONFIG.put(filename, new JsonObject().put("watch", new JsonObject().put("value", 1)));
+            final CompletableFuture<JsonObject> notified = new CompletableFuture<>();
+            vertx.eventBus().<JsonObject>consumer("ZERO://TEST/RELOAD", message -> notified.complete(message.body()));
+            ZeroUniform.watch(vertx, 50L, "ZERO://TEST/RELOAD");
+
+            this.write(file, "watch:\n  value: 2\n", 5000L);
+            final JsonObject message = notified.get(10, TimeUnit.SECONDS);
+            Assert.assertTrue(message.getJsonArray("files").contains(filename));
+            // Changed file is removed from pool, it will be loaded again when it's used
+            Assert.assertFalse(Storage.CONFIG.containsKey(filename));
+        } finally {
+            ZeroWatcher.stop(vertx);
+            vertx.close();
+            Files.deleteIfExists(file.toPath());
+        }
+    }
+
+    @Test
+    public void testReloadFailure() throws Exception {
+        final File file = new File("vertx-watchfail.yml");
+        final String filename = file.getName();
+        try {
+            this.write(file, "watch:\n  value: 1\n", 0L);
+            final Node<JsonObject> infix = Node.infix("watchfail");
+            Assert.assertEquals(1, infix.read().getJsonObject("watch").getInteger("value").intValue());
+            final JsonObject uniform = new ZeroUniform().read();
+            final JsonObject pooled = Storage.CONFIG.get(filename);
+            Assert.assertNotNull(pooled);
+            ZeroWatcher.check();
+            // Broken yaml: the uniform snapshot could be built, the infix one could not
+            this.write(file, "watch: [\n", 5000L);
+            Assert.assertTrue(ZeroWatcher.check().contains(filename));
+            // All the snapshots are kept, the pooled data is put back
+            Assert.assertSame(uniform, new ZeroUniform().read());
+            Assert.assertEquals(1, infix.read().getJsonObject("watch").getInteger("value").intValue());
+            Assert.assertSame(pooled, Storage.CONFIG.get(filename));
+        } finally {
+            Node.REFERENCES.remove("watchfail");
+            Storage.CONFIG.remove(filename);
+            Files.deleteIfExists(file.toPath());
+            // No timer started, the recorded files are cleared only
+            ZeroWatcher.stop(null);
+        }
+    }
+
+    private void write(final File file, final String content, final long delta) throws Exception {
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        // Modified time must be different even if the file system has coarse granularity
+        Assert.assertTrue(file.setLastModified(file.lastModified() + delta));
+    }
+
+    private void assertImmutable(final Runnable executor) {
+        try {
+            executor.run();
+            Assert.fail("Snapshot should be immutable");
+        } catch (final UnsupportedOperationException ex) {
+            // Expected
+        }
+    }
+}
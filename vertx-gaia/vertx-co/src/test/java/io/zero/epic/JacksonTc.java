@@ -3,6 +3,7 @@ package io.zero.epic;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.unit.TestContext;
+import io.zero.epic.container.JsonPath;
 import io.zero.quiz.StoreBase;
 import org.junit.Test;
 
@@ -22,6 +23,20 @@ public class JacksonTc extends StoreBase {
         context.assertEquals(3, hitted);
     }
 
+    @Test
+    public void testvReference(final TestContext context) {
+        final JsonObject data = IO.getJObject(this.getFile("jackson-testInt.json"));
+        // No copy: the node returned is the node in tree
+        final JsonObject hitted = Jackson.visitJObject(data, "lang", "home");
+        context.assertTrue(hitted.getMap() == data.getJsonObject("lang").getJsonObject("home").getMap());
+        final JsonPath path = JsonPath.create("lang", "home", "email", "index");
+        context.assertEquals(3, path.read(data, Integer.class));
+        context.assertEquals(3, Jackson.visit(data, "lang", "home", "email", "index"));
+        context.assertNull(path.read(data, String.class));
+        context.assertNull(JsonPath.create("lang", "visit", "email").read(data));
+        context.assertNull(path.read(null));
+    }
+
     @Test
     public void testMerge(final TestContext context) {
         final JsonArray fromData = IO.getJArray(this.getFile("from.json"));
@@ -0,0 +1,353 @@
+package io.zero.epic;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * The tree conversion should be the same as literal ( serialize / parse ) conversion.
+ */
+public class JacksonTreeTc {
+
+    @Test
+    public void testSerializeJson() {
+        final Item item = Item.create();
+        final JsonObject literal = new JsonObject(Jackson.serialize(item));
+        final JsonObject tree = Jackson.serializeJson(item);
+        this.assertSame(literal, tree);
+        this.assertSame(literal, Jackson.serializeJson(item, true));
+        // Null fields are ignored
+        Assert.assertFalse(tree.containsKey("missing"));
+    }
+
+    @Test
+    public void testSerializeArray() {
+        final List<Item> items = Arrays.asList(Item.create(), new Item());
+        final JsonArray literal = new JsonArray(Jackson.serialize(items));
+        final JsonArray tree = Jackson.serializeJson(items);
+        this.assertSame(literal, tree);
+        // Json self
+        final JsonObject json = new JsonObject().put("instant", Instant.parse("2019-05-01T10:00:00.123Z"))
+                .put("bytes", "zero".getBytes()).put("nil", (String) null)
+                .put("array", new JsonArray().add(1).add(2.5).add(Long.MAX_VALUE));
+        this.assertSame(new JsonObject(Jackson.serialize(json)), Jackson.serializeJson(json));
+        Assert.assertNull(Jackson.serializeJson(null));
+        Assert.assertNull(Jackson.serializeJson("literal"));
+    }
+
+    @Test
+    public void testDeserialize() {
+        final JsonObject json = Jackson.serializeJson(Item.create());
+        // The null value overwrites the default value
+        json.putNull("status");
+        json.put("price", 12.5);
+        json.put("score", 7L);
+        final Item literal = Jackson.deserialize(json.encode(), Item.class);
+        final Item tree = Jackson.deserialize(json, Item.class);
+        Assert.assertNull(tree.getStatus());
+        Assert.assertEquals(Jackson.serialize(literal), Jackson.serialize(tree));
+
+        final JsonArray array = new JsonArray().add(json).add(new JsonObject().put("NAME", "Lang"));
+        final List<Item> items = Jackson.deserialize(array, new TypeReference<List<Item>>() {
+        });
+        Assert.assertEquals(2, items.size());
+        Assert.assertEquals("Lang", items.get(1).getName());
+        Assert.assertEquals(Jackson.serialize(Jackson.deserialize(array.encode(), new TypeReference<List<Item>>() {
+        })), Jackson.serialize(items));
+    }
+
+    /*
+     * Equals and the same value types ( Integer / Long / Double / ... ) recursively.
+     */
+    private void assertSame(final Object expected, final Object actual) {
+        if (expected instanceof JsonObject) {
+            Assert.assertTrue(actual instanceof JsonObject);
+            final JsonObject left = (JsonObject) expected;
+            final JsonObject right = (JsonObject) actual;
+            Assert.assertEquals(left.fieldNames(), right.fieldNames());
+            left.fieldNames().forEach(field -> this.assertSame(left.getValue(field), right.getValue(field)));
+        } else if (expected instanceof JsonArray) {
+            Assert.assertTrue(actual instanceof JsonArray);
+            final JsonArray left = (JsonArray) expected;
+            final JsonArray right = (JsonArray) actual;
+            Assert.assertEquals(left.size(), right.size());
+            for (int idx = 0; idx < left.size(); idx++) {
+                this.assertSame(left.getValue(idx), right.getValue(idx));
+            }
+        } else if (null == expected) {
+            Assert.assertNull(actual);
+        } else {
+            Assert.assertEquals(String.valueOf(expected), expected.getClass(), actual.getClass());
+            Assert.assertEquals(expected, actual);
+        }
+    }
+
+    public enum Status {
+        ACTIVE, DISABLED
+    }
+
+    public static class Item {
+        private String name;
+        private Integer count;
+        private Long small;
+        private Long large;
+        private Short level;
+        private Float ratio;
+        private Double price;
+        private BigDecimal amount;
+        private BigDecimal total;
+        private BigInteger huge;
+        private Boolean active;
+        private Date created;
+        private Timestamp updated;
+        private LocalDate day;
+        private LocalDateTime time;
+        private Status status = Status.ACTIVE;
+        private byte[] content;
+        private List<String> tags;
+        private Map<String, Object> extra;
+        private Item child;
+        private JsonObject metadata;
+        private JsonArray items;
+        private String missing;
+        private long score;
+
+        static Item create() {
+            final Item item = new Item();
+            item.name = "Zero";
+            item.count = 12;
+            item.small = 3L;
+            item.large = Long.MAX_VALUE - 1;
+            item.level = 2;
+            item.ratio = 1.1F;
+            item.price = 0.3;
+            item.amount = new BigDecimal("12.50");
+            item.total = new BigDecimal("1024");
+            item.huge = new BigInteger("123456789012345678901234567890");
+            item.active = true;
+            item.created = new Date(1556704800000L);
+            item.updated = Timestamp.valueOf("2019-05-01 10:00:00.123");
+            item.day = LocalDate.of(2019, 5, 1);
+            item.time = LocalDateTime.of(2019, 5, 1, 10, 0, 1);
+            item.status = Status.DISABLED;
+            item.content = "zero".getBytes();
+            item.tags = Arrays.asList("a", "b");
+            item.extra = new LinkedHashMap<>();
+            item.extra.put("rate", 1.5D);
+            item.extra.put("number", 7);
+            item.extra.put("nested", Arrays.asList(1L, 2.5F));
+            item.child = new Item();
+            item.child.name = "Child";
+            item.metadata = new JsonObject().put("key", "value").put("count", 3);
+            item.items = new JsonArray().add("x").add(new JsonObject().put("y", 1.25));
+            item.score = 9;
+            return item;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public void setName(final String name) {
+            this.name = name;
+        }
+
+        public Integer getCount() {
+            return this.count;
+        }
+
+        public void setCount(final Integer count) {
+            this.count = count;
+        }
+
+        public Long getSmall() {
+            return this.small;
+        }
+
+        public void setSmall(final Long small) {
+            this.small = small;
+        }
+
+        public Long getLarge() {
+            return this.large;
+        }
+
+        public void setLarge(final Long large) {
+            this.large = large;
+        }
+
+        public Short getLevel() {
+            return this.level;
+        }
+
+        public void setLevel(final Short level) {
+            this.level = level;
+        }
+
+        public Float getRatio() {
+            return this.ratio;
+        }
+
+        public void setRatio(final Float ratio) {
+            this.ratio = ratio;
+        }
+
+        public Double getPrice() {
+            return this.price;
+        }
+
+        public void setPrice(final Double price) {
+            this.price = price;
+        }
+
+        public BigDecimal getAmount() {
+            return this.amount;
+        }
+
+        public void setAmount(final BigDecimal amount) {
+            this.amount = amount;
+        }
+
+        public BigDecimal getTotal() {
+            return this.total;
+        }
+
+        public void setTotal(final BigDecimal total) {
+            this.total = total;
+        }
+
+        public BigInteger getHuge() {
+            return this.huge;
+        }
+
+        public void setHuge(final BigInteger huge) {
+            this.huge = huge;
+        }
+
+        public Boolean getActive() {
+            return this.active;
+        }
+
+        public void setActive(final Boolean active) {
+            this.active = active;
+        }
+
+        public Date getCreated() {
+            return this.created;
+        }
+
+        public void setCreated(final Date created) {
+            this.created = created;
+        }
+
+        public Timestamp getUpdated() {
+            return this.updated;
+        }
+
+        public void setUpdated(final Timestamp updated) {
+            this.updated = updated;
+        }
+
+        public LocalDate getDay() {
+            return this.day;
+        }
+
+        public void setDay(final LocalDate day) {
+            this.day = day;
+        }
+
+        public LocalDateTime getTime() {
+            return this.time;
+        }
+
+        public void setTime(final LocalDateTime time) {
+            this.time = time;
+        }
+
+        public Status getStatus() {
+            return this.status;
+        }
+
+        public void setStatus(final Status status) {
+            this.status = status;
+        }
+
+        public byte[] getContent() {
+            return this.content;
+        }
+
+        public void setContent(final byte[] content) {
+            this.content = content;
+        }
+
+        public List<String> getTags() {
+            return this.tags;
+        }
+
+        public void setTags(final List<String> tags) {
+            this.tags = tags;
+        }
+
+        public Map<String, Object> getExtra() {
+            return this.extra;
+        }
+
+        public void setExtra(final Map<String, Object> extra) {
+            this.extra = extra;
+        }
+
+        public Item getChild() {
+            return this.child;
+        }
+
+        public void setChild(final Item child) {
+            this.child = child;
+        }
+
+        public JsonObject getMetadata() {
+            return this.metadata;
+        }
+
+        public void setMetadata(final JsonObject metadata) {
+            this.metadata = metadata;
+        }
+
+        public JsonArray getItems() {
+            return this.items;
+        }
+
+        public void setItems(final JsonArray items) {
+            this.items = items;
+        }
+
+        public String getMissing() {
+            return this.missing;
+        }
+
+        public void setMissing(final String missing) {
+            this.missing = missing;
+        }
+
+        public long getScore() {
+            return this.score;
+        }
+
+        public void setScore(final long score) {
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package io.zero.epic;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Property based: random date / time formatted by all the supported formats must be parsed back
+ * to the same value, the broken literals must be rejected without exception.
+ */
+public class MomentTc {
+
+    private static final int TIMES = 5000;
+    private static final List<String> REGIONS = Arrays.asList(
+            "Europe/Paris", "Asia/Shanghai", "America/New_York", "UTC");
+
+    private final transient Random random = new Random(20181017L);
+
+    private LocalDateTime nextDateTime() {
+        final LocalDateTime datetime = LocalDateTime.of(1900 + this.random.nextInt(200), 1, 1, 0, 0)
+                .plusSeconds(this.random.nextInt(366 * 24 * 3600));
+        switch (this.random.nextInt(4)) {
+            case 0:
+                return datetime;
+            case 1:
+                return datetime.withNano(this.random.nextInt(1000) * 1000000);
+            case 2:
+                return datetime.withNano(this.random.nextInt(1000000) * 1000);
+            default:
+                return datetime.withNano(this.random.nextInt(1000000000));
+        }
+    }
+
+    private ZoneOffset nextOffset() {
+        return ZoneOffset.ofTotalSeconds((this.random.nextInt(145) - 72) * 15 * 60);
+    }
+
+    private static Date local(final LocalDateTime datetime) {
+        return Date.from(datetime.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    @Test
+    public void testDateTime() {
+        for (int idx = 0; idx < TIMES; idx++) {
+            final LocalDateTime datetime = this.nextDateTime();
+            final String literal = datetime.format(Iso.LOCAL_DATE_TIME);
+            Assert.assertEquals(literal, datetime, Ut.toDateTime(literal));
+            Assert.assertEquals(literal, local(datetime), Ut.parse(literal));
+            // Space separator
+            final LocalDateTime seconds = datetime.truncatedTo(ChronoUnit.SECONDS);
+            final String readable = seconds.format(Iso.READBALE);
+            Assert.assertEquals(readable, seconds, Ut.toDateTime(readable));
+            final LocalDateTime millis = datetime.truncatedTo(ChronoUnit.MILLIS);
+            final String withMillis = millis.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS"));
+            Assert.assertEquals(withMillis, local(millis), Ut.parse(withMillis));
+        }
+    }
+
+    @Test
+    public void testZoned() {
+        for (int idx = 0; idx < TIMES; idx++) {
+            final LocalDateTime datetime = this.nextDateTime();
+            // Offset
+            final OffsetDateTime offset = datetime.atOffset(this.nextOffset());
+            final String literal = offset.format(Iso.OFFSET_DATE_TIME);
+            Assert.assertEquals(literal, Date.from(offset.toInstant()), Ut.parse(literal));
+            Assert.assertEquals(literal, datetime, Ut.toDateTime(literal));
+            // Instant / Common
+            final Instant instant = offset.toInstant();
+            final String utc = instant.toString();
+            Assert.assertEquals(utc, Date.from(instant), Ut.parse(utc));
+            final String common = instant.atOffset(ZoneOffset.UTC).format(Iso.COMMON);
+            Assert.assertEquals(common, Date.from(instant.truncatedTo(ChronoUnit.MILLIS)), Ut.parse(common));
+            // Region
+            final ZonedDateTime zoned = datetime.atZone(ZoneId.of(REGIONS.get(this.random.nextInt(REGIONS.size()))));
+            final String region = zoned.format(Iso.ZONED_DATE_TIME);
+            Assert.assertEquals(region, Date.from(zoned.toInstant()), Ut.parse(region));
+            // RFC-1123
+            final OffsetDateTime gmt = offset.withOffsetSameInstant(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS);
+            final String rfc = gmt.format(Iso.RFC1123_DATE_TIME);
+            Assert.assertEquals(rfc, Date.from(gmt.toInstant()), Ut.parse(rfc));
+        }
+    }
+
+    @Test
+    public void testDate() {
+        for (int idx = 0; idx < TIMES; idx++) {
+            final LocalDate date = this.nextDateTime().toLocalDate();
+            for (final DateTimeFormatter formatter : Arrays.asList(
+                    Iso.LOCAL_DATE, Iso.BASIC_DATE, Iso.ORDINAL_DATE)) {
+                final String literal = date.format(formatter);
+                Assert.assertEquals(literal, date, Ut.toDate(literal));
+                Assert.assertEquals(literal, local(date.atStartOfDay()), Ut.parse(literal));
+                Assert.assertNull(literal, Ut.toDateTime(literal));
+            }
+            final String offset = date.atStartOfDay().atOffset(this.nextOffset()).format(Iso.OFFSET_DATE);
+            Assert.assertEquals(offset, date, Ut.toDate(offset));
+        }
+    }
+
+    @Test
+    public void testTime() {
+        for (int idx = 0; idx < TIMES; idx++) {
+            final LocalDateTime datetime = this.nextDateTime();
+            final String literal = datetime.toLocalTime().format(Iso.LOCAL_TIME);
+            Assert.assertEquals(literal, datetime.toLocalTime(), Ut.toTime(literal));
+            Assert.assertNull(literal, Ut.toDate(literal));
+        }
+    }
+
+    @Test
+    public void testText() {
+        for (int idx = 0; idx < 200; idx++) {
+            // Date.toString(), the zone is system default
+            final Date date = local(this.nextDateTime().truncatedTo(ChronoUnit.SECONDS));
+            Assert.assertEquals(date.toString(), date, Ut.parse(date.toString()));
+        }
+    }
+
+    @Test
+    public void testInvalid() {
+        for (final String literal : Arrays.asList(
+                "", "abc", "2018", "2018-02-30", "2018-13-01", "2018-07-25T24:00:00", "2018-07-25T10:60",
+                "2018-07-25T10:15:30.", "2018-07-25T10:15:30+19:00", "2018-07-25T10:15:30[Mars/Base]",
+                "2018-07-25X", "2018/07/25", "2018-367", "25:00", "10:15:30Z+", "Tue, 31 Feb 2018 11:05:30 GMT")) {
+            Assert.assertNull(literal, Ut.parse(literal));
+            Assert.assertFalse(literal, Ut.isDate(literal));
+        }
+        // Broken literals never throw
+        final String chars = "0123456789-:.TZ+ []/abc";
+        for (int idx = 0; idx < TIMES; idx++) {
+            final char[] literal = this.nextDateTime().atOffset(this.nextOffset())
+                    .format(Iso.OFFSET_DATE_TIME).toCharArray();
+            literal[this.random.nextInt(literal.length)] = chars.charAt(this.random.nextInt(chars.length()));
+            final String broken = new String(literal, 0, 1 + this.random.nextInt(literal.length));
+            Ut.parse(broken);
+            Ut.toDateTime(broken);
+            Ut.toDate(broken);
+            Ut.toTime(broken);
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package io.vertx.tp.etcd.center;
 
 import io.reactivex.Observable;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.up.log.Annal;
@@ -49,6 +52,10 @@ public class EtcdData {
     private static final String MICRO = "micro";
     private static final String NODES = "nodes";
     private static final String TIMEOUT = "timeout";
+    /**
+     * Time to live of registered nodes, 0 means never expired.
+     */
+    private static final String TTL = "ttl";
     /**
      * Sub nodes of nodes
      */
@@ -62,13 +69,12 @@ public class EtcdData {
     private final transient Class<?> clazz;
     private final transient Annal logger;
     private transient long timeout = -1;
+    private transient int ttl = Values.ZERO;
     private transient String application = Strings.EMPTY;
 
-    private EtcdData(final Class<?> clazz) {
+    private EtcdData(final Class<?> clazz, final JsonObject config) {
         this.clazz = clazz;
         this.logger = Annal.get(clazz);
-        // Read configuration
-        final JsonObject config = NODE.read();
         if (config.containsKey(KEY)) {
             final JsonObject root = config.getJsonObject(KEY);
             // Verify the data
@@ -77,6 +83,9 @@ public class EtcdData {
             if (root.containsKey(TIMEOUT)) {
                 this.timeout = root.getLong(TIMEOUT);
             }
+            if (root.containsKey(TTL)) {
+                this.ttl = root.getInteger(TTL);
+            }
             if (root.containsKey(MICRO)) {
                 this.application = root.getString(MICRO);
             }
@@ -118,7 +127,19 @@ public class EtcdData {
             LOGGER.info(Info.ETCD_ENABLE);
         }
         return Fn.pool(POOL, clazz, () ->
-                Fn.getNull(null, () -> new EtcdData(clazz), clazz));
+                Fn.getNull(null, () -> new EtcdData(clazz, NODE.read()), clazz));
+    }
+
+    /**
+     * Create etcd data with input configuration instead of zero configuration,
+     * the instance will not be cached.
+     *
+     * @param clazz  caller class
+     * @param config configuration that contains `etcd` node
+     * @return EtcdData reference
+     */
+    public static EtcdData create(final Class<?> clazz, final JsonObject config) {
+        return Fn.getNull(null, () -> new EtcdData(clazz, config), clazz, config);
     }
 
     /**
@@ -143,6 +164,10 @@ public class EtcdData {
         return this.application;
     }
 
+    public int getTtl() {
+        return this.ttl;
+    }
+
     public ConcurrentMap<String, String> readDir(
             final String path,
             final boolean shiftted) {
@@ -239,4 +264,71 @@ public class EtcdData {
             return Ut.serializeJson(response.getNode());
         }, path, data);
     }
+
+    /**
+     * Refresh the ttl of path without value changing, watchers will not be notified.
+     *
+     * @param path the node path
+     * @param ttl  time to live ( seconds )
+     * @return false when the node does not exist ( expired )
+     */
+    public boolean refresh(final String path, final int ttl) {
+        return Fn.getJvm(Boolean.FALSE, () -> {
+            final EtcdKeyPutRequest request = this.client.refresh(path, ttl);
+            /** Timeout **/
+            if (-1 != this.timeout) {
+                request.timeout(this.timeout, TimeUnit.SECONDS);
+            }
+            final EtcdKeysResponse response = request.send().get();
+            return null != response.getNode();
+        }, path);
+    }
+
+    /**
+     * Read the whole tree of path ( recursive ), the etcdIndex of response
+     * could be used as start point of watching.
+     *
+     * @param path the directory path
+     * @return response of directory, null when the path does not exist
+     */
+    public EtcdKeysResponse readTree(final String path) {
+        return Fn.getJvm(null, () -> {
+            final EtcdKeyGetRequest request = this.client.getDir(path).recursive();
+            /** Timeout **/
+            if (-1 != this.timeout) {
+                request.timeout(this.timeout, TimeUnit.SECONDS);
+            }
+            return request.send().get();
+        }, path);
+    }
+
+    /**
+     * Wait for the first change of the tree since index, the handler will be
+     * called once in etcd client thread. No timeout for watching request.
+     *
+     * @param path    the directory path
+     * @param index   the index to start watching, 0 means watching from now
+     * @param handler callback of changing
+     */
+    public void watch(final String path, final long index,
+                      final Handler<AsyncResult<EtcdKeysResponse>> handler) {
+        try {
+            final EtcdKeyGetRequest request = this.client.getDir(path).recursive();
+            if (Values.ZERO < index) {
+                request.waitForChange(index);
+            } else {
+                request.waitForChange();
+            }
+            request.send().addListener(promise -> {
+                final Throwable error = promise.getException();
+                if (null == error) {
+                    handler.handle(Future.succeededFuture(promise.getNow()));
+                } else {
+                    handler.handle(Future.failedFuture(error));
+                }
+            });
+        } catch (final IOException ex) {
+            handler.handle(Future.failedFuture(ex));
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package io.vertx.tp.hikari;
 
+import com.zaxxer.hikari.HikariDataSource;
 import io.vertx.core.json.JsonObject;
 import io.vertx.tp.hikari.config.HikariCpConfig;
 import io.vertx.up.log.Annal;
@@ -9,10 +10,14 @@ import io.vertx.zero.marshal.node.ZeroUniform;
 import io.zero.epic.Ut;
 import io.zero.epic.fn.Fn;
 
+import javax.sql.DataSource;
 import java.sql.Connection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
- * Enabled hikari pool
+ * Enabled hikari pool, one HikariDataSource will be created for each key
+ * and shared by all the callers of the same key.
  */
 public class HikariCpPool {
 
@@ -20,7 +25,9 @@ public class HikariCpPool {
     private static final Node<JsonObject> NODE = Ut.singleton(ZeroUniform.class);
     private static final String KEY = "pool";
     private static final String HIKARI_KEY = "hikari";
-    private static HikariCpConfig CONFIG;
+    private static final ConcurrentMap<String, HikariDataSource> POOLS
+            = new ConcurrentHashMap<>();
+    private static JsonObject CONFIG;
 
     static {
         final JsonObject config = NODE.read();
@@ -31,16 +38,42 @@ public class HikariCpPool {
                 Fn.outUp(() -> Fn.shuntZero(() ->
                                 Ruler.verify(HIKARI_KEY, meta), meta),
                         LOGGER);
-                CONFIG = HikariCpConfig.create(meta);
+                CONFIG = meta;
             });
         });
     }
 
+    /**
+     * Get cached data source by key, the pool will be created at the first time.
+     * computeIfAbsent is used here instead of Fn.pool because duplicated pool
+     * will hold connections that could not be released.
+     *
+     * @param key    the pool key
+     * @param config provider configuration
+     * @return the shared data source of key
+     */
+    public static DataSource getDataSource(final String key, final JsonObject config) {
+        return Fn.getNull(null, () -> POOLS.computeIfAbsent(key,
+                (item) -> HikariCpConfig.create(config).getDataSource()), key, config);
+    }
+
     public static Connection getConnection(final JsonObject config) {
-        return Fn.getJvm(() -> HikariCpConfig.create(config).getPool().getConnection(), config);
+        return Fn.getJvm(() -> getDataSource(config.encode(), config).getConnection(), config);
     }
 
     public static Connection getConnection() {
-        return Fn.getJvm(() -> CONFIG.getPool().getConnection(), CONFIG);
+        return Fn.getJvm(() -> getDataSource(HIKARI_KEY, CONFIG).getConnection(), CONFIG);
+    }
+
+    /**
+     * Close the pool of key and remove it from cache.
+     *
+     * @param key the pool key
+     */
+    public static void close(final String key) {
+        final HikariDataSource dataSource = POOLS.remove(key);
+        if (null != dataSource) {
+            dataSource.close();
+        }
     }
 }
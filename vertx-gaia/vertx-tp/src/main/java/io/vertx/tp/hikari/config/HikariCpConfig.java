@@ -6,13 +6,17 @@ import com.zaxxer.hikari.pool.HikariPool;
 import io.vertx.core.json.JsonObject;
 import io.vertx.zero.exception.DataSourceException;
 
+import java.util.function.Consumer;
+
 /**
  * JsonObject -> HikariConfig
+ * Pool options could be configured in `provider` node:
+ * maximumPoolSize, minimumIdle, connectionTimeout, idleTimeout,
+ * maxLifetime, leakDetectionThreshold, poolName
  */
 public class HikariCpConfig {
 
-    private transient final HikariPool pool;
-
+    private transient final HikariDataSource dataSource;
 
     private HikariCpConfig(final JsonObject config) {
 
@@ -24,10 +28,19 @@ public class HikariCpConfig {
         hikariConfig.setUsername(config.getString("username"));
         hikariConfig.setPassword(config.getString("password"));
         hikariConfig.setCatalog(config.getString("catalog"));
+        // Pool size, timeouts and leak detection, default value of HikariCP will be used when missing
+        setInteger(config, "maximumPoolSize", hikariConfig::setMaximumPoolSize);
+        setInteger(config, "minimumIdle", hikariConfig::setMinimumIdle);
+        setLong(config, "connectionTimeout", hikariConfig::setConnectionTimeout);
+        setLong(config, "idleTimeout", hikariConfig::setIdleTimeout);
+        setLong(config, "maxLifetime", hikariConfig::setMaxLifetime);
+        setLong(config, "leakDetectionThreshold", hikariConfig::setLeakDetectionThreshold);
+        if (config.containsKey("poolName")) {
+            hikariConfig.setPoolName(config.getString("poolName"));
+        }
         // Init data source
         try {
-            final HikariDataSource dataSource = new HikariDataSource(hikariConfig);
-            this.pool = new HikariPool(dataSource);
+            this.dataSource = new HikariDataSource(hikariConfig);
         } catch (final HikariPool.PoolInitializationException ex) {
             throw new DataSourceException(this.getClass(), ex, hikariConfig.getJdbcUrl());
         }
@@ -37,7 +50,21 @@ public class HikariCpConfig {
         return new HikariCpConfig(config);
     }
 
-    public HikariPool getPool() {
-        return this.pool;
+    private static void setInteger(final JsonObject config, final String key,
+                                   final Consumer<Integer> setter) {
+        if (config.containsKey(key)) {
+            setter.accept(config.getInteger(key));
+        }
+    }
+
+    private static void setLong(final JsonObject config, final String key,
+                                final Consumer<Long> setter) {
+        if (config.containsKey(key)) {
+            setter.accept(config.getLong(key));
+        }
+    }
+
+    public HikariDataSource getDataSource() {
+        return this.dataSource;
     }
 }
@@ -1,6 +1,7 @@
 package io.vertx.tp.plugin.jooq;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
 import io.vertx.tp.hikari.HikariCpPool;
 import io.vertx.up.annotations.Plugin;
 import io.vertx.up.eon.Plugins;
@@ -13,6 +14,7 @@ import org.jooq.Configuration;
 import org.jooq.ConnectionProvider;
 import org.jooq.DSLContext;
 import org.jooq.SQLDialect;
+import org.jooq.impl.DataSourceConnectionProvider;
 import org.jooq.impl.DefaultConfiguration;
 import org.jooq.impl.DefaultConnectionProvider;
 
@@ -26,10 +28,19 @@ public class JooqInfix implements Infix {
     private static final Annal LOGGER = Annal.get(JooqInfix.class);
 
     private static final String NAME = "ZERO_JOOQ_POOL";
+    private static final String PROVIDER = "provider";
+    private static final String POOLED = "pooled";
+    private static final String PARALLEL = "parallel";
+    private static final String COUNT_TTL = "countTtl";
+    private static final String BATCH = "batch";
 
     private static final ConcurrentMap<String, Configuration> CONFIGS
             = new ConcurrentHashMap<>();
 
+    /* Options of each configuration, they're read by UxJooq on each call */
+    private static final ConcurrentMap<String, JsonObject> OPTIONS
+            = new ConcurrentHashMap<>();
+
     private static Vertx vertxRef;
 
     private static void initInternal(final Vertx vertx,
@@ -37,18 +48,35 @@ public class JooqInfix implements Infix {
         vertxRef = vertx;
         Fn.pool(CONFIGS, name,
                 () -> Infix.init(Plugins.Infix.JOOQ,
-                        (config) -> {
-                            // Initialized client
-                            final Configuration configuration = new DefaultConfiguration();
-                            configuration.set(SQLDialect.MYSQL_5_7);
-                            final ConnectionProvider provider =
-                                    new DefaultConnectionProvider(HikariCpPool.getConnection(
-                                            config.getJsonObject("provider")
-                                    ));
-                            // Initialized default configuration
-                            configuration.set(provider);
-                            return configuration;
-                        }, JooqInfix.class));
+                        (config) -> initConfiguration(name, config),
+                        JooqInfix.class));
+    }
+
+    /**
+     * Two modes of connection provider:
+     * 1. pooled = true ( default ), DataSourceConnectionProvider on shared HikariDataSource,
+     * each query/transaction borrows one connection from pool and returns it back.
+     * 2. pooled = false, DefaultConnectionProvider on single JDBC connection.
+     * The options `parallel`, `countTtl` and `batch` are kept for UxJooq.
+     */
+    static Configuration initConfiguration(final String name,
+                                           final JsonObject config) {
+        // Initialized client
+        final Configuration configuration = new DefaultConfiguration();
+        configuration.set(SQLDialect.MYSQL_5_7);
+        OPTIONS.put(name, config.copy());
+        final JsonObject providerConfig = config.getJsonObject(PROVIDER);
+        final ConnectionProvider provider;
+        if (config.getBoolean(POOLED, Boolean.TRUE)) {
+            provider = new DataSourceConnectionProvider(
+                    HikariCpPool.getDataSource(name, providerConfig));
+        } else {
+            provider = new DefaultConnectionProvider(
+                    HikariCpPool.getConnection(providerConfig));
+        }
+        // Initialized default configuration
+        configuration.set(provider);
+        return configuration;
     }
 
     public static void init(final Vertx vertx) {
@@ -63,11 +91,39 @@ public class JooqInfix implements Infix {
         return dao;
     }
 
+    private static JsonObject getOptions() {
+        return OPTIONS.getOrDefault(NAME, new JsonObject());
+    }
+
     public static DSLContext getDSL() {
         final Configuration configuration = CONFIGS.get(NAME);
         return configuration.dsl();
     }
 
+    /**
+     * Whether list and count queries of paginated search run concurrently, each one borrows its own connection.
+     * Default is the same as `pooled`, the single JDBC connection is never shared by concurrent queries.
+     */
+    public static boolean isParallel() {
+        final JsonObject options = getOptions();
+        final boolean pooled = options.getBoolean(POOLED, Boolean.TRUE);
+        return pooled && options.getBoolean(PARALLEL, Boolean.TRUE);
+    }
+
+    /**
+     * Time to live ( ms ) of cached count for identical criteria, 0 ( default ) means no cache.
+     */
+    public static long getCountTtl() {
+        return getOptions().getLong(COUNT_TTL, 0L);
+    }
+
+    /**
+     * Batch writing options: size ( rows of each chunk ), mode ( values / jdbc ) and transactional.
+     */
+    public static JsonObject getBatch() {
+        return getOptions().getJsonObject(BATCH, new JsonObject()).copy();
+    }
+
     @Override
     public Configuration get() {
         return CONFIGS.get(NAME);
@@ -50,7 +50,8 @@ public interface Infix {
             final JsonObject config,
             final Function<JsonObject, R> executor) {
         Fn.outUp(() -> Ruler.verify(key, config), logger);
-        return executor.apply(config);
+        // The uniform configuration is immutable snapshot, the plugin gets its own copy
+        return executor.apply(config.copy());
     }
 
     <T> T get();
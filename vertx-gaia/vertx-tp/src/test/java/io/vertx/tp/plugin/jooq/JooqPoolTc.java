@@ -0,0 +1,106 @@
+package io.vertx.tp.plugin.jooq;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.tp.hikari.HikariCpPool;
+import io.zero.quiz.EpicBase;
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Embedded H2 ( MySQL mode ) for pooled connection provider.
+ */
+public class JooqPoolTc extends EpicBase {
+
+    private static final String KEY = "ZERO_JOOQ_POOL_TEST";
+    private static final int THREADS = 4;
+    private static final Table<Record> TABLE = DSL.table(DSL.name("T_POOL"));
+    private static final Field<Integer> ID = DSL.field(DSL.name("ID"), SQLDataType.INTEGER);
+    private static final Field<String> NAME = DSL.field(DSL.name("NAME"), SQLDataType.VARCHAR(64));
+    private static final Field<Long> SESSION = DSL.field("SESSION_ID()", SQLDataType.BIGINT);
+
+    private static Configuration CONFIGURATION;
+
+    @BeforeClass
+    public static void setUp() {
+        final JsonObject config = new JooqPoolTc().getJson("jooq.json");
+        CONFIGURATION = JooqInfix.initConfiguration(KEY, config);
+        CONFIGURATION.dsl().createTableIfNotExists(TABLE)
+                .column(ID, SQLDataType.INTEGER.nullable(false))
+                .column(NAME, SQLDataType.VARCHAR(64))
+                .constraints(DSL.primaryKey(ID))
+                .execute();
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        HikariCpPool.close(KEY);
+    }
+
+    @Test
+    public void testShared() {
+        final JsonObject config = this.getJson("jooq.json");
+        Assert.assertSame(HikariCpPool.getDataSource(KEY, config.getJsonObject("provider")),
+                HikariCpPool.getDataSource(KEY, config.getJsonObject("provider")));
+    }
+
+    @Test
+    public void testConcurrent() throws Exception {
+        final CyclicBarrier barrier = new CyclicBarrier(THREADS);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        final List<Future<Long>> futures = new ArrayList<>();
+        for (int idx = 0; idx < THREADS; idx++) {
+            final int id = 100 + idx;
+            final Callable<Long> task = () -> CONFIGURATION.dsl().transactionResult(configuration -> {
+                final DSLContext context = DSL.using(configuration);
+                final Long session = context.select(SESSION).fetchOne(SESSION);
+                context.insertInto(TABLE, ID, NAME).values(id, "Lang" + id).execute();
+                // All transactions are opened at the same time, each one must own a connection
+                barrier.await(10, TimeUnit.SECONDS);
+                // The connection is kept during the whole transaction
+                Assert.assertEquals(session, context.select(SESSION).fetchOne(SESSION));
+                return session;
+            });
+            futures.add(executor.submit(task));
+        }
+        final Set<Long> sessions = new HashSet<>();
+        for (final Future<Long> future : futures) {
+            sessions.add(future.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        Assert.assertEquals(THREADS, sessions.size());
+        Assert.assertEquals(THREADS, CONFIGURATION.dsl().fetchCount(TABLE, ID.between(100, 199)));
+    }
+
+    @Test
+    public void testRollback() {
+        try {
+            CONFIGURATION.dsl().transactionResult(configuration -> {
+                DSL.using(configuration).insertInto(TABLE, ID, NAME).values(1, "Rollback").execute();
+                throw new IllegalStateException("Rollback");
+            });
+            Assert.fail();
+        } catch (final IllegalStateException ex) {
+            Assert.assertEquals(0, CONFIGURATION.dsl().fetchCount(TABLE, ID.eq(1)));
+        }
+    }
+}
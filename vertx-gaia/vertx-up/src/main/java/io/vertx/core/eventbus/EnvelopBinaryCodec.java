@@ -0,0 +1,65 @@
+package io.vertx.core.eventbus;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.up.atom.Envelop;
+import io.vertx.zero.eon.Values;
+
+/**
+ * Binary codec to transfer envelop, the wire format is described in EnvelopWire
+ * instead of java serialization.
+ * 1. Local delivery: zero-copy, the same reference will be passed.
+ * 2. Clustered delivery: compact binary with version byte.
+ */
+public final class EnvelopBinaryCodec implements MessageCodec<Envelop, Envelop> {
+
+    @Override
+    public void encodeToWire(final Buffer buffer,
+                             final Envelop message) {
+        EnvelopWire.write(buffer, message);
+    }
+
+    @Override
+    public Envelop decodeFromWire(final int pos,
+                                  final Buffer buffer) {
+        return EnvelopWire.read(pos, buffer);
+    }
+
+    /**
+     * Local usage, no copy here because the envelop is not shared
+     * between sender and consumer after sending.
+     *
+     * @param message
+     * @return
+     */
+    @Override
+    public Envelop transform(final Envelop message) {
+        return message;
+    }
+
+    /**
+     * Json tree in the same typed wire format, it's used by Ipc BINARY format.
+     *
+     * @param json input json object
+     * @return binary buffer
+     */
+    public static Buffer toBuffer(final JsonObject json) {
+        final Buffer buffer = Buffer.buffer();
+        EnvelopWire.writeJson(buffer, json);
+        return buffer;
+    }
+
+    public static JsonObject fromBuffer(final Buffer buffer) {
+        return EnvelopWire.readJson(Values.IDX, buffer);
+    }
+
+    @Override
+    public String name() {
+        return this.getClass().getName();
+    }
+
+    @Override
+    public byte systemCodecID() {
+        return Values.CODECS;
+    }
+}
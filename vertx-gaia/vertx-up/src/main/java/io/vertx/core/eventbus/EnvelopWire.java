@@ -0,0 +1,411 @@
+package io.vertx.core.eventbus;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpStatusCode;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.auth.User;
+import io.vertx.ext.web.Session;
+import io.vertx.up.atom.Envelop;
+import io.vertx.up.atom.hold.VirtualSession;
+import io.vertx.up.atom.hold.VirtualUser;
+import io.vertx.up.exception.WebException;
+import io.vertx.up.exception._500InternalServerException;
+import io.zero.epic.Ut;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary wire format of Envelop
+ * | length(int) | version(byte) | flags(byte) | status(int) | data | [key] | [headers] | [user] | [session] | [context] | [error] |
+ * 1. length is the byte size after itself, it's required by clustered event bus.
+ * 2. Each optional part exists only when the related flag bit has been set.
+ * 3. Values are tagged by one byte, json tree is written directly without string literal.
+ */
+final class EnvelopWire {
+
+    static final byte VERSION = 1;
+
+    // Flags
+    private static final int F_KEY = 1;
+    private static final int F_HEADERS = 1 << 1;
+    private static final int F_USER = 1 << 2;
+    private static final int F_SESSION = 1 << 3;
+    private static final int F_CONTEXT = 1 << 4;
+    private static final int F_ERROR = 1 << 5;
+
+    // Value tags
+    private static final byte T_NULL = 0;
+    private static final byte T_STRING = 1;
+    private static final byte T_INT = 2;
+    private static final byte T_LONG = 3;
+    private static final byte T_DOUBLE = 4;
+    private static final byte T_FLOAT = 5;
+    private static final byte T_TRUE = 6;
+    private static final byte T_FALSE = 7;
+    private static final byte T_BYTES = 8;
+    private static final byte T_JOBJECT = 9;
+    private static final byte T_JARRAY = 10;
+    private static final byte T_INSTANT = 11;
+    private static final byte T_DECIMAL = 12;
+    private static final byte T_JAVA = 13;
+
+    private EnvelopWire() {
+    }
+
+    static void write(final Buffer buffer, final Envelop envelop) {
+        final int start = buffer.length();
+        // Placeholder of length
+        buffer.appendInt(0);
+        buffer.appendByte(VERSION);
+
+        final WebException error = envelop.error();
+        final MultiMap headers = envelop.headers();
+        final User user = envelop.user();
+        final Session session = envelop.getSession();
+        final Map<String, Object> context = envelop.context();
+        int flags = 0;
+        if (null != envelop.key()) {
+            flags |= F_KEY;
+        }
+        if (null != headers && !headers.isEmpty()) {
+            flags |= F_HEADERS;
+        }
+        if (null != user && null != user.principal()) {
+            flags |= F_USER;
+        }
+        if (null != session) {
+            flags |= F_SESSION;
+        }
+        if (null != context && !context.isEmpty()) {
+            flags |= F_CONTEXT;
+        }
+        if (null != error) {
+            flags |= F_ERROR;
+        }
+        buffer.appendByte((byte) flags);
+        final HttpStatusCode status = envelop.status();
+        buffer.appendInt(null == status ? HttpStatusCode.OK.code() : status.code());
+        // Data, the error envelop will rebuild data from error itself.
+        if (null == error) {
+            writeObject(buffer, envelop.responseJson());
+        } else {
+            writeObject(buffer, null);
+        }
+        if (0 != (flags & F_KEY)) {
+            writeString(buffer, envelop.key());
+        }
+        if (0 != (flags & F_HEADERS)) {
+            final List<Map.Entry<String, String>> entries = headers.entries();
+            buffer.appendInt(entries.size());
+            for (final Map.Entry<String, String> entry : entries) {
+                writeString(buffer, entry.getKey());
+                writeString(buffer, entry.getValue());
+            }
+        }
+        if (0 != (flags & F_USER)) {
+            writeObject(buffer, user.principal());
+        }
+        if (0 != (flags & F_SESSION)) {
+            writeString(buffer, session.id());
+            buffer.appendLong(session.timeout());
+            buffer.appendLong(session.lastAccessed());
+            writeMap(buffer, session.data());
+        }
+        if (0 != (flags & F_CONTEXT)) {
+            writeMap(buffer, context);
+        }
+        if (0 != (flags & F_ERROR)) {
+            // Error envelop is rare, keep java serialization to hold concrete exception type.
+            final byte[] bytes = Ut.toBytes(error);
+            buffer.appendInt(bytes.length);
+            buffer.appendBytes(bytes);
+        }
+        buffer.setInt(start, buffer.length() - start - 4);
+    }
+
+    static Envelop read(final int pos, final Buffer buffer) {
+        final Reader reader = new Reader(buffer, pos);
+        // Length is not needed here because each part is self-described.
+        reader.readInt();
+        final byte version = reader.readByte();
+        if (VERSION != version) {
+            return Envelop.failure(new _500InternalServerException(EnvelopWire.class,
+                    "Unsupported envelop wire version: " + version));
+        }
+        final int flags = reader.readByte();
+        final HttpStatusCode status = HttpStatusCode.fromCode(reader.readInt());
+        final JsonObject data = (JsonObject) reader.readValue();
+        final String key = 0 != (flags & F_KEY) ? reader.readString() : null;
+        MultiMap headers = null;
+        if (0 != (flags & F_HEADERS)) {
+            headers = MultiMap.caseInsensitiveMultiMap();
+            final int size = reader.readInt();
+            for (int idx = 0; idx < size; idx++) {
+                headers.add(reader.readString(), reader.readString());
+            }
+        }
+        final JsonObject principal = 0 != (flags & F_USER) ? (JsonObject) reader.readValue() : null;
+        VirtualSession session = null;
+        if (0 != (flags & F_SESSION)) {
+            session = new VirtualSession(reader.readString(), reader.readLong(), reader.readLong());
+            session.data().putAll(reader.readMap());
+        }
+        final Map<String, Object> context = 0 != (flags & F_CONTEXT) ? reader.readMap() : null;
+        WebException error = null;
+        if (0 != (flags & F_ERROR)) {
+            error = reader.readJava();
+            if (null == error) {
+                error = new _500InternalServerException(EnvelopWire.class,
+                        "The error of envelop could not be deserialized.");
+            }
+        }
+        // Rebuild
+        final Envelop envelop = Envelop.wire(status, data, error);
+        envelop.key(key);
+        envelop.setHeaders(headers);
+        if (null != principal) {
+            envelop.setUser(new VirtualUser(principal));
+        }
+        envelop.setSession(session);
+        if (null != context) {
+            envelop.setContext(context);
+        }
+        return envelop;
+    }
+
+    static void writeJson(final Buffer buffer, final JsonObject json) {
+        writeObject(buffer, json);
+    }
+
+    static JsonObject readJson(final int pos, final Buffer buffer) {
+        final Object value = new Reader(buffer, pos).readValue();
+        return value instanceof JsonObject ? (JsonObject) value : null;
+    }
+
+    // ------------------ Writer ------------------
+
+    private static void writeString(final Buffer buffer, final String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.appendInt(bytes.length);
+        buffer.appendBytes(bytes);
+    }
+
+    private static void writeMap(final Buffer buffer, final Map<String, Object> map) {
+        // Count first, null key is not supported.
+        int size = 0;
+        for (final String key : map.keySet()) {
+            if (null != key) {
+                size++;
+            }
+        }
+        buffer.appendInt(size);
+        for (final Map.Entry<String, Object> entry : map.entrySet()) {
+            if (null != entry.getKey()) {
+                writeString(buffer, entry.getKey());
+                writeObject(buffer, entry.getValue());
+            }
+        }
+    }
+
+    private static void writeObject(final Buffer buffer, final Object value) {
+        if (null == value) {
+            buffer.appendByte(T_NULL);
+        } else if (value instanceof String) {
+            buffer.appendByte(T_STRING);
+            writeString(buffer, (String) value);
+        } else if (value instanceof Integer) {
+            buffer.appendByte(T_INT);
+            buffer.appendInt((Integer) value);
+        } else if (value instanceof Long) {
+            buffer.appendByte(T_LONG);
+            buffer.appendLong((Long) value);
+        } else if (value instanceof Double) {
+            buffer.appendByte(T_DOUBLE);
+            buffer.appendDouble((Double) value);
+        } else if (value instanceof Float) {
+            buffer.appendByte(T_FLOAT);
+            buffer.appendFloat((Float) value);
+        } else if (value instanceof Boolean) {
+            buffer.appendByte((Boolean) value ? T_TRUE : T_FALSE);
+        } else if (value instanceof byte[]) {
+            final byte[] bytes = (byte[]) value;
+            buffer.appendByte(T_BYTES);
+            buffer.appendInt(bytes.length);
+            buffer.appendBytes(bytes);
+        } else if (value instanceof JsonObject) {
+            final JsonObject json = (JsonObject) value;
+            buffer.appendByte(T_JOBJECT);
+            buffer.appendInt(json.size());
+            // Iterator will wrap Map/List into JsonObject/JsonArray
+            for (final Map.Entry<String, Object> entry : json) {
+                writeString(buffer, entry.getKey());
+                writeObject(buffer, entry.getValue());
+            }
+        } else if (value instanceof JsonArray) {
+            final JsonArray array = (JsonArray) value;
+            buffer.appendByte(T_JARRAY);
+            buffer.appendInt(array.size());
+            for (final Object item : array) {
+                writeObject(buffer, item);
+            }
+        } else if (value instanceof Map) {
+            writeObject(buffer, new JsonObject(castMap(value)));
+        } else if (value instanceof List) {
+            writeObject(buffer, new JsonArray((List) value));
+        } else if (value instanceof Instant) {
+            final Instant instant = (Instant) value;
+            buffer.appendByte(T_INSTANT);
+            buffer.appendLong(instant.getEpochSecond());
+            buffer.appendInt(instant.getNano());
+        } else if (value instanceof BigDecimal) {
+            buffer.appendByte(T_DECIMAL);
+            writeString(buffer, value.toString());
+        } else if (value instanceof Buffer) {
+            writeObject(buffer, ((Buffer) value).getBytes());
+        } else if (value instanceof CharSequence || value instanceof Enum) {
+            writeObject(buffer, value.toString());
+        } else if (value instanceof Serializable) {
+            final byte[] bytes = Ut.toBytes(value);
+            buffer.appendByte(T_JAVA);
+            buffer.appendInt(bytes.length);
+            buffer.appendBytes(bytes);
+        } else {
+            // Could not be transferred, such as RoutingContext reference.
+            buffer.appendByte(T_NULL);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> castMap(final Object value) {
+        return (Map<String, Object>) value;
+    }
+
+    // ------------------ Reader ------------------
+
+    private static final class Reader {
+        private transient final Buffer buffer;
+        private transient int pos;
+
+        private Reader(final Buffer buffer, final int pos) {
+            this.buffer = buffer;
+            this.pos = pos;
+        }
+
+        private byte readByte() {
+            final byte value = this.buffer.getByte(this.pos);
+            this.pos += 1;
+            return value;
+        }
+
+        private int readInt() {
+            final int value = this.buffer.getInt(this.pos);
+            this.pos += 4;
+            return value;
+        }
+
+        private long readLong() {
+            final long value = this.buffer.getLong(this.pos);
+            this.pos += 8;
+            return value;
+        }
+
+        private byte[] readBytes() {
+            final int length = this.readInt();
+            final byte[] bytes = this.buffer.getBytes(this.pos, this.pos + length);
+            this.pos += length;
+            return bytes;
+        }
+
+        private String readString() {
+            final int length = this.readInt();
+            final String value = this.buffer.getString(this.pos, this.pos + length, StandardCharsets.UTF_8.name());
+            this.pos += length;
+            return value;
+        }
+
+        private <T> T readJava() {
+            return Ut.fromBuffer(0, Buffer.buffer(this.readBytes()));
+        }
+
+        private Map<String, Object> readMap() {
+            final int size = this.readInt();
+            final Map<String, Object> map = new HashMap<>(size * 2);
+            for (int idx = 0; idx < size; idx++) {
+                map.put(this.readString(), this.readValue());
+            }
+            return map;
+        }
+
+        private Object readValue() {
+            final byte tag = this.readByte();
+            final Object value;
+            switch (tag) {
+                case T_STRING:
+                    value = this.readString();
+                    break;
+                case T_INT:
+                    value = this.readInt();
+                    break;
+                case T_LONG:
+                    value = this.readLong();
+                    break;
+                case T_DOUBLE:
+                    value = this.buffer.getDouble(this.pos);
+                    this.pos += 8;
+                    break;
+                case T_FLOAT:
+                    value = this.buffer.getFloat(this.pos);
+                    this.pos += 4;
+                    break;
+                case T_TRUE:
+                    value = Boolean.TRUE;
+                    break;
+                case T_FALSE:
+                    value = Boolean.FALSE;
+                    break;
+                case T_BYTES:
+                    value = this.readBytes();
+                    break;
+                case T_JOBJECT: {
+                    final int size = this.readInt();
+                    final JsonObject json = new JsonObject();
+                    for (int idx = 0; idx < size; idx++) {
+                        json.put(this.readString(), this.readValue());
+                    }
+                    value = json;
+                    break;
+                }
+                case T_JARRAY: {
+                    final int size = this.readInt();
+                    final JsonArray array = new JsonArray();
+                    for (int idx = 0; idx < size; idx++) {
+                        array.add(this.readValue());
+                    }
+                    value = array;
+                    break;
+                }
+                case T_INSTANT:
+                    value = Instant.ofEpochSecond(this.readLong(), this.readInt());
+                    break;
+                case T_DECIMAL:
+                    value = new BigDecimal(this.readString());
+                    break;
+                case T_JAVA:
+                    value = this.readJava();
+                    break;
+                default:
+                    value = null;
+                    break;
+            }
+            return value;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.Session;
 import io.vertx.up.atom.Envelop;
+import io.vertx.up.log.Annal;
 import io.zero.epic.Ut;
 import io.zero.epic.fn.Fn;
 
@@ -14,6 +15,8 @@ import java.util.UUID;
 
 class In {
 
+    private static final Annal LOGGER = Annal.get(In.class);
+
     static <T> T request(
             final Message<Envelop> message,
             final Class<T> clazz
@@ -90,7 +93,12 @@ class In {
         return Fn.getSemi(null == envelop, null, Fn::nil,
                 () -> {
                     final Session session = envelop.getSession();
-                    return null == session ? null : session.get(field);
+                    if (null == session) {
+                        // Session handler is mounted on selected routes only ( zero.web )
+                        LOGGER.warn(Info.SESSION_MISSING, field);
+                        return null;
+                    }
+                    return session.get(field);
                 });
     }
 
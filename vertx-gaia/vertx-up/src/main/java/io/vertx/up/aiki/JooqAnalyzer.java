@@ -1,6 +1,7 @@
 package io.vertx.up.aiki;
 
 import io.github.jklingsporn.vertx.jooq.future.VertxDAO;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -19,31 +20,100 @@ import org.jooq.*;
 import org.jooq.impl.DSL;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @SuppressWarnings("all")
 class JooqAnalyzer {
 
     private static final Annal LOGGER = Annal.get(JooqAnalyzer.class);
+    /* Upper limit of estimated count */
+    private static final int ESTIMATE_LIMIT = 10000;
     private static final ConcurrentMap<Integer, VertxDAO> DAO_POOL =
             new ConcurrentHashMap<>();
     private transient final VertxDAO vertxDAO;
-    private transient final ConcurrentMap<String, String> mapping =
-            new ConcurrentHashMap<>();
-    private transient final ConcurrentMap<String, String> revert =
-            new ConcurrentHashMap<>();
-    private transient Mojo pojo;
-    private transient String pojoFile;
+    private transient final JooqAnalyzer root;
+    private transient final ConcurrentMap<String, String> mapping;
+    private transient final ConcurrentMap<String, String> revert;
+    /* Analyzers of bound pojo files, shared by the analyzers of the same dao */
+    private transient final ConcurrentMap<String, JooqAnalyzer> bound;
+    /* Resolved columns: input field ( column, pojo field, entity field ) = column */
+    private transient final ConcurrentMap<String, Field> columns;
+    /* Compiled condition plans by the shape of filters */
+    private transient final ConcurrentMap<String, Function<JsonObject, Condition>> plans;
+    /* Cached count of identical criteria */
+    private transient final JooqCounter counted;
+    private transient final Mojo pojo;
+    private transient final String pojoFile;
+    /* Whether list and count queries run concurrently, null means the option of JooqInfix */
+    private transient final Boolean parallel;
+    /* Time to live ( ms ) of cached count, null means the option of JooqInfix */
+    private transient final Long countTtl;
 
     private JooqAnalyzer(final VertxDAO vertxDAO) {
         this.vertxDAO = Fn.pool(DAO_POOL, vertxDAO.hashCode(), () -> vertxDAO);
+        this.root = this;
+        this.mapping = new ConcurrentHashMap<>();
+        this.revert = new ConcurrentHashMap<>();
+        this.bound = new ConcurrentHashMap<>();
+        this.columns = new ConcurrentHashMap<>();
+        this.plans = new ConcurrentHashMap<>();
+        this.counted = new JooqCounter();
+        this.pojo = null;
+        this.pojoFile = null;
+        this.parallel = null;
+        this.countTtl = null;
         // Mapping initializing
         this.initMapping();
     }
 
+    /*
+     * Analyzer of pojo file, the mapping of dao is shared, but the resolved columns,
+     * plans and counts depend on pojo, they're kept in this analyzer.
+     */
+    private JooqAnalyzer(final JooqAnalyzer root, final String pojo) {
+        this.vertxDAO = root.vertxDAO;
+        this.root = root;
+        this.mapping = root.mapping;
+        this.revert = root.revert;
+        this.bound = root.bound;
+        this.columns = new ConcurrentHashMap<>();
+        this.plans = new ConcurrentHashMap<>();
+        this.counted = new JooqCounter();
+        this.pojoFile = pojo;
+        this.pojo = Mirror.create(UxJooq.class).mount(pojo)
+                .mojo().put(this.mapping);
+        this.parallel = null;
+        this.countTtl = null;
+        // When bind pojo, the system will analyze columns
+        LOGGER.debug(Info.JOOQ_MOJO, this.pojo.getRevert(), this.pojo.getColumns());
+    }
+
+    /*
+     * Analyzer with the options of one call, all the caches are shared with origin.
+     */
+    private JooqAnalyzer(final JooqAnalyzer origin, final Boolean parallel, final Long countTtl) {
+        this.vertxDAO = origin.vertxDAO;
+        this.root = origin.root;
+        this.mapping = origin.mapping;
+        this.revert = origin.revert;
+        this.bound = origin.bound;
+        this.columns = origin.columns;
+        this.plans = origin.plans;
+        this.counted = origin.counted;
+        this.pojoFile = origin.pojoFile;
+        this.pojo = origin.pojo;
+        this.parallel = parallel;
+        this.countTtl = countTtl;
+    }
+
     static JooqAnalyzer create(final VertxDAO vertxDAO) {
         return new JooqAnalyzer(vertxDAO);
     }
@@ -60,27 +130,74 @@ class JooqAnalyzer {
             final java.lang.reflect.Field field = fields[idx];
             this.mapping.put(field.getName(), column.getName());
             this.revert.put(column.getName(), field.getName());
+            // Precompute the lookups of entity field and column, column first when they're the same
+            final Field resolved = DSL.field(column.getName());
+            this.columns.put(field.getName(), resolved);
+            this.columns.put(column.getName(), resolved);
         }
     }
 
-    void bind(final String pojo, final Class<?> clazz) {
-        if (Ut.isNil(pojo)) {
-            this.pojoFile = null;
-            this.pojo = null;
-        } else {
+    /*
+     * The analyzer of pojo file ( pooled by file ), empty pojo means the analyzer of dao itself.
+     */
+    JooqAnalyzer bind(final String pojo, final Class<?> clazz) {
+        final JooqAnalyzer analyzer = Ut.isNil(pojo) ? this.root : Fn.pool(this.bound, pojo, () -> {
             LOGGER.debug(Info.JOOQ_BIND, pojo, clazz);
-            this.pojoFile = pojo;
-            this.pojo = Mirror.create(UxJooq.class).mount(pojo)
-                    .mojo().put(this.mapping);
-            // When bind pojo, the system will analyze columns
-            LOGGER.debug(Info.JOOQ_MOJO, this.pojo.getRevert(), this.pojo.getColumns());
-        }
+            return new JooqAnalyzer(this.root, pojo);
+        });
+        // The options of current call are kept
+        return null == this.parallel && null == this.countTtl ? analyzer :
+                new JooqAnalyzer(analyzer, this.parallel, this.countTtl);
     }
 
     Field getColumn(final String field) {
+        Field column = this.columns.get(field);
+        if (null == column) {
+            final String targetField = this.findColumn(field);
+            Fn.outUp(null == targetField, LOGGER,
+                    JooqFieldMissingException.class, UxJooq.class, field, Ut.field(this.vertxDAO, "type"));
+            LOGGER.debug(Info.JOOQ_FIELD, field, targetField);
+            column = DSL.field(targetField);
+            this.columns.put(field, column);
+        }
+        return column;
+    }
+
+    /*
+     * Condition from filters, the plan of the same filters shape is cached in current dao.
+     */
+    Condition getCondition(final JsonObject filters, final Operator operator) {
+        return JooqCond.transform(filters, operator, this::getColumn, this.plans);
+    }
+
+    /*
+     * Selected columns, the projection contains the fields that will be excluded from result.
+     * The field in projection could be column, pojo field or entity field, unknown field will be ignored.
+     */
+    Field[] getColumns(final Collection<String> projection) {
+        final Table<?> table = this.vertxDAO.getTable();
+        if (null == projection || projection.isEmpty()) {
+            return table.fields();
+        }
+        final Set<String> excluded = projection.stream()
+                .map(this::findColumn)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        final Field[] selected = Arrays.stream(table.fields())
+                .filter(column -> !excluded.contains(column.getName()))
+                .toArray(Field[]::new);
+        if (0 < selected.length) {
+            return selected;
+        }
+        // Nothing selected, keep primary key to avoid `SELECT *`, all columns of the table ( view ) without key
+        final UniqueKey<?> key = table.getPrimaryKey();
+        return null == key ? table.fields() : key.getFieldsArray();
+    }
+
+    private String findColumn(final String field) {
         String targetField;
         if (null == this.pojo) {
-            if (this.mapping.values().contains(field)) {
+            if (this.revert.containsKey(field)) {
                 // 1.1 No Mojo bind, find column first
                 targetField = field;
             } else {
@@ -103,16 +220,15 @@ class JooqAnalyzer {
                 targetField = this.mapping.get(targetField);
             }
         }
-        Fn.outUp(null == targetField, LOGGER,
-                JooqFieldMissingException.class, UxJooq.class, field, Ut.field(this.vertxDAO, "type"));
-        LOGGER.debug(Info.JOOQ_FIELD, field, targetField);
-
-        return DSL.field(targetField);
+        return targetField;
     }
 
     private <T> T skipPrimaryKey(final T entity) {
         final Table<?> tableField = Ut.field(this.vertxDAO, "table");
         final UniqueKey key = tableField.getPrimaryKey();
+        if (null == key) {
+            return entity;
+        }
         key.getFields().stream().map(item -> ((TableField) item).getName())
                 .filter(this.revert::containsKey)
                 .map(this.revert::get)
@@ -132,6 +248,22 @@ class JooqAnalyzer {
         });
     }
 
+    JooqAnalyzer parallel(final boolean parallel) {
+        return new JooqAnalyzer(this, parallel, this.countTtl);
+    }
+
+    JooqAnalyzer counted(final long ttl) {
+        return new JooqAnalyzer(this, this.parallel, ttl);
+    }
+
+    private boolean isParallel() {
+        return null == this.parallel ? JooqInfix.isParallel() : this.parallel;
+    }
+
+    private long countTtl() {
+        return null == this.countTtl ? JooqInfix.getCountTtl() : this.countTtl;
+    }
+
     String getPojoFile() {
         return this.pojoFile;
     }
@@ -143,7 +275,7 @@ class JooqAnalyzer {
     <T> Future<Integer> countAsync(final JsonObject filters, final Operator operator) {
         final Function<DSLContext, Integer> function
                 = dslContext -> null == filters ? dslContext.fetchCount(this.vertxDAO.getTable()) :
-                dslContext.fetchCount(this.vertxDAO.getTable(), JooqCond.transform(filters, operator, this::getColumn));
+                dslContext.fetchCount(this.vertxDAO.getTable(), this.getCondition(filters, operator));
         return Async.toFuture(this.vertxDAO.executeAsync(function));
     }
 
@@ -154,7 +286,96 @@ class JooqAnalyzer {
     <T> Integer count(final JsonObject filters, final Operator operator) {
         final DSLContext context = JooqInfix.getDSL();
         return null == filters ? context.fetchCount(this.vertxDAO.getTable()) :
-                context.fetchCount(this.vertxDAO.getTable(), JooqCond.transform(filters, operator, this::getColumn));
+                context.fetchCount(this.vertxDAO.getTable(), this.getCondition(filters, operator));
+    }
+
+    /*
+     * Total count by the counter mode of pager
+     * EXACT: COUNT(*), SKIP: null, ESTIMATE: COUNT(*) of the rows limited by ESTIMATE_LIMIT.
+     * The cached count is returned directly without worker thread.
+     */
+    private Future<Integer> counterAsync(final Inquiry inquiry, final Operator operator, final boolean unordered) {
+        final Pager pager = inquiry.getPager();
+        if (null != pager && Pager.Counter.SKIP == pager.getCounter()) {
+            return Future.succeededFuture();
+        }
+        final Integer cached = this.counted.get(this.counterKey(inquiry, operator), this.countTtl());
+        if (null != cached) {
+            return Future.succeededFuture(cached);
+        }
+        final Function<DSLContext, Integer> function = context -> this.counter(context, inquiry, operator);
+        return this.executeAsync(function, unordered);
+    }
+
+    /*
+     * The executeAsync of generated vertx-jooq dao runs in the ordered worker queue of current context,
+     * the list and count queries of one request could not overlap in it, they're dispatched unordered instead.
+     */
+    private <X> Future<X> executeAsync(final Function<DSLContext, X> function, final boolean unordered) {
+        if (!unordered) {
+            return Async.toFuture(this.vertxDAO.executeAsync(function));
+        }
+        final Future<X> future = Future.future();
+        this.vertxDAO.vertx().<X>executeBlocking(blocking -> blocking.complete(
+                function.apply(DSL.using(this.vertxDAO.configuration()))), false, future);
+        return future;
+    }
+
+    private Integer counter(final DSLContext context, final Inquiry inquiry, final Operator operator) {
+        final Pager pager = inquiry.getPager();
+        if (null != pager && Pager.Counter.SKIP == pager.getCounter()) {
+            return null;
+        }
+        return this.counted.get(this.counterKey(inquiry, operator), this.countTtl(), () -> {
+            final Condition condition = this.condition(inquiry, operator);
+            final Table<?> table = this.vertxDAO.getTable();
+            if (null == pager || Pager.Counter.EXACT == pager.getCounter()) {
+                return null == condition ? context.fetchCount(table) : context.fetchCount(table, condition);
+            } else {
+                final SelectJoinStep started = context.selectOne().from(table);
+                final SelectConditionStep limited = null == condition ? started.where() : started.where(condition);
+                return context.fetchCount(limited.limit(this.estimateLimit(pager)));
+            }
+        });
+    }
+
+    private String counterKey(final Inquiry inquiry, final Operator operator) {
+        final Pager pager = inquiry.getPager();
+        final String mode = null == pager || Pager.Counter.EXACT == pager.getCounter() ?
+                Pager.Counter.EXACT.name() : Pager.Counter.ESTIMATE.name() + this.estimateLimit(pager);
+        return JooqCounter.key(null == inquiry.getCriteria() ? null : inquiry.getCriteria().toJson(),
+                operator, mode);
+    }
+
+    private int estimateLimit(final Pager pager) {
+        return pager.isKeyset() ? ESTIMATE_LIMIT : Math.max(ESTIMATE_LIMIT, pager.getEnd() + 1);
+    }
+
+    private JsonObject count(final JsonObject response, final Integer counter, final Pager pager) {
+        if (null != counter) {
+            response.put("count", counter);
+            if (null != pager && Pager.Counter.ESTIMATE == pager.getCounter()) {
+                // The real count may be greater than "count" when the limit reached.
+                response.put("estimated", counter >= this.estimateLimit(pager));
+            }
+        }
+        return response;
+    }
+
+    private void next(final JsonObject response, final JooqKeyset keyset) {
+        if (null != keyset.next()) {
+            response.put("next", keyset.next());
+        }
+    }
+
+    private JooqKeyset keyset(final Inquiry inquiry) {
+        final JsonObject sorter = null == inquiry.getSorter() ? null : inquiry.getSorter().toJson();
+        return JooqKeyset.create(this.vertxDAO, sorter, this::getColumn);
+    }
+
+    private Condition condition(final Inquiry inquiry, final Operator operator) {
+        return null == inquiry.getCriteria() ? null :
+                this.getCondition(inquiry.getCriteria().toJson(), operator);
     }
 
     <T> Future<List<T>> searchAsync(final JsonObject criteria) {
@@ -178,29 +399,45 @@ class JooqAnalyzer {
     }
 
     Future<JsonArray> searchJArrayAsync(final Inquiry inquiry, final Operator operator) {
-        return this.searchAsync(inquiry, operator).compose(list -> {
-            if (null == inquiry.getProjection()) {
-                return Ux.thenJsonMore(list);
-            } else {
-                return Ux.thenJsonMore(list).compose(array -> Uarr.create(array)
-                        .remove(inquiry.getProjection().toArray(new String[]{}))
-                        .toFuture());
-            }
-        });
+        // Projection has been pushed down into SELECT, the null fields are not serialized
+        return this.searchAsync(inquiry, operator).compose(Ux::thenJsonMore);
     }
 
     Future<JsonObject> searchJObjectAsync(final Inquiry inquiry, final String pojo, final Operator operator) {
         final JsonObject response = new JsonObject();
-        return this.searchAsync(inquiry, operator)
-                .compose(list -> Ux.thenJsonMore(list, pojo))
+        final Pager pager = inquiry.getPager();
+        final Future<JsonArray> listed;
+        final boolean parallel = this.isParallel();
+        if (null != pager && pager.isKeyset()) {
+            final JooqKeyset keyset = this.keyset(inquiry);
+            final Function<DSLContext, List> function = context -> keyset.fetch(context,
+                    this.condition(inquiry, operator), pager, this.getColumns(inquiry.getProjection()));
+            final Future<List> fetched = this.executeAsync(function, parallel);
+            listed = fetched
+                    .compose(list -> Ux.thenJsonMore(list, pojo))
+                    .compose(array -> {
+                        this.next(response, keyset);
+                        return Future.succeededFuture(array);
+                    });
+        } else {
+            final Function<DSLContext, List<Object>> function = context -> this.searchInternal(context, inquiry, operator);
+            listed = this.executeAsync(function, parallel)
+                    .compose(list -> Ux.thenJsonMore(list, pojo));
+        }
+        if (parallel) {
+            // List and count queries are executed concurrently on different connections
+            final Future<Integer> counted = this.counterAsync(inquiry, operator, true);
+            return CompositeFuture.all(listed, counted).compose(nil -> {
+                response.put("list", listed.result());
+                return Future.succeededFuture(this.count(response, counted.result(), pager));
+            });
+        }
+        return listed
                 .compose(array -> {
                     response.put("list", array);
-                    return this.countAsync(inquiry, operator);
+                    return this.counterAsync(inquiry, operator, false);
                 })
-                .compose(counter -> {
-                    response.put("count", counter);
-                    return Future.succeededFuture(response);
-                });
+                .compose(counter -> Future.succeededFuture(this.count(response, counter, pager)));
     }
 
     Future<JsonObject> searchJObjectAsync(final Inquiry inquiry, final String pojo) {
@@ -210,11 +447,18 @@ class JooqAnalyzer {
 
     <T> JsonObject searchJObject(final Inquiry inquiry, final String pojo, final Operator operator) {
         final JsonObject response = new JsonObject();
-        final List<T> list = this.search(inquiry, operator);
-        response.put("list", Ux.thenJsonMore(list, pojo));
-        final Integer counter = this.count(inquiry, operator);
-        response.put("count", counter);
-        return response;
+        final Pager pager = inquiry.getPager();
+        final List<T> list;
+        if (null != pager && pager.isKeyset()) {
+            final JooqKeyset keyset = this.keyset(inquiry);
+            list = keyset.fetch(JooqInfix.getDSL(), this.condition(inquiry, operator), pager,
+                    this.getColumns(inquiry.getProjection()));
+            this.next(response, keyset);
+        } else {
+            list = this.search(inquiry, operator);
+        }
+        response.put("list", To.toArray(list, pojo));
+        return this.count(response, this.counter(JooqInfix.getDSL(), inquiry, operator), pager);
     }
 
     <T> JsonObject searchJObject(final Inquiry inquiry, final String pojo) {
@@ -223,23 +467,17 @@ class JooqAnalyzer {
 
     <T> JsonArray searchJArray(final Inquiry inquiry, final Operator operator) {
         final List<T> list = this.search(inquiry, operator);
-        JsonArray result = Ux.toArray(list);
-        if (null != inquiry.getProjection()) {
-            result = Uarr.create(result)
-                    .remove(inquiry.getProjection().toArray(new String[]{}))
-                    .to();
-        }
-        return result;
+        return Ux.toArray(list);
     }
 
     private <T> List<T> searchInternal(final DSLContext dslContext, final Inquiry inquiry, final Operator operator) {
-        // Started steps
-        final SelectWhereStep started = dslContext.selectFrom(this.vertxDAO.getTable());
+        // Started steps, projection pushed down
+        final SelectWhereStep started = dslContext.select(this.getColumns(inquiry.getProjection()))
+                .from(this.vertxDAO.getTable());
         // Condition set
         SelectConditionStep conditionStep = null;
         if (null != inquiry.getCriteria()) {
-            final Condition condition = JooqCond.transform(inquiry.getCriteria().toJson(), operator, this::getColumn);
-            conditionStep = started.where(condition);
+            conditionStep = started.where(this.condition(inquiry, operator));
         }
         // Sorted Enabled
         SelectSeekStepN selectStep = null;
@@ -271,15 +509,15 @@ class JooqAnalyzer {
         }
         // Returned one by one
         if (null != pagerStep) {
-            return pagerStep.fetch(this.vertxDAO.mapper());
+            return pagerStep.fetchInto(this.vertxDAO.getType());
         }
         if (null != selectStep) {
-            return selectStep.fetch(this.vertxDAO.mapper());
+            return selectStep.fetchInto(this.vertxDAO.getType());
         }
         if (null != conditionStep) {
-            return conditionStep.fetch(this.vertxDAO.mapper());
+            return conditionStep.fetchInto(this.vertxDAO.getType());
         }
-        return started.fetch(this.vertxDAO.mapper());
+        return started.fetchInto(this.vertxDAO.getType());
     }
 
     private <T> List<T> searchInternal(final DSLContext dslContext, final JsonObject criteria) {
@@ -288,7 +526,7 @@ class JooqAnalyzer {
         // Condition injection
         SelectConditionStep conditionStep = null;
         if (null != criteria) {
-            final Condition condition = JooqCond.transform(criteria, null, this::getColumn);
+            final Condition condition = this.getCondition(criteria, null);
             conditionStep = started.where(condition);
         }
         return started.fetch(this.vertxDAO.mapper());
@@ -0,0 +1,244 @@
+package io.vertx.up.aiki;
+
+import io.github.jklingsporn.vertx.jooq.future.VertxDAO;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+import io.vertx.tp.plugin.jooq.JooqInfix;
+import io.vertx.up.log.Annal;
+import io.vertx.zero.exception.JooqKeyMissingException;
+import io.zero.epic.fn.Fn;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.InsertValuesStepN;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.UniqueKey;
+import org.jooq.UpdatableRecord;
+import org.jooq.impl.DSL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Batch writing of entities, the entities are split into chunks by `size` and each chunk is one round trip.
+ * 1. INSERT, mode = values ( default ): multi-row INSERT INTO ... VALUES (...), (...);
+ * INSERT, mode = jdbc: JDBC batching of the prepared statement ( addBatch / executeBatch ).
+ * 2. UPDATE: JDBC batching of UPDATE ... WHERE primary key.
+ * 3. UPSERT: multi-row INSERT ... ON DUPLICATE KEY UPDATE on MySQL,
+ * other dialects batch MERGE INTO ... KEY ( primary key ) VALUES (...) of each row, the table must have primary key.
+ * The multi-row statements only contain the rows that changed the same columns, one statement per group.
+ * When transactional = true, each chunk is committed in its own transaction.
+ * The options of JooqInfix are overwritten by the options of current call ( UxJooq.batch ).
+ */
+@SuppressWarnings("all")
+class JooqBatch {
+
+    static final String MODE_VALUES = "values";
+    static final String MODE_JDBC = "jdbc";
+
+    private static final Annal LOGGER = Annal.get(JooqBatch.class);
+
+    private static final String SIZE = "size";
+    private static final String MODE = "mode";
+    private static final String TRANSACTIONAL = "transactional";
+    private static final int DEFAULT_SIZE = 1000;
+
+    private transient final VertxDAO vertxDAO;
+    private transient final int size;
+    private transient final String mode;
+    private transient final boolean transactional;
+
+    private JooqBatch(final VertxDAO vertxDAO, final JsonObject options) {
+        this.vertxDAO = vertxDAO;
+        final JsonObject merged = JooqInfix.getBatch();
+        if (null != options) {
+            merged.mergeIn(options);
+        }
+        this.size = Math.max(1, merged.getInteger(SIZE, DEFAULT_SIZE));
+        this.mode = MODE_JDBC.equals(merged.getString(MODE, MODE_VALUES)) ? MODE_JDBC : MODE_VALUES;
+        this.transactional = merged.getBoolean(TRANSACTIONAL, Boolean.FALSE);
+    }
+
+    static JooqBatch create(final VertxDAO vertxDAO, final JsonObject options) {
+        return new JooqBatch(vertxDAO, options);
+    }
+
+    // ============ INSERT Operation =============
+
+    <T> Future<List<T>> insertAsync(final List<T> entities) {
+        return this.executeAsync("INSERT", entities, this::insertChunk);
+    }
+
+    <T> List<T> insert(final List<T> entities) {
+        return this.execute(this.vertxDAO.configuration().dsl(), "INSERT", entities, this::insertChunk);
+    }
+
+    // ============ UPDATE Operation =============
+
+    <T> Future<List<T>> updateAsync(final List<T> entities) {
+        return this.executeAsync("UPDATE", entities, this::updateChunk);
+    }
+
+    <T> List<T> update(final List<T> entities) {
+        return this.execute(this.vertxDAO.configuration().dsl(), "UPDATE", entities, this::updateChunk);
+    }
+
+    // ============ UPSERT Operation =============
+
+    <T> Future<List<T>> upsertAsync(final List<T> entities) {
+        return this.executeAsync("UPSERT", entities, this::upsertChunk);
+    }
+
+    <T> List<T> upsert(final List<T> entities) {
+        return this.execute(this.vertxDAO.configuration().dsl(), "UPSERT", entities, this::upsertChunk);
+    }
+
+    private <T> Future<List<T>> executeAsync(final String operation, final List<T> entities,
+                                             final BiConsumer<DSLContext, List<T>> executor) {
+        final Function<DSLContext, List<T>> function = context -> this.execute(context, operation, entities, executor);
+        final CompletableFuture<List<T>> future = this.vertxDAO.executeAsync(function);
+        return Async.toFuture(future);
+    }
+
+    private <T> List<T> execute(final DSLContext context, final String operation, final List<T> entities,
+                                final BiConsumer<DSLContext, List<T>> executor) {
+        if (null == entities || entities.isEmpty()) {
+            return entities;
+        }
+        final int chunks = (entities.size() + this.size - 1) / this.size;
+        LOGGER.debug(Info.JOOQ_BATCH, operation, String.valueOf(entities.size()), String.valueOf(chunks),
+                this.mode, String.valueOf(this.transactional));
+        for (int start = 0; start < entities.size(); start += this.size) {
+            final List<T> chunk = entities.subList(start, Math.min(start + this.size, entities.size()));
+            if (this.transactional) {
+                context.transaction(configuration -> executor.accept(DSL.using(configuration), chunk));
+            } else {
+                executor.accept(context, chunk);
+            }
+        }
+        return entities;
+    }
+
+    private <T> void insertChunk(final DSLContext context, final List<T> chunk) {
+        final List<UpdatableRecord<?>> records = this.records(context, chunk, false);
+        if (MODE_JDBC.equals(this.mode)) {
+            context.batchInsert(records).execute();
+        } else {
+            final List<Query> queries = new ArrayList<>();
+            this.groups(records).forEach((fields, group) -> queries.add(this.values(context, fields, group)));
+            this.execute(context, queries);
+        }
+    }
+
+    private <T> void updateChunk(final DSLContext context, final List<T> chunk) {
+        context.batchUpdate(this.records(context, chunk, true)).execute();
+    }
+
+    private <T> void upsertChunk(final DSLContext context, final List<T> chunk) {
+        final List<UpdatableRecord<?>> records = this.records(context, chunk, false);
+        final Set<Field> keys = this.keys();
+        final Table table = this.vertxDAO.getTable();
+        final SQLDialect family = context.configuration().dialect().family();
+        final List<Query> queries = new ArrayList<>();
+        if (SQLDialect.MYSQL == family || SQLDialect.MARIADB == family) {
+            this.groups(records).forEach((fields, group) -> {
+                // col = VALUES(col) refers to the value of current row
+                final Map<Field, Field> updated = new LinkedHashMap<>();
+                fields.stream().filter(field -> !keys.contains(field))
+                        .forEach(field -> updated.put(field,
+                                DSL.field("values({0})", field.getDataType(), DSL.name(field.getName()))));
+                final InsertValuesStepN step = this.values(context, fields, group);
+                queries.add(updated.isEmpty() ? step.onDuplicateKeyIgnore() : step.onDuplicateKeyUpdate().set(updated));
+            });
+        } else {
+            // MERGE INTO ... KEY ( primary key ) VALUES (...) of each row
+            Fn.outUp(keys.isEmpty(), LOGGER, JooqKeyMissingException.class, this.getClass(), table.getName());
+            for (final UpdatableRecord<?> record : records) {
+                final Field[] fields = Arrays.stream(table.fields()).filter(record::changed).toArray(Field[]::new);
+                queries.add(context.mergeInto(table, fields).key(keys).values(this.values(record, fields)));
+            }
+        }
+        this.execute(context, queries);
+    }
+
+    /*
+     * One statement is sent directly, several statements are sent in one JDBC batch.
+     */
+    private void execute(final DSLContext context, final List<Query> queries) {
+        if (1 == queries.size()) {
+            queries.get(0).execute();
+        } else {
+            context.batch(queries).execute();
+        }
+    }
+
+    /*
+     * Multi-row INSERT INTO ... VALUES (...), (...) of the records that changed the same columns.
+     */
+    private InsertValuesStepN values(final DSLContext context, final List<Field> fields,
+                                     final List<UpdatableRecord<?>> records) {
+        final Field[] columns = fields.toArray(new Field[0]);
+        InsertValuesStepN step = context.insertInto(this.vertxDAO.getTable(), columns);
+        for (final UpdatableRecord<?> record : records) {
+            step = step.values(this.values(record, columns));
+        }
+        return step;
+    }
+
+    private Object[] values(final UpdatableRecord<?> record, final Field[] fields) {
+        final Object[] values = new Object[fields.length];
+        for (int idx = 0; idx < fields.length; idx++) {
+            values[idx] = record.get(fields[idx]);
+        }
+        return values;
+    }
+
+    /*
+     * The records grouped by the changed columns in order, the columns that are not changed in record
+     * are not written at all, instead of NULL, so that the default values of database are kept.
+     */
+    private Map<List<Field>, List<UpdatableRecord<?>>> groups(final List<UpdatableRecord<?>> records) {
+        final Field[] fields = this.vertxDAO.getTable().fields();
+        final Map<List<Field>, List<UpdatableRecord<?>>> groups = new LinkedHashMap<>();
+        for (final UpdatableRecord<?> record : records) {
+            final List<Field> changed = Arrays.stream(fields).filter(record::changed).collect(Collectors.toList());
+            groups.computeIfAbsent(changed, key -> new ArrayList<>()).add(record);
+        }
+        return groups;
+    }
+
+    private Set<Field> keys() {
+        final UniqueKey key = this.vertxDAO.getTable().getPrimaryKey();
+        return null == key ? Collections.emptySet() :
+                (Set<Field>) key.getFields().stream().collect(Collectors.toSet());
+    }
+
+    /*
+     * Same as DAOImpl: the primary key is not updated and the null value of NOT NULL column is not written.
+     */
+    private <T> List<UpdatableRecord<?>> records(final DSLContext context, final List<T> chunk, final boolean forUpdate) {
+        final Table table = this.vertxDAO.getTable();
+        final Set<Field> keys = forUpdate ? this.keys() : Collections.emptySet();
+        final List<UpdatableRecord<?>> records = new ArrayList<>(chunk.size());
+        for (final T entity : chunk) {
+            final UpdatableRecord<?> record = (UpdatableRecord<?>) context.newRecord(table, entity);
+            for (final Field field : record.fields()) {
+                if (keys.contains(field) || (null == record.get(field) && !field.getDataType().nullable())) {
+                    record.changed(field, false);
+                }
+            }
+            records.add(record);
+        }
+        return records;
+    }
+}
@@ -23,173 +23,189 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+/**
+ * Filters ( JsonObject ) -> jOOQ Condition.
+ * The filters are compiled into plan by the shape ( field names, operators, nesting and the "" flag ) and the plan is
+ * cached, a repeated query with the same shape only binds the values.
+ */
 class JooqCond {
 
     private static final Annal LOGGER = Annal.get(JooqCond.class);
-    private static final ConcurrentMap<String, BiFunction<String, Object, Condition>> OPS =
-            new ConcurrentHashMap<String, BiFunction<String, Object, Condition>>() {
+    /* The plans will not be cached when the count reached, avoid unbounded growth for random filters */
+    private static final int PLAN_LIMIT = 1024;
+    private static final Set<String> KEYWORDS = new HashSet<String>() {
+        {
+            this.add("KEY"); // MYSQL, KEY is keyword
+        }
+    };
+    private static final ConcurrentMap<String, BiFunction<Field, Object, Condition>> OPS =
+            new ConcurrentHashMap<String, BiFunction<Field, Object, Condition>>() {
                 {
-                    this.put(Inquiry.Op.LT, (field, value) -> DSL.field(field).lt(value));
-                    this.put(Inquiry.Op.GT, (field, value) -> DSL.field(field).gt(value));
-                    this.put(Inquiry.Op.LE, (field, value) -> DSL.field(field).le(value));
-                    this.put(Inquiry.Op.GE, (field, value) -> DSL.field(field).ge(value));
-                    this.put(Inquiry.Op.EQ, (field, value) -> DSL.field(field).eq(value));
-                    this.put(Inquiry.Op.NEQ, (field, value) -> DSL.field(field).ne(value));
-                    this.put(Inquiry.Op.NOT_NULL, (field, value) -> DSL.field(field).isNotNull());
-                    this.put(Inquiry.Op.NULL, (field, value) -> DSL.field(field).isNull());
-                    this.put(Inquiry.Op.TRUE, (field, value) -> DSL.field(field).isTrue());
-                    this.put(Inquiry.Op.FALSE, (field, value) -> DSL.field(field).isFalse());
+                    this.put(Inquiry.Op.LT, (field, value) -> field.lt(value));
+                    this.put(Inquiry.Op.GT, (field, value) -> field.gt(value));
+                    this.put(Inquiry.Op.LE, (field, value) -> field.le(value));
+                    this.put(Inquiry.Op.GE, (field, value) -> field.ge(value));
+                    this.put(Inquiry.Op.EQ, (field, value) -> field.eq(value));
+                    this.put(Inquiry.Op.NEQ, (field, value) -> field.ne(value));
+                    this.put(Inquiry.Op.NOT_NULL, (field, value) -> field.isNotNull());
+                    this.put(Inquiry.Op.NULL, (field, value) -> field.isNull());
+                    this.put(Inquiry.Op.TRUE, (field, value) -> field.isTrue());
+                    this.put(Inquiry.Op.FALSE, (field, value) -> field.isFalse());
                     this.put(Inquiry.Op.IN, (field, value) -> {
                         final Collection<?> values = Ut.toCollection(value);
-                        return DSL.field(field).in(values);
+                        return field.in(values);
                     });
                     this.put(Inquiry.Op.NOT_IN, (field, value) -> {
                         final Collection<?> values = Ut.toCollection(value);
-                        return DSL.field(field).notIn(values);
+                        return field.notIn(values);
                     });
-                    this.put(Inquiry.Op.START, (field, value) -> DSL.field(field).startsWith(value));
-                    this.put(Inquiry.Op.END, (field, value) -> DSL.field(field).endsWith(value));
-                    this.put(Inquiry.Op.CONTAIN, (field, value) -> DSL.field(field).contains(value));
+                    this.put(Inquiry.Op.START, (field, value) -> field.startsWith(value));
+                    this.put(Inquiry.Op.END, (field, value) -> field.endsWith(value));
+                    this.put(Inquiry.Op.CONTAIN, (field, value) -> field.contains(value));
                 }
             };
-    private static final ConcurrentMap<String, BiFunction<String, Instant, Condition>> DOPS =
-            new ConcurrentHashMap<String, BiFunction<String, Instant, Condition>>() {
+    private static final ConcurrentMap<String, BiFunction<Field, Instant, Condition>> DOPS =
+            new ConcurrentHashMap<String, BiFunction<Field, Instant, Condition>>() {
                 {
                     this.put(Inquiry.Instant.DAY, (field, value) -> {
                         // Time for locale
                         final LocalDate date = Ut.toDate(value);
-                        return DSL.field(field).between(date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+                        return field.between(date.atStartOfDay(), date.plusDays(1).atStartOfDay());
                     });
                     this.put(Inquiry.Instant.DATE, (field, value) -> {
                         final LocalDate date = Ut.toDate(value);
-                        final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-                        return DSL.field(field).eq(date.format(formatter));
+                        return field.eq(date.format(DateTimeFormatter.ISO_LOCAL_DATE));
                     });
                 }
             };
 
-    private static String applyField(final String field) {
-        final Set<String> keywords = new HashSet<String>() {
-            {
-                this.add("KEY"); // MYSQL, KEY is keyword
-            }
-        };
-        return keywords.contains(field) ? "`" + field + "`" : field;
+    private static Field applyField(final String field) {
+        return DSL.field(KEYWORDS.contains(field) ? "`" + field + "`" : field);
     }
 
     // Condition ---------------------------------------------------------
     static Condition transform(final JsonObject filters,
-                               Operator operator,
+                               final Operator operator,
                                final Function<String, Field> fnAnalyze) {
-        final Condition condition;
+        // Only the plans without column analyzing could be shared
+        return transform(filters, operator, fnAnalyze, null == fnAnalyze ? Cache.PLANS : null);
+    }
+
+    /*
+     * The plans must be bound to one `fnAnalyze` because the columns have been resolved in plan.
+     */
+    static Condition transform(final JsonObject filters,
+                               final Operator operator,
+                               final Function<String, Field> fnAnalyze,
+                               final ConcurrentMap<String, Function<JsonObject, Condition>> plans) {
+        final Function<JsonObject, Condition> plan;
+        if (null == filters || null == plans) {
+            plan = compile(filters, operator, fnAnalyze);
+        } else {
+            final String shape = shape(filters, operator);
+            final Function<JsonObject, Condition> cached = plans.get(shape);
+            if (null != cached) {
+                plan = cached;
+            } else {
+                plan = compile(filters, operator, fnAnalyze);
+                if (PLAN_LIMIT > plans.size()) {
+                    plans.put(shape, plan);
+                }
+            }
+        }
+        final Condition condition = plan.apply(filters);
+        if (null != condition && LOGGER.isDebugEnabled()) {
+            LOGGER.debug(Info.JOOQ_PARSE, condition);
+        }
+        return condition;
+    }
+
+    /*
+     * Shape of filters, values are ignored except the "" flag ( AND / OR ).
+     * Every key is prefixed with its length, so that the keys containing separators could not be conflict.
+     */
+    static String shape(final JsonObject filters, final Operator operator) {
+        final StringBuilder shape = new StringBuilder(null == operator ? "-" : operator.name());
+        shape(shape, filters);
+        return shape.toString();
+    }
+
+    private static void shape(final StringBuilder shape, final JsonObject filters) {
+        shape.append('{');
+        for (final String field : filters.fieldNames()) {
+            final Object value = filters.getValue(field);
+            shape.append(field.length()).append(':').append(field);
+            if (Ut.isJObject(value)) {
+                shape(shape, filters.getJsonObject(field));
+            } else if (Strings.EMPTY.equals(field)) {
+                shape.append('=').append(value);
+            }
+            shape.append(';');
+        }
+        shape.append('}');
+    }
+
+    private static Function<JsonObject, Condition> compile(final JsonObject filters,
+                                                           Operator operator,
+                                                           final Function<String, Field> fnAnalyze) {
         final Criteria criteria = Criteria.create(filters);
         /**
          * The mode has been selected by criteria, the condition is as following:
          * When filters contains the key = value ( value = JsonObject ), TREE
          * Otherwise it's LINEAR.
          */
-        if (!Ut.isNil(filters)) {
-            LOGGER.info("[ ZERO ] ( Query ) Mode selected {0}, filters raw = {1}",
-                    criteria.getMode(), filters);
-        }
+        LOGGER.debug("[ ZERO ] ( Query ) Mode selected {0}, filters shape = {1}",
+                criteria.getMode(), filters.fieldNames());
         if (Inquiry.Mode.LINEAR == criteria.getMode()) {
-            JsonObject inputFilters = filters;
-            if (null == operator) {
-                /**
-                 * When the mode is linear, the system will be sure filters contains
-                 * no value with JsonObject, remove all JsonObject value to switch
-                 * LINEAR mode.
-                 */
-                inputFilters = transformLinear(filters);
-                /**
-                 * Re-calculate the operator AND / OR
-                 * For complex normalize linear query tree.
-                 */
-                if (inputFilters.containsKey(Strings.EMPTY)) {
-                    if (inputFilters.getBoolean(Strings.EMPTY)) {
-                        operator = Operator.AND;
-                    } else {
-                        operator = Operator.OR;
-                    }
-                    inputFilters.remove(Strings.EMPTY);
-                }
-            } else {
-                /**
-                 * When LINEAR mode, operator is hight priority, the query engine will
-                 * ignore the flag key = value. ( key = "", value = true )
-                 * It's defined by zero.
-                 */
-                inputFilters.remove(Strings.EMPTY);
+            /**
+             * When LINEAR mode, operator is hight priority, the query engine will
+             * ignore the flag key = value. ( key = "", value = true )
+             * It's defined by zero.
+             * Otherwise re-calculate the operator AND / OR by flag for complex normalize linear query tree.
+             */
+            if (null == operator && filters.containsKey(Strings.EMPTY)) {
+                operator = filters.getBoolean(Strings.EMPTY) ? Operator.AND : Operator.OR;
             }
-            condition = transformLinear(inputFilters, operator, fnAnalyze);
+            return compileLinear(filters, operator, fnAnalyze);
         } else {
             /**
              * When the mode is Tree, you mustn't set operator, because the operator will
-             * be parsed by query tree engine, this operation is unsupported and it will
-             * throw out exception JooqModeConflictException,
-             * Ignore operator information here, because the next analyzing will ignore automatically.
+             * be parsed by query tree engine, the operator information is ignored here.
              */
-            /*Fn.outUp(null != operator, LOGGER, JooqModeConflictException.class,
-                    JooqCond.class, Inquiry.Mode.LINEAR, filters);*/
-            condition = transformTree(filters, fnAnalyze);
+            return compileTree(filters, fnAnalyze);
         }
-        if (null != condition) {
-            LOGGER.info(Info.JOOQ_PARSE, condition);
-        }
-        return condition;
     }
 
-    private static Condition transformTree(final JsonObject filters,
-                                           final Function<String, Field> fnAnalyze) {
-        Condition condition;
+    private static Function<JsonObject, Condition> compileTree(final JsonObject filters,
+                                                               final Function<String, Field> fnAnalyze) {
         // Calc operator in this level
         final Operator operator = calcOperator(filters);
-        // Calc liner
-        final JsonObject cloned = filters.copy();
-        cloned.remove(Strings.EMPTY);
-        // Operator has been calculated, remove "" to set linear of current tree.
-        final Condition linear = transformLinear(transformLinear(cloned), operator, fnAnalyze);
+        // Calc linear, "" and the sub-tree are skipped
+        final Function<JsonObject, Condition> linear = compileLinear(filters, operator, fnAnalyze);
         // Calc All Tree
-        final List<Condition> tree = transformTreeSet(filters, fnAnalyze);
-        // Merge the same level
-        if (null != linear) {
-            tree.add(linear);
-        }
-        if (1 == tree.size()) {
-            condition = tree.get(Values.IDX);
-        } else {
-            condition = tree.get(Values.IDX);
-            for (int idx = Values.ONE; idx < tree.size(); idx++) {
-                final Condition right = tree.get(idx);
-                condition = opCond(condition, right, operator);
+        final List<Function<JsonObject, Condition>> tree = new ArrayList<>();
+        for (final String field : filters.fieldNames()) {
+            if (Ut.isJObject(filters.getValue(field))) {
+                final Function<JsonObject, Condition> child = compileTree(filters.getJsonObject(field), fnAnalyze);
+                tree.add(level -> child.apply(level.getJsonObject(field)));
             }
         }
-        return condition;
-    }
-
-    private static List<Condition> transformTreeSet(
-            final JsonObject filters,
-            final Function<String, Field> fnAnalyze) {
-        final List<Condition> conditions = new ArrayList<>();
-        final JsonObject tree = filters.copy();
-        if (!tree.isEmpty()) {
-            for (final String field : filters.fieldNames()) {
-                if (Ut.isJObject(tree.getValue(field))) {
-                    conditions.add(transformTree(tree.getJsonObject(field), fnAnalyze));
-                }
+        return level -> {
+            final List<Condition> conditions = new ArrayList<>();
+            for (final Function<JsonObject, Condition> item : tree) {
+                conditions.add(item.apply(level));
             }
-        }
-        return conditions;
-    }
-
-    private static JsonObject transformLinear(final JsonObject filters) {
-        final JsonObject linear = filters.copy();
-        for (final String field : filters.fieldNames()) {
-            if (Ut.isJObject(linear.getValue(field))) {
-                linear.remove(field);
+            // Merge the same level
+            final Condition linearCond = linear.apply(level);
+            if (null != linearCond) {
+                conditions.add(linearCond);
             }
-        }
-        return linear;
+            Condition condition = conditions.get(Values.IDX);
+            for (int idx = Values.ONE; idx < conditions.size(); idx++) {
+                condition = opCond(condition, conditions.get(idx), operator);
+            }
+            return condition;
+        };
     }
 
     private static Operator calcOperator(final JsonObject data) {
@@ -203,45 +219,48 @@ class JooqCond {
         return operator;
     }
 
-    private static Condition transformLinear(
+    private static Function<JsonObject, Condition> compileLinear(
             final JsonObject filters,
             final Operator operator,
             final Function<String, Field> fnAnalyze) {
-        Condition condition = null;
+        final List<Function<JsonObject, Condition>> terms = new ArrayList<>();
         for (final String field : filters.fieldNames()) {
+            if (Strings.EMPTY.equals(field) || Ut.isJObject(filters.getValue(field))) {
+                continue;
+            }
             final String key = getKey(field);
             final String[] fields = field.split(",");
-            String targetField = field.split(",")[Values.IDX];
+            String targetField = fields[Values.IDX];
             // TargetField re-do
             if (null != fnAnalyze) {
                 targetField = fnAnalyze.apply(targetField).getName();
             }
-            // Date, DateTime, Time
-            final Object value = filters.getValue(field);
+            final Field column = applyField(targetField.trim());
             if (3 > fields.length) {
                 // Function
-                final BiFunction<String, Object, Condition> fun = OPS.get(key);
-                // JsonArray to List, fix vert.x and jooq connect issue.
-                /**if (Ut.isJArray(value)) {
-                 value = ((JsonArray) value).getList().toArray();
-                 }**/
-                final Condition item = fun.apply(applyField(targetField.trim()), value);
-                condition = opCond(condition, item, operator);
-                // Function condition inject
-
+                final BiFunction<Field, Object, Condition> fun = OPS.get(key);
+                terms.add(level -> fun.apply(column, level.getValue(field)));
             } else if (3 == fields.length) {
-                Fn.outUp(null == value, LOGGER,
-                        JooqArgumentException.class, UxJooq.class, value);
-                final Instant instant = filters.getInstant(field);
-                Fn.outUp(Instant.class != instant.getClass(), LOGGER,
-                        JooqArgumentException.class, UxJooq.class, instant.getClass());
-                final String mode = fields[Values.TWO];
-                final BiFunction<String, Instant, Condition> fun = DOPS.get(mode);
-                final Condition item = fun.apply(applyField(targetField.trim()), instant);
-                condition = opCond(condition, item, operator);
+                // Date, DateTime, Time
+                final BiFunction<Field, Instant, Condition> fun = DOPS.get(fields[Values.TWO]);
+                terms.add(level -> {
+                    final Object value = level.getValue(field);
+                    Fn.outUp(null == value, LOGGER,
+                            JooqArgumentException.class, UxJooq.class, value);
+                    final Instant instant = level.getInstant(field);
+                    Fn.outUp(Instant.class != instant.getClass(), LOGGER,
+                            JooqArgumentException.class, UxJooq.class, instant.getClass());
+                    return fun.apply(column, instant);
+                });
             }
         }
-        return condition;
+        return level -> {
+            Condition condition = null;
+            for (final Function<JsonObject, Condition> term : terms) {
+                condition = opCond(condition, term.apply(level), operator);
+            }
+            return condition;
+        };
     }
 
     private static String getKey(final String field) {
@@ -0,0 +1,72 @@
+package io.vertx.up.aiki;
+
+import io.vertx.core.json.JsonObject;
+import org.jooq.Operator;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived cache of total count for paginated search.
+ * 1. The count of identical criteria ( operator, counter mode, criteria ) is re-used in `ttl` ms,
+ * the ttl is passed by each call, the cache is shared by the calls of different ttl.
+ * 2. ttl <= 0 means disabled, the count is always calculated.
+ * 3. Writes are not tracked, the cached count may be stale in `ttl` ms.
+ */
+class JooqCounter {
+
+    /* Upper limit of cached criteria, the cache is reset when it's reached */
+    private static final int LIMIT = 1024;
+
+    private transient final ConcurrentMap<String, Entry> counts =
+            new ConcurrentHashMap<>();
+
+    static String key(final JsonObject criteria, final Operator operator, final String mode) {
+        return (null == operator ? "" : operator.name()) + ":" + mode + ":"
+                + (null == criteria ? "" : criteria.encode());
+    }
+
+    /*
+     * Cached count or null when missing / expired.
+     */
+    Integer get(final String key, final long ttl) {
+        if (0 >= ttl) {
+            return null;
+        }
+        final Entry entry = this.counts.get(key);
+        if (null == entry) {
+            return null;
+        }
+        if (entry.created + ttl <= System.currentTimeMillis()) {
+            this.counts.remove(key, entry);
+            return null;
+        }
+        return entry.count;
+    }
+
+    Integer get(final String key, final long ttl, final Supplier<Integer> supplier) {
+        final Integer cached = this.get(key, ttl);
+        if (null != cached) {
+            return cached;
+        }
+        final Integer count = supplier.get();
+        if (0 < ttl && null != count) {
+            if (LIMIT <= this.counts.size()) {
+                this.counts.clear();
+            }
+            this.counts.put(key, new Entry(count, System.currentTimeMillis()));
+        }
+        return count;
+    }
+
+    private static class Entry {
+        private final transient Integer count;
+        private final transient long created;
+
+        private Entry(final Integer count, final long created) {
+            this.count = count;
+            this.created = created;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package io.vertx.up.aiki;
+
+import io.github.jklingsporn.vertx.jooq.future.VertxDAO;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.up.atom.query.Pager;
+import io.vertx.up.exception._400PagerCursorException;
+import io.vertx.up.exception._400PagerOrderException;
+import io.vertx.up.log.Annal;
+import io.zero.epic.Ut;
+import io.zero.epic.fn.Fn;
+import org.jooq.*;
+import org.jooq.Record;
+import org.jooq.impl.DSL;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset ( seek ) pagination, the page is located by the sort values of last row in previous page instead of offset.
+ * 1. The primary key is appended to sorter as tie-breaker, the order is total so that the rows with the same sort
+ * values will not be skipped or duplicated between pages.
+ * 2. Mixed directions are expanded: c1 > v1 OR ( c1 = v1 AND c2 < v2 ) OR ( c1 = v1 AND c2 = v2 AND c3 > v3 ) ...
+ * 3. The cursor is opaque: base64 ( url ) of json array [ signature, v1, v2, ... ], the signature is calculated from
+ * the order so that the cursor of another sorter will be rejected.
+ * The sort columns should be NOT NULL because NULL could not be compared in seek condition.
+ * The table without primary key ( view ) requires sorter, otherwise the page could not be located.
+ */
+@SuppressWarnings("all")
+class JooqKeyset {
+
+    private static final Annal LOGGER = Annal.get(JooqKeyset.class);
+
+    private transient final Table<?> table;
+    private transient final Class<?> type;
+    private transient final List<Field> columns = new ArrayList<>();
+    private transient final List<Boolean> asc = new ArrayList<>();
+    private transient final int signature;
+    private transient String next;
+
+    private JooqKeyset(final VertxDAO vertxDAO, final JsonObject sorter, final Function<String, Field> columnFn) {
+        this.table = vertxDAO.getTable();
+        this.type = vertxDAO.getType();
+        if (null != sorter) {
+            for (final String field : sorter.fieldNames()) {
+                this.add(columnFn.apply(field), sorter.getBoolean(field));
+            }
+        }
+        // Tie-breaker
+        final UniqueKey<?> key = this.table.getPrimaryKey();
+        if (null != key) {
+            key.getFields().forEach(field -> this.add(DSL.field(field.getName()), Boolean.TRUE));
+        }
+        final StringBuilder order = new StringBuilder();
+        for (int idx = 0; idx < this.columns.size(); idx++) {
+            order.append(this.columns.get(idx).getName()).append(this.asc.get(idx) ? "+" : "-");
+        }
+        this.signature = order.toString().hashCode();
+    }
+
+    static JooqKeyset create(final VertxDAO vertxDAO, final JsonObject sorter, final Function<String, Field> columnFn) {
+        return new JooqKeyset(vertxDAO, sorter, columnFn);
+    }
+
+    private void add(final Field column, final Boolean asc) {
+        final boolean exist = this.columns.stream().anyMatch(item -> item.getName().equals(column.getName()));
+        if (!exist) {
+            this.columns.add(column);
+            this.asc.add(null == asc ? Boolean.TRUE : asc);
+        }
+    }
+
+    /**
+     * Fetch one page, `size + 1` rows are fetched to detect whether there is next page.
+     * The sort columns are always selected for cursor even if they are excluded by projection.
+     */
+    <T> List<T> fetch(final DSLContext context, final Condition condition, final Pager pager,
+                      final Field[] fields) {
+        Fn.outWeb(this.columns.isEmpty(), LOGGER,
+                _400PagerOrderException.class, this.getClass(), this.table.getName());
+        final List<Field> selected = new ArrayList<>(Arrays.asList(fields));
+        for (final Field column : this.columns) {
+            if (selected.stream().noneMatch(item -> item.getName().equals(column.getName()))) {
+                selected.add(null == this.table.field(column.getName()) ? column : this.table.field(column.getName()));
+            }
+        }
+        final boolean projected = selected.size() > fields.length;
+        final Condition seek = this.seek(pager.getCursor());
+        final Condition where = null == seek ? condition : (null == condition ? seek : condition.and(seek));
+        final SelectWhereStep started = context.select(selected.toArray(new Field[]{})).from(this.table);
+        final SelectOrderByStep ordered = null == where ? started : started.where(where);
+        final Result<Record> records = ordered.orderBy(this.orders()).limit(pager.getSize() + 1).fetch();
+        final int size = Math.min(records.size(), pager.getSize());
+        this.next = records.size() > pager.getSize() ? this.encode(records.get(size - 1)) : null;
+        final List<T> list = new ArrayList<>();
+        for (int idx = 0; idx < size; idx++) {
+            final Record record = records.get(idx);
+            list.add((T) (projected ? record.into(fields) : record).into(this.type));
+        }
+        return list;
+    }
+
+    /**
+     * @return cursor of next page, null when current page is the last one.
+     */
+    String next() {
+        return this.next;
+    }
+
+    List<OrderField> orders() {
+        final List<OrderField> orders = new ArrayList<>();
+        for (int idx = 0; idx < this.columns.size(); idx++) {
+            final Field column = this.columns.get(idx);
+            orders.add(this.asc.get(idx) ? column.asc() : column.desc());
+        }
+        return orders;
+    }
+
+    Condition seek(final String cursor) {
+        if (Ut.isNil(cursor)) {
+            return null;
+        }
+        final JsonArray values = this.decode(cursor);
+        Condition seek = null;
+        Condition equal = null;
+        for (int idx = 0; idx < this.columns.size(); idx++) {
+            final Field column = this.columns.get(idx);
+            final Object value = this.convert(column, values.getValue(idx + 1));
+            final Condition step = this.asc.get(idx) ? column.gt(value) : column.lt(value);
+            seek = null == seek ? step : seek.or(null == equal ? step : equal.and(step));
+            equal = null == equal ? column.eq(value) : equal.and(column.eq(value));
+        }
+        // The leading range on first column could be used by index
+        final Field first = this.columns.get(0);
+        final Object value = this.convert(first, values.getValue(1));
+        return (this.asc.get(0) ? first.ge(value) : first.le(value)).and(seek);
+    }
+
+    private String encode(final Record record) {
+        final JsonArray values = new JsonArray().add(this.signature);
+        for (final Field column : this.columns) {
+            final Object value = record.get(column.getName());
+            if (null == value) {
+                values.addNull();
+            } else if (value instanceof String || value instanceof Boolean
+                    || value instanceof Integer || value instanceof Long) {
+                values.add(value);
+            } else {
+                // Converted back by the data type of column
+                values.add(value.toString());
+            }
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(values.encode().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private JsonArray decode(final String cursor) {
+        JsonArray values = null;
+        try {
+            values = new JsonArray(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (final IllegalArgumentException | DecodeException ex) {
+            // Corrupted cursor, the exception will be thrown below.
+            values = null;
+        }
+        Fn.outWeb(null == values || values.size() != this.columns.size() + 1
+                        || !Integer.valueOf(this.signature).equals(values.getValue(0)), LOGGER,
+                _400PagerCursorException.class, this.getClass(), cursor);
+        return values;
+    }
+
+    private Object convert(final Field column, final Object value) {
+        final Field typed = this.table.field(column.getName());
+        return null == typed || null == value ? value : typed.getDataType().convert(value);
+    }
+}
@@ -2,14 +2,19 @@ package io.vertx.up.aiki;
 
 import io.github.jklingsporn.vertx.jooq.future.VertxDAO;
 import io.vertx.core.Future;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.tp.plugin.jooq.JooqInfix;
 import org.jooq.Condition;
 import org.jooq.DSLContext;
+import org.jooq.Field;
 import org.jooq.Operator;
+import org.jooq.ResultQuery;
+import org.jooq.SelectJoinStep;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * Jooq Splitted Reader
@@ -43,12 +48,12 @@ public class JooqReader {
     }
 
     <T> Future<T> fetchOneAndAsync(final JsonObject filters) {
-        final Condition condition = JooqCond.transform(filters, Operator.AND, this.analyzer::getColumn);
+        final Condition condition = this.analyzer.getCondition(filters, Operator.AND);
         return Async.toFuture(this.vertxDAO.fetchOneAsync(condition));
     }
 
     <T> T fetchOneAnd(final JsonObject filters) {
-        final Condition condition = JooqCond.transform(filters, Operator.AND, this.analyzer::getColumn);
+        final Condition condition = this.analyzer.getCondition(filters, Operator.AND);
         final DSLContext context = JooqInfix.getDSL();
         return this.toResult(context.selectFrom(this.vertxDAO.getTable()).where(condition).fetchOne(this.vertxDAO.mapper()));
     }
@@ -109,6 +114,40 @@ public class JooqReader {
         return context.selectFrom(this.vertxDAO.getTable()).where(condition).fetch(this.vertxDAO.mapper());
     }
 
+    // ============ Fetch with Projection ===========
+    /* The fields in projection are excluded from SELECT */
+    <T> Future<T> fetchOneAsync(final Condition condition, final JsonArray projection) {
+        final Function<DSLContext, T> function = context -> this.fetchOne(context, condition, projection);
+        return Async.toFuture(this.vertxDAO.executeAsync(function));
+    }
+
+    <T> T fetchOne(final Condition condition, final JsonArray projection) {
+        return this.fetchOne(JooqInfix.getDSL(), condition, projection);
+    }
+
+    <T> Future<List<T>> fetchAsync(final Condition condition, final JsonArray projection) {
+        final Function<DSLContext, List<T>> function = context -> this.fetch(context, condition, projection);
+        return Async.toFuture(this.vertxDAO.executeAsync(function));
+    }
+
+    <T> List<T> fetch(final Condition condition, final JsonArray projection) {
+        return this.fetch(JooqInfix.getDSL(), condition, projection);
+    }
+
+    private <T> T fetchOne(final DSLContext context, final Condition condition, final JsonArray projection) {
+        return this.toResult(this.select(context, condition, projection).fetchOneInto(this.vertxDAO.getType()));
+    }
+
+    private <T> List<T> fetch(final DSLContext context, final Condition condition, final JsonArray projection) {
+        return this.select(context, condition, projection).fetchInto(this.vertxDAO.getType());
+    }
+
+    private ResultQuery select(final DSLContext context, final Condition condition, final JsonArray projection) {
+        final Field[] columns = this.analyzer.getColumns(null == projection ? null : projection.getList());
+        final SelectJoinStep started = context.select(columns).from(this.vertxDAO.getTable());
+        return null == condition ? started : started.where(condition);
+    }
+
     // ============ Result Wrapper ==============
     private <T> T toResult(final Object value) {
         return null == value ? null : (T) value;
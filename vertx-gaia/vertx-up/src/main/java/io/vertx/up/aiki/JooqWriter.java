@@ -4,6 +4,9 @@ import io.github.jklingsporn.vertx.jooq.future.VertxDAO;
 import io.vertx.core.Future;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.tp.plugin.jooq.JooqInfix;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -161,6 +164,20 @@ class JooqWriter {
         return copyFun.apply(old);
     }
 
+    // ============ Transaction Operation =============
+    /* The connection is borrowed once and shared by all statements of executor */
+    <T> Future<T> transactionAsync(final Function<DSLContext, T> executor) {
+        final Function<DSLContext, T> function = context -> context.transactionResult(
+                configuration -> executor.apply(DSL.using(configuration)));
+        return Async.toFuture(this.vertxDAO.executeAsync(function));
+    }
+
+    <T> T transaction(final Function<DSLContext, T> executor) {
+        final DSLContext context = JooqInfix.getDSL();
+        return context.transactionResult(
+                configuration -> executor.apply(DSL.using(configuration)));
+    }
+
     // TODO: Analyzing Primary Key in future
     private List<Object> extractIds(final JsonArray array) {
         return array.stream()
@@ -8,6 +8,8 @@ import io.vertx.up.atom.Envelop;
 import io.vertx.up.exception.WebException;
 import io.vertx.up.exception._500InternalServerException;
 import io.vertx.zero.atom.Mirror;
+import io.vertx.zero.marshal.node.Node;
+import io.vertx.zero.marshal.node.ZeroVertx;
 import io.zero.epic.Ut;
 import io.zero.epic.fn.Fn;
 
@@ -46,10 +48,10 @@ class To {
             final String pojo) {
         return Fn.getNull(new JsonObject(),
                 () -> Fn.getSemi(Ut.isNil(pojo), null,
-                        () -> Ut.serializeJson(entity),
+                        () -> Ut.serializeJson(entity, Setting.ACCESSOR),
                         () -> Mirror.create(To.class)
                                 .mount(pojo)
-                                .connect(Ut.serializeJson(entity))
+                                .connect(Ut.serializeJson(entity, Setting.ACCESSOR))
                                 .to().result()),
                 entity);
     }
@@ -159,4 +161,17 @@ class To {
                 () -> toJson(null, pojo),
                 () -> toJson(array.getValue(0), pojo));
     }
+
+    /*
+     * zero.jackson of vertx.yml, it's read once when the entity is converted at the first time.
+     */
+    private static class Setting {
+        private static final Node<JsonObject> VERTX = Ut.singleton(ZeroVertx.class);
+        private static final boolean ACCESSOR = accessor();
+
+        private static boolean accessor() {
+            final JsonObject jackson = Ut.visitJObject(VERTX.read(), "jackson");
+            return null != jackson && jackson.getBoolean("accessor", Boolean.FALSE);
+        }
+    }
 }
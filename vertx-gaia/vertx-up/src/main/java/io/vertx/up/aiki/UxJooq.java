@@ -10,6 +10,7 @@ import io.vertx.up.eon.em.Format;
 import io.vertx.up.log.Annal;
 import io.zero.epic.fn.Fn;
 import org.jooq.Condition;
+import org.jooq.DSLContext;
 import org.jooq.Operator;
 
 import java.util.Arrays;
@@ -24,17 +25,21 @@ public class UxJooq {
     private static final Annal LOGGER = Annal.get(UxJooq.class);
 
     private transient final Class<?> clazz;
+    private transient final VertxDAO vertxDAO;
     /* Analyzer */
     private transient final JooqAnalyzer analyzer;
     /* Writer */
     private transient final JooqWriter writer;
     /* Reader */
     private transient final JooqReader reader;
+    /* Batch options of current call */
+    private transient final JsonObject batch;
 
     private transient Format format = Format.JSON;
 
     <T> UxJooq(final Class<T> clazz, final VertxDAO vertxDAO) {
         this.clazz = clazz;
+        this.vertxDAO = vertxDAO;
         /* Analyzing column for Jooq */
         this.analyzer = JooqAnalyzer.create(vertxDAO);
         /* Reader connect Analayzer */
@@ -43,6 +48,24 @@ public class UxJooq {
         /* Writer connect Reader */
         this.writer = JooqWriter.create(vertxDAO)
                 .on(this.analyzer).on(this.reader);
+        /* Batch writing in chunks, by the options of JooqInfix */
+        this.batch = new JsonObject();
+    }
+
+    /*
+     * View of pojo file or the options of one call, the pooled instance of dao is shared
+     * by all the callers and it's never changed.
+     */
+    private UxJooq(final UxJooq origin, final JooqAnalyzer analyzer, final JsonObject batch) {
+        this.clazz = origin.clazz;
+        this.vertxDAO = origin.vertxDAO;
+        this.analyzer = analyzer;
+        this.reader = JooqReader.create(this.vertxDAO)
+                .on(this.analyzer);
+        this.writer = JooqWriter.create(this.vertxDAO)
+                .on(this.analyzer).on(this.reader);
+        this.batch = batch;
+        this.format = origin.format;
     }
 
     <T> UxJooq(final Class<T> clazz) {
@@ -55,9 +78,10 @@ public class UxJooq {
     }
 
     // -------------------- Bind Config --------------------
+    /* Returns the view of pojo file, the columns / plans / counts of each pojo file are cached separately */
     public UxJooq on(final String pojo) {
-        this.analyzer.bind(pojo, this.clazz);
-        return this;
+        final JooqAnalyzer analyzer = this.analyzer.bind(pojo, this.clazz);
+        return analyzer == this.analyzer ? this : new UxJooq(this, analyzer, this.batch);
     }
 
     public UxJooq on(final Format format) {
@@ -65,6 +89,28 @@ public class UxJooq {
         return this;
     }
 
+    /*
+     * The options below return a copy for current call, the caches are shared with this one.
+     */
+    /* List and count queries of paginated search run concurrently or not, default by JooqInfix */
+    public UxJooq parallel(final boolean parallel) {
+        return new UxJooq(this, this.analyzer.parallel(parallel), this.batch);
+    }
+
+    /* Time to live ( ms ) of cached count for identical criteria, 0 means no cache */
+    public UxJooq counted(final long ttl) {
+        return new UxJooq(this, this.analyzer.counted(ttl), this.batch);
+    }
+
+    /* Batch options: size, mode ( values / jdbc ), transactional, default by JooqInfix */
+    public UxJooq batch(final JsonObject options) {
+        final JsonObject batch = this.batch.copy();
+        if (null != options) {
+            batch.mergeIn(options);
+        }
+        return new UxJooq(this, this.analyzer, batch);
+    }
+
     // -------------------- INSERT --------------------
 
     /* Async Only */
@@ -92,6 +138,35 @@ public class UxJooq {
         return this.writer.insert(entities);
     }
 
+    // -------------------- BATCH --------------------
+
+    /* (Async / Sync) Batch Insert in chunks */
+    public <T> Future<List<T>> insertBatchAsync(final List<T> entities) {
+        return JooqBatch.create(this.vertxDAO, this.batch).insertAsync(entities);
+    }
+
+    public <T> List<T> insertBatch(final List<T> entities) {
+        return JooqBatch.create(this.vertxDAO, this.batch).insert(entities);
+    }
+
+    /* (Async / Sync) Batch Update in chunks */
+    public <T> Future<List<T>> updateBatchAsync(final List<T> entities) {
+        return JooqBatch.create(this.vertxDAO, this.batch).updateAsync(entities);
+    }
+
+    public <T> List<T> updateBatch(final List<T> entities) {
+        return JooqBatch.create(this.vertxDAO, this.batch).update(entities);
+    }
+
+    /* (Async / Sync) Batch Upsert ( by primary key ) in chunks */
+    public <T> Future<List<T>> upsertBatchAsync(final List<T> entities) {
+        return JooqBatch.create(this.vertxDAO, this.batch).upsertAsync(entities);
+    }
+
+    public <T> List<T> upsertBatch(final List<T> entities) {
+        return JooqBatch.create(this.vertxDAO, this.batch).upsert(entities);
+    }
+
     // -------------------- UPDATE --------------------
     /* Async Only */
     public <T> Future<T> upsertReturningPrimaryAsync(final JsonObject andFilters, final T updated, final Consumer<Long> consumer) {
@@ -175,6 +250,20 @@ public class UxJooq {
         return this.writer.delete(filters, "");
     }
 
+    // -------------------- Transaction --------------------
+    /*
+     * (Async / Sync) Transaction, all the statements of executor run on one connection
+     * with `context` parameter, it will be committed when executor returned or rolled back
+     * when any exception thrown.
+     */
+    public <T> Future<T> transactionAsync(final Function<DSLContext, T> executor) {
+        return this.writer.transactionAsync(executor);
+    }
+
+    public <T> T transaction(final Function<DSLContext, T> executor) {
+        return this.writer.transaction(executor);
+    }
+
     // -------------------- Fetch One/All --------------------
 
     /* (Async / Sync) Fetch One */
@@ -186,6 +275,15 @@ public class UxJooq {
         return this.reader.fetchOne(field, value);
     }
 
+    /* (Async / Sync) Fetch One, the fields in projection are not selected */
+    public <T> Future<T> fetchOneAsync(final String field, final Object value, final JsonArray projection) {
+        return this.reader.fetchOneAsync(this.analyzer.getColumn(field).eq(value), projection);
+    }
+
+    public <T> T fetchOne(final String field, final Object value, final JsonArray projection) {
+        return this.reader.fetchOne(this.analyzer.getColumn(field).eq(value), projection);
+    }
+
     /* (Async / Sync) Find By ID */
     public <T> Future<T> findByIdAsync(final Object id) {
         return this.reader.findByIdAsync(id);
@@ -205,6 +303,15 @@ public class UxJooq {
         return this.reader.findAll();
     }
 
+    /* (Async / Sync) Find All, the fields in projection are not selected */
+    public <T> Future<List<T>> findAllAsync(final JsonArray projection) {
+        return this.reader.fetchAsync((Condition) null, projection);
+    }
+
+    public <T> List<T> findAll(final JsonArray projection) {
+        return this.reader.fetch((Condition) null, projection);
+    }
+
     // -------------------- Save Operation --------------------
     /* (Async / Sync) Save Operations */
     public <T> Future<T> saveAsync(final Object id, final T updated) {
@@ -271,6 +378,15 @@ public class UxJooq {
         return this.reader.fetchIn(field, values.getList());
     }
 
+    /* (Async / Sync) Fetch to List<T> Operation, the fields in projection are not selected */
+    public <T> Future<List<T>> fetchAsync(final String field, final Object value, final JsonArray projection) {
+        return this.reader.fetchAsync(this.analyzer.getColumn(field).eq(value), projection);
+    }
+
+    public <T> List<T> fetch(final String field, final Object value, final JsonArray projection) {
+        return this.reader.fetch(this.analyzer.getColumn(field).eq(value), projection);
+    }
+
     // -------------------- Search Operation -----------------
     /* (Async / Sync) Find / Exist / Missing By Filters Operation */
     public <T> Future<List<T>> findAsync(final JsonObject filters) {
@@ -424,19 +540,19 @@ public class UxJooq {
     // -------------------- Spec Operation ( AND / OR ) ---------
 
     public <T> Future<List<T>> fetchAndAsync(final JsonObject andFilters) {
-        return this.reader.fetchAsync(JooqCond.transform(andFilters, Operator.AND, this.analyzer::getColumn));
+        return this.reader.fetchAsync(this.analyzer.getCondition(andFilters, Operator.AND));
     }
 
     public <T> List<T> fetchAnd(final JsonObject andFilters) {
-        return this.reader.fetch(JooqCond.transform(andFilters, Operator.AND, this.analyzer::getColumn));
+        return this.reader.fetch(this.analyzer.getCondition(andFilters, Operator.AND));
     }
 
     public <T> Future<List<T>> fetchOrAsync(final JsonObject orFilters) {
-        return this.reader.fetchAsync(JooqCond.transform(orFilters, Operator.OR, this.analyzer::getColumn));
+        return this.reader.fetchAsync(this.analyzer.getCondition(orFilters, Operator.OR));
     }
 
     public <T> List<T> fetchOr(final JsonObject orFilters) {
-        return this.reader.fetch(JooqCond.transform(orFilters, Operator.OR, this.analyzer::getColumn));
+        return this.reader.fetch(this.analyzer.getCondition(orFilters, Operator.OR));
     }
 
     public <T> Future<T> fetchOneAndAsync(final JsonObject andFilters) {
@@ -447,6 +563,31 @@ public class UxJooq {
         return this.reader.fetchOneAnd(andFilters);
     }
 
+    /* (Async / Sync) AND / OR filters, the fields in projection are not selected */
+    public <T> Future<List<T>> fetchAndAsync(final JsonObject andFilters, final JsonArray projection) {
+        return this.reader.fetchAsync(this.analyzer.getCondition(andFilters, Operator.AND), projection);
+    }
+
+    public <T> List<T> fetchAnd(final JsonObject andFilters, final JsonArray projection) {
+        return this.reader.fetch(this.analyzer.getCondition(andFilters, Operator.AND), projection);
+    }
+
+    public <T> Future<List<T>> fetchOrAsync(final JsonObject orFilters, final JsonArray projection) {
+        return this.reader.fetchAsync(this.analyzer.getCondition(orFilters, Operator.OR), projection);
+    }
+
+    public <T> List<T> fetchOr(final JsonObject orFilters, final JsonArray projection) {
+        return this.reader.fetch(this.analyzer.getCondition(orFilters, Operator.OR), projection);
+    }
+
+    public <T> Future<T> fetchOneAndAsync(final JsonObject andFilters, final JsonArray projection) {
+        return this.reader.fetchOneAsync(this.analyzer.getCondition(andFilters, Operator.AND), projection);
+    }
+
+    public <T> T fetchOneAnd(final JsonObject andFilters, final JsonArray projection) {
+        return this.reader.fetchOne(this.analyzer.getCondition(andFilters, Operator.AND), projection);
+    }
+
     // -------------------- Upsert ---------
     public <T> Future<T> upsertAsync(final JsonObject andFilters, final T updated) {
         return this.<T>fetchOneAndAsync(andFilters).compose(item -> Fn.match(
@@ -1,12 +1,15 @@
 package io.vertx.up.aiki;
 
 import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
 import io.vertx.up.exception._500PoolInternalException;
 import io.vertx.up.log.Annal;
 import io.vertx.up.plugin.shared.MapInfix;
 import io.vertx.up.plugin.shared.SharedClient;
 import io.zero.epic.container.KeyPair;
 
+import java.util.function.BiFunction;
+
 /**
  * Shared Data for pool usage in utility X
  */
@@ -41,6 +44,25 @@ public class UxPool {
         }));
     }
 
+    // Atomic Operation
+    public <K, V> Future<KeyPair<K, V>> putIfAbsent(final K key, final V value) {
+        return this.putIfAbsent(key, value, 0);
+    }
+
+    public <K, V> Future<KeyPair<K, V>> putIfAbsent(final K key, final V value, final int expiredSecs) {
+        return Ux.<KeyPair<K, V>>thenGeneric(future -> this.client.<K, V>putIfAbsent(key, value, expiredSecs, res -> {
+            LOGGER.debug(Info.POOL_PUT_ABSENT, key, value, this.name, String.valueOf(expiredSecs));
+            Ux.thenGeneric(res, future, To.toError(_500PoolInternalException.class, this.getClass(), this.name, "putIfAbsent"));
+        }));
+    }
+
+    public <K, V> Future<V> compute(final K key, final BiFunction<? super K, ? super V, ? extends V> fnCompute) {
+        return Ux.<V>thenGeneric(future -> this.client.<K, V>compute(key, fnCompute, res -> {
+            LOGGER.debug(Info.POOL_COMPUTE, key, this.name);
+            Ux.thenGeneric(res, future, To.toError(_500PoolInternalException.class, this.getClass(), this.name, "compute"));
+        }));
+    }
+
     // Remove
     public <K, V> Future<KeyPair<K, V>> remove(final K key) {
         return Ux.<KeyPair<K, V>>thenGeneric(future -> this.client.<K, V>remove(key, res -> {
@@ -63,4 +85,9 @@ public class UxPool {
             Ux.thenGeneric(res, future, To.toError(_500PoolInternalException.class, this.getClass(), this.name, "remove"));
         }));
     }
+
+    // Statistics of ttl
+    public JsonObject statistics() {
+        return this.client.statistics();
+    }
 }
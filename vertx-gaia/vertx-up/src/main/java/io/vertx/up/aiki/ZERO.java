@@ -1,7 +1,11 @@
 package io.vertx.up.aiki;
 
+import io.vertx.core.json.JsonObject;
+import org.jooq.Condition;
+
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 interface Info {
 
@@ -15,13 +19,19 @@ interface Info {
     String JOOQ_PARSE = "[ ZERO ] ( Jooq -> Condition ) Parsed result is \ncondition = \n{0}.";
     String JOOQ_BIND = "[ ZERO ] ( Pojo Bind ) Pojo up.god.file = {0} has been bind to dao {1}, Field mode enabled.";
     String JOOQ_FIELD = "[ ZERO ] ( Pojo ) The field \"{0}\" has been hitted ( converted ) to \"{1}\"";
+    String JOOQ_BATCH = "[ ZERO ] ( Jooq -> Batch ) {0} {1} rows in {2} chunks, mode = {3}, transactional = {4}.";
     String JOOQ_MOJO = "[ ZERO ] ( Pojo ) The analyzed result should be : Revert {0}, Columns = {1}";
 
+    String SESSION_MISSING = "[ ZERO ] ( Session ) The session is not enabled on the route that sent the message, " +
+            "field = {0}. The route should be @Stateful or configured in \"zero.web.session\".";
+
     String INQUIRY_MESSAGE = "[ ZERO ] ( Inquiry ) Processed metadata = {0}.";
 
     String POOL_PUT = "[ ZERO ] ( Shared ) key = {0}, value = {1} has been put into {2}.";
     String POOL_PUT_TIMER = "[ ZERO ] ( Shared ) key = {0}, value = {1} has been put into {2} to keep {3} seconds";
     String POOL_REMOVE = "[ ZERO ] ( Shared ) key = {0} has been removed from pool name = {2}.";
+    String POOL_PUT_ABSENT = "[ ZERO ] ( Shared ) key = {0}, value = {1} has been put into {2} when absent, expired = {3}";
+    String POOL_COMPUTE = "[ ZERO ] ( Shared ) key = {0} has been computed in {1}.";
     String POOL_GET = "[ ZERO ] ( Shared ) key = {0} has been picked from {1}, mode = {2}";
 }
 
@@ -30,4 +40,6 @@ interface Cache {
     ConcurrentMap<Class<?>, UxJooq> JOOQ = new ConcurrentHashMap<>();
 
     ConcurrentMap<String, UxPool> POOL = new ConcurrentHashMap<>();
+
+    ConcurrentMap<String, Function<JsonObject, Condition>> PLANS = new ConcurrentHashMap<>();
 }
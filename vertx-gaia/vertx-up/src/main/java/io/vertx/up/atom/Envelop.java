@@ -51,6 +51,12 @@ public class Envelop implements Serializable {
         this.data = error.toJson();
     }
 
+    private Envelop(final HttpStatusCode status, final JsonObject data) {
+        this.status = status;
+        this.error = null;
+        this.data = null == data ? new JsonObject() : data;
+    }
+
     /**
      * Empty content success
      *
@@ -72,6 +78,20 @@ public class Envelop implements Serializable {
         return new Envelop(entity, status);
     }
 
+    /**
+     * Rebuild envelop from event bus wire format, the data is the
+     * whole body json ( contains "data" ) that has been decoded.
+     *
+     * @param status
+     * @param data
+     * @param error
+     * @return
+     */
+    public static Envelop wire(final HttpStatusCode status, final JsonObject data,
+                               final WebException error) {
+        return null == error ? new Envelop(status, data) : new Envelop(error);
+    }
+
     /**
      * Failure response with exception
      *
@@ -154,14 +174,10 @@ public class Envelop implements Serializable {
         T reference = null;
         Fn.outUp(0 > argIndex, LOGGER,
                 IndexExceedException.class, this.getClass(), argIndex);
-        if (this.data.containsKey(Key.DATA)) {
-            final JsonObject raw = this.data.getJsonObject(Key.DATA);
-            if (null != raw) {
-                final String key = argIndex.toString();
-                if (raw.containsKey(key)) {
-                    reference = this.extract(raw.getValue(key), clazz);
-                }
-            }
+        // Read only lookup of data -> argIndex, extract will copy the json value
+        final Object value = Ut.visit(this.data, Key.DATA, argIndex.toString());
+        if (null != value) {
+            reference = this.extract(value, clazz);
         }
         return reference;
     }
@@ -221,7 +237,7 @@ public class Envelop implements Serializable {
     private <T> T extract(final Object value, final Class<T> clazz) {
         T reference = null;
         if (null != value) {
-            final Object result = ZeroSerializer.getValue(clazz, value.toString());
+            final Object result = ZeroSerializer.getValue(clazz, value);
             reference = Fn.getNull(() -> (T) result, result);
         }
         return reference;
@@ -268,6 +284,10 @@ public class Envelop implements Serializable {
         return this.status;
     }
 
+    public WebException error() {
+        return this.error;
+    }
+
     public User user() {
         return this.user;
     }
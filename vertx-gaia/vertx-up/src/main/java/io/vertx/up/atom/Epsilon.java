@@ -2,6 +2,7 @@ package io.vertx.up.atom;
 
 import io.vertx.up.eon.ID;
 import io.vertx.up.eon.em.MimeFlow;
+import io.vertx.up.media.Resolver;
 
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
@@ -17,6 +18,7 @@ public class Epsilon<T> implements Serializable {
     private MimeFlow mime;
     private Class<?> argType;
     private Annotation annotation;
+    private transient Resolver<T> resolver;
 
     private T value;
 
@@ -76,6 +78,14 @@ public class Epsilon<T> implements Serializable {
         this.defaultValue = defaultValue;
     }
 
+    public Resolver<T> getResolver() {
+        return this.resolver;
+    }
+
+    public void setResolver(final Resolver<T> resolver) {
+        this.resolver = resolver;
+    }
+
     public MimeFlow getMime() {
         return this.mime;
     }
@@ -0,0 +1,205 @@
+package io.vertx.up.atom.agent;
+
+import com.esotericsoftware.reflectasm.MethodAccess;
+import io.vertx.up.annotations.Address;
+import io.vertx.up.annotations.Codex;
+import io.vertx.up.atom.Epsilon;
+import io.vertx.up.atom.hold.Virtual;
+import io.vertx.up.eon.ID;
+import io.vertx.up.eon.em.MimeFlow;
+import io.vertx.up.log.Annal;
+import io.vertx.up.media.parse.MimeResolver;
+import io.vertx.up.media.resolver.FileResolver;
+import io.vertx.up.rs.Filler;
+import io.vertx.up.web.ZeroSerializer;
+import io.zero.epic.Ut;
+import io.zero.epic.container.KeyPair;
+import io.zero.epic.fn.Fn;
+
+import javax.ws.rs.DefaultValue;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Invocation plan compiled once for each action method of Event, all the reflection
+ * of request workflow has been done here:
+ * 1. Event bus address from @Address
+ * 2. Parameter metadata ( type, annotation, name, default value )
+ * 3. @Codex parameter index
+ * 4. Method index of ReflectASM to call proxy
+ */
+public class Plan {
+
+    private static final Annal LOGGER = Annal.get(Plan.class);
+
+    /*
+     * Event.equals compares path / method / order only, two endpoints of the same route
+     * signature are different events here, so the plans are cached by action method.
+     */
+    private static final ConcurrentMap<Method, Plan> PLANS =
+            new ConcurrentHashMap<>();
+
+    private transient final Event event;
+    private transient final String address;
+    private transient final List<Epsilon<Object>> epsilons;
+    private transient final KeyPair<Integer, Class<?>> codex;
+    private transient final boolean upload;
+    private transient MethodAccess access;
+    private transient int index = -1;
+
+    private Plan(final Event event) {
+        this.event = event;
+        final Method method = event.getAction();
+        // 1. Address
+        final Address address = method.getDeclaredAnnotation(Address.class);
+        this.address = null == address ? null : address.value();
+        // 2. Parameters
+        this.epsilons = Collections.unmodifiableList(this.initEpsilons(method));
+        // 3. Codex
+        this.codex = this.initCodex(method);
+        this.upload = this.epsilons.stream()
+                .anyMatch(item -> MimeFlow.RESOLVER == item.getMime() && FileResolver.isContent(item.getArgType()));
+        // 4. Method index, the virtual proxy will not be called by method.
+        final Object proxy = event.getProxy();
+        if (null != proxy && !Virtual.is(proxy)) {
+            Fn.safeJvm(() -> {
+                final MethodAccess access = MethodAccess.get(proxy.getClass());
+                this.index = access.getIndex(method.getName(), method.getParameterTypes());
+                this.access = access;
+            }, LOGGER);
+        }
+    }
+
+    /**
+     * Compile or get the plan of event.
+     *
+     * @param event
+     * @return
+     */
+    public static Plan get(final Event event) {
+        return Fn.pool(PLANS, event.getAction(), () -> new Plan(event));
+    }
+
+    public Event getEvent() {
+        return this.event;
+    }
+
+    public String getAddress() {
+        return this.address;
+    }
+
+    public KeyPair<Integer, Class<?>> getCodex() {
+        return this.codex;
+    }
+
+    /**
+     * Whether the content of uploaded file is required by parameters ( byte[] / Buffer ),
+     * it should be read asynchronously before building arguments.
+     *
+     * @return
+     */
+    public boolean isUpload() {
+        return this.upload;
+    }
+
+    /**
+     * Each request will get new Epsilon list because the value will be set.
+     *
+     * @return
+     */
+    public List<Epsilon<Object>> getEpsilons() {
+        final List<Epsilon<Object>> epsilons = new ArrayList<>(this.epsilons.size());
+        for (final Epsilon<Object> prototype : this.epsilons) {
+            final Epsilon<Object> epsilon = new Epsilon<>();
+            epsilon.setArgType(prototype.getArgType());
+            epsilon.setAnnotation(prototype.getAnnotation());
+            epsilon.setName(prototype.getName());
+            epsilon.setDefaultValue(prototype.getDefaultValue());
+            epsilon.setResolver(prototype.getResolver());
+            epsilons.add(epsilon);
+        }
+        return epsilons;
+    }
+
+    /**
+     * Call proxy method by index, when the index could not be found,
+     * fallback to call by name.
+     *
+     * @param args
+     * @param <T>
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T invoke(final Object[] args) {
+        final Object proxy = this.event.getProxy();
+        if (null == this.access) {
+            return Ut.invoke(proxy, this.event.getAction().getName(), args);
+        } else {
+            return (T) this.access.invoke(proxy, this.index, args);
+        }
+    }
+
+    private List<Epsilon<Object>> initEpsilons(final Method method) {
+        final Class<?>[] paramTypes = method.getParameterTypes();
+        final Annotation[][] annoTypes = method.getParameterAnnotations();
+        final List<Epsilon<Object>> epsilons = new ArrayList<>();
+        for (int idx = 0; idx < paramTypes.length; idx++) {
+            Annotation annotation = null;
+            Annotation defaultValue = null;
+            for (final Annotation item : annoTypes[idx]) {
+                if (null == annotation && Filler.PARAMS.containsKey(item.annotationType())) {
+                    annotation = item;
+                }
+                if (null == defaultValue && DefaultValue.class == item.annotationType()) {
+                    defaultValue = item;
+                }
+            }
+            final Epsilon<Object> epsilon = new Epsilon<>();
+            epsilon.setArgType(paramTypes[idx]);
+            epsilon.setAnnotation(annotation);
+            epsilon.setName(this.initName(annotation));
+            if (MimeFlow.RESOLVER == epsilon.getMime()) {
+                // Resolver is bound here instead of selecting in each request
+                epsilon.setResolver(MimeResolver.bind(annotation));
+            }
+            if (null != defaultValue) {
+                epsilon.setDefaultValue(ZeroSerializer.getValue(paramTypes[idx],
+                        ((DefaultValue) defaultValue).value()));
+            }
+            epsilons.add(epsilon);
+        }
+        return epsilons;
+    }
+
+    private String initName(final Annotation annotation) {
+        final String name;
+        if (null == annotation) {
+            name = ID.IGNORE;
+        } else if (Filler.NO_VALUE.contains(annotation.annotationType())) {
+            name = ID.DIRECT;
+        } else {
+            name = Ut.invoke(annotation, "value");
+        }
+        return name;
+    }
+
+    private KeyPair<Integer, Class<?>> initCodex(final Method method) {
+        final KeyPair<Integer, Class<?>> result = KeyPair.create();
+        final Class<?>[] paramTypes = method.getParameterTypes();
+        final Annotation[][] annoTypes = method.getParameterAnnotations();
+        for (int idx = 0; idx < paramTypes.length; idx++) {
+            for (final Annotation annotation : annoTypes[idx]) {
+                if (Codex.class == annotation.annotationType()) {
+                    result.set(idx, paramTypes[idx]);
+                    return result;
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -2,6 +2,8 @@ package io.vertx.up.atom.flux;
 
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
+import io.vertx.tp.ipc.eon.em.Compression;
+import io.vertx.tp.ipc.eon.em.Format;
 import io.vertx.up.eon.em.IpcType;
 
 import java.io.Serializable;
@@ -36,6 +38,18 @@ public class IpcData implements Serializable {
      * Additional Config
      */
     private JsonObject config = new JsonObject();
+    /**
+     * Community data format
+     */
+    private Format format = Format.JSON;
+    /**
+     * Community compression
+     */
+    private Compression compression = Compression.NONE;
+    /**
+     * Compress the data only when size >= threshold
+     */
+    private int threshold;
 
     public String getName() {
         return this.name;
@@ -93,6 +107,30 @@ public class IpcData implements Serializable {
         this.config = config;
     }
 
+    public Format getFormat() {
+        return this.format;
+    }
+
+    public void setFormat(final Format format) {
+        this.format = format;
+    }
+
+    public Compression getCompression() {
+        return this.compression;
+    }
+
+    public void setCompression(final Compression compression) {
+        this.compression = compression;
+    }
+
+    public int getThreshold() {
+        return this.threshold;
+    }
+
+    public void setThreshold(final int threshold) {
+        this.threshold = threshold;
+    }
+
     @Override
     public String toString() {
         return "IpcData{" +
@@ -102,6 +140,8 @@ public class IpcData implements Serializable {
                 ", data=" + this.data +
                 ", address=" + this.address +
                 ", config=" + this.config +
+                ", format=" + this.format +
+                ", compression=" + this.compression +
                 '}';
     }
 }
@@ -0,0 +1,103 @@
+package io.vertx.up.atom.hold;
+
+import io.vertx.ext.web.Session;
+import io.vertx.up.log.Annal;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Session holder rebuilt from event bus wire, it's not bind to any session store,
+ * only id and data snapshot are working here.
+ */
+public class VirtualSession implements Session {
+    private static final Annal LOGGER = Annal.get(VirtualSession.class);
+
+    private transient final String id;
+    private transient final Map<String, Object> data = new HashMap<>();
+    private transient final long timeout;
+    private transient long lastAccessed;
+    private transient boolean destroyed;
+
+    public VirtualSession(final String id, final long timeout, final long lastAccessed) {
+        this.id = id;
+        this.timeout = timeout;
+        this.lastAccessed = lastAccessed;
+    }
+
+    @Override
+    public Session regenerateId() {
+        LOGGER.info(Info.VIRTUAL_SESSION, this.id);
+        return this;
+    }
+
+    @Override
+    public String id() {
+        return this.id;
+    }
+
+    @Override
+    public Session put(final String key, final Object obj) {
+        if (null == obj) {
+            this.data.remove(key);
+        } else {
+            this.data.put(key, obj);
+        }
+        return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final String key) {
+        return (T) this.data.get(key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T remove(final String key) {
+        return (T) this.data.remove(key);
+    }
+
+    @Override
+    public Map<String, Object> data() {
+        return this.data;
+    }
+
+    public boolean isEmpty() {
+        return this.data.isEmpty();
+    }
+
+    @Override
+    public long lastAccessed() {
+        return this.lastAccessed;
+    }
+
+    @Override
+    public void destroy() {
+        this.destroyed = true;
+        this.data.clear();
+    }
+
+    @Override
+    public boolean isDestroyed() {
+        return this.destroyed;
+    }
+
+    public boolean isRegenerated() {
+        return false;
+    }
+
+    public String oldId() {
+        return null;
+    }
+
+    @Override
+    public long timeout() {
+        return this.timeout;
+    }
+
+    @Override
+    public void setAccessed() {
+        this.lastAccessed = System.currentTimeMillis();
+    }
+}
@@ -3,4 +3,6 @@ package io.vertx.up.atom.hold;
 interface Info {
 
     String VIRTUAL_USER = "[ ZERO ] You have used virtual user, only principal = {0} is working.";
+
+    String VIRTUAL_SESSION = "[ ZERO ] You have used virtual session, only id = {0} and data are working.";
 }
@@ -2,7 +2,6 @@ package io.vertx.up.boot;
 
 import io.vertx.core.ClusterOptions;
 import io.vertx.core.VertxOptions;
-import io.vertx.core.eventbus.EnvelopCodec;
 import io.vertx.core.eventbus.EventBus;
 import io.vertx.core.spi.cluster.ClusterManager;
 import io.vertx.up.atom.Envelop;
@@ -63,7 +62,7 @@ public final class Motor {
 
     public static void codec(final EventBus eventBus) {
         eventBus.registerDefaultCodec(Envelop.class,
-                Ut.singleton(EnvelopCodec.class));
+                ZeroGrid.getCodec());
     }
 
     /**
@@ -6,6 +6,10 @@ public interface ID {
 
     String PARAMS_LENGTH = "$$PARAM_LENGTH$$";
 
+    String UPLOAD_CONTENT = "$$UPLOAD_CONTENT$$";
+
+    String BODY_HANDLED = "$$BODY_HANDLED$$";
+
     String DIRECT = "$$DIRECT$$";
 
     String IGNORE = "$$IGNORE$$";
@@ -15,6 +19,10 @@ public interface ID {
         String REGISTRY_START = "ZERO://MICRO/REGISTRY/START";
 
         String IPC_START = "ZERO://MICRO/IPC/START";
+
+        String JWT_REVOKE = "ZERO://SECURE/JWT/REVOKE";
+
+        String CONFIG_RELOAD = "ZERO://CONFIG/RELOAD";
     }
 
     interface Header {
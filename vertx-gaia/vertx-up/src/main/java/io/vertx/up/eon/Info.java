@@ -18,6 +18,9 @@ public interface Info {
     String SCANED_QUEUE = "[ ZERO ] ( {0} Queue ) The Zero system has found " +
             "{0} components of @Queue.";
 
+    String SCANED_SOCK = "[ ZERO ] ( {0} Sock ) The Zero system has found " +
+            "{0} components of @Sock.";
+
     String SCANED_INJECTION = "[ ZERO ] ( {1} Inject ) The Zero system has found \"{0}\" object contains " +
             "{1} components of @Inject or ( javax.inject.infix.* ).";
 
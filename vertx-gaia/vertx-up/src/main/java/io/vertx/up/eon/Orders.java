@@ -14,6 +14,11 @@ public interface Orders {
      * 1,200,000
      */
     int COOKIE = 1_200_000;
+    /**
+     * Body of route ( @Body / zero.body ), before default body handler
+     * 1,250,000
+     */
+    int BODY_ROUTE = 1_250_000;
     /**
      * Body Order
      * 1,300,000
@@ -0,0 +1,12 @@
+package io.vertx.up.eon.em;
+
+public enum BalanceType {
+    // Round robin of all candidates
+    ROUND_ROBIN,
+    // The candidate with least outstanding requests
+    LEAST,
+    // Smooth weighted round robin
+    WEIGHT,
+    // Consistent hash on request header
+    HASH
+}
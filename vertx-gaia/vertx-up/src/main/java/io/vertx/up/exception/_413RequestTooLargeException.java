@@ -0,0 +1,22 @@
+package io.vertx.up.exception;
+
+import io.vertx.core.http.HttpStatusCode;
+
+public class _413RequestTooLargeException extends WebException {
+
+    public _413RequestTooLargeException(final Class<?> clazz,
+                                        final String uri,
+                                        final long limit) {
+        super(clazz, uri, String.valueOf(limit));
+    }
+
+    @Override
+    public int getCode() {
+        return -60038;
+    }
+
+    @Override
+    public HttpStatusCode getStatus() {
+        return HttpStatusCode.REQUEST_ENTITY_TOO_LARGE;
+    }
+}
@@ -0,0 +1,119 @@
+package io.vertx.up.media.parse;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.up.atom.Epsilon;
+import io.vertx.up.exception.WebException;
+import io.vertx.up.log.Annal;
+import io.vertx.up.media.Resolver;
+import io.vertx.up.media.resolver.StreamResolver;
+import io.vertx.up.media.resolver.UnsetResolver;
+import io.vertx.zero.marshal.node.Node;
+import io.zero.epic.Ut;
+
+import javax.ws.rs.StreamParam;
+import javax.ws.rs.core.HttpHeaders;
+import java.lang.annotation.Annotation;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Resolver bound to parameter when the route is mounted:
+ * 1. The resolver of annotation config is bound directly;
+ * 2. @StreamParam is bound to StreamResolver;
+ * 3. Otherwise the resolver is selected by Content-Type from `resolver` configuration,
+ * unknown Content-Type falls back to `default`, the resolvers are cached by configured name
+ * and the table is rebuilt when the configuration is reloaded.
+ */
+@SuppressWarnings("unchecked")
+public class MimeResolver<T> implements Resolver<T> {
+
+    private static final Node<JsonObject> NODE = Node.infix("resolver");
+    private static final Annal LOGGER = Annal.get(MimeResolver.class);
+
+    private static final String DEFAULT = "default";
+
+    private final transient AtomicReference<Table> table = new AtomicReference<>(new Table(null));
+
+    /**
+     * Bind resolver of parameter by annotation.
+     *
+     * @param annotation Parameter annotation
+     * @param <T>        Generic type of parameter
+     * @return Resolver for this parameter
+     */
+    public static <T> Resolver<T> bind(final Annotation annotation) {
+        final Class<?> resolverCls = null == annotation ? null : Ut.invoke(annotation, "resolver");
+        if ((null == resolverCls || UnsetResolver.class == resolverCls)
+                && null != annotation && StreamParam.class == annotation.annotationType()) {
+            // Request body is passed as stream
+            return Ut.singleton(StreamResolver.class);
+        } else if (null == resolverCls || UnsetResolver.class == resolverCls) {
+            return Ut.singleton(MimeResolver.class);
+        } else {
+            LOGGER.info(Info.RESOLVER_CONFIG, resolverCls, annotation);
+            return Ut.singleton(resolverCls);
+        }
+    }
+
+    @Override
+    public Epsilon<T> resolve(final RoutingContext context,
+                              final Epsilon<T> income)
+            throws WebException {
+        final String header = context.request().getHeader(HttpHeaders.CONTENT_TYPE);
+        return this.get(header).resolve(context, income);
+    }
+
+    Resolver<T> get(final String header) {
+        final JsonObject content = NODE.read();
+        Table current = this.table.get();
+        if (content != current.config) {
+            // Configuration reloaded
+            current = new Table(content);
+            this.table.set(current);
+        }
+        // The Content-Type is sent by client, only configured names are used as key
+        final String name = current.name(mime(header));
+        return (Resolver<T>) current.resolvers.computeIfAbsent(name, Table::create);
+    }
+
+    /*
+     * Content-Type without parameters, the boundary / charset are different in each request.
+     */
+    private static String mime(final String header) {
+        if (Ut.isNil(header)) {
+            return DEFAULT;
+        }
+        final int index = header.indexOf(';');
+        return (0 <= index ? header.substring(0, index) : header).trim().toLowerCase(Locale.ENGLISH);
+    }
+
+    private static class Table {
+        private final transient JsonObject config;
+        private final transient ConcurrentMap<String, Resolver<?>> resolvers = new ConcurrentHashMap<>();
+
+        Table(final JsonObject config) {
+            this.config = config;
+        }
+
+        private static Resolver<?> create(final String resolver) {
+            LOGGER.info(Info.RESOLVER, resolver);
+            return Ut.singleton(resolver);
+        }
+
+        private String name(final String mime) {
+            final JsonObject content = null == this.config ? new JsonObject() : this.config;
+            String resolver = null;
+            final int index = mime.indexOf('/');
+            if (0 < index) {
+                final Object resolverMap = content.getValue(mime.substring(0, index));
+                if (resolverMap instanceof JsonObject) {
+                    resolver = ((JsonObject) resolverMap).getString(mime.substring(index + 1));
+                }
+            }
+            return null == resolver ? content.getString(DEFAULT) : resolver;
+        }
+    }
+}
@@ -1,9 +1,9 @@
 package io.vertx.up.media.parse;
 
 interface Info {
-    String RESOLVER = "[ ZERO ] ( Resolver ) Select resolver {0} " +
-            "for Content-Type {1} when request to {2}";
+    String RESOLVER = "[ ZERO ] ( Resolver ) Create resolver {0} " +
+            "for the configured Content-Type";
 
     String RESOLVER_CONFIG = "[ ZERO ] ( Resolver ) Select resolver from " +
-            "annotation config \"{0}\" for Content-Type {1}";
+            "annotation config \"{0}\" for {1}";
 }
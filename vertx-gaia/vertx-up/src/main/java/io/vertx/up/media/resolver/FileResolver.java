@@ -1,10 +1,13 @@
 package io.vertx.up.media.resolver;
 
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
-import io.vertx.core.file.FileSystem;
 import io.vertx.ext.web.FileUpload;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.up.atom.Epsilon;
+import io.vertx.up.eon.ID;
 import io.vertx.up.log.Annal;
 import io.vertx.up.media.Resolver;
 import io.vertx.up.web.ZeroSerializer;
@@ -18,13 +21,47 @@ public class FileResolver<T> implements Resolver<T> {
 
     private static final Annal LOGGER = Annal.get(FileResolver.class);
 
+    /**
+     * The argument types that require the content of uploaded file.
+     *
+     * @param argType argument type
+     * @return whether the content should be read
+     */
+    public static boolean isContent(final Class<?> argType) {
+        return byte[].class == argType || Byte[].class == argType
+                || Buffer.class.isAssignableFrom(argType);
+    }
+
+    /**
+     * Read the content of single uploaded file asynchronously before resolving,
+     * the file system of vert.x reads it in worker pool and the event loop is not blocked.
+     *
+     * @param context RoutingContext of current request
+     * @param handler Called when the content has been put into context
+     */
+    public static void preload(final RoutingContext context,
+                               final Handler<AsyncResult<Void>> handler) {
+        final Set<FileUpload> fileUploads = context.fileUploads();
+        if (Values.ONE == fileUploads.size() && null == context.get(ID.UPLOAD_CONTENT)) {
+            final FileUpload fileUpload = fileUploads.iterator().next();
+            context.vertx().fileSystem().readFile(fileUpload.uploadedFileName(), read -> {
+                if (read.succeeded()) {
+                    context.put(ID.UPLOAD_CONTENT, read.result());
+                    handler.handle(Future.succeededFuture());
+                } else {
+                    handler.handle(Future.failedFuture(read.cause()));
+                }
+            });
+        } else {
+            handler.handle(Future.succeededFuture());
+        }
+    }
+
     @Override
     public Epsilon<T> resolve(final RoutingContext context,
                               final Epsilon<T> income) {
-        context.request().headers().forEach((item) -> LOGGER.info("[ ZERO ] Headers: {0} = {1}",
-                item.getKey(), item.getValue()));
         final Set<FileUpload> fileUploads = context.fileUploads();
-        LOGGER.info("[ ZERO ] Upload files: size = {0}", fileUploads.size());
+        LOGGER.debug("[ ZERO ] Upload files: size = {0}", fileUploads.size());
         if (Values.ONE == fileUploads.size()) {
             final FileUpload fileUpload = fileUploads.iterator().next();
             // Returned directly reference for FileUpload
@@ -34,19 +71,15 @@ public class FileResolver<T> implements Resolver<T> {
                 // File object construction
                 final Object ret = ZeroSerializer.getValue(income.getArgType(), fileUpload.uploadedFileName());
                 income.setValue((T) ret);
-            } else if (income.getArgType().isArray()) {
-                // byte[]
-                if (byte.class == income.getArgType().getComponentType() ||
-                        Byte.class == income.getArgType().getComponentType()) {
-                    final FileSystem fileSystem = context.vertx().fileSystem();
-                    final Buffer buffer = fileSystem.readFileBlocking(fileUpload.uploadedFileName());
+            } else if (isContent(income.getArgType())) {
+                final Buffer buffer = this.getContent(context, fileUpload);
+                if (income.getArgType().isArray()) {
+                    // byte[]
                     income.setValue((T) buffer.getBytes());
+                } else {
+                    // Buffer
+                    income.setValue((T) buffer);
                 }
-            } else if (Buffer.class.isAssignableFrom(income.getArgType())) {
-                // Buffer
-                final FileSystem fileSystem = context.vertx().fileSystem();
-                final Buffer buffer = fileSystem.readFileBlocking(fileUpload.uploadedFileName());
-                income.setValue((T) buffer);
             }
         } else {
             // Multi Files only support Set<FileUpload>
@@ -54,4 +87,15 @@ public class FileResolver<T> implements Resolver<T> {
         }
         return income;
     }
+
+    private Buffer getContent(final RoutingContext context,
+                              final FileUpload fileUpload) {
+        final Buffer buffer = context.get(ID.UPLOAD_CONTENT);
+        if (null == buffer) {
+            // Not preloaded ( called out of route handler chain ), read it directly
+            return context.vertx().fileSystem().readFileBlocking(fileUpload.uploadedFileName());
+        } else {
+            return buffer;
+        }
+    }
 }
@@ -18,9 +18,8 @@ public class JsonResolver<T> implements Resolver<T> {
     public Epsilon<T> resolve(final RoutingContext context,
                               final Epsilon<T> income)
             throws WebException {
-        // Json Resolver
-        final String content = context.getBodyAsString();
-        final Object result = ZeroSerializer.getValue(income.getArgType(), content);
+        // Json Resolver, parsed from body buffer directly
+        final Object result = ZeroSerializer.getValue(income.getArgType(), context.getBody());
         if (null != result) {
             income.setValue((T) result);
         }
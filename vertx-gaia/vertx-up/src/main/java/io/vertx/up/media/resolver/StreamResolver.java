@@ -0,0 +1,80 @@
+package io.vertx.up.media.resolver;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.up.atom.Epsilon;
+import io.vertx.up.media.Resolver;
+
+/**
+ * Stream Resolver for @StreamParam, the request body is not read into memory:
+ * 1. HttpServerRequest: the request reference ( paused, resume it when ready );
+ * 2. ReadStream<Buffer>: the stream is resumed when data handler is set.
+ *
+ * @param <T>
+ */
+@SuppressWarnings("unchecked")
+public class StreamResolver<T> implements Resolver<T> {
+
+    @Override
+    public Epsilon<T> resolve(final RoutingContext context,
+                              final Epsilon<T> income) {
+        final HttpServerRequest request = context.request();
+        if (HttpServerRequest.class == income.getArgType()) {
+            income.setValue((T) request);
+        } else if (income.getArgType().isAssignableFrom(ReadStream.class)) {
+            income.setValue((T) new BodyStream(request));
+        }
+        return income;
+    }
+
+    private static class BodyStream implements ReadStream<Buffer> {
+
+        private final transient HttpServerRequest request;
+
+        BodyStream(final HttpServerRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public ReadStream<Buffer> exceptionHandler(final Handler<Throwable> handler) {
+            this.request.exceptionHandler(handler);
+            return this;
+        }
+
+        @Override
+        public ReadStream<Buffer> handler(final Handler<Buffer> handler) {
+            this.request.handler(handler);
+            if (null != handler) {
+                this.request.resume();
+            }
+            return this;
+        }
+
+        @Override
+        public ReadStream<Buffer> pause() {
+            this.request.pause();
+            return this;
+        }
+
+        @Override
+        public ReadStream<Buffer> resume() {
+            this.request.resume();
+            return this;
+        }
+
+        @Override
+        public ReadStream<Buffer> fetch(final long amount) {
+            this.request.fetch(amount);
+            return this;
+        }
+
+        @Override
+        public ReadStream<Buffer> endHandler(final Handler<Void> handler) {
+            this.request.endHandler(handler);
+            return this;
+        }
+    }
+}
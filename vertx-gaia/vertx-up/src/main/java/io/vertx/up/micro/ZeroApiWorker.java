@@ -11,17 +11,21 @@ import io.vertx.up.eon.em.MessageModel;
 import io.vertx.up.log.Annal;
 import io.vertx.up.micro.discovery.ApiOrigin;
 import io.vertx.up.micro.discovery.Origin;
+import io.vertx.up.micro.discovery.Snapshot;
 import io.vertx.up.web.Runner;
 import io.zero.epic.Ut;
 import io.zero.epic.fn.Fn;
 
 import java.text.MessageFormat;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 /**
@@ -40,6 +44,8 @@ public class ZeroApiWorker extends AbstractVerticle {
             = new ConcurrentHashMap<>();
     private static final ConcurrentSet<String> REGISTRY = new ConcurrentSet<>();
 
+    private static final AtomicLong VERSION = new AtomicLong(-1);
+
     private static final AtomicBoolean initialized =
             new AtomicBoolean(false);
 
@@ -58,10 +64,15 @@ public class ZeroApiWorker extends AbstractVerticle {
          Fn.safeJvm(() -> EtcdEraser.create().start(), LOGGER);
          });**/
 
-        // Scan the services every 3s
-        this.vertx.setPeriodic(5000, id -> {
+        // Check the snapshot every 1s, the snapshot is maintained by etcd watching
+        this.vertx.setPeriodic(1000, id -> {
             // Read the latest services
-            final ConcurrentMap<String, Record> services = ORIGIN.getRegistryData();
+            final Snapshot snapshot = ORIGIN.getSnapshot();
+            // Nothing changed since last refreshing
+            if (snapshot.getVersion() == VERSION.getAndSet(snapshot.getVersion())) {
+                return;
+            }
+            final Map<String, Record> services = snapshot.getRecords();
             // Read the down services
             final ConcurrentMap<Flag, Set<String>> resultMap = this.calculateServices(services);
 
@@ -72,7 +83,7 @@ public class ZeroApiWorker extends AbstractVerticle {
                 final Set<String> updated = resultMap.get(Flag.UPDATE);
                 final Set<String> added = resultMap.get(Flag.NEW);
                 Runner.run(() -> this.discoveryDeleted(counter, discovery, deleted), "discovery-deleted");
-                Runner.run(() -> this.discoveryUpdate(counter, discovery, updated), "discovery-updated");
+                Runner.run(() -> this.discoveryUpdate(counter, discovery, updated, services), "discovery-updated");
                 Runner.run(() -> this.discoveryAdded(counter, discovery, added, services), "discovery-added");
                 // Wait for result
                 counter.await();
@@ -83,8 +94,9 @@ public class ZeroApiWorker extends AbstractVerticle {
 
     private void discoveryUpdate(final CountDownLatch counter,
                                  final ServiceDiscovery discovery,
-                                 final Set<String> updated) {
-        this.updateService(discovery, updated);
+                                 final Set<String> updated,
+                                 final Map<String, Record> services) {
+        this.updateService(discovery, updated, services);
         counter.countDown();
     }
 
@@ -98,7 +110,7 @@ public class ZeroApiWorker extends AbstractVerticle {
     private void discoveryAdded(final CountDownLatch counter,
                                 final ServiceDiscovery discovery,
                                 final Set<String> added,
-                                final ConcurrentMap<String, Record> services) {
+                                final Map<String, Record> services) {
         this.addService(discovery, added, services);
         counter.countDown();
     }
@@ -127,10 +139,12 @@ public class ZeroApiWorker extends AbstractVerticle {
     }
 
     private void updateService(final ServiceDiscovery discovery,
-                               final Set<String> ids) {
-        // Update service into current zero system.
+                               final Set<String> ids,
+                               final Map<String, Record> services) {
+        // Update service into current zero system, the record in snapshot is shared and could not be modified.
         Observable.fromIterable(ids)
-                .map(REGISTRITIONS::get)
+                .map(id -> new Record(services.get(id).toJson())
+                        .setRegistration(ID_MAP.get(id)))
                 .subscribe(item -> discovery.update(item, result -> {
                     if (result.succeeded()) {
                         final Record record = result.result();
@@ -144,10 +158,11 @@ public class ZeroApiWorker extends AbstractVerticle {
 
     private void addService(final ServiceDiscovery discovery,
                             final Set<String> ids,
-                            final ConcurrentMap<String, Record> services) {
+                            final Map<String, Record> services) {
         // Add service into current zero system.
         Observable.fromIterable(ids)
                 .map(services::get)
+                .map(item -> new Record(item.toJson()))
                 .subscribe(item -> this.publishSerivce(discovery, "Add").accept(item));
     }
 
@@ -174,13 +189,15 @@ public class ZeroApiWorker extends AbstractVerticle {
 
     private void initializeServices(final ServiceDiscovery discovery) {
         // Read the services
-        final Set<Record> services = new HashSet<>(ORIGIN.getRegistryData().values());
-        Observable.fromIterable(services)
+        final Snapshot snapshot = ORIGIN.getSnapshot();
+        VERSION.set(snapshot.getVersion());
+        Observable.fromIterable(snapshot.getRecords().values())
+                .map(item -> new Record(item.toJson()))
                 .subscribe(item -> this.publishSerivce(discovery, "Init").accept(item));
     }
 
     private ConcurrentMap<Flag, Set<String>> calculateServices(
-            final ConcurrentMap<String, Record> services) {
+            final Map<String, Record> services) {
         // Read new services.
         final Set<String> populated = new HashSet<>();
         Observable.fromIterable(services.keySet())
@@ -190,9 +207,10 @@ public class ZeroApiWorker extends AbstractVerticle {
         final Set<String> deleted = new HashSet<>(REGISTRITIONS.keySet());
         deleted.removeAll(populated);
 
-        // Existed = Yes, Populated = Yes
+        // Existed = Yes, Populated = Yes, Changed = Yes
         final Set<String> updated = new HashSet<>(REGISTRITIONS.keySet());
         updated.retainAll(populated);
+        updated.removeIf(id -> !this.isChanged(REGISTRITIONS.get(id), services.get(id)));
 
         // Existed = No, Populated = Yes
         final Set<String> added = new HashSet<>(populated);
@@ -206,6 +224,13 @@ public class ZeroApiWorker extends AbstractVerticle {
         return result;
     }
 
+    private boolean isChanged(final Record published, final Record latest) {
+        return null == published || null == latest
+                || !Objects.equals(published.getName(), latest.getName())
+                || !Objects.equals(published.getLocation(), latest.getLocation())
+                || !Objects.equals(published.getMetadata(), latest.getMetadata());
+    }
+
     private void successFinished(final Record record) {
         // Build key
         final String key = this.getID(record);
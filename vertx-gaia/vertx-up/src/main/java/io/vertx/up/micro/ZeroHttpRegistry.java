@@ -11,6 +11,7 @@ import io.vertx.up.eon.em.MessageModel;
 import io.vertx.up.log.Annal;
 import io.vertx.up.micro.center.ZeroRegistry;
 import io.vertx.zero.eon.Strings;
+import io.vertx.zero.eon.Values;
 
 import java.util.Arrays;
 import java.util.Set;
@@ -45,5 +46,10 @@ public class ZeroHttpRegistry extends AbstractVerticle {
             LOGGER.info(Info.MICRO_REGISTRY_CONSUME, getClass().getSimpleName(),
                     name, ID.Addr.REGISTRY_START);
         });
+        // Keep the registered nodes alive when ttl enabled, dead nodes will be expired by etcd.
+        final int ttl = this.registry.getTtl();
+        if (Values.ZERO < ttl) {
+            this.vertx.setPeriodic(ttl * 1000L / 3, id -> this.registry.heartbeat());
+        }
     }
 }
@@ -12,6 +12,9 @@ import io.vertx.up.eon.em.Etat;
 import io.vertx.up.eon.em.ServerType;
 import io.vertx.up.log.Annal;
 import io.vertx.up.micro.center.ZeroRegistry;
+import io.vertx.up.micro.ipc.server.ConsumeTunnel;
+import io.vertx.up.micro.ipc.server.DupliexTunnel;
+import io.vertx.up.micro.ipc.server.ProduceTunnel;
 import io.vertx.up.micro.ipc.server.Tunnel;
 import io.vertx.up.micro.ipc.server.UnityTunnel;
 import io.vertx.zero.eon.Values;
@@ -46,6 +49,13 @@ public class ZeroRpcAgent extends AbstractVerticle {
                 // UnityService add ( Envelop )
                 final Tunnel tunnel = Ut.singleton(UnityTunnel.class);
                 builder.addService(tunnel.init(this.vertx));
+                // Stream services ( JsonObject items )
+                final Tunnel consume = Ut.singleton(ConsumeTunnel.class);
+                builder.addService(consume.init(this.vertx));
+                final Tunnel produce = Ut.singleton(ProduceTunnel.class);
+                builder.addService(produce.init(this.vertx));
+                final Tunnel dupliex = Ut.singleton(DupliexTunnel.class);
+                builder.addService(dupliex.init(this.vertx));
             }
             /*
              * 4.Server added.
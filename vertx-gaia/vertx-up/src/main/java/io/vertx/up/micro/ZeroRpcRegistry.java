@@ -11,6 +11,7 @@ import io.vertx.up.eon.em.MessageModel;
 import io.vertx.up.log.Annal;
 import io.vertx.up.micro.center.ZeroRegistry;
 import io.vertx.up.micro.ipc.server.Tunnel;
+import io.vertx.zero.eon.Values;
 
 /**
  * Get data from event bus and push metdata to Etcd ( IPC )
@@ -36,5 +37,10 @@ public class ZeroRpcRegistry extends AbstractVerticle {
             LOGGER.info(Info.MICRO_REGISTRY_CONSUME, getClass().getSimpleName(),
                     options.getName(), ID.Addr.IPC_START);
         });
+        // Keep the registered nodes alive when ttl enabled, dead nodes will be expired by etcd.
+        final int ttl = this.registry.getTtl();
+        if (Values.ZERO < ttl) {
+            this.vertx.setPeriodic(ttl * 1000L / 3, id -> this.registry.heartbeat());
+        }
     }
 }
@@ -6,6 +6,11 @@ import io.vertx.ext.web.Router;
 import io.vertx.up.annotations.Agent;
 import io.vertx.up.eon.em.ServerType;
 import io.vertx.up.log.Annal;
+import io.vertx.up.rs.Axis;
+import io.vertx.up.rs.router.SockAxis;
+import io.vertx.up.rs.router.WallAxis;
+import io.zero.epic.Ut;
+import io.zero.epic.fn.Fn;
 
 /**
  * Default websocket server agent for router handlers.
@@ -18,6 +23,10 @@ public class ZeroSockAgent extends AbstractVerticle {
 
     @Override
     public void start() {
+        /* 1.Call route hub to mount walls ( authenticate handshake of connection ) **/
+        final Axis<Router> wallAxiser = Fn.poolThread(Pool.WALLS,
+                () -> Ut.instance(WallAxis.class, this.vertx));
+
         // Server Listen
         ZeroAtomic.SOCK_OPTS.forEach((port, option) -> {
             /* Create Server **/
@@ -25,6 +34,10 @@ public class ZeroSockAgent extends AbstractVerticle {
 
             final Router router = Router.router(this.vertx);
 
+            /* 2.Wall, @Sock endpoints ( connections belong to current agent ) **/
+            wallAxiser.mount(router);
+            new SockAxis(this.vertx).mount(router);
+
             /* Handler **/
             server.requestHandler(router::accept).listen();
         });
@@ -7,6 +7,8 @@ interface Info {
 
     String ETCD_CLEAN = "[ ZERO ] ( Etcd Center ) The service {0} has been clean up from {1}";
 
+    String ETCD_LEASE = "[ ZERO ] ( Etcd Center ) The node {0} has been expired, write it again with ttl = {1}s";
+
     String ETCD_READ = "[ ZERO ] ( Etcd Catalog ) Read the path {0} service lists.";
 
     String ETCD_ROUTE = "[ ZERO ] ( Etcd Catalog ) The following routes has been push to:" +
@@ -1,6 +1,8 @@
 package io.vertx.up.micro.center;
 
 import io.reactivex.Observable;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
 import io.vertx.core.ServidorOptions;
 import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.json.JsonArray;
@@ -12,6 +14,7 @@ import io.vertx.up.log.Annal;
 import io.vertx.zero.eon.Values;
 import io.zero.epic.Ut;
 import io.zero.epic.fn.Fn;
+import mousio.etcd4j.responses.EtcdKeysResponse;
 
 import java.text.MessageFormat;
 import java.util.HashSet;
@@ -38,19 +41,30 @@ public class ZeroRegistry {
 
     private static final String ROUTE_TREE = "/zero/{0}/{1}/routes/{2}";
 
+    private static final String PATH_ROOT = "/zero/{0}/{1}";
+
     private static final ConcurrentMap<String, ZeroRegistry>
             REGISTRY_MAP = new ConcurrentHashMap<>();
 
     private final transient Annal logger;
     private final transient EtcdData etcd;
+    /**
+     * Nodes written with ttl, they will be kept alive by heartbeat.
+     */
+    private final transient ConcurrentMap<String, Object> leases
+            = new ConcurrentHashMap<>();
 
-    private ZeroRegistry(final Class<?> useCls) {
-        this.etcd = EtcdData.create(useCls);
+    private ZeroRegistry(final Class<?> useCls, final EtcdData etcd) {
+        this.etcd = etcd;
         this.logger = Annal.get(useCls);
     }
 
     public static ZeroRegistry create(final Class<?> useCls) {
-        return Fn.poolThread(REGISTRY_MAP, () -> new ZeroRegistry(useCls));
+        return Fn.poolThread(REGISTRY_MAP, () -> new ZeroRegistry(useCls, EtcdData.create(useCls)));
+    }
+
+    public static ZeroRegistry create(final Class<?> useCls, final EtcdData etcd) {
+        return new ZeroRegistry(useCls, etcd);
     }
 
     /**
@@ -63,6 +77,60 @@ public class ZeroRegistry {
         return this.etcd.getConfig();
     }
 
+    public int getTtl() {
+        return this.etcd.getTtl();
+    }
+
+    /**
+     * Root path of services and routes: /zero/{name}/{type}
+     *
+     * @param etcdPath ENDPOINT / IPC
+     * @return the root path
+     */
+    public String getRoot(final EtcdPath etcdPath) {
+        return MessageFormat.format(PATH_ROOT, this.etcd.getApplication(),
+                etcdPath.toString().toLowerCase());
+    }
+
+    /**
+     * Read services and routes of type in one request.
+     *
+     * @param etcdPath ENDPOINT / IPC
+     * @return the response of whole tree
+     */
+    public EtcdKeysResponse readTree(final EtcdPath etcdPath) {
+        final String path = this.getRoot(etcdPath);
+        this.logger.debug(Info.ETCD_READ, path);
+        return this.etcd.readTree(path);
+    }
+
+    public void watchTree(final EtcdPath etcdPath, final long index,
+                          final Handler<AsyncResult<EtcdKeysResponse>> handler) {
+        this.etcd.watch(this.getRoot(etcdPath), index, handler);
+    }
+
+    /**
+     * Refresh the ttl of all nodes written by current registry, when the node
+     * has been expired, write it again.
+     */
+    public void heartbeat() {
+        final int ttl = this.etcd.getTtl();
+        this.leases.forEach((path, value) -> {
+            if (!this.etcd.refresh(path, ttl)) {
+                this.logger.info(Info.ETCD_LEASE, path, ttl);
+                this.etcd.write(path, value, ttl);
+            }
+        });
+    }
+
+    private <T> void write(final String path, final T data) {
+        final int ttl = this.etcd.getTtl();
+        if (Values.ZERO < ttl) {
+            this.leases.put(path, data);
+        }
+        this.etcd.write(path, data, ttl);
+    }
+
     public Set<JsonObject> getData(
             final EtcdPath etcdPath,
             final String key,
@@ -105,7 +173,7 @@ public class ZeroRegistry {
                 path.toString().toLowerCase(), name,
                 host, String.valueOf(port));
         this.logger.info(Info.ETCD_CLEAN, name, path);
-        this.etcd.write(target, Etat.STOPPED, Values.ZERO);
+        this.write(target, Etat.STOPPED);
     }
 
     public void registryHttp(final String service,
@@ -114,7 +182,7 @@ public class ZeroRegistry {
                 EtcdPath.ENDPOINT.toString().toLowerCase(), service,
                 Ut.netIPv4(), String.valueOf(options.getPort()));
         this.logger.info(Info.ETCD_STATUS, service, etat, path);
-        this.etcd.write(path, etat, Values.ZERO);
+        this.write(path, etat);
     }
 
     public void registryRpc(final ServidorOptions options, final Etat etat) {
@@ -122,7 +190,7 @@ public class ZeroRegistry {
                 EtcdPath.IPC.toString().toLowerCase(), options.getName(),
                 Ut.netIPv4(), String.valueOf(options.getPort()));
         this.logger.info(Info.ETCD_STATUS, options.getName(), etat, path);
-        this.etcd.write(path, etat, Values.ZERO);
+        this.write(path, etat);
     }
 
     public void registryIpcs(final ServidorOptions options, final Set<String> ipcs) {
@@ -145,7 +213,7 @@ public class ZeroRegistry {
         final JsonArray routeData = new JsonArray();
         Observable.fromIterable(ipcs)
                 .subscribe(routeData::add).dispose();
-        this.etcd.write(path, routeData, Values.ZERO);
+        this.write(path, routeData);
     }
 
     public void registryRoute(final String name,
@@ -169,6 +237,6 @@ public class ZeroRegistry {
         final JsonArray routeData = new JsonArray();
         Observable.fromIterable(routes)
                 .subscribe(routeData::add).dispose();
-        this.etcd.write(path, routeData, Values.ZERO);
+        this.write(path, routeData);
     }
 }
@@ -1,6 +1,5 @@
 package io.vertx.up.micro.discovery;
 
-import io.reactivex.Observable;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.servicediscovery.Record;
@@ -11,20 +10,34 @@ import io.vertx.zero.eon.Strings;
 import io.vertx.zero.eon.Values;
 import io.zero.epic.Ut;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 public class ApiOrigin implements Origin {
 
-    private final transient ZeroRegistry registry
-            = ZeroRegistry.create(this.getClass());
+    private final transient ZeroRegistry registry;
+    private final transient EtcdWatcher watcher;
+
+    public ApiOrigin() {
+        this(null);
+    }
+
+    ApiOrigin(final ZeroRegistry registry) {
+        this.registry = null == registry ? ZeroRegistry.create(this.getClass()) : registry;
+        this.watcher = EtcdWatcher.create(this.registry, this.getPath(), this::getRecords);
+    }
 
     @Override
     public ConcurrentMap<String, Record> getRegistryData() {
-        return this.readData(EtcdPath.ENDPOINT);
+        return new ConcurrentHashMap<>(this.getSnapshot().getRecords());
+    }
+
+    @Override
+    public Snapshot getSnapshot() {
+        return this.watcher.get();
     }
 
     @Override
@@ -42,28 +55,7 @@ public class ApiOrigin implements Origin {
         return EtcdPath.ENDPOINT;
     }
 
-    ConcurrentMap<String, Record> readData(final EtcdPath path) {
-        // Get End Points.
-        final Set<String> results = this.registry.getServices(path);
-        // Get records by results.
-        final Set<JsonObject> routes = new HashSet<>();
-        Observable.fromIterable(results)
-                .map(key -> this.registry.getData(path, key, this::getItem))
-                .subscribe(routes::addAll).dispose();
-        // Build discovery record with metadata to identifier the key.
-        final ConcurrentMap<String, Record> map = new ConcurrentHashMap<>();
-        // Convert to map
-        Observable.fromIterable(routes)
-                .subscribe(item -> {
-                    final String key = item.getJsonObject(META)
-                            .getString(ID);
-                    final Record record = this.createRecord(item);
-                    map.put(key, record);
-                }).dispose();
-        return map;
-    }
-
-    private Record createRecord(final JsonObject item) {
+    protected Record createRecord(final JsonObject item) {
         final String name = item.getString(NAME);
         final String host = item.getString(HOST);
         final Integer port = item.getInteger(PORT);
@@ -73,29 +65,30 @@ public class ApiOrigin implements Origin {
         );
     }
 
-    private Set<JsonObject> getItem(final String key, final JsonArray value) {
-        // Build JsonObject with value array
-        final Set<JsonObject> sets = new HashSet<>();
+    /*
+     * Build records of one service ( name:host:port ), it's called only when the
+     * routes of service changed, the id ( sha256 ) will not be calculated again.
+     */
+    private List<Record> getRecords(final String key, final JsonArray value) {
+        final List<Record> records = new ArrayList<>();
         final String[] meta = key.split(Strings.COLON);
         if (3 == meta.length) {
-            Observable.fromIterable(value)
+            final String name = meta[Values.ZERO];
+            final String host = meta[Values.ONE];
+            final Integer port = Integer.parseInt(meta[Values.TWO]);
+            value.stream()
                     .filter(Objects::nonNull)
                     .map(Object::toString)
-                    .map(item -> {
-                        final String name = meta[Values.ZERO];
-                        final String host = meta[Values.ONE];
-                        final String port = meta[Values.TWO];
-                        final String id = Ut.encryptSHA256(key + item);
-                        return new JsonObject()
-                                .put(NAME, name)
-                                .put(HOST, host)
-                                .put(PORT, Integer.parseInt(port))
-                                .put(META, new JsonObject()
-                                        .put(ID, id)
-                                        .put(PATH, item));
-                    })
-                    .subscribe(sets::add).dispose();
+                    .map(item -> new JsonObject()
+                            .put(NAME, name)
+                            .put(HOST, host)
+                            .put(PORT, port)
+                            .put(META, new JsonObject()
+                                    .put(ID, Ut.encryptSHA256(key + item))
+                                    .put(PATH, item)))
+                    .map(this::createRecord)
+                    .forEach(records::add);
         }
-        return sets;
+        return records;
     }
 }
@@ -0,0 +1,197 @@
+package io.vertx.up.micro.discovery;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.json.JsonArray;
+import io.vertx.servicediscovery.Record;
+import io.vertx.up.eon.em.Etat;
+import io.vertx.up.eon.em.EtcdPath;
+import io.vertx.up.log.Annal;
+import io.vertx.up.micro.center.ZeroRegistry;
+import io.vertx.zero.eon.Strings;
+import io.vertx.zero.eon.Values;
+import io.zero.epic.Ut;
+import io.zero.epic.fn.Fn;
+import mousio.etcd4j.responses.EtcdException;
+import mousio.etcd4j.responses.EtcdKeyAction;
+import mousio.etcd4j.responses.EtcdKeysResponse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * Keep the registry snapshot of /zero/{name}/{type} up to date:
+ * 1. Read the whole tree ( services + routes ) in one request at the first time.
+ * 2. Wait for change from etcd index and apply the changed node only.
+ * 3. Reload the whole tree when the index has been cleared by etcd.
+ * All the modification run in one thread, the snapshot is published by
+ * volatile reference.
+ */
+public class EtcdWatcher {
+
+    private static final Annal LOGGER = Annal.get(EtcdWatcher.class);
+
+    private static final String SERVICES = "services";
+    private static final String ROUTES = "routes";
+    /* The event in requested index is outdated and cleared */
+    private static final int INDEX_CLEARED = 401;
+    private static final long RETRY = 3000L;
+
+    private static final ScheduledExecutorService EXECUTOR =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "zero-etcd-watcher");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final transient ZeroRegistry registry;
+    private final transient EtcdPath path;
+    private final transient String root;
+    private final transient BiFunction<String, JsonArray, List<Record>> builder;
+    /* Raw data: service key ( name:host:port ) of running services */
+    private final transient Set<String> running = ConcurrentHashMap.newKeySet();
+    /* Raw data: service key ( name:host:port ) -> records built from routes */
+    private final transient ConcurrentMap<String, List<Record>> routes = new ConcurrentHashMap<>();
+    private transient volatile Snapshot snapshot;
+
+    private EtcdWatcher(final ZeroRegistry registry,
+                        final EtcdPath path,
+                        final BiFunction<String, JsonArray, List<Record>> builder) {
+        this.registry = registry;
+        this.path = path;
+        this.root = registry.getRoot(path);
+        this.builder = builder;
+    }
+
+    public static EtcdWatcher create(final ZeroRegistry registry,
+                                     final EtcdPath path,
+                                     final BiFunction<String, JsonArray, List<Record>> builder) {
+        return new EtcdWatcher(registry, path, builder);
+    }
+
+    /**
+     * Lock-free read except the first time, the first reader will load the whole tree
+     * and start watching.
+     *
+     * @return Current snapshot
+     */
+    public Snapshot get() {
+        final Snapshot snapshot = this.snapshot;
+        return null == snapshot ? this.start() : snapshot;
+    }
+
+    private synchronized Snapshot start() {
+        if (null == this.snapshot) {
+            final long index = this.reload();
+            this.watch(Values.ZERO < index ? index + 1 : Values.ZERO);
+        }
+        return this.snapshot;
+    }
+
+    private long reload() {
+        this.running.clear();
+        this.routes.clear();
+        final EtcdKeysResponse response = this.registry.readTree(this.path);
+        long index = Values.ZERO;
+        if (null != response) {
+            index = null == response.etcdIndex ? Values.ZERO : response.etcdIndex;
+            final EtcdKeysResponse.EtcdNode node = response.getNode();
+            if (null != node && null != node.getNodes()) {
+                for (final EtcdKeysResponse.EtcdNode typed : node.getNodes()) {
+                    if (null != typed.getNodes()) {
+                        typed.getNodes().forEach(item -> this.apply(item.getKey(), item.getValue()));
+                    }
+                }
+            }
+        }
+        this.publish(index);
+        LOGGER.info(Info.WATCH_LOADED, this.root, index, this.snapshot.getRecords().size());
+        return index;
+    }
+
+    private void watch(final long index) {
+        this.registry.watchTree(this.path, index,
+                res -> EXECUTOR.execute(() -> this.changed(index, res)));
+    }
+
+    private void changed(final long index, final AsyncResult<EtcdKeysResponse> res) {
+        if (res.succeeded()) {
+            final EtcdKeysResponse response = res.result();
+            final EtcdKeysResponse.EtcdNode node = response.getNode();
+            final long modified = node.getModifiedIndex();
+            if (node.isDir() || Values.ZERO == index) {
+                // Directory changed or unknown start point, read the whole tree
+                final long reloaded = this.reload();
+                this.watch(Values.ZERO < reloaded ? reloaded + 1 : modified + 1);
+            } else {
+                final boolean deleted = EtcdKeyAction.delete == response.getAction()
+                        || EtcdKeyAction.expire == response.getAction()
+                        || EtcdKeyAction.compareAndDelete == response.getAction();
+                this.apply(node.getKey(), deleted ? null : node.getValue());
+                this.publish(modified);
+                LOGGER.info(Info.WATCH_CHANGED, this.root, response.getAction(), node.getKey(), modified);
+                this.watch(modified + 1);
+            }
+        } else {
+            final Throwable error = res.cause();
+            if (error instanceof EtcdException
+                    && ((EtcdException) error).isErrorCode(INDEX_CLEARED)) {
+                final long reloaded = this.reload();
+                this.watch(Values.ZERO < reloaded ? reloaded + 1 : Values.ZERO);
+            } else {
+                LOGGER.warn(Info.WATCH_FAILURE, this.root, error.getMessage(), RETRY);
+                EXECUTOR.schedule(() -> this.watch(index), RETRY, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * @param key   node key such as /zero/{name}/{type}/services/{name}:{host}:{port}
+     * @param value node value, null means deleted
+     */
+    private void apply(final String key, final String value) {
+        if (null == key || !key.startsWith(this.root + Strings.SLASH)) {
+            return;
+        }
+        final String relative = key.substring(this.root.length() + 1);
+        final int slash = relative.indexOf(Strings.SLASH);
+        if (0 > slash) {
+            return;
+        }
+        final String type = relative.substring(0, slash);
+        final String service = relative.substring(slash + 1);
+        if (SERVICES.equals(type)) {
+            if (null != value && Etat.RUNNING == Ut.toEnum(Etat.class, value)) {
+                this.running.add(service);
+            } else {
+                this.running.remove(service);
+            }
+        } else if (ROUTES.equals(type)) {
+            final List<Record> records = Ut.isNil(value) ? null :
+                    Fn.getJvm(null, () -> this.builder.apply(service, new JsonArray(value)), value);
+            if (null == records) {
+                this.routes.remove(service);
+            } else {
+                this.routes.put(service, Collections.unmodifiableList(records));
+            }
+        }
+    }
+
+    private void publish(final long version) {
+        final List<List<Record>> services = new ArrayList<>();
+        this.running.forEach(service -> {
+            final List<Record> records = this.routes.get(service);
+            if (null != records) {
+                services.add(records);
+            }
+        });
+        this.snapshot = new Snapshot(version, services);
+    }
+}
@@ -1,23 +1,29 @@
 package io.vertx.up.micro.discovery;
 
+import io.vertx.core.json.JsonObject;
 import io.vertx.servicediscovery.Record;
 import io.vertx.servicediscovery.Status;
 import io.vertx.up.eon.em.EtcdPath;
-
-import java.util.concurrent.ConcurrentMap;
+import io.vertx.up.micro.center.ZeroRegistry;
 
 public class IpcOrigin extends ApiOrigin {
 
+    public IpcOrigin() {
+        super();
+    }
+
+    IpcOrigin(final ZeroRegistry registry) {
+        super(registry);
+    }
+
     @Override
-    public ConcurrentMap<String, Record> getRegistryData() {
-        final ConcurrentMap<String, Record> map = this.readData(EtcdPath.IPC);
-        for (final Record record : map.values()) {
-            record.setStatus(Status.UP);
-            record.setType("IPC");
-            // Alpn Enabled for Rpc, ssl must be true.
-            record.getLocation().put("ssl", Boolean.TRUE);
-        }
-        return map;
+    protected Record createRecord(final JsonObject item) {
+        final Record record = super.createRecord(item);
+        record.setStatus(Status.UP);
+        record.setType("IPC");
+        // Alpn Enabled for Rpc, ssl must be true.
+        record.getLocation().put("ssl", Boolean.TRUE);
+        return record;
     }
 
     @Override
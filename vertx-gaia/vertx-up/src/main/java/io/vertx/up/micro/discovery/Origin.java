@@ -24,6 +24,14 @@ public interface Origin {
      */
     ConcurrentMap<String, Record> getRegistryData();
 
+    /**
+     * Get registry snapshot maintained by etcd watching, the snapshot
+     * is immutable and it could be read without lock.
+     *
+     * @return Return current registry snapshot
+     */
+    Snapshot getSnapshot();
+
     /**
      * Erase record
      *
@@ -16,6 +16,7 @@ import io.vertx.ext.web.client.HttpRequest;
 import io.vertx.ext.web.client.WebClient;
 import io.vertx.servicediscovery.Record;
 import io.vertx.servicediscovery.ServiceDiscovery;
+import io.vertx.servicediscovery.ServiceDiscoveryOptions;
 import io.vertx.servicediscovery.ServiceReference;
 import io.vertx.servicediscovery.types.HttpEndpoint;
 import io.vertx.up.log.Annal;
@@ -23,12 +24,14 @@ import io.vertx.up.micro.discovery.multipart.Pipe;
 import io.vertx.up.micro.discovery.multipart.UploadPipe;
 import io.vertx.up.micro.matcher.Arithmetic;
 import io.vertx.up.micro.matcher.CommonArithmetic;
+import io.vertx.up.micro.matcher.RouteIndex;
 import io.vertx.zero.marshal.Visitor;
 import io.vertx.zero.micro.config.CircuitVisitor;
 import io.zero.epic.Ut;
 import io.zero.epic.fn.Fn;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 public class ServiceJet {
@@ -47,8 +50,11 @@ public class ServiceJet {
 
     private final transient Arithmetic arithmetic = Ut.singleton(CommonArithmetic.class);
     private final transient HttpServerOptions options;
+    /* Generation of discovery records, increased when any record announced */
+    private final transient AtomicLong generation = new AtomicLong();
     private transient ServiceDiscovery discovery;
     private transient CircuitBreaker breaker;
+    private transient volatile RouteIndex index;
 
     private ServiceJet(final HttpServerOptions options) {
         this.options = options;
@@ -62,6 +68,8 @@ public class ServiceJet {
         this.discovery = ServiceDiscovery.create(vertx);
         final String name = this.options.getHost() + this.options.getPort();
         this.breaker = CircuitBreaker.create(name, vertx, OPTIONS);
+        vertx.eventBus().consumer(ServiceDiscoveryOptions.DEFAULT_ANNOUNCE_ADDRESS,
+                message -> this.generation.incrementAndGet());
         return this;
     }
 
@@ -72,13 +80,30 @@ public class ServiceJet {
         return future;
     }
 
+    /*
+     * The route index will be rebuilt only when the records have been changed
+     * ( published, updated, removed ), otherwise the cached one is used.
+     */
+    private Future<RouteIndex> getIndex() {
+        final long version = this.generation.get();
+        final RouteIndex cached = this.index;
+        if (null != cached && version == cached.getVersion()) {
+            return Future.succeededFuture(cached);
+        }
+        return this.getEndPoints().compose(records -> {
+            final RouteIndex index = RouteIndex.create(version, records);
+            this.index = index;
+            return Future.succeededFuture(index);
+        });
+    }
+
     public Handler<RoutingContext> handle() {
         // Run with circuit breaker
-        return context -> this.breaker.execute(future -> this.getEndPoints().setHandler(res -> {
+        return context -> this.breaker.execute(future -> this.getIndex().setHandler(res -> {
             if (res.succeeded()) {
-                final List<Record> records = res.result();
+                final RouteIndex index = res.result();
                 // Find the record hitted. ( Include Path variable such as /xx/yy/:zz/:xy )
-                final Record hitted = this.arithmetic.search(records, context);
+                final Record hitted = this.arithmetic.search(index, context);
                 // Complete actions.
                 if (null == hitted) {
                     /**
@@ -95,6 +120,7 @@ public class ServiceJet {
                     // Set callback completer
                     final Consumer<Void> consumer = (nil) -> {
                         reference.release();    // release service reference
+                        this.arithmetic.release(hitted);    // release balancer
                         future.complete();      // execute future complete operation
                     };
                     /**
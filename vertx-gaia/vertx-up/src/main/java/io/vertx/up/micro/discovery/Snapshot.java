@@ -0,0 +1,69 @@
+package io.vertx.up.micro.discovery;
+
+import io.vertx.servicediscovery.Record;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registry data of one version ( etcd index ), it's immutable and will be
+ * replaced as a whole when etcd changed, so the readers ( Api Gateway, Ipc Client )
+ * could read it without any lock.
+ */
+public final class Snapshot {
+
+    private final transient long version;
+    /* id -> record */
+    private final transient Map<String, Record> records;
+    /* name -> path -> records */
+    private final transient Map<String, Map<String, List<Record>>> routes;
+
+    Snapshot(final long version, final Collection<List<Record>> services) {
+        this.version = version;
+        final Map<String, Record> records = new HashMap<>();
+        final Map<String, Map<String, List<Record>>> routes = new HashMap<>();
+        for (final List<Record> service : services) {
+            for (final Record record : service) {
+                records.put(record.getMetadata().getString(Origin.ID), record);
+                routes.computeIfAbsent(record.getName(), key -> new HashMap<>())
+                        .computeIfAbsent(record.getMetadata().getString(Origin.PATH), key -> new ArrayList<>())
+                        .add(record);
+            }
+        }
+        this.records = Collections.unmodifiableMap(records);
+        this.routes = routes;
+    }
+
+    public long getVersion() {
+        return this.version;
+    }
+
+    public Map<String, Record> getRecords() {
+        return this.records;
+    }
+
+    /**
+     * All the records that published the path of service.
+     *
+     * @param name service name
+     * @param path route path / ipc address
+     * @return records list, empty list when nothing found
+     */
+    public List<Record> getRecords(final String name, final String path) {
+        final Map<String, List<Record>> paths = this.routes.get(name);
+        if (null == paths) {
+            return Collections.emptyList();
+        }
+        final List<Record> records = paths.get(path);
+        return null == records ? Collections.emptyList() : Collections.unmodifiableList(records);
+    }
+
+    public Record find(final String name, final String path) {
+        final List<Record> records = this.getRecords(name, path);
+        return records.isEmpty() ? null : records.get(0);
+    }
+}
@@ -0,0 +1,10 @@
+package io.vertx.up.micro.discovery;
+
+interface Info {
+
+    String WATCH_LOADED = "[ ZERO ] ( Etcd Watcher ) The registry of {0} has been loaded, version = {1}, records = {2}.";
+
+    String WATCH_CHANGED = "[ ZERO ] ( Etcd Watcher ) The registry of {0} has been changed by {1} on {2}, version = {3}.";
+
+    String WATCH_FAILURE = "[ ZERO ] ( Etcd Watcher ) Watching {0} met failure: {1}, retry in {2}ms.";
+}
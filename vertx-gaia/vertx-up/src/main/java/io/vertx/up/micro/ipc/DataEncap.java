@@ -1,19 +1,26 @@
 package io.vertx.up.micro.ipc;
 
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.EnvelopBinaryCodec;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.auth.User;
 import io.vertx.servicediscovery.Record;
 import io.vertx.tp.ipc.eon.IpcEnvelop;
 import io.vertx.tp.ipc.eon.IpcRequest;
 import io.vertx.tp.ipc.eon.IpcResponse;
+import io.vertx.tp.ipc.eon.em.Compression;
 import io.vertx.tp.ipc.eon.em.Format;
 import io.vertx.up.atom.Envelop;
 import io.vertx.up.atom.flux.IpcData;
 import io.vertx.up.atom.hold.VirtualUser;
 import io.vertx.up.eon.em.IpcType;
+import io.vertx.up.exception._500InternalServerException;
 import io.vertx.up.log.Annal;
+import io.vertx.zero.marshal.node.Node;
+import io.vertx.zero.marshal.node.ZeroUniform;
 import io.zero.epic.Ut;
 import io.zero.epic.fn.Fn;
 
@@ -21,11 +28,50 @@ import io.zero.epic.fn.Fn;
  * Data serialization to set data
  * Envelop -> IpcData -> IpcRequest -> ...
  * IpcResponse -> IpcData -> Envelop
+ * The content of IpcEnvelop:
+ * 1. JSON without compression: body ( Compatible with old version )
+ * 2. Others: stream = [ compression ] + content, content is compressed only when
+ * the size reached threshold.
  */
 public class DataEncap {
 
     private static final Annal LOGGER = Annal.get(DataEncap.class);
 
+    private static final String RPC = "rpc";
+    private static final String FORMAT = "format";
+    private static final String COMPRESSION = "compression";
+    private static final String THRESHOLD = "threshold";
+    private static final String STREAM = "stream";
+    private static final int DEFAULT_THRESHOLD = 1024;
+    /* Default options from `rpc` node */
+    private static final JsonObject DEFAULTS = Fn.getJvm(new JsonObject(), () -> {
+        final Node<JsonObject> node = Ut.singleton(ZeroUniform.class);
+        final JsonObject config = node.read();
+        final JsonObject rpc = config.getJsonObject(RPC);
+        return null == rpc ? new JsonObject() : rpc;
+    });
+
+    /**
+     * Negotiate format / compression of ipc data, the options came from @Ipc or
+     * rpc client config, the missing ones will be read from `rpc` node.
+     *
+     * @param data    IpcData that will be sent
+     * @param options JsonObject of format, compression and threshold
+     */
+    public static void in(final IpcData data, final JsonObject options) {
+        final JsonObject merged = DEFAULTS.copy();
+        if (null != options) {
+            merged.mergeIn(options);
+        }
+        // XML is not supported, JSON instead
+        final Format format = Fn.getJvm(Format.JSON,
+                () -> Ut.toEnum(Format.class, merged.getString(FORMAT)), merged.getValue(FORMAT));
+        data.setFormat(Format.BINARY == format ? Format.BINARY : Format.JSON);
+        data.setCompression(Fn.getJvm(Compression.NONE,
+                () -> Ut.toEnum(Compression.class, merged.getString(COMPRESSION)), merged.getValue(COMPRESSION)));
+        data.setThreshold(merged.getInteger(THRESHOLD, DEFAULT_THRESHOLD));
+    }
+
     public static void in(final IpcData data, final Record record) {
         if (null != record) {
             data.setHost(record.getLocation().getString("host"));
@@ -53,9 +99,15 @@ public class DataEncap {
             final Object content = envelop.data();
             sendData.put("data", content);
             sendData.put("config", data.getConfig());
+            // Stream: no request fields to carry compression, put it into header
+            if (IpcType.UNITY != data.getType()) {
+                sendData.put(STREAM, new JsonObject()
+                        .put(COMPRESSION, data.getCompression().name())
+                        .put(THRESHOLD, data.getThreshold()));
+            }
             // Data Prepared finished.
             sendData.put("address", data.getAddress());
-            data.setData(sendData.toBuffer());
+            data.setData(encode(sendData, data.getFormat()));
         }
     }
 
@@ -64,11 +116,12 @@ public class DataEncap {
      * @return
      */
     public static IpcRequest in(final IpcData data) {
-        final IpcEnvelop envelop = IpcEnvelop.newBuilder()
-                .setBody(data.getData().toString())
-                .setType(Format.JSON).build();
+        // The response will be replied with the same format / compression
         return IpcRequest.newBuilder()
-                .setEnvelop(envelop)
+                .setEnvelop(envelop(data))
+                .setResponseFormat(data.getFormat())
+                .setAlgorithm(data.getCompression())
+                .setResponseSize(data.getThreshold())
                 .build();
     }
 
@@ -79,17 +132,38 @@ public class DataEncap {
      * @param type
      */
     public static IpcData consume(final IpcRequest request, final IpcType type) {
+        final IpcData ipcData = consume(request.getEnvelop(), type);
+        // Negotiated by client
+        ipcData.setCompression(request.getAlgorithm());
+        ipcData.setThreshold(request.getResponseSize());
+        return ipcData;
+    }
+
+    /**
+     * Header of stream, the first message sent by client.
+     *
+     * @param envelop
+     * @param type
+     */
+    public static IpcData consume(final IpcEnvelop envelop, final IpcType type) {
         final IpcData ipcData = new IpcData();
-        final IpcEnvelop envelop = request.getEnvelop();
-        final String data = envelop.getBody();
-        final JsonObject json = new JsonObject(data);
+        final Format format = Format.BINARY == envelop.getType() ? Format.BINARY : Format.JSON;
+        final Buffer data = payload(envelop);
+        final JsonObject json = decode(data, format);
         // Address convert
         if (json.containsKey("address")) {
             ipcData.setAddress(json.getString("address"));
             json.remove("address");
         }
-        ipcData.setData(Buffer.buffer(data));
+        ipcData.setData(data);
         ipcData.setType(type);
+        ipcData.setFormat(format);
+        final JsonObject stream = json.getJsonObject(STREAM);
+        if (null != stream) {
+            ipcData.setCompression(Fn.getJvm(Compression.NONE,
+                    () -> Ut.toEnum(Compression.class, stream.getString(COMPRESSION)), stream.getValue(COMPRESSION)));
+            ipcData.setThreshold(stream.getInteger(THRESHOLD, DEFAULT_THRESHOLD));
+        }
         return ipcData;
     }
 
@@ -100,16 +174,12 @@ public class DataEncap {
      * @return
      */
     public static Envelop consume(final IpcData data) {
-        final JsonObject json = data.getData().toJsonObject();
+        final JsonObject json = decode(data.getData(), data.getFormat());
         return build(json);
     }
 
     public static IpcResponse out(final IpcData data) {
-        final IpcEnvelop result = IpcEnvelop.newBuilder()
-                .setBody(data.getData().toString())
-                .setType(Format.JSON)
-                .build();
-        return IpcResponse.newBuilder().setEnvelop(result).build();
+        return IpcResponse.newBuilder().setEnvelop(envelop(data)).build();
     }
 
     private static Envelop build(final JsonObject json) {
@@ -145,8 +215,68 @@ public class DataEncap {
     }
 
     public static JsonObject outJson(final IpcResponse data) {
-        final String json = data.getEnvelop().getBody();
-        return Fn.getSemi(Ut.notNil(json), LOGGER,
-                () -> new JsonObject(json));
+        final IpcEnvelop envelop = data.getEnvelop();
+        final Buffer content = payload(envelop);
+        return Fn.getSemi(0 < content.length(), LOGGER,
+                () -> decode(content, envelop.getType()));
+    }
+
+    private static Buffer encode(final JsonObject json, final Format format) {
+        return Format.BINARY == format ? EnvelopBinaryCodec.toBuffer(json) : json.toBuffer();
+    }
+
+    private static JsonObject decode(final Buffer data, final Format format) {
+        return Format.BINARY == format ? EnvelopBinaryCodec.fromBuffer(data) : data.toJsonObject();
+    }
+
+    /**
+     * Item of stream, encoded with the format / compression of stream.
+     *
+     * @param item stream item
+     * @param data negotiated data
+     * @return IpcEnvelop
+     */
+    public static IpcEnvelop envelop(final JsonObject item, final IpcData data) {
+        return envelop(encode(item, data.getFormat()), data);
+    }
+
+    public static IpcEnvelop envelop(final IpcData data) {
+        return envelop(data.getData(), data);
+    }
+
+    public static JsonObject item(final IpcEnvelop envelop) {
+        return decode(payload(envelop), envelop.getType());
+    }
+
+    private static IpcEnvelop envelop(final Buffer content, final IpcData data) {
+        final Format format = data.getFormat();
+        final Compression compression = (Compression.GZIP == data.getCompression()
+                || Compression.DEFLATE == data.getCompression())
+                && content.length() >= data.getThreshold() ? data.getCompression() : Compression.NONE;
+        final IpcEnvelop.Builder builder = IpcEnvelop.newBuilder().setType(format);
+        if (Format.JSON == format && Compression.NONE == compression) {
+            builder.setBody(content.toString());
+        } else {
+            final byte[] zipped = DataZip.zip(compression, content.getBytes());
+            final byte[] stream = new byte[zipped.length + 1];
+            stream[0] = (byte) compression.getNumber();
+            System.arraycopy(zipped, 0, stream, 1, zipped.length);
+            // The array is not shared, wrap it without copy
+            builder.setStream(UnsafeByteOperations.unsafeWrap(stream));
+        }
+        return builder.build();
+    }
+
+    private static Buffer payload(final IpcEnvelop envelop) {
+        final ByteString stream = envelop.getStream();
+        if (stream.isEmpty()) {
+            return Buffer.buffer(envelop.getBody());
+        }
+        final Compression compression = Compression.forNumber(stream.byteAt(0));
+        if (null == compression) {
+            throw new _500InternalServerException(DataEncap.class,
+                    "Unsupported compression of ipc stream: " + stream.byteAt(0));
+        }
+        return Buffer.buffer(DataZip.unzip(compression, stream.substring(1).toByteArray()));
     }
 }
@@ -0,0 +1,57 @@
+package io.vertx.up.micro.ipc;
+
+import io.vertx.tp.ipc.eon.em.Compression;
+import io.vertx.up.exception._500InternalServerException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Compression of ipc stream content
+ * 1. GZIP: gzip stream
+ * 2. DEFLATE: zlib stream
+ */
+class DataZip {
+
+    private static final int BUFFER = 4096;
+
+    static byte[] zip(final Compression compression, final byte[] input) {
+        if (Compression.GZIP != compression && Compression.DEFLATE != compression) {
+            return input;
+        }
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2 + 16);
+        try (final OutputStream zip = Compression.GZIP == compression ?
+                new GZIPOutputStream(out, BUFFER) : new DeflaterOutputStream(out)) {
+            zip.write(input);
+        } catch (final IOException ex) {
+            throw new _500InternalServerException(DataZip.class, ex.getMessage());
+        }
+        return out.toByteArray();
+    }
+
+    static byte[] unzip(final Compression compression, final byte[] input) {
+        if (Compression.GZIP != compression && Compression.DEFLATE != compression) {
+            return input;
+        }
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 4);
+        try (final InputStream zip = Compression.GZIP == compression ?
+                new GZIPInputStream(new ByteArrayInputStream(input), BUFFER) :
+                new InflaterInputStream(new ByteArrayInputStream(input))) {
+            final byte[] buffer = new byte[BUFFER];
+            int read;
+            while (0 < (read = zip.read(buffer))) {
+                out.write(buffer, 0, read);
+            }
+        } catch (final IOException ex) {
+            throw new _500InternalServerException(DataZip.class, ex.getMessage());
+        }
+        return out.toByteArray();
+    }
+}
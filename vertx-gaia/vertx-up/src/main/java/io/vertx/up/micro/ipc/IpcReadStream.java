@@ -0,0 +1,179 @@
+package io.vertx.up.micro.ipc;
+
+import io.grpc.stub.CallStreamObserver;
+import io.vertx.core.Handler;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Function;
+
+/**
+ * ReadStream on top of grpc inbound flow control ( auto inbound flow control disabled ).
+ * 1. `prefetch` messages will be requested when the handler has been set.
+ * 2. One more message will be requested only when the previous one has been handled,
+ * so that at most `prefetch` messages are buffered when the stream is paused.
+ *
+ * @param <M> grpc message type
+ */
+public class IpcReadStream<M> implements ReadStream<JsonObject> {
+
+    public static final int PREFETCH = 16;
+
+    private final transient Function<M, JsonObject> decoder;
+    private final transient int prefetch;
+    private final transient Deque<JsonObject> pending = new ArrayDeque<>();
+    private transient CallStreamObserver<?> call;
+    private transient Handler<JsonObject> handler;
+    private transient Handler<Void> endHandler;
+    private transient Handler<Void> doneHandler;
+    private transient Handler<Throwable> exceptionHandler;
+    private transient long demand = Long.MAX_VALUE;
+    private transient long received;
+    private transient boolean started;
+    private transient boolean ended;
+    private transient boolean finished;
+    private transient boolean draining;
+
+    public IpcReadStream(final Function<M, JsonObject> decoder) {
+        this(decoder, PREFETCH);
+    }
+
+    public IpcReadStream(final Function<M, JsonObject> decoder, final int prefetch) {
+        this.decoder = decoder;
+        this.prefetch = prefetch;
+    }
+
+    /**
+     * Bind the call that requests messages, it's server call observer for server or
+     * the request observer for client.
+     *
+     * @param call grpc call observer
+     * @return current stream
+     */
+    public synchronized IpcReadStream<M> connect(final CallStreamObserver<?> call) {
+        this.call = call;
+        return this;
+    }
+
+    /**
+     * Called after the user's end handler, it's used by tunnel to reply aggregated size.
+     *
+     * @param doneHandler internal end handler
+     * @return current stream
+     */
+    public synchronized IpcReadStream<M> doneHandler(final Handler<Void> doneHandler) {
+        this.doneHandler = doneHandler;
+        return this;
+    }
+
+    /**
+     * @return messages that have been handled
+     */
+    public synchronized long received() {
+        return this.received;
+    }
+
+    // ------------------ Grpc Side ------------------
+
+    public synchronized void onNext(final M message) {
+        this.pending.add(this.decoder.apply(message));
+        this.drain();
+    }
+
+    public synchronized void onError(final Throwable error) {
+        this.finished = true;
+        this.pending.clear();
+        if (null != this.exceptionHandler) {
+            this.exceptionHandler.handle(error);
+        }
+    }
+
+    public synchronized void onCompleted() {
+        this.ended = true;
+        this.drain();
+    }
+
+    // ------------------ Vert.x Side ------------------
+
+    @Override
+    public synchronized IpcReadStream<M> exceptionHandler(final Handler<Throwable> handler) {
+        this.exceptionHandler = handler;
+        return this;
+    }
+
+    @Override
+    public synchronized IpcReadStream<M> handler(final Handler<JsonObject> handler) {
+        this.handler = handler;
+        if (null != handler && !this.started) {
+            this.started = true;
+            this.request(this.prefetch);
+        }
+        this.drain();
+        return this;
+    }
+
+    @Override
+    public synchronized IpcReadStream<M> pause() {
+        this.demand = 0L;
+        return this;
+    }
+
+    @Override
+    public synchronized IpcReadStream<M> resume() {
+        return this.fetch(Long.MAX_VALUE);
+    }
+
+    @Override
+    public synchronized IpcReadStream<M> fetch(final long amount) {
+        if (0 < amount) {
+            this.demand = Long.MAX_VALUE - this.demand > amount ? this.demand + amount : Long.MAX_VALUE;
+            this.drain();
+        }
+        return this;
+    }
+
+    @Override
+    public synchronized IpcReadStream<M> endHandler(final Handler<Void> endHandler) {
+        this.endHandler = endHandler;
+        return this;
+    }
+
+    private void request(final int amount) {
+        if (null != this.call && !this.finished) {
+            this.call.request(amount);
+        }
+    }
+
+    private void drain() {
+        if (this.draining) {
+            // The handler called pause / resume / fetch
+            return;
+        }
+        this.draining = true;
+        try {
+            while (0 < this.demand && null != this.handler && !this.pending.isEmpty()) {
+                final JsonObject item = this.pending.poll();
+                if (Long.MAX_VALUE != this.demand) {
+                    this.demand--;
+                }
+                this.received++;
+                this.handler.handle(item);
+                // Credit returned after handled
+                this.request(1);
+            }
+            if (this.ended && this.pending.isEmpty() && !this.finished) {
+                this.finished = true;
+                if (null != this.endHandler) {
+                    this.endHandler.handle(null);
+                }
+                if (null != this.doneHandler) {
+                    this.doneHandler.handle(null);
+                }
+            }
+        } finally {
+            this.draining = false;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package io.vertx.up.micro.ipc;
+
+import io.grpc.Status;
+import io.grpc.stub.CallStreamObserver;
+import io.vertx.core.Handler;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.WriteStream;
+
+import java.util.function.Function;
+
+/**
+ * WriteStream on top of grpc outbound flow control, the write queue is full when the
+ * grpc call is not ready ( transport buffer reached ), drain handler will be called
+ * in onReady of grpc call. The queue size is managed by grpc ( 32k ) instead of
+ * setWriteQueueMaxSize.
+ *
+ * @param <M> grpc message type
+ */
+public class IpcWriteStream<M> implements WriteStream<JsonObject> {
+
+    private final transient CallStreamObserver<M> call;
+    private final transient Function<JsonObject, M> encoder;
+    private transient Handler<Void> drainHandler;
+    private transient Handler<Throwable> exceptionHandler;
+    private transient boolean ended;
+
+    /**
+     * Must be created before the grpc call started ( beforeStart of client or the
+     * initial call of server ), onReady handler could not be set after that.
+     *
+     * @param call    grpc call observer
+     * @param encoder item encoder
+     */
+    public IpcWriteStream(final CallStreamObserver<M> call,
+                          final Function<JsonObject, M> encoder) {
+        this.call = call;
+        this.encoder = encoder;
+        call.setOnReadyHandler(this::ready);
+    }
+
+    @Override
+    public synchronized IpcWriteStream<M> exceptionHandler(final Handler<Throwable> handler) {
+        this.exceptionHandler = handler;
+        return this;
+    }
+
+    @Override
+    public synchronized IpcWriteStream<M> write(final JsonObject item) {
+        if (!this.ended) {
+            try {
+                this.call.onNext(this.encoder.apply(item));
+            } catch (final RuntimeException ex) {
+                this.fail(ex);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public synchronized void end() {
+        if (!this.ended) {
+            this.ended = true;
+            this.call.onCompleted();
+        }
+    }
+
+    /**
+     * Terminate the stream with error, the other side will receive it in exception handler.
+     *
+     * @param error failure
+     */
+    public synchronized void fail(final Throwable error) {
+        if (!this.ended) {
+            this.ended = true;
+            this.call.onError(Status.INTERNAL.withDescription(error.getMessage())
+                    .withCause(error).asRuntimeException());
+            if (null != this.exceptionHandler) {
+                this.exceptionHandler.handle(error);
+            }
+        }
+    }
+
+    @Override
+    public IpcWriteStream<M> setWriteQueueMaxSize(final int maxSize) {
+        return this;
+    }
+
+    @Override
+    public boolean writeQueueFull() {
+        return !this.call.isReady();
+    }
+
+    @Override
+    public synchronized IpcWriteStream<M> drainHandler(final Handler<Void> handler) {
+        this.drainHandler = handler;
+        return this;
+    }
+
+    private void ready() {
+        final Handler<Void> handler;
+        synchronized (this) {
+            handler = this.drainHandler;
+        }
+        if (null != handler && this.call.isReady()) {
+            handler.handle(null);
+        }
+    }
+}
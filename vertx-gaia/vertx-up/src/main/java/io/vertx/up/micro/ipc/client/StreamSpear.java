@@ -0,0 +1,171 @@
+package io.vertx.up.micro.ipc.client;
+
+import io.grpc.Channel;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.Pump;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.tp.ipc.eon.StreamClientRequest;
+import io.vertx.tp.ipc.eon.StreamClientResponse;
+import io.vertx.tp.ipc.eon.StreamServerRequest;
+import io.vertx.tp.ipc.eon.StreamServerResponse;
+import io.vertx.tp.ipc.service.ConsumeServiceGrpc;
+import io.vertx.tp.ipc.service.DupliexServiceGrpc;
+import io.vertx.tp.ipc.service.ProduceServiceGrpc;
+import io.vertx.up.atom.flux.IpcData;
+import io.vertx.up.micro.ipc.DataEncap;
+import io.vertx.up.micro.ipc.IpcReadStream;
+import io.vertx.up.micro.ipc.IpcWriteStream;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Stream calls, the first message is header built from IpcData, the items are
+ * transferred with grpc flow control:
+ * 1. Inbound: messages are requested only when the ReadStream consumed them.
+ * 2. Outbound: the source ReadStream will be paused when grpc call is not ready.
+ */
+public class StreamSpear {
+
+    private final transient Channel channel;
+
+    private StreamSpear(final Channel channel) {
+        this.channel = channel;
+    }
+
+    public static StreamSpear create(final Channel channel) {
+        return new StreamSpear(channel);
+    }
+
+    /**
+     * Server -> Client
+     *
+     * @param data header
+     * @return items from server
+     */
+    public ReadStream<JsonObject> consume(final IpcData data) {
+        final IpcReadStream<StreamServerResponse> in =
+                new IpcReadStream<>(response -> DataEncap.item(response.getEnvelop()));
+        final StreamObserver<StreamServerRequest> requests = ConsumeServiceGrpc.newStub(this.channel)
+                .outputCall(new ClientResponseObserver<StreamServerRequest, StreamServerResponse>() {
+                    @Override
+                    public void beforeStart(final ClientCallStreamObserver<StreamServerRequest> call) {
+                        call.disableAutoInboundFlowControl();
+                        in.connect(call);
+                    }
+
+                    @Override
+                    public void onNext(final StreamServerResponse response) {
+                        in.onNext(response);
+                    }
+
+                    @Override
+                    public void onError(final Throwable error) {
+                        in.onError(error);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        in.onCompleted();
+                    }
+                });
+        requests.onNext(StreamServerRequest.newBuilder()
+                .setEnvelop(DataEncap.envelop(data))
+                .setResponseType(data.getFormat())
+                .setAlgorithm(data.getCompression()).build());
+        requests.onCompleted();
+        return in;
+    }
+
+    /**
+     * Client -> Server
+     *
+     * @param data   header
+     * @param source items that will be sent to server
+     * @return aggregated size that server consumed
+     */
+    public Future<Integer> produce(final IpcData data, final ReadStream<JsonObject> source) {
+        final Future<Integer> result = Future.future();
+        final AtomicInteger size = new AtomicInteger();
+        final AtomicReference<IpcWriteStream<StreamClientRequest>> out = new AtomicReference<>();
+        final StreamObserver<StreamClientRequest> requests = ProduceServiceGrpc.newStub(this.channel)
+                .inputCall(new ClientResponseObserver<StreamClientRequest, StreamClientResponse>() {
+                    @Override
+                    public void beforeStart(final ClientCallStreamObserver<StreamClientRequest> call) {
+                        out.set(new IpcWriteStream<>(call, item -> request(item, data)));
+                    }
+
+                    @Override
+                    public void onNext(final StreamClientResponse response) {
+                        size.set(response.getAggregatedSize());
+                    }
+
+                    @Override
+                    public void onError(final Throwable error) {
+                        result.tryFail(error);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        result.tryComplete(size.get());
+                    }
+                });
+        requests.onNext(StreamClientRequest.newBuilder().setEnvelop(DataEncap.envelop(data)).build());
+        this.pipe(source, out.get());
+        return result;
+    }
+
+    /**
+     * Client -> Server -> Client
+     *
+     * @param data   header
+     * @param source items that will be sent to server
+     * @return items from server
+     */
+    public ReadStream<JsonObject> dupliex(final IpcData data, final ReadStream<JsonObject> source) {
+        final IpcReadStream<StreamServerResponse> in =
+                new IpcReadStream<>(response -> DataEncap.item(response.getEnvelop()));
+        final AtomicReference<IpcWriteStream<StreamClientRequest>> out = new AtomicReference<>();
+        final StreamObserver<StreamClientRequest> requests = DupliexServiceGrpc.newStub(this.channel)
+                .dupliexCall(new ClientResponseObserver<StreamClientRequest, StreamServerResponse>() {
+                    @Override
+                    public void beforeStart(final ClientCallStreamObserver<StreamClientRequest> call) {
+                        call.disableAutoInboundFlowControl();
+                        in.connect(call);
+                        out.set(new IpcWriteStream<>(call, item -> request(item, data)));
+                    }
+
+                    @Override
+                    public void onNext(final StreamServerResponse response) {
+                        in.onNext(response);
+                    }
+
+                    @Override
+                    public void onError(final Throwable error) {
+                        in.onError(error);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        in.onCompleted();
+                    }
+                });
+        requests.onNext(StreamClientRequest.newBuilder().setEnvelop(DataEncap.envelop(data)).build());
+        this.pipe(source, out.get());
+        return in;
+    }
+
+    private static StreamClientRequest request(final JsonObject item, final IpcData data) {
+        return StreamClientRequest.newBuilder().setEnvelop(DataEncap.envelop(item, data)).build();
+    }
+
+    private void pipe(final ReadStream<JsonObject> source, final IpcWriteStream<StreamClientRequest> out) {
+        source.endHandler(nil -> out.end());
+        source.exceptionHandler(out::fail);
+        Pump.pump(source, out).start();
+    }
+}
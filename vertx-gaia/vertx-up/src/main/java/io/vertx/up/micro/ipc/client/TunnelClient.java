@@ -2,6 +2,8 @@ package io.vertx.up.micro.ipc.client;
 
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.servicediscovery.Record;
 import io.vertx.up.annotations.Ipc;
 import io.vertx.up.atom.Envelop;
@@ -13,15 +15,14 @@ import io.vertx.up.log.Annal;
 import io.vertx.up.micro.discovery.IpcOrigin;
 import io.vertx.up.micro.discovery.Origin;
 import io.vertx.up.micro.ipc.DataEncap;
+import io.vertx.up.plugin.rpc.RpcSslTool;
 import io.zero.epic.Ut;
 import io.zero.epic.fn.Fn;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
-import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.stream.Collectors;
 
 /**
  * Rpc client, scanned etcd to getNull configuration.
@@ -32,10 +33,8 @@ public class TunnelClient {
     private static final ConcurrentMap<IpcType, Spear> STUBS =
             new ConcurrentHashMap<IpcType, Spear>() {
                 {
+                    // Stream types: consume / produce / dupliex by StreamSpear
                     this.put(IpcType.UNITY, Ut.singleton(UnitySpear.class));
-                    // put(IpcType.CONSUME, Ut.singleton(ConsumeStub.class));
-                    // put(IpcType.DUPLIEX, Ut.singleton(DupliexStub.class));
-                    // put(IpcType.PRODUCE, Ut.singleton(ProduceStub.class));
                 }
             };
     private final transient Annal logger;
@@ -61,21 +60,79 @@ public class TunnelClient {
     }
 
     public Future<Envelop> send(final Envelop envelop) {
+        final IpcType type = this.getValue("type");
+        final IpcData data = this.getData(envelop, type);
+        // 5. Stub
+        final Spear stub = STUBS.getOrDefault(type, Ut.singleton(UnitySpear.class));
+        return stub.send(this.vertx, data);
+    }
+
+    /**
+     * Server -> Client, the items will be requested from server only when consumed.
+     *
+     * @param envelop header
+     * @return items from server
+     */
+    public ReadStream<JsonObject> consume(final Envelop envelop) {
+        final IpcData data = this.getData(envelop, IpcType.CONSUME);
+        return this.getSpear(data).consume(data);
+    }
+
+    /**
+     * Client -> Server, the source will be paused when server does not request more.
+     *
+     * @param envelop header
+     * @param source  items that will be sent to server
+     * @return aggregated size that server consumed
+     */
+    public Future<Integer> produce(final Envelop envelop, final ReadStream<JsonObject> source) {
+        final IpcData data = this.getData(envelop, IpcType.PRODUCE);
+        return this.getSpear(data).produce(data, source);
+    }
+
+    /**
+     * Client -> Server -> Client
+     *
+     * @param envelop header
+     * @param source  items that will be sent to server
+     * @return items from server
+     */
+    public ReadStream<JsonObject> dupliex(final Envelop envelop, final ReadStream<JsonObject> source) {
+        final IpcData data = this.getData(envelop, IpcType.DUPLIEX);
+        return this.getSpear(data).dupliex(data, source);
+    }
+
+    private IpcData getData(final Envelop envelop, final IpcType type) {
         // 1. Extract address
         final String address = this.getValue("to");
-        final IpcType type = this.getValue("type");
         // 2. Record extract
         final Record record = this.findTarget();
         // 3. Convert IpcData
         final IpcData data = new IpcData();
         data.setType(type);
         data.setAddress(address);
-        // 4. In data
+        // 4. In data, format / compression of @Ipc first
         DataEncap.in(data, record);
+        DataEncap.in(data, this.getOptions());
         DataEncap.in(data, envelop);
-        // 5. Stub
-        final Spear stub = STUBS.getOrDefault(type, Ut.singleton(UnitySpear.class));
-        return stub.send(this.vertx, data);
+        return data;
+    }
+
+    private StreamSpear getSpear(final IpcData data) {
+        return StreamSpear.create(RpcSslTool.getChannel(this.vertx, data));
+    }
+
+    private JsonObject getOptions() {
+        final JsonObject options = new JsonObject();
+        final String format = this.getValue("format");
+        if (Ut.notNil(format)) {
+            options.put("format", format);
+        }
+        final String compression = this.getValue("compression");
+        if (Ut.notNil(compression)) {
+            options.put("compression", compression);
+        }
+        return options;
     }
 
     private <T> T getValue(final String attr) {
@@ -86,19 +143,16 @@ public class TunnelClient {
     /**
      * Here's the logical of current IPC
      * 1. The address contains all the etcd address that published
+     * 2. Read from registry snapshot without any etcd request
      *
      * @return Found record for IPC
      */
     @SuppressWarnings("all")
     private Record findTarget() {
-        final ConcurrentMap<String, Record> address = ORIGIN.getRegistryData();
         final String target = this.getValue("to");
         final String name = this.getValue("name");
-        // 1. Find service names
-        final List<Record> records = this.findRecords();
-        final Record record = records.stream().filter(item ->
-                target.equals(item.getMetadata().getString("path")))
-                .findAny().orElse(null);
+        // 1. Find service by name and address
+        final Record record = ORIGIN.getSnapshot().find(name, target);
         // Service Name
         Fn.outWeb(null == record, this.logger,
                 _501RpcImplementException.class, this.getClass(),
@@ -111,13 +165,4 @@ public class TunnelClient {
         this.logger.info(Info.RECORD_FOUND, record.toJson());
         return record;
     }
-
-    private List<Record> findRecords() {
-        final ConcurrentMap<String, Record> address = ORIGIN.getRegistryData();
-        final String name = this.getValue("name");
-        // Find service records
-        return address.values().stream()
-                .filter(item -> name.equals(item.getName()))
-                .collect(Collectors.toList());
-    }
 }
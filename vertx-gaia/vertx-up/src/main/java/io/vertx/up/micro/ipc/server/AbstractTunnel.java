@@ -0,0 +1,61 @@
+package io.vertx.up.micro.ipc.server;
+
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import io.vertx.up.atom.Envelop;
+import io.vertx.up.atom.flux.IpcData;
+import io.vertx.up.exception._501RpcMethodMissingException;
+import io.vertx.up.log.Annal;
+import io.vertx.up.micro.ipc.DataEncap;
+import io.zero.epic.Ut;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+/**
+ * Stream tunnels, the first message sent by client is header ( address, user, headers
+ * and parameters ), the @Ipc method will be called with header and streams:
+ * 1. CONSUME: ( Envelop, WriteStream<JsonObject> )
+ * 2. PRODUCE: ( Envelop, ReadStream<JsonObject> )
+ * 3. DUPLIEX: ( Envelop, ReadStream<JsonObject>, WriteStream<JsonObject> )
+ */
+public abstract class AbstractTunnel implements Tunnel {
+
+    private final transient Annal logger = Annal.get(this.getClass());
+
+    void invoke(final IpcData data,
+                final StreamObserver<?> call,
+                final Function<Envelop, Object[]> args) {
+        final Method method = this.find(data.getAddress());
+        if (null == method) {
+            final _501RpcMethodMissingException error =
+                    new _501RpcMethodMissingException(this.getClass(), data.getAddress());
+            call.onError(Status.UNIMPLEMENTED.withDescription(error.getMessage()).asRuntimeException());
+            return;
+        }
+        this.logger.info(Info.NODE_STREAM, data.getType(), method, method.getDeclaringClass());
+        final Envelop header = DataEncap.consume(data);
+        try {
+            final Object proxy = Ut.singleton(method.getDeclaringClass());
+            method.invoke(proxy, args.apply(header));
+        } catch (final InvocationTargetException ex) {
+            this.fail(call, ex.getTargetException());
+        } catch (final ReflectiveOperationException | RuntimeException ex) {
+            this.fail(call, ex);
+        }
+    }
+
+    /**
+     * @param address ipc address
+     * @return @Ipc method of address, null when missing
+     */
+    protected Method find(final String address) {
+        return IPCS.get(address);
+    }
+
+    private void fail(final StreamObserver<?> call, final Throwable error) {
+        this.logger.jvm(error);
+        call.onError(Status.INTERNAL.withDescription(error.getMessage()).asRuntimeException());
+    }
+}
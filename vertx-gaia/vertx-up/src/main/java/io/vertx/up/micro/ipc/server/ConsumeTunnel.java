@@ -0,0 +1,62 @@
+package io.vertx.up.micro.ipc.server;
+
+import io.grpc.BindableService;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import io.vertx.core.Vertx;
+import io.vertx.tp.ipc.eon.StreamServerRequest;
+import io.vertx.tp.ipc.eon.StreamServerResponse;
+import io.vertx.tp.ipc.service.ConsumeServiceGrpc;
+import io.vertx.up.atom.flux.IpcData;
+import io.vertx.up.eon.em.IpcType;
+import io.vertx.up.log.Annal;
+import io.vertx.up.micro.ipc.DataEncap;
+import io.vertx.up.micro.ipc.IpcWriteStream;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Consume tunnel: Server -> Client
+ * The method writes items into WriteStream, the writing should be paused when the
+ * write queue is full ( client does not request more ).
+ */
+public class ConsumeTunnel extends AbstractTunnel {
+
+    private static final Annal LOGGER = Annal.get(ConsumeTunnel.class);
+
+    @Override
+    public BindableService init(final Vertx vertx) {
+        return new ConsumeServiceGrpc.ConsumeServiceImplBase() {
+            @Override
+            public StreamObserver<StreamServerRequest> outputCall(
+                    final StreamObserver<StreamServerResponse> observer) {
+                final ServerCallStreamObserver<StreamServerResponse> call =
+                        (ServerCallStreamObserver<StreamServerResponse>) observer;
+                final AtomicReference<IpcData> header = new AtomicReference<>();
+                final IpcWriteStream<StreamServerResponse> out = new IpcWriteStream<>(call,
+                        item -> StreamServerResponse.newBuilder()
+                                .setEnvelop(DataEncap.envelop(item, header.get())).build());
+                return new StreamObserver<StreamServerRequest>() {
+                    @Override
+                    public void onNext(final StreamServerRequest request) {
+                        if (null == header.get()) {
+                            final IpcData data = DataEncap.consume(request.getEnvelop(), IpcType.CONSUME);
+                            header.set(data);
+                            ConsumeTunnel.this.invoke(data, call, envelop -> new Object[]{envelop, out});
+                        }
+                    }
+
+                    @Override
+                    public void onError(final Throwable error) {
+                        LOGGER.warn(Info.STREAM_FAILURE, IpcType.CONSUME, error.getMessage());
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        // Client sent header only
+                    }
+                };
+            }
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package io.vertx.up.micro.ipc.server;
+
+import io.grpc.BindableService;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import io.vertx.core.Vertx;
+import io.vertx.tp.ipc.eon.StreamClientRequest;
+import io.vertx.tp.ipc.eon.StreamServerResponse;
+import io.vertx.tp.ipc.service.DupliexServiceGrpc;
+import io.vertx.up.atom.flux.IpcData;
+import io.vertx.up.eon.em.IpcType;
+import io.vertx.up.micro.ipc.DataEncap;
+import io.vertx.up.micro.ipc.IpcReadStream;
+import io.vertx.up.micro.ipc.IpcWriteStream;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Dupliex tunnel: Client -> Server -> Client
+ * Both directions are flow controlled, it's usually piped from ReadStream to WriteStream.
+ */
+public class DupliexTunnel extends AbstractTunnel {
+
+    @Override
+    public BindableService init(final Vertx vertx) {
+        return new DupliexServiceGrpc.DupliexServiceImplBase() {
+            @Override
+            public StreamObserver<StreamClientRequest> dupliexCall(
+                    final StreamObserver<StreamServerResponse> observer) {
+                final ServerCallStreamObserver<StreamServerResponse> call =
+                        (ServerCallStreamObserver<StreamServerResponse>) observer;
+                call.disableAutoInboundFlowControl();
+                final AtomicReference<IpcData> header = new AtomicReference<>();
+                final IpcReadStream<StreamClientRequest> in = new IpcReadStream<StreamClientRequest>(
+                        request -> DataEncap.item(request.getEnvelop())).connect(call);
+                final IpcWriteStream<StreamServerResponse> out = new IpcWriteStream<>(call,
+                        item -> StreamServerResponse.newBuilder()
+                                .setEnvelop(DataEncap.envelop(item, header.get())).build());
+                // Header
+                call.request(1);
+                return new StreamObserver<StreamClientRequest>() {
+                    @Override
+                    public void onNext(final StreamClientRequest request) {
+                        if (null == header.get()) {
+                            final IpcData data = DataEncap.consume(request.getEnvelop(), IpcType.DUPLIEX);
+                            header.set(data);
+                            DupliexTunnel.this.invoke(data, call, envelop -> new Object[]{envelop, in, out});
+                        } else {
+                            in.onNext(request);
+                        }
+                    }
+
+                    @Override
+                    public void onError(final Throwable error) {
+                        in.onError(error);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        in.onCompleted();
+                    }
+                };
+            }
+        };
+    }
+}
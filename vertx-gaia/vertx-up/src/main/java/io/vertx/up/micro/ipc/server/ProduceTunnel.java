@@ -0,0 +1,67 @@
+package io.vertx.up.micro.ipc.server;
+
+import io.grpc.BindableService;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import io.vertx.core.Vertx;
+import io.vertx.tp.ipc.eon.StreamClientRequest;
+import io.vertx.tp.ipc.eon.StreamClientResponse;
+import io.vertx.tp.ipc.service.ProduceServiceGrpc;
+import io.vertx.up.atom.flux.IpcData;
+import io.vertx.up.eon.em.IpcType;
+import io.vertx.up.micro.ipc.DataEncap;
+import io.vertx.up.micro.ipc.IpcReadStream;
+
+/**
+ * Produce tunnel: Client -> Server
+ * The method reads items from ReadStream, the client will not send more when the
+ * stream is paused. The aggregated size will be replied when the stream ended.
+ */
+public class ProduceTunnel extends AbstractTunnel {
+
+    @Override
+    public BindableService init(final Vertx vertx) {
+        return new ProduceServiceGrpc.ProduceServiceImplBase() {
+            @Override
+            public StreamObserver<StreamClientRequest> inputCall(
+                    final StreamObserver<StreamClientResponse> observer) {
+                final ServerCallStreamObserver<StreamClientResponse> call =
+                        (ServerCallStreamObserver<StreamClientResponse>) observer;
+                call.disableAutoInboundFlowControl();
+                final IpcReadStream<StreamClientRequest> in = new IpcReadStream<StreamClientRequest>(
+                        request -> DataEncap.item(request.getEnvelop())).connect(call);
+                in.doneHandler(nil -> {
+                    call.onNext(StreamClientResponse.newBuilder()
+                            .setAggregatedSize((int) in.received()).build());
+                    call.onCompleted();
+                });
+                // Header
+                call.request(1);
+                return new StreamObserver<StreamClientRequest>() {
+                    private transient boolean headed;
+
+                    @Override
+                    public void onNext(final StreamClientRequest request) {
+                        if (this.headed) {
+                            in.onNext(request);
+                        } else {
+                            this.headed = true;
+                            final IpcData data = DataEncap.consume(request.getEnvelop(), IpcType.PRODUCE);
+                            ProduceTunnel.this.invoke(data, call, envelop -> new Object[]{envelop, in});
+                        }
+                    }
+
+                    @Override
+                    public void onError(final Throwable error) {
+                        in.onError(error);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        in.onCompleted();
+                    }
+                };
+            }
+        };
+    }
+}
@@ -45,7 +45,7 @@ public class UnityTunnel implements Tunnel {
                     final Envelop community = Envelop.failure(
                             new _501RpcMethodMissingException(this.getClass(), data.getAddress()));
                     // Build IpcData
-                    final IpcData responseData = UnityTunnel.this.build(community, envelop);
+                    final IpcData responseData = UnityTunnel.this.build(community, envelop, data);
                     future.complete(DataEncap.out(responseData));
                 } else {
                     // Execute Transit
@@ -54,7 +54,7 @@ public class UnityTunnel implements Tunnel {
                     final Future<Envelop> result = transit.async(envelop);
                     result.setHandler(res -> {
                         if (res.succeeded()) {
-                            final IpcData responseData = UnityTunnel.this.build(res.result(), envelop);
+                            final IpcData responseData = UnityTunnel.this.build(res.result(), envelop, data);
                             future.complete(DataEncap.out(responseData));
                         } else {
                             res.cause().printStackTrace();
@@ -65,7 +65,7 @@ public class UnityTunnel implements Tunnel {
         };
     }
 
-    private IpcData build(final Envelop community, final Envelop envelop) {
+    private IpcData build(final Envelop community, final Envelop envelop, final IpcData request) {
         // Headers and user could not be modified
         if (null != envelop) {
             community.setHeaders(envelop.headers());
@@ -74,6 +74,10 @@ public class UnityTunnel implements Tunnel {
         // IpcResponse -> Output Envelop
         final IpcData responseData = new IpcData();
         responseData.setType(IpcType.UNITY);
+        // Reply with the format / compression negotiated by client
+        responseData.setFormat(request.getFormat());
+        responseData.setCompression(request.getCompression());
+        responseData.setThreshold(request.getThreshold());
         DataEncap.in(responseData, community);
         return responseData;
     }
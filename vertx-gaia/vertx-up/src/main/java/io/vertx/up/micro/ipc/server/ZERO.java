@@ -7,4 +7,8 @@ interface Info {
     String NODE_MIDDLE = "[ ZERO ] --> ( Coordinator ) found, will transfer -->. method {0} of {1}";
 
     String NODE_RESPONSE = "[ ZERO ] -> Final response data = {0}";
+
+    String NODE_STREAM = "[ ZERO ] --> ( Stream ) {0} call found, method {1} of {2}";
+
+    String STREAM_FAILURE = "[ ZERO ] --> ( Stream ) {0} call met failure from client: {1}";
 }
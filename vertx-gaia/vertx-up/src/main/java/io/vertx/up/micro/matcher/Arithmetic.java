@@ -10,6 +10,26 @@ import java.util.List;
  */
 public interface Arithmetic {
 
-    Record search(final List<Record> records,
+    /**
+     * Look up record from route index that built already.
+     *
+     * @param index   route index of current records
+     * @param context routing context of request
+     * @return selected record, null when nothing matched
+     */
+    Record search(final RouteIndex index,
                   final RoutingContext context);
+
+    default Record search(final List<Record> records,
+                          final RoutingContext context) {
+        return this.search(RouteIndex.create(0L, records), context);
+    }
+
+    /**
+     * Called when the request dispatched to selected record has been finished.
+     *
+     * @param record selected record
+     */
+    default void release(final Record record) {
+    }
 }
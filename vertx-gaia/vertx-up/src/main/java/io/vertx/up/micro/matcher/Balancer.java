@@ -0,0 +1,41 @@
+package io.vertx.up.micro.matcher;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.servicediscovery.Record;
+import io.vertx.up.micro.discovery.Origin;
+
+import java.util.List;
+
+/**
+ * Select one record from the candidates that published the same route,
+ * the candidates list is never empty.
+ */
+public interface Balancer {
+
+    Record select(List<Record> candidates, RoutingContext context);
+
+    /**
+     * Called when the request dispatched to record has been finished.
+     *
+     * @param record selected record
+     */
+    default void release(final Record record) {
+    }
+
+    /**
+     * Route key of candidates, all the candidates have the same path.
+     */
+    static String route(final List<Record> candidates) {
+        final Record record = candidates.get(0);
+        return record.getName() + record.getMetadata().getString(Origin.PATH);
+    }
+
+    /**
+     * Endpoint of record: host:port
+     */
+    static String endpoint(final Record record) {
+        final JsonObject location = record.getLocation();
+        return location.getString(Origin.HOST) + ":" + location.getInteger(Origin.PORT);
+    }
+}
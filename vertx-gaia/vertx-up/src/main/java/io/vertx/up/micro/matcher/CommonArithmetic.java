@@ -1,54 +1,91 @@
 package io.vertx.up.micro.matcher;
 
-import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.servicediscovery.Record;
-import io.vertx.up.micro.discovery.Origin;
-import io.vertx.zero.eon.Strings;
+import io.vertx.up.eon.em.BalanceType;
+import io.vertx.up.log.Annal;
+import io.vertx.zero.atom.Ruler;
+import io.vertx.zero.marshal.node.Node;
+import io.vertx.zero.marshal.node.ZeroUniform;
 import io.zero.epic.Ut;
+import io.zero.epic.fn.Fn;
 
 import java.util.List;
-import java.util.Optional;
-import java.util.regex.Pattern;
 
 /**
- * Simple load balancer arithmetic
+ * Simple load balancer arithmetic, the balancer could be configured:
+ * balancer:
+ * type: ROUND_ROBIN | LEAST | WEIGHT | HASH
+ * header: X-Session ( HASH only )
+ * replicas: 160 ( HASH only )
+ * weights: host:port = weight ( WEIGHT only )
  */
 public class CommonArithmetic implements Arithmetic {
+
+    private static final Annal LOGGER = Annal.get(CommonArithmetic.class);
+
+    private static final String BALANCER = "balancer";
+    private static final String TYPE = "type";
+    private static final String HEADER = "header";
+    private static final String REPLICAS = "replicas";
+    private static final String WEIGHTS = "weights";
+    private static final int DEFAULT_REPLICAS = 160;
+
+    private final transient Balancer balancer;
+
+    public CommonArithmetic() {
+        this(readConfig());
+    }
+
+    CommonArithmetic(final JsonObject config) {
+        this.balancer = createBalancer(config);
+    }
+
+    private static JsonObject readConfig() {
+        final Node<JsonObject> node = Ut.singleton(ZeroUniform.class);
+        final JsonObject data = node.read();
+        final JsonObject config = Fn.getNull(new JsonObject(),
+                () -> data.getJsonObject(BALANCER), data.getValue(BALANCER));
+        Fn.outUp(() -> Ruler.verify(BALANCER, config), LOGGER);
+        return config;
+    }
+
+    private static Balancer createBalancer(final JsonObject config) {
+        final BalanceType type = Fn.getJvm(BalanceType.ROUND_ROBIN,
+                () -> Ut.toEnum(BalanceType.class, config.getString(TYPE)), config.getString(TYPE));
+        LOGGER.info(Info.BALANCER, type, config.encode());
+        final Balancer balancer;
+        switch (type) {
+            case LEAST:
+                balancer = new LeastBalancer();
+                break;
+            case WEIGHT:
+                balancer = new WeightBalancer(config.getJsonObject(WEIGHTS));
+                break;
+            case HASH:
+                balancer = new HashBalancer(config.getString(HEADER),
+                        config.getInteger(REPLICAS, DEFAULT_REPLICAS));
+                break;
+            default:
+                balancer = new RoundRobinBalancer();
+                break;
+        }
+        return balancer;
+    }
+
     @Override
-    public Record search(final List<Record> records,
+    public Record search(final RouteIndex index,
                          final RoutingContext context) {
-        final HttpServerRequest request = context.request();
         // Input source
-        final String uri = request.path();
-        final Optional<Record> hitted =
-                records.stream()
-                        .filter(record -> this.isMatch(uri, record))
-                        .findAny();
+        final String uri = context.request().path();
+        final List<Record> candidates = index.match(uri);
         // Find valid;
-        return hitted.orElse(null);
+        return candidates.isEmpty() ? null : this.balancer.select(candidates, context);
     }
 
-    /**
-     * Match calculation.
-     *
-     * @param uri    real input from client include path variable
-     * @param record discovery record in backend ( From etcd3 )
-     * @return whether the uri match and could be found in etcd3
-     */
-    private boolean isMatch(final String uri, final Record record) {
-        final JsonObject data = record.getMetadata();
-        boolean match = false;
-        if (data.containsKey(Origin.PATH)) {
-            final String path = data.getString(Origin.PATH);
-            if (!Ut.isNil(path) && path.contains(Strings.COLON)) {
-                final Pattern pattern = RegexPath.createRegex(path);
-                match = pattern.matcher(uri).matches();
-            } else {
-                match = path.equalsIgnoreCase(uri);
-            }
-        }
-        return match;
+    @Override
+    public void release(final Record record) {
+        this.balancer.release(record);
     }
 }
@@ -0,0 +1,82 @@
+package io.vertx.up.micro.matcher;
+
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.servicediscovery.Record;
+import io.zero.epic.Ut;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Consistent hash on request header, the same header value will be dispatched
+ * to the same endpoint while the endpoints are not changed. When the header
+ * is missing, round robin will be used instead.
+ */
+public class HashBalancer implements Balancer {
+
+    private final transient String header;
+    private final transient int replicas;
+    private final transient Balancer fallback = new RoundRobinBalancer();
+    private final transient ConcurrentMap<String, Ring> rings
+            = new ConcurrentHashMap<>();
+
+    public HashBalancer(final String header, final int replicas) {
+        this.header = header;
+        this.replicas = replicas;
+    }
+
+    /*
+     * FNV-1a 32 with final mixing, the ring does not need cryptographic hash.
+     */
+    static int hash(final String value) {
+        int hash = 0x811c9dc5;
+        for (final byte item : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= item;
+            hash *= 0x01000193;
+        }
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        return hash;
+    }
+
+    @Override
+    public Record select(final List<Record> candidates, final RoutingContext context) {
+        final String value = Ut.isNil(this.header) ? null : context.request().getHeader(this.header);
+        if (1 == candidates.size() || Ut.isNil(value)) {
+            return this.fallback.select(candidates, context);
+        }
+        return this.locate(candidates, value);
+    }
+
+    Record locate(final List<Record> candidates, final String value) {
+        final Ring ring = this.rings.compute(Balancer.route(candidates),
+                (key, existing) -> null == existing || existing.source != candidates ?
+                        new Ring(candidates, this.replicas) : existing);
+        return ring.get(hash(value));
+    }
+
+    private static final class Ring {
+        private final transient List<Record> source;
+        private final transient TreeMap<Integer, Record> nodes = new TreeMap<>();
+
+        private Ring(final List<Record> source, final int replicas) {
+            this.source = source;
+            for (final Record record : source) {
+                final String endpoint = Balancer.endpoint(record);
+                for (int idx = 0; idx < replicas; idx++) {
+                    this.nodes.put(hash(endpoint + "#" + idx), record);
+                }
+            }
+        }
+
+        private Record get(final int hash) {
+            final Map.Entry<Integer, Record> entry = this.nodes.ceilingEntry(hash);
+            return null == entry ? this.nodes.firstEntry().getValue() : entry.getValue();
+        }
+    }
+}
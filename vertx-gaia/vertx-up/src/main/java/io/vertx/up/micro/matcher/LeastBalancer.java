@@ -0,0 +1,57 @@
+package io.vertx.up.micro.matcher;
+
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.servicediscovery.Record;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The endpoint with least outstanding requests will be selected,
+ * the scanning starts from a rotating offset to spread the ties.
+ */
+public class LeastBalancer implements Balancer {
+
+    private final transient ConcurrentMap<String, AtomicInteger> outstanding
+            = new ConcurrentHashMap<>();
+    private final transient AtomicInteger offset = new AtomicInteger();
+
+    @Override
+    public Record select(final List<Record> candidates, final RoutingContext context) {
+        final int size = candidates.size();
+        final int start = Math.floorMod(this.offset.getAndIncrement(), size);
+        Record selected = null;
+        AtomicInteger selectedCounter = null;
+        int least = Integer.MAX_VALUE;
+        for (int idx = 0; idx < size; idx++) {
+            final Record record = candidates.get((start + idx) % size);
+            final AtomicInteger counter = this.counter(record);
+            final int current = counter.get();
+            if (current < least) {
+                least = current;
+                selected = record;
+                selectedCounter = counter;
+            }
+        }
+        selectedCounter.incrementAndGet();
+        return selected;
+    }
+
+    @Override
+    public void release(final Record record) {
+        final AtomicInteger counter = this.outstanding.get(Balancer.endpoint(record));
+        if (null != counter) {
+            counter.updateAndGet(value -> 0 < value ? value - 1 : 0);
+        }
+    }
+
+    int getOutstanding(final Record record) {
+        return this.counter(record).get();
+    }
+
+    private AtomicInteger counter(final Record record) {
+        return this.outstanding.computeIfAbsent(Balancer.endpoint(record), key -> new AtomicInteger());
+    }
+}
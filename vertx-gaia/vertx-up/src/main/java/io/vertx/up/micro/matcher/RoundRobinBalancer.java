@@ -0,0 +1,28 @@
+package io.vertx.up.micro.matcher;
+
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.servicediscovery.Record;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Round robin for each route.
+ */
+public class RoundRobinBalancer implements Balancer {
+
+    private final transient ConcurrentMap<String, AtomicInteger> counters
+            = new ConcurrentHashMap<>();
+
+    @Override
+    public Record select(final List<Record> candidates, final RoutingContext context) {
+        if (1 == candidates.size()) {
+            return candidates.get(0);
+        }
+        final AtomicInteger counter = this.counters.computeIfAbsent(
+                Balancer.route(candidates), key -> new AtomicInteger());
+        return candidates.get(Math.floorMod(counter.getAndIncrement(), candidates.size()));
+    }
+}
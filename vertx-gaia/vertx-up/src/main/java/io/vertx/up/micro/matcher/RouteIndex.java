@@ -0,0 +1,161 @@
+package io.vertx.up.micro.matcher;
+
+import io.vertx.servicediscovery.Record;
+import io.vertx.up.log.Annal;
+import io.vertx.up.micro.discovery.Origin;
+import io.vertx.zero.eon.Strings;
+import io.zero.epic.Ut;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable route table built from discovery records of one version, replaced the
+ * linear scanning ( and regex compiling ) for each request.
+ * 1. Static path: /api/user, matched by hash map ( ignore case ).
+ * 2. Path variable: /api/user/:id, matched by segment trie.
+ * 3. Others ( wildcard, mixed segment such as /api/:id.json ), regex compiled once.
+ * The records that published the same path will be grouped as candidates for balancer.
+ */
+public final class RouteIndex {
+
+    private static final Annal LOGGER = Annal.get(RouteIndex.class);
+
+    private static final Pattern PARAM = Pattern.compile(":[A-Za-z][A-Za-z0-9_]*");
+    private static final Pattern LITERAL = Pattern.compile("[A-Za-z0-9_\\-.~]*");
+
+    private final transient long version;
+    private final transient int size;
+    private final transient Map<String, List<Record>> statics = new HashMap<>();
+    private final transient Node root = new Node();
+    private final transient List<Pattern> patterns = new ArrayList<>();
+    private final transient List<List<Record>> complex = new ArrayList<>();
+
+    private RouteIndex(final long version, final List<Record> records) {
+        this.version = version;
+        this.size = records.size();
+        // Group records by path
+        final Map<String, List<Record>> grouped = new LinkedHashMap<>();
+        for (final Record record : records) {
+            final String path = record.getMetadata().getString(Origin.PATH);
+            if (!Ut.isNil(path)) {
+                grouped.computeIfAbsent(path, key -> new ArrayList<>()).add(record);
+            }
+        }
+        grouped.forEach((path, candidates) -> this.add(path, Collections.unmodifiableList(candidates)));
+        LOGGER.debug(Info.ROUTE_INDEX, version, this.size, this.patterns.size());
+    }
+
+    public static RouteIndex create(final long version, final List<Record> records) {
+        return new RouteIndex(version, null == records ? Collections.emptyList() : records);
+    }
+
+    public long getVersion() {
+        return this.version;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @param uri request path
+     * @return candidates that published the matched path, empty list when nothing matched
+     */
+    public List<Record> match(final String uri) {
+        if (null == uri) {
+            return Collections.emptyList();
+        }
+        // 1. Static path
+        List<Record> found = this.statics.get(uri.toLowerCase());
+        if (null != found) {
+            return found;
+        }
+        // 2. Path variable
+        found = this.root.match(uri.split(Strings.SLASH, -1), 0);
+        if (null != found) {
+            return found;
+        }
+        // 3. Regex
+        for (int idx = 0; idx < this.patterns.size(); idx++) {
+            if (this.patterns.get(idx).matcher(uri).matches()) {
+                return this.complex.get(idx);
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    private void add(final String path, final List<Record> candidates) {
+        if (!path.contains(Strings.COLON)) {
+            this.statics.putIfAbsent(path.toLowerCase(), candidates);
+            return;
+        }
+        final String[] segments = path.split(Strings.SLASH, -1);
+        boolean simple = true;
+        for (final String segment : segments) {
+            if (!PARAM.matcher(segment).matches() && !LITERAL.matcher(segment).matches()) {
+                simple = false;
+                break;
+            }
+        }
+        if (simple) {
+            Node node = this.root;
+            for (final String segment : segments) {
+                node = node.child(segment);
+            }
+            if (null == node.records) {
+                node.records = candidates;
+            }
+        } else {
+            try {
+                this.patterns.add(RegexPath.createRegex(path));
+                this.complex.add(candidates);
+            } catch (final IllegalArgumentException ex) {
+                LOGGER.warn(Info.ROUTE_INVALID, path, ex.getMessage());
+            }
+        }
+    }
+
+    private static final class Node {
+        private final transient Map<String, Node> literals = new HashMap<>();
+        private transient Node param;
+        private transient List<Record> records;
+
+        private Node child(final String segment) {
+            if (segment.startsWith(Strings.COLON)) {
+                if (null == this.param) {
+                    this.param = new Node();
+                }
+                return this.param;
+            }
+            return this.literals.computeIfAbsent(segment, key -> new Node());
+        }
+
+        /*
+         * Literal segment takes precedence, then path variable ( non-empty segment ),
+         * backtracking when the deeper segments could not be matched.
+         */
+        private List<Record> match(final String[] segments, final int index) {
+            if (segments.length == index) {
+                return this.records;
+            }
+            final String segment = segments[index];
+            final Node literal = this.literals.get(segment);
+            if (null != literal) {
+                final List<Record> found = literal.match(segments, index + 1);
+                if (null != found) {
+                    return found;
+                }
+            }
+            if (null != this.param && !segment.isEmpty()) {
+                return this.param.match(segments, index + 1);
+            }
+            return null;
+        }
+    }
+}
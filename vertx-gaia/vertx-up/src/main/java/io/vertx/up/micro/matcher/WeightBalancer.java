@@ -0,0 +1,80 @@
+package io.vertx.up.micro.matcher;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.servicediscovery.Record;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Smooth weighted round robin, the weight came from:
+ * 1. metadata `weight` of record
+ * 2. `weights` configuration with key = host:port
+ * 3. default 1
+ */
+public class WeightBalancer implements Balancer {
+
+    private static final String WEIGHT = "weight";
+
+    private final transient JsonObject weights;
+    private final transient ConcurrentMap<String, State> states
+            = new ConcurrentHashMap<>();
+
+    public WeightBalancer(final JsonObject weights) {
+        this.weights = null == weights ? new JsonObject() : weights;
+    }
+
+    @Override
+    public Record select(final List<Record> candidates, final RoutingContext context) {
+        if (1 == candidates.size()) {
+            return candidates.get(0);
+        }
+        final State state = this.states.compute(Balancer.route(candidates),
+                (key, existing) -> null == existing || existing.source != candidates ?
+                        new State(candidates, this.weights(candidates)) : existing);
+        return state.next();
+    }
+
+    private int[] weights(final List<Record> candidates) {
+        final int[] weights = new int[candidates.size()];
+        for (int idx = 0; idx < weights.length; idx++) {
+            final Record record = candidates.get(idx);
+            final Integer weight = record.getMetadata().getInteger(WEIGHT,
+                    this.weights.getInteger(Balancer.endpoint(record), 1));
+            weights[idx] = Math.max(1, weight);
+        }
+        return weights;
+    }
+
+    private static final class State {
+        private final transient List<Record> source;
+        private final transient int[] weights;
+        private final transient int[] current;
+        private final transient int total;
+
+        private State(final List<Record> source, final int[] weights) {
+            this.source = source;
+            this.weights = weights;
+            this.current = new int[weights.length];
+            int total = 0;
+            for (final int weight : weights) {
+                total += weight;
+            }
+            this.total = total;
+        }
+
+        private synchronized Record next() {
+            int selected = 0;
+            for (int idx = 0; idx < this.weights.length; idx++) {
+                this.current[idx] += this.weights[idx];
+                if (this.current[idx] > this.current[selected]) {
+                    selected = idx;
+                }
+            }
+            this.current[selected] -= this.total;
+            return this.source.get(selected);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package io.vertx.up.micro.matcher;
+
+interface Info {
+
+    String ROUTE_INDEX = "[ ZERO ] ( Route Index ) The index has been rebuilt, version = {0}, records = {1}, regex = {2}.";
+
+    String ROUTE_INVALID = "[ ZERO ] ( Route Index ) The path {0} could not be compiled and will be ignored: {1}.";
+
+    String BALANCER = "[ ZERO ] ( Balancer ) The balancer {0} has been selected for api gateway, config = {1}.";
+}
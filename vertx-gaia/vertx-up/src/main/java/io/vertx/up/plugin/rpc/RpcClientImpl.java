@@ -61,6 +61,7 @@ public class RpcClientImpl implements RpcClient {
         request.setAddress(address);
         // The same operation for request.
         DataEncap.in(request, record);
+        DataEncap.in(request, config);
         DataEncap.in(request, Envelop.success(data));
         LOGGER.info(Info.CLIENT_TRAFFIC, request.toString());
         final Future<JsonObject> future = stub.traffic(request);
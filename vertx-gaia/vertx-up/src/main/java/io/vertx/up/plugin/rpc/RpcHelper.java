@@ -1,6 +1,5 @@
 package io.vertx.up.plugin.rpc;
 
-import io.reactivex.Observable;
 import io.vertx.core.json.JsonObject;
 import io.vertx.servicediscovery.Record;
 import io.vertx.up.eon.em.IpcType;
@@ -8,14 +7,11 @@ import io.vertx.up.exception._424RpcServiceException;
 import io.vertx.up.log.Annal;
 import io.vertx.up.micro.discovery.IpcOrigin;
 import io.vertx.up.micro.discovery.Origin;
+import io.vertx.up.micro.discovery.Snapshot;
 import io.vertx.zero.atom.Ruler;
 import io.zero.epic.Ut;
-import io.zero.epic.container.RxHod;
 import io.zero.epic.fn.Fn;
 
-import java.util.Objects;
-import java.util.concurrent.ConcurrentMap;
-
 class RpcHelper {
 
     private static final Annal LOGGER = Annal.get(RpcHelper.class);
@@ -26,36 +22,25 @@ class RpcHelper {
         /** Config Verify **/
         Fn.outUp(() -> Fn.shuntZero(() -> Ruler.verify(Key.RULE_KEY, config), config),
                 LOGGER);
-        // Connect remote etcd to check service
-        final ConcurrentMap<String, Record> registryData = ORIGIN.getRegistryData();
+        // Read registry snapshot to check service
+        final Snapshot snapshot = ORIGIN.getSnapshot();
         final String name = config.getString(Key.NAME);
         final String address = config.getString(Key.ADDR);
         LOGGER.debug(Info.RPC_SERVICE, name, address);
         // Empty Found
-        Fn.outWeb(registryData.values().isEmpty(), LOGGER,
+        Fn.outWeb(snapshot.getRecords().isEmpty(), LOGGER,
                 _424RpcServiceException.class, RpcHelper.class,
                 name, address);
-
-        // Service status checking
-        final RxHod container = new RxHod();
-        // Lookup Record instance
-        Observable.fromIterable(registryData.values())
-                .filter(Objects::nonNull)
-                .filter(item -> Ut.notNil(item.getName()))
-                .filter(item -> name.equals(item.getName()) &&
-                        address.equals(item.getMetadata().getString(Key.PATH)))
-                .subscribe(container::add);
+        // Lookup Record instance by name and address
+        final Record record = snapshot.find(name, address);
         // Service Not Found
-        Fn.outWeb(!container.successed(), LOGGER,
-                _424RpcServiceException.class, RpcHelper.class,
-                name, address);
-        // Address Not Found
-        Fn.outWeb(!container.successed(), LOGGER,
+        Fn.outWeb(null == record, LOGGER,
                 _424RpcServiceException.class, RpcHelper.class,
                 name, address);
-        final Record record = container.get();
-        LOGGER.debug(Info.RPC_FOUND, record.toJson());
-        return container.get();
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(Info.RPC_FOUND, record.toJson());
+        }
+        return record;
     }
 
     /**
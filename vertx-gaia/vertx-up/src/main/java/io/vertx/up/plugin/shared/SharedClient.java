@@ -9,6 +9,8 @@ import io.vertx.core.shareddata.AsyncMap;
 import io.vertx.core.shareddata.LocalMap;
 import io.zero.epic.container.KeyPair;
 
+import java.util.function.BiFunction;
+
 /**
  * Shared client for shared data in vert.x
  */
@@ -36,6 +38,18 @@ public interface SharedClient<K, V> {
 
     KeyPair<K, V> put(K key, V value, int expiredSecs);
 
+    /**
+     * Atomic add when the key is absent, the current value of key will be returned.
+     */
+    KeyPair<K, V> putIfAbsent(K key, V value);
+
+    KeyPair<K, V> putIfAbsent(K key, V value, int expiredSecs);
+
+    /**
+     * Atomic compute, the key will be removed when the computed value is null.
+     */
+    V compute(K key, BiFunction<? super K, ? super V, ? extends V> fnCompute);
+
     KeyPair<K, V> remove(K key);
 
     V get(K key);
@@ -48,6 +62,16 @@ public interface SharedClient<K, V> {
     @Fluent
     SharedClient<K, V> put(K key, V value, int expiredSecs, Handler<AsyncResult<KeyPair<K, V>>> handler);
 
+    @Fluent
+    SharedClient<K, V> putIfAbsent(K key, V value, Handler<AsyncResult<KeyPair<K, V>>> handler);
+
+    @Fluent
+    SharedClient<K, V> putIfAbsent(K key, V value, int expiredSecs, Handler<AsyncResult<KeyPair<K, V>>> handler);
+
+    @Fluent
+    SharedClient<K, V> compute(K key, BiFunction<? super K, ? super V, ? extends V> fnCompute,
+                               Handler<AsyncResult<V>> handler);
+
     @Fluent
     SharedClient<K, V> remove(K key, Handler<AsyncResult<KeyPair<K, V>>> handler);
 
@@ -56,4 +80,9 @@ public interface SharedClient<K, V> {
 
     @Fluent
     SharedClient<K, V> get(K key, boolean once, Handler<AsyncResult<V>> handler);
+
+    /**
+     * Statistics of ttl: mode, pending, scheduled, expired, expiredOnRead
+     */
+    JsonObject statistics();
 }
@@ -10,11 +10,13 @@ import io.vertx.core.shareddata.LocalMap;
 import io.vertx.core.shareddata.SharedData;
 import io.vertx.up.exception._501SharedDataModeException;
 import io.vertx.up.log.Annal;
+import io.vertx.zero.atom.Ruler;
 import io.zero.epic.container.KeyPair;
 import io.zero.epic.fn.Fn;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
 
 @SuppressWarnings("all")
 public class SharedClientImpl<K, V> implements SharedClient<K, V> {
@@ -24,7 +26,11 @@ public class SharedClientImpl<K, V> implements SharedClient<K, V> {
     private static final ConcurrentMap<String, SharedClient> CLIENTS =
             new ConcurrentHashMap<>();
 
+    private static final String TTL = "ttl";
+
     private final transient Vertx vertx;
+    private transient JsonObject config;
+    private transient TtlWheel<K, V> wheel;
     private transient LocalMap<K, V> syncMap;
     private transient AsyncMap<K, V> asyncMap;
     private transient boolean isAsync;
@@ -35,8 +41,15 @@ public class SharedClientImpl<K, V> implements SharedClient<K, V> {
 
     SharedClient create(final JsonObject config, final String name) {
         return Fn.pool(CLIENTS, name, () -> {
-            final boolean async = null != config && config.containsKey("async") ?
-                    config.getBoolean("async") : Boolean.FALSE;
+            this.config = null == config ? new JsonObject() : config;
+            final boolean async = this.config.containsKey("async") ?
+                    this.config.getBoolean("async") : Boolean.FALSE;
+            // One wheel for all the keys of current map
+            final JsonObject ttl = this.config.getJsonObject(TTL, new JsonObject());
+            Fn.outUp(() -> Ruler.verify("shared.ttl", ttl), LOGGER);
+            this.wheel = new TtlWheel<>(ttl, this::expire);
+            this.wheel.start(this.vertx);
+            LOGGER.info(Info.INFO_WHEEL, name, ttl.encode());
             if (async) {
                 // Switch reference for async map to be sure it's initialized.
                 this.createAsync(name, res -> this.asyncMap = res.result().fetchAsync());
@@ -60,11 +73,12 @@ public class SharedClientImpl<K, V> implements SharedClient<K, V> {
     @Override
     public SharedClient<K, V> switchClient(final String name) {
         final SharedClient<K, V> client;
+        final JsonObject config = this.config.copy();
         if (this.isAsync) {
             // Switch reference for async map to be sure it's initialized.
-            client = new SharedClientImpl<K, V>(this.vertx).create(new JsonObject().put("async", Boolean.TRUE), name);
+            client = new SharedClientImpl<K, V>(this.vertx).create(config.put("async", Boolean.TRUE), name);
         } else {
-            client = new SharedClientImpl<K, V>(this.vertx).create(new JsonObject().put("async", Boolean.FALSE), name);
+            client = new SharedClientImpl<K, V>(this.vertx).create(config.put("async", Boolean.FALSE), name);
         }
         return client;
     }
@@ -97,87 +111,185 @@ public class SharedClientImpl<K, V> implements SharedClient<K, V> {
     @Override
     public KeyPair<K, V> put(final K key, final V value) {
         this.ensure(false);
-        final V reference = this.syncMap.get(key);
         // Add & Replace
-        Fn.safeSemi(null == reference, LOGGER,
-                () -> this.syncMap.put(key, value),
-                () -> this.syncMap.replace(key, value));
+        this.syncMap.put(key, value);
+        this.wheel.cancel(key);
         return KeyPair.create(key, value);
     }
 
     @Override
     public KeyPair<K, V> put(final K key, final V value, final int seconds) {
-        KeyPair<K, V> result = this.put(key, value);
-        LOGGER.info(Info.INFO_TIMER_PUT, key, String.valueOf(seconds));
-        this.vertx.setTimer(seconds * 1000, id -> {
-            LOGGER.info(Info.INFO_TIMER_EXPIRE, key);
-            this.remove(key);
-        });
-        return result;
+        this.ensure(false);
+        this.syncMap.put(key, value);
+        this.schedule(key, value, seconds);
+        return KeyPair.create(key, value);
+    }
+
+    @Override
+    public KeyPair<K, V> putIfAbsent(final K key, final V value) {
+        return this.putIfAbsent(key, value, 0);
+    }
+
+    @Override
+    public KeyPair<K, V> putIfAbsent(final K key, final V value, final int seconds) {
+        this.ensure(false);
+        this.expireOnRead(key);
+        final V reference = this.syncMap.putIfAbsent(key, value);
+        if (null == reference) {
+            this.schedule(key, value, seconds);
+            return KeyPair.create(key, value);
+        } else {
+            return KeyPair.create(key, reference);
+        }
+    }
+
+    @Override
+    public V compute(final K key, final BiFunction<? super K, ? super V, ? extends V> fnCompute) {
+        this.ensure(false);
+        this.expireOnRead(key);
+        final V computed = this.syncMap.compute(key, fnCompute);
+        if (null == computed) {
+            this.wheel.cancel(key);
+        } else {
+            this.wheel.refresh(key, computed);
+        }
+        return computed;
     }
 
     @Override
     public SharedClient<K, V> put(final K key, final V value,
                                   final Handler<AsyncResult<KeyPair<K, V>>> handler) {
+        return this.put(key, value, 0, handler);
+    }
+
+    @Override
+    public SharedClient<K, V> put(final K key, final V value, final int seconds,
+                                  final Handler<AsyncResult<KeyPair<K, V>>> handler) {
         this.ensure(true);
-        this.asyncMap.get(key, res -> {
+        // Add & Replace
+        this.asyncMap.put(key, value, res -> {
             if (res.succeeded()) {
-                final V reference = res.result();
-                Fn.safeSemi(null == reference, LOGGER,
-                        () -> this.asyncMap.put(key, value, added -> {
-                            if (added.succeeded()) {
-                                handler.handle(Future.succeededFuture(KeyPair.create(key, value)));
-                            }
-                        }),
-                        () -> this.asyncMap.replace(key, value, replaced -> {
-                            if (replaced.succeeded()) {
-                                handler.handle(Future.succeededFuture(KeyPair.create(key, value)));
-                            }
-                        }));
+                this.schedule(key, value, seconds);
+                handler.handle(Future.succeededFuture(KeyPair.create(key, value)));
+            } else {
+                handler.handle(Future.failedFuture(res.cause()));
             }
         });
         return this;
     }
 
     @Override
-    public SharedClient<K, V> put(final K key, final V value, final int seconds,
-                                  final Handler<AsyncResult<KeyPair<K, V>>> handler) {
-        final SharedClient<K, V> reference = this.put(key, value, handler);
-        LOGGER.info(Info.INFO_TIMER_PUT, key, String.valueOf(seconds));
-        this.vertx.setTimer(seconds * 1000, id -> this.remove(key, res -> LOGGER.info(Info.INFO_TIMER_EXPIRE, key)));
-        return reference;
+    public SharedClient<K, V> putIfAbsent(final K key, final V value,
+                                          final Handler<AsyncResult<KeyPair<K, V>>> handler) {
+        return this.putIfAbsent(key, value, 0, handler);
+    }
+
+    @Override
+    public SharedClient<K, V> putIfAbsent(final K key, final V value, final int seconds,
+                                          final Handler<AsyncResult<KeyPair<K, V>>> handler) {
+        this.ensure(true);
+        this.expireOnRead(key, expired -> this.asyncMap.putIfAbsent(key, value, res -> {
+            if (res.succeeded()) {
+                final V reference = res.result();
+                if (null == reference) {
+                    this.schedule(key, value, seconds);
+                    handler.handle(Future.succeededFuture(KeyPair.create(key, value)));
+                } else {
+                    handler.handle(Future.succeededFuture(KeyPair.create(key, reference)));
+                }
+            } else {
+                handler.handle(Future.failedFuture(res.cause()));
+            }
+        }));
+        return this;
+    }
+
+    @Override
+    public SharedClient<K, V> compute(final K key, final BiFunction<? super K, ? super V, ? extends V> fnCompute,
+                                      final Handler<AsyncResult<V>> handler) {
+        this.ensure(true);
+        this.expireOnRead(key, expired -> this.computeAsync(key, fnCompute, handler));
+        return this;
+    }
+
+    /*
+     * Optimistic compute on AsyncMap: read the value, compute and write it back only when
+     * the value has not been changed by other writers, otherwise compute again.
+     */
+    private void computeAsync(final K key, final BiFunction<? super K, ? super V, ? extends V> fnCompute,
+                              final Handler<AsyncResult<V>> handler) {
+        this.asyncMap.get(key, res -> {
+            if (res.failed()) {
+                handler.handle(Future.failedFuture(res.cause()));
+                return;
+            }
+            final V reference = res.result();
+            final V computed = fnCompute.apply(key, reference);
+            final Handler<AsyncResult<Boolean>> written = done -> {
+                if (done.failed()) {
+                    handler.handle(Future.failedFuture(done.cause()));
+                } else if (done.result()) {
+                    if (null == computed) {
+                        this.wheel.cancel(key);
+                    } else {
+                        this.wheel.refresh(key, computed);
+                    }
+                    handler.handle(Future.succeededFuture(computed));
+                } else {
+                    this.computeAsync(key, fnCompute, handler);
+                }
+            };
+            if (null == reference) {
+                if (null == computed) {
+                    handler.handle(Future.succeededFuture());
+                } else {
+                    this.asyncMap.putIfAbsent(key, computed, added -> written.handle(added.map(previous -> null == previous)));
+                }
+            } else if (null == computed) {
+                this.asyncMap.removeIfPresent(key, reference, written);
+            } else {
+                this.asyncMap.replaceIfPresent(key, reference, computed, written);
+            }
+        });
     }
 
     @Override
     public KeyPair<K, V> remove(final K key) {
         this.ensure(false);
         final V removed = this.syncMap.remove(key);
+        this.wheel.cancel(key);
         return KeyPair.create(key, removed);
     }
 
     @Override
     public V get(final K key) {
         this.ensure(false);
+        this.expireOnRead(key);
         return this.syncMap.get(key);
     }
 
     @Override
     public V get(final K key, final boolean once) {
-        final V value = this.get(key);
         if (once) {
-            this.remove(key);
+            this.ensure(false);
+            this.expireOnRead(key);
+            return this.remove(key).getValue();
+        } else {
+            return this.get(key);
         }
-        return value;
     }
 
     @Override
     public SharedClient<K, V> remove(final K key,
                                      final Handler<AsyncResult<KeyPair<K, V>>> handler) {
         this.ensure(true);
+        this.wheel.cancel(key);
         this.asyncMap.remove(key, res -> {
             if (res.succeeded()) {
                 final V reference = res.result();
                 handler.handle(Future.succeededFuture(KeyPair.create(key, reference)));
+            } else {
+                handler.handle(Future.failedFuture(res.cause()));
             }
         });
         return this;
@@ -187,18 +299,68 @@ public class SharedClientImpl<K, V> implements SharedClient<K, V> {
     public SharedClient<K, V> get(final K key,
                                   final Handler<AsyncResult<V>> handler) {
         this.ensure(true);
-        this.asyncMap.get(key, handler);
+        this.expireOnRead(key, expired -> this.asyncMap.get(key, handler));
         return this;
     }
 
     @Override
-    public SharedClient<K, V> get(K key, boolean once,
-                                  Handler<AsyncResult<V>> handler) {
-        final SharedClient<K, V> reference = this.get(key, handler);
+    public SharedClient<K, V> get(final K key, final boolean once,
+                                  final Handler<AsyncResult<V>> handler) {
         if (once) {
-            this.asyncMap.remove(key, handler);
+            this.ensure(true);
+            // Expired value is removed first, the deadline is checked before cancel.
+            this.expireOnRead(key, expired -> {
+                this.wheel.cancel(key);
+                this.asyncMap.remove(key, handler);
+            });
+            return this;
+        } else {
+            return this.get(key, handler);
+        }
+    }
+
+    @Override
+    public JsonObject statistics() {
+        return this.wheel.statistics();
+    }
+
+    private void schedule(final K key, final V value, final int seconds) {
+        if (0 < seconds) {
+            LOGGER.debug(Info.INFO_TIMER_PUT, key, String.valueOf(seconds));
+            this.wheel.schedule(key, value, seconds * 1000L);
+        } else {
+            this.wheel.cancel(key);
+        }
+    }
+
+    /*
+     * Only the scheduled value is removed, the value that is written again after deadline is kept.
+     */
+    private void expire(final K key, final V value) {
+        LOGGER.debug(Info.INFO_TIMER_EXPIRE, key);
+        if (this.isAsync) {
+            this.asyncMap.removeIfPresent(key, value, res -> {
+            });
+        } else {
+            this.syncMap.removeIfPresent(key, value);
+        }
+    }
+
+    private void expireOnRead(final K key) {
+        final V expired = this.wheel.expired(key);
+        if (null != expired) {
+            this.expire(key, expired);
+        }
+    }
+
+    private void expireOnRead(final K key, final Handler<Void> next) {
+        final V expired = this.wheel.expired(key);
+        if (null != expired) {
+            LOGGER.debug(Info.INFO_TIMER_EXPIRE, key);
+            this.asyncMap.removeIfPresent(key, expired, res -> next.handle(null));
+        } else {
+            next.handle(null);
         }
-        return reference;
     }
 
     private void ensure(final boolean expected) {
@@ -0,0 +1,160 @@
+package io.vertx.up.plugin.shared;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * Hashed timing wheel for ttl of shared data, all the keys share one periodic timer instead of one timer per key.
+ * 1. The wheel contains `slots` buckets and each bucket covers `tick` ms, the deadline of key is hashed into bucket.
+ * 2. The key that will be expired after more than one cycle stays in bucket for next rounds.
+ * 3. Re-scheduled / cancelled keys are stale in bucket, they will be dropped when the bucket is visited.
+ * 4. The value scheduled with key is passed to expiry, the key that has been written again is not removed.
+ * In lazy mode there is no timer, the expired key is removed when it's read.
+ */
+class TtlWheel<K, V> {
+
+    static final String MODE_WHEEL = "wheel";
+    static final String MODE_LAZY = "lazy";
+
+    private final transient long tick;
+    private final transient boolean lazy;
+    private final transient Queue<Entry<K>>[] buckets;
+    private final transient ConcurrentMap<K, Deadline<V>> deadlines = new ConcurrentHashMap<>();
+    private final transient BiConsumer<K, V> expiry;
+    private final transient AtomicLong scheduled = new AtomicLong();
+    private final transient AtomicLong expired = new AtomicLong();
+    private final transient AtomicLong expiredOnRead = new AtomicLong();
+    private transient long cursor;
+    private transient long timer = -1;
+
+    @SuppressWarnings("unchecked")
+    TtlWheel(final JsonObject config, final BiConsumer<K, V> expiry) {
+        this.tick = config.getLong("tick", 1000L);
+        this.lazy = MODE_LAZY.equals(config.getString("mode", MODE_WHEEL));
+        final int slots = this.lazy ? 0 : config.getInteger("slots", 512);
+        this.buckets = new Queue[slots];
+        for (int idx = 0; idx < slots; idx++) {
+            this.buckets[idx] = new ConcurrentLinkedQueue<>();
+        }
+        this.expiry = expiry;
+        this.cursor = System.currentTimeMillis() / this.tick;
+    }
+
+    void start(final Vertx vertx) {
+        if (!this.lazy && 0 > this.timer) {
+            this.timer = vertx.setPeriodic(this.tick, id -> this.advance(System.currentTimeMillis()));
+        }
+    }
+
+    void stop(final Vertx vertx) {
+        if (0 <= this.timer) {
+            vertx.cancelTimer(this.timer);
+            this.timer = -1;
+        }
+    }
+
+    void schedule(final K key, final V value, final long millis) {
+        final long deadline = System.currentTimeMillis() + millis;
+        this.deadlines.put(key, new Deadline<>(deadline, value));
+        if (!this.lazy) {
+            this.buckets[(int) ((deadline / this.tick) % this.buckets.length)].add(new Entry<>(key, deadline));
+        }
+        this.scheduled.incrementAndGet();
+    }
+
+    void cancel(final K key) {
+        this.deadlines.remove(key);
+    }
+
+    /**
+     * The value of key has been changed, the deadline is kept.
+     */
+    void refresh(final K key, final V value) {
+        this.deadlines.computeIfPresent(key, (item, deadline) -> new Deadline<>(deadline.at, value));
+    }
+
+    /**
+     * Lazy expiry on read.
+     *
+     * @return the scheduled value when the key has been expired and removed from the wheel, otherwise null.
+     */
+    V expired(final K key) {
+        final Deadline<V> deadline = this.deadlines.get(key);
+        if (null != deadline && deadline.at <= System.currentTimeMillis()
+                && this.deadlines.remove(key, deadline)) {
+            this.expiredOnRead.incrementAndGet();
+            return deadline.value;
+        }
+        return null;
+    }
+
+    /**
+     * Visit all the buckets from cursor to now ( at most one cycle ).
+     *
+     * @return the number of expired keys.
+     */
+    synchronized int advance(final long now) {
+        if (this.lazy) {
+            return 0;
+        }
+        final long current = now / this.tick;
+        // The bucket of cursor is visited again because it may contain later deadlines of the same tick.
+        final long start = Math.max(this.cursor, current - this.buckets.length + 1);
+        int count = 0;
+        for (long at = start; at <= current; at++) {
+            final Iterator<Entry<K>> it = this.buckets[(int) (at % this.buckets.length)].iterator();
+            while (it.hasNext()) {
+                final Entry<K> entry = it.next();
+                final Deadline<V> deadline = this.deadlines.get(entry.key);
+                if (null == deadline || entry.deadline != deadline.at) {
+                    it.remove();
+                } else if (entry.deadline <= now && this.deadlines.remove(entry.key, deadline)) {
+                    // Refreshed at the same time, the entry is visited again.
+                    it.remove();
+                    this.expiry.accept(entry.key, deadline.value);
+                    count++;
+                }
+            }
+        }
+        this.cursor = current;
+        this.expired.addAndGet(count);
+        return count;
+    }
+
+    JsonObject statistics() {
+        return new JsonObject()
+                .put("mode", this.lazy ? MODE_LAZY : MODE_WHEEL)
+                .put("pending", this.deadlines.size())
+                .put("scheduled", this.scheduled.get())
+                .put("expired", this.expired.get())
+                .put("expiredOnRead", this.expiredOnRead.get());
+    }
+
+    private static class Deadline<V> {
+        private final transient long at;
+        private final transient V value;
+
+        private Deadline(final long at, final V value) {
+            this.at = at;
+            this.value = value;
+        }
+    }
+
+    private static class Entry<K> {
+        private final transient K key;
+        private final transient long deadline;
+
+        private Entry(final K key, final long deadline) {
+            this.key = key;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -11,4 +11,6 @@ interface Info {
     String INFO_TIMER_PUT = "[ ZERO ] ( Timer ) You called timer put method, the key \"{0}\" will be expired in {1} seconds";
 
     String INFO_TIMER_EXPIRE = "[ ZERO ] ( Timer ) The key \"{0}\" refered data has been removed.";
+
+    String INFO_WHEEL = "[ ZERO ] ( Timer ) The ttl wheel of shared map \"{0}\" has been started: config = {1}";
 }
@@ -7,6 +7,7 @@ import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.up.atom.Envelop;
 import io.vertx.up.atom.agent.Event;
+import io.vertx.up.atom.agent.Plan;
 import io.vertx.up.atom.hold.Virtual;
 import io.vertx.up.rs.Aim;
 import io.zero.epic.fn.Fn;
@@ -15,14 +16,15 @@ public class AsyncAim extends BaseAim implements Aim<RoutingContext> {
 
     @Override
     public Handler<RoutingContext> attack(final Event event) {
+        final Plan plan = this.plan(event);
         return Fn.getNull(() -> (context) -> Responser.exec(() -> {
             // 1. Build Envelop
-            final Envelop request = this.invoke(context, event);
+            final Envelop request = this.invoke(context, plan);
             // 2. Build event bus
             final Vertx vertx = context.vertx();
             final EventBus bus = vertx.eventBus();
             // 3. Send message
-            final String address = this.address(event);
+            final String address = plan.getAddress();
             bus.<Envelop>send(address, request, handler -> {
                 final Envelop response;
                 if (handler.succeeded()) {
@@ -37,10 +39,10 @@ public class AsyncAim extends BaseAim implements Aim<RoutingContext> {
     }
 
     private Envelop invoke(final RoutingContext context,
-                           final Event event) {
-        final Object proxy = event.getProxy();
+                           final Plan plan) {
+        final Object proxy = plan.getEvent().getProxy();
         // 1. Build Arguments
-        final Object[] arguments = this.buildArgs(context, event);
+        final Object[] arguments = this.buildArgs(context, plan.getEvent());
         // Interface direct
         final Envelop invoked;
         if (Virtual.is(proxy)) {
@@ -52,7 +54,7 @@ public class AsyncAim extends BaseAim implements Aim<RoutingContext> {
             invoked = Flower.continuous(context, message);
         } else {
             // 2.2. Method call
-            final Object returnValue = this.invoke(event, arguments);
+            final Object returnValue = this.invoke(plan, arguments);
             invoked = Flower.continuous(context, returnValue);
         }
         // 3. Envelop injection for User/Headers
@@ -3,23 +3,24 @@ package io.vertx.up.rs.hunt;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.eventbus.Message;
 import io.vertx.ext.web.RoutingContext;
-import io.vertx.up.annotations.Address;
 import io.vertx.up.atom.Envelop;
 import io.vertx.up.atom.Rule;
 import io.vertx.up.atom.agent.Depot;
 import io.vertx.up.atom.agent.Event;
+import io.vertx.up.atom.agent.Plan;
 import io.vertx.up.eon.ID;
 import io.vertx.up.exception.WebException;
 import io.vertx.up.exception._500DeliveryErrorException;
 import io.vertx.up.exception._500EntityCastException;
+import io.vertx.up.exception._500InternalServerException;
 import io.vertx.up.log.Annal;
 import io.vertx.up.media.Analyzer;
 import io.vertx.up.media.MediaAnalyzer;
+import io.vertx.up.media.resolver.FileResolver;
 import io.vertx.up.rs.validation.Validator;
 import io.zero.epic.Ut;
 import io.zero.epic.fn.Fn;
 
-import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
@@ -55,27 +56,25 @@ public abstract class BaseAim {
 
 
     /**
-     * Get event bus address.
+     * Get invocation plan, it should be called in `attack` instead of each request.
      *
      * @param event
      * @return
      */
-    protected String address(final Event event) {
-        final Method method = event.getAction();
-        final Annotation annotation = method.getDeclaredAnnotation(Address.class);
-        return Ut.invoke(annotation, "value");
+    protected Plan plan(final Event event) {
+        return Fn.getNull(null, () -> Plan.get(event), event);
     }
 
     /**
-     * @param event
+     * @param plan
      * @param args
      * @return
      */
-    protected Object invoke(final Event event, final Object[] args) {
-        final Method method = event.getAction();
+    protected Object invoke(final Plan plan, final Object[] args) {
+        final Method method = plan.getEvent().getAction();
         this.getLogger().info("[ ZERO-DEBUG ] Method = {0}, Args = {1}",
                 method.getName(), Ut.fromJoin(args));
-        return Ut.invoke(event.getProxy(), method.getName(), args);
+        return plan.invoke(args);
     }
 
     protected Envelop failure(final String address,
@@ -115,6 +114,24 @@ public abstract class BaseAim {
     protected void executeRequest(final RoutingContext context,
                                   final Map<String, List<Rule>> rulers,
                                   final Depot depot) {
+        if (Plan.get(depot.getEvent()).isUpload()) {
+            // The content of uploaded file is read asynchronously, the event loop is not blocked.
+            FileResolver.preload(context, handler -> {
+                if (handler.succeeded()) {
+                    this.executeArgs(context, rulers, depot);
+                } else {
+                    Flower.replyError(context, new _500InternalServerException(this.getClass(),
+                            handler.cause().getMessage()), depot.getEvent());
+                }
+            });
+        } else {
+            this.executeArgs(context, rulers, depot);
+        }
+    }
+
+    private void executeArgs(final RoutingContext context,
+                             final Map<String, List<Rule>> rulers,
+                             final Depot depot) {
         try {
             final Object[] args = this.buildArgs(context, depot.getEvent());
             // Execute web flow and uniform call.
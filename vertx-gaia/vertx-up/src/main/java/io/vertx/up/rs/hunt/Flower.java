@@ -1,11 +1,11 @@
 package io.vertx.up.rs.hunt;
 
 import io.vertx.ext.web.RoutingContext;
-import io.vertx.up.annotations.Codex;
 import io.vertx.up.atom.Envelop;
 import io.vertx.up.atom.Rule;
 import io.vertx.up.atom.agent.Depot;
 import io.vertx.up.atom.agent.Event;
+import io.vertx.up.atom.agent.Plan;
 import io.vertx.up.atom.hold.Virtual;
 import io.vertx.up.exception.WebException;
 import io.vertx.up.log.Annal;
@@ -14,7 +14,6 @@ import io.vertx.up.rs.validation.Validator;
 import io.zero.epic.container.KeyPair;
 
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
 import java.util.List;
 import java.util.Map;
 
@@ -42,7 +41,7 @@ class Flower {
         if (null == error) {
 
             // Check if annotated with @Codex
-            final KeyPair<Integer, Class<?>> found = findParameter(depot.getEvent().getAction());
+            final KeyPair<Integer, Class<?>> found = Plan.get(depot.getEvent()).getCodex();
             if (null == found.getValue()) {
                 context.next();
             } else {
@@ -57,20 +56,6 @@ class Flower {
         }
     }
 
-    private static KeyPair<Integer, Class<?>> findParameter(
-            final Method method) {
-        int index = 0;
-        final KeyPair<Integer, Class<?>> result = KeyPair.create();
-        for (final Parameter parameter : method.getParameters()) {
-            if (parameter.isAnnotationPresent(Codex.class)) {
-                result.set(index, parameter.getType());
-                break;
-            }
-            index++;
-        }
-        return result;
-    }
-
     private static void verifyCodex(final RoutingContext context,
                                     final Map<String, List<Rule>> rulers,
                                     final Depot depot,
@@ -5,6 +5,7 @@ import io.vertx.core.Handler;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.up.atom.Envelop;
 import io.vertx.up.atom.agent.Event;
+import io.vertx.up.atom.agent.Plan;
 import io.vertx.up.micro.ipc.client.TunnelClient;
 import io.vertx.up.rs.Aim;
 import io.zero.epic.fn.Fn;
@@ -13,12 +14,13 @@ public class IpcAim extends BaseAim implements Aim<RoutingContext> {
 
     @Override
     public Handler<RoutingContext> attack(final Event event) {
+        final Plan plan = this.plan(event);
         return Fn.getNull(() -> (context) -> Responser.exec(() -> {
             // 1. Build Arguments
             final Object[] arguments = this.buildArgs(context, event);
 
             // 2. Method call
-            final Object result = this.invoke(event, arguments);
+            final Object result = this.invoke(plan, arguments);
 
             // 3. Resource model building
             final Envelop data = Flower.continuous(context, result);
@@ -6,6 +6,7 @@ import io.vertx.core.eventbus.EventBus;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.up.atom.Envelop;
 import io.vertx.up.atom.agent.Event;
+import io.vertx.up.atom.agent.Plan;
 import io.vertx.up.rs.Aim;
 import io.zero.epic.fn.Fn;
 
@@ -16,19 +17,20 @@ public class OneWayAim extends BaseAim implements Aim<RoutingContext> {
 
     @Override
     public Handler<RoutingContext> attack(final Event event) {
+        final Plan plan = this.plan(event);
         return Fn.getNull(() -> (context) -> Responser.exec(() -> {
             // 1. Build Arguments
             final Object[] arguments = this.buildArgs(context, event);
 
             // 2. Method callxx
-            final Object returnValue = this.invoke(event, arguments);
+            final Object returnValue = this.invoke(plan, arguments);
             final Envelop request = Flower.continuous(context, returnValue);
 
             // 3. Build event bus
             final Vertx vertx = context.vertx();
             final EventBus bus = vertx.eventBus();
             // 4. Send message
-            final String address = this.address(event);
+            final String address = plan.getAddress();
             bus.<Envelop>send(address, request, handler -> {
                 final Envelop response;
                 if (handler.succeeded()) {
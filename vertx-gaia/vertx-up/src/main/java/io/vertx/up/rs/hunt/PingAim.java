@@ -4,6 +4,7 @@ import io.vertx.core.Handler;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.up.atom.Envelop;
 import io.vertx.up.atom.agent.Event;
+import io.vertx.up.atom.agent.Plan;
 import io.vertx.up.rs.Aim;
 import io.zero.epic.Ut;
 import io.zero.epic.fn.Fn;
@@ -15,12 +16,13 @@ public class PingAim extends BaseAim implements Aim<RoutingContext> {
 
     @Override
     public Handler<RoutingContext> attack(final Event event) {
+        final Plan plan = this.plan(event);
         return Fn.getNull(() -> (context) -> Responser.exec(() -> {
             // 1. Build Arguments
             final Object[] arguments = this.buildArgs(context, event);
 
             // 2. Method call
-            final Object invoked = this.invoke(event, arguments);
+            final Object invoked = this.invoke(plan, arguments);
             // 3. Resource model building
             final Envelop data;
             if (Ut.isBoolean(invoked)) {
@@ -1,9 +1,13 @@
 package io.vertx.up.rs.hunt;
 
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.up.atom.Envelop;
 import io.vertx.up.atom.agent.Event;
+import io.vertx.up.atom.agent.Plan;
+import io.vertx.up.exception.WebException;
+import io.vertx.up.exception._500InternalServerException;
 import io.vertx.up.rs.Aim;
 import io.zero.epic.fn.Fn;
 
@@ -13,16 +17,32 @@ import io.zero.epic.fn.Fn;
 public class SyncAim extends BaseAim implements Aim<RoutingContext> {
     @Override
     public Handler<RoutingContext> attack(final Event event) {
+        final Plan plan = this.plan(event);
         return Fn.getNull(() -> (context) -> Responser.exec(() -> {
             // 1. Build Arguments
             final Object[] arguments = this.buildArgs(context, event);
             // 2. Method call
-            final Object result = this.invoke(event, arguments);
+            final Object result = this.invoke(plan, arguments);
 
-            // 3. Resource model building
-            final Envelop data = Flower.continuous(context, result);
-            // 4. Process modal
-            Answer.reply(context, data, event);
+            if (result instanceof Future) {
+                // Asynchronous result, i.e. the body is consumed as stream
+                ((Future<?>) result).setHandler(handler -> {
+                    final Envelop data;
+                    if (handler.succeeded()) {
+                        data = Flower.continuous(context, handler.result());
+                    } else {
+                        final Throwable error = handler.cause();
+                        data = Envelop.failure(error instanceof WebException ? (WebException) error :
+                                new _500InternalServerException(this.getClass(), error.getMessage()));
+                    }
+                    Answer.reply(context, data, event);
+                });
+            } else {
+                // 3. Resource model building
+                final Envelop data = Flower.continuous(context, result);
+                // 4. Process modal
+                Answer.reply(context, data, event);
+            }
 
         }, context, event), event);
     }
@@ -0,0 +1,153 @@
+package io.vertx.up.rs.router;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.Route;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.handler.BodyHandler;
+import io.vertx.up.annotations.Body;
+import io.vertx.up.atom.Envelop;
+import io.vertx.up.atom.Epsilon;
+import io.vertx.up.atom.agent.Event;
+import io.vertx.up.atom.agent.Plan;
+import io.vertx.up.eon.ID;
+import io.vertx.up.eon.Orders;
+import io.vertx.up.eon.em.BodyMode;
+import io.vertx.up.eon.em.MimeFlow;
+import io.vertx.up.exception._413RequestTooLargeException;
+import io.vertx.up.log.Annal;
+import io.vertx.up.rs.hunt.Answer;
+import io.vertx.zero.marshal.node.Node;
+import io.vertx.zero.marshal.node.ZeroVertx;
+import io.zero.epic.Ut;
+
+import javax.ws.rs.FormParam;
+import javax.ws.rs.StreamParam;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Hub for request body
+ * Register body handler of current route ( before default body handler ) by @Body / `zero.body`:
+ * 1. BUFFER: Body handler with limit / upload directory / delete on end;
+ * 2. NONE: The body is not read, default for GET / DELETE routes without body parameter;
+ * 3. STREAM: The request is paused, it's passed to @StreamParam as ReadStream<Buffer>.
+ */
+public class BodyHub implements Hub<Route> {
+
+    private static final Annal LOGGER = Annal.get(BodyHub.class);
+
+    private static final Node<JsonObject> VERTX = Ut.singleton(ZeroVertx.class);
+
+    private static final String LIMIT = "limit";
+    private static final String UPLOADS = "uploads";
+    private static final String DELETE_ON_END = "deleteOnEnd";
+    private static final String EMPTY = "empty";
+
+    private static final int TOO_LARGE = 413;
+
+    private transient final JsonObject config;
+    private transient final Set<HttpMethod> empty = new HashSet<>();
+
+    public BodyHub() {
+        this(Ut.visitJObject(VERTX.read(), "body"));
+    }
+
+    BodyHub(final JsonObject config) {
+        this.config = null == config ? new JsonObject() : config;
+        final JsonArray methods = this.config.getJsonArray(EMPTY, new JsonArray()
+                .add(HttpMethod.GET.name()).add(HttpMethod.DELETE.name()));
+        methods.forEach(method -> this.empty.add(HttpMethod.valueOf(method.toString())));
+    }
+
+    @Override
+    public void mount(final Route route,
+                      final Event event) {
+        if (null == event.getMethod()) {
+            route.path(event.getPath());
+        } else {
+            route.path(event.getPath()).method(event.getMethod());
+        }
+        route.order(Orders.BODY_ROUTE);
+        final Body body = event.getAction().getDeclaredAnnotation(Body.class);
+        final BodyMode mode = this.mode(event, body);
+        LOGGER.info(Info.BODY_MODE, event.getPath(), event.getMethod(), mode);
+        if (BodyMode.STREAM == mode) {
+            route.handler(this::stream);
+        } else if (BodyMode.NONE == mode) {
+            route.handler(context -> {
+                context.put(ID.BODY_HANDLED, mode);
+                context.next();
+            });
+        } else {
+            final long limit = null == body || 0 > body.limit() ?
+                    this.config.getLong(LIMIT, BodyHandler.DEFAULT_BODY_LIMIT) : body.limit();
+            final String uploads = null == body || Ut.isNil(body.uploads()) ?
+                    this.config.getString(UPLOADS, BodyHandler.DEFAULT_UPLOADS_DIRECTORY) : body.uploads();
+            final boolean deleteOnEnd = (null != body && body.deleteOnEnd())
+                    || this.config.getBoolean(DELETE_ON_END, BodyHandler.DEFAULT_DELETE_UPLOADED_FILES_ON_END);
+            final Handler<RoutingContext> handler = BodyHandler.create(uploads)
+                    .setBodyLimit(limit)
+                    .setDeleteUploadedFilesOnEnd(deleteOnEnd);
+            route.handler(context -> {
+                context.put(ID.BODY_HANDLED, mode);
+                handler.handle(context);
+            }).failureHandler(context -> {
+                if (TOO_LARGE == context.statusCode()) {
+                    Answer.reply(context, Envelop.failure(new _413RequestTooLargeException(this.getClass(),
+                            context.request().uri(), limit)));
+                } else {
+                    context.next();
+                }
+            });
+        }
+    }
+
+    /*
+     * Pause the request before any asynchronous handler ( security etc. ), the stream will be resumed
+     * when the handler is set, or when the response is ended without reading.
+     */
+    private void stream(final RoutingContext context) {
+        final HttpServerRequest request = context.request();
+        context.put(ID.BODY_HANDLED, BodyMode.STREAM);
+        request.pause();
+        context.addBodyEndHandler(nil -> {
+            if (!request.isEnded()) {
+                request.resume();
+            }
+        });
+        context.next();
+    }
+
+    BodyMode mode(final Event event, final Body body) {
+        final List<Epsilon<Object>> epsilons = Plan.get(event).getEpsilons();
+        if (epsilons.stream().anyMatch(item -> null != item.getAnnotation()
+                && StreamParam.class == item.getAnnotation().annotationType())) {
+            return BodyMode.STREAM;
+        } else if (null != body) {
+            return body.value();
+        } else if (this.empty.contains(event.getMethod())
+                && epsilons.stream().noneMatch(this::isBody)) {
+            return BodyMode.NONE;
+        } else {
+            return BodyMode.BUFFER;
+        }
+    }
+
+    private boolean isBody(final Epsilon<Object> epsilon) {
+        if (MimeFlow.RESOLVER == epsilon.getMime()) {
+            return true;
+        } else if (MimeFlow.TYPED == epsilon.getMime()) {
+            final Class<?> type = epsilon.getArgType();
+            return JsonObject.class == type || JsonArray.class == type
+                    || Buffer.class == type || Set.class == type;
+        } else {
+            return FormParam.class == epsilon.getAnnotation().annotationType();
+        }
+    }
+}
@@ -5,6 +5,7 @@ import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.up.atom.agent.Depot;
 import io.vertx.up.atom.agent.Event;
+import io.vertx.up.atom.agent.Plan;
 import io.vertx.up.log.Annal;
 import io.vertx.up.rs.Aim;
 import io.vertx.up.rs.Axis;
@@ -63,9 +64,15 @@ public class EventAxis implements Axis<Router> {
                     hub = Fn.poolThread(Pool.MEDIAHUBS,
                             () -> Ut.instance(MediaHub.class));
                     hub.mount(route, event);
+                    // 3.1. Body of current route ( another route before default body handler )
+                    hub = Fn.poolThread(Pool.BODYHUBS,
+                            () -> Ut.instance(BodyHub.class));
+                    hub.mount(router.route(), event);
 
                     // 4. Request validation
                     final Depot depot = Depot.create(event);
+                    // Invocation plan, compiled once here instead of each request.
+                    Plan.get(event);
                     // 5. Request workflow executor: handler
                     final Aim<RoutingContext> aim = this.splitter.distribute(event);
 
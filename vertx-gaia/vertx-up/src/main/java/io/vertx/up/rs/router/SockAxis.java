@@ -1,11 +1,62 @@
 package io.vertx.up.rs.router;
 
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.Router;
+import io.vertx.ext.web.handler.sockjs.SockJSHandler;
+import io.vertx.ext.web.handler.sockjs.SockJSHandlerOptions;
+import io.vertx.up.eon.Orders;
 import io.vertx.up.rs.Axis;
+import io.vertx.up.web.ZeroAnno;
+import io.vertx.zero.marshal.node.Node;
+import io.vertx.zero.marshal.node.ZeroVertx;
+import io.zero.epic.Ut;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Socket endpoints ( @Sock ) mount, configured by `zero.sock`, each endpoint
+ * accepts SockJS transports and raw websocket ( `{path}/websocket` ).
+ * The connections are authenticated by @Wall handlers of WallAxis ( handshake request ).
+ */
 public class SockAxis implements Axis<Router> {
+
+    private static final Node<JsonObject> VERTX = Ut.singleton(ZeroVertx.class);
+
+    private static final String HEARTBEAT = "heartbeat";
+
+    private transient final Vertx vertx;
+    private transient final JsonObject config;
+    private transient final Set<Class<?>> socks;
+    private transient final ConcurrentMap<String, SockChannel> channels = new ConcurrentHashMap<>();
+
+    public SockAxis(final Vertx vertx) {
+        this(vertx, Ut.visitJObject(VERTX.read(), "sock"), ZeroAnno.getSocks());
+    }
+
+    SockAxis(final Vertx vertx, final JsonObject config, final Set<Class<?>> socks) {
+        this.vertx = vertx;
+        this.config = null == config ? new JsonObject() : config;
+        this.socks = socks;
+    }
+
     @Override
     public void mount(final Router router) {
-        
+        final SockJSHandlerOptions options = new SockJSHandlerOptions()
+                .setHeartbeatInterval(this.config.getLong(HEARTBEAT,
+                        SockJSHandlerOptions.DEFAULT_HEARTBEAT_INTERVAL));
+        this.socks.forEach(clazz -> {
+            final SockChannel channel = new SockChannel(this.vertx, clazz, this.config);
+            channel.start();
+            this.channels.put(channel.getPath(), channel);
+            router.route(channel.getPath() + "/*").order(Orders.EVENT)
+                    .handler(SockJSHandler.create(this.vertx, options).socketHandler(channel.handler()));
+        });
+    }
+
+    SockChannel channel(final String path) {
+        return this.channels.get(path);
     }
 }
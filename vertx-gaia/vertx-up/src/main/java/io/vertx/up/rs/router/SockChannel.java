@@ -0,0 +1,201 @@
+package io.vertx.up.rs.router;
+
+import com.esotericsoftware.reflectasm.MethodAccess;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.handler.sockjs.SockJSSocket;
+import io.vertx.up.annotations.Address;
+import io.vertx.up.annotations.Sock;
+import io.vertx.up.atom.Envelop;
+import io.vertx.up.exception.WebException;
+import io.vertx.up.exception._400BadRequestException;
+import io.vertx.up.exception._500DeliveryErrorException;
+import io.vertx.up.exception._500InternalServerException;
+import io.vertx.up.log.Annal;
+import io.zero.epic.Ut;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Connections of one @Sock endpoint
+ * 1. Frame from client -> Envelop method ( -> @Address ) -> Frame to current connection;
+ * 2. Envelop on broadcast address -> Frame to all connections, encoded once,
+ * the connection of which write queue is full skips the frame ( backpressure );
+ * 3. "ping" -> "pong", the connection without any frame in `idle` ms is closed.
+ */
+class SockChannel {
+
+    static final String PING = "ping";
+    static final String PONG = "pong";
+
+    private static final Annal LOGGER = Annal.get(SockChannel.class);
+
+    private static final String IDLE = "idle";
+    private static final String WRITE_QUEUE = "writeQueue";
+
+    private transient final Vertx vertx;
+    private transient final String path;
+    private transient final String broadcast;
+    private transient final long idle;
+    private transient final int writeQueue;
+    /* Connection -> Last active time */
+    private transient final ConcurrentMap<SockJSSocket, Long> sockets = new ConcurrentHashMap<>();
+    private transient final AtomicLong dropped = new AtomicLong();
+
+    private transient Object proxy;
+    private transient Method action;
+    private transient MethodAccess access;
+    private transient int index;
+    private transient String address;
+
+    SockChannel(final Vertx vertx, final Class<?> clazz, final JsonObject config) {
+        this.vertx = vertx;
+        final Sock sock = clazz.getAnnotation(Sock.class);
+        this.path = sock.value();
+        this.broadcast = sock.broadcast();
+        this.idle = config.getLong(IDLE, 0L);
+        this.writeQueue = config.getInteger(WRITE_QUEUE, 65536);
+        this.action = Arrays.stream(clazz.getDeclaredMethods())
+                .filter(method -> Modifier.isPublic(method.getModifiers()))
+                .filter(method -> 1 == method.getParameterCount()
+                        && Envelop.class == method.getParameterTypes()[0])
+                .min(Comparator.comparing(Method::getName)).orElse(null);
+        if (null != this.action) {
+            this.proxy = Ut.singleton(clazz);
+            this.access = MethodAccess.get(this.proxy.getClass());
+            this.index = this.access.getIndex(this.action.getName(), Envelop.class);
+            this.address = this.action.isAnnotationPresent(Address.class) ?
+                    this.action.getAnnotation(Address.class).value() : null;
+        }
+        LOGGER.info(Info.SOCK_MOUNT, clazz.getName(), this.path,
+                null == this.action ? null : this.action.getName(), this.broadcast);
+    }
+
+    String getPath() {
+        return this.path;
+    }
+
+    int size() {
+        return this.sockets.size();
+    }
+
+    long dropped() {
+        return this.dropped.get();
+    }
+
+    /**
+     * Subscribe broadcast address and start idle checking, it should be called in
+     * the context of agent, then the frames are written on the event loop of connections.
+     */
+    void start() {
+        if (!Ut.isNil(this.broadcast)) {
+            this.vertx.eventBus().<Envelop>consumer(this.broadcast,
+                    message -> this.broadcast(message.body()));
+        }
+        if (0 < this.idle) {
+            this.vertx.setPeriodic(Math.max(this.idle / 2, 100L), id -> this.expire());
+        }
+    }
+
+    Handler<SockJSSocket> handler() {
+        return socket -> {
+            this.sockets.put(socket, System.currentTimeMillis());
+            socket.setWriteQueueMaxSize(this.writeQueue);
+            socket.handler(buffer -> this.receive(socket, buffer));
+            socket.exceptionHandler(error -> socket.close());
+            socket.endHandler(nil -> this.sockets.remove(socket));
+        };
+    }
+
+    void broadcast(final Envelop envelop) {
+        final Buffer frame = Buffer.buffer(envelop.responseString());
+        this.sockets.keySet().forEach(socket -> {
+            if (socket.writeQueueFull()) {
+                this.dropped.incrementAndGet();
+                LOGGER.debug(Info.SOCK_DROPPED, socket.remoteAddress(), this.path);
+            } else {
+                socket.write(frame);
+            }
+        });
+    }
+
+    private void expire() {
+        final long now = System.currentTimeMillis();
+        this.sockets.forEach((socket, active) -> {
+            if (this.idle < now - active) {
+                LOGGER.info(Info.SOCK_IDLE, socket.remoteAddress(), this.path, this.idle);
+                this.sockets.remove(socket);
+                socket.close();
+            }
+        });
+    }
+
+    private void receive(final SockJSSocket socket, final Buffer buffer) {
+        this.sockets.put(socket, System.currentTimeMillis());
+        if (PING.equals(buffer.toString())) {
+            socket.write(Buffer.buffer(PONG));
+        } else if (null != this.action) {
+            final Envelop request;
+            try {
+                request = Envelop.success(buffer.toJsonObject());
+            } catch (final DecodeException ex) {
+                this.reply(socket, Envelop.failure(new _400BadRequestException(this.getClass())));
+                return;
+            }
+            request.setUser(socket.webUser());
+            request.setSession(socket.webSession());
+            request.setHeaders(socket.headers());
+            try {
+                this.reply(socket, this.access.invoke(this.proxy, this.index, request));
+            } catch (final WebException ex) {
+                this.reply(socket, Envelop.failure(ex));
+            } catch (final Throwable ex) {
+                LOGGER.jvm(ex);
+                this.reply(socket, Envelop.failure(new _500InternalServerException(this.getClass(), ex.getMessage())));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void reply(final SockJSSocket socket, final Object result) {
+        if (result instanceof Future) {
+            ((Future<Object>) result).setHandler(handler -> {
+                if (handler.succeeded()) {
+                    this.reply(socket, handler.result());
+                } else {
+                    final Throwable error = handler.cause();
+                    this.write(socket, Envelop.failure(error instanceof WebException ? (WebException) error :
+                            new _500InternalServerException(this.getClass(), error.getMessage())));
+                }
+            });
+        } else if (null != result) {
+            final Envelop envelop = result instanceof Envelop ? (Envelop) result : Envelop.success(result);
+            if (null == this.address || null != envelop.error()) {
+                this.write(socket, envelop);
+            } else {
+                this.vertx.eventBus().<Envelop>send(this.address, envelop, handler -> {
+                    if (handler.succeeded()) {
+                        this.write(socket, handler.result().body());
+                    } else {
+                        this.write(socket, Envelop.failure(new _500DeliveryErrorException(this.getClass(),
+                                this.address, handler.cause().getMessage())));
+                    }
+                });
+            }
+        }
+    }
+
+    private void write(final SockJSSocket socket, final Envelop envelop) {
+        socket.write(Buffer.buffer(envelop.responseString()));
+    }
+}
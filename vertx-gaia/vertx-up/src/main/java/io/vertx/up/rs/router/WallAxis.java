@@ -14,6 +14,7 @@ import io.vertx.up.rs.secure.Bolt;
 import io.vertx.up.web.ZeroAnno;
 import io.vertx.up.web.failure.AuthenticateEndurer;
 import io.vertx.zero.eon.Values;
+import io.zero.epic.Ut;
 
 import java.util.Set;
 import java.util.TreeSet;
@@ -42,18 +43,20 @@ public class WallAxis implements Axis<Router> {
 
     private transient final Vertx vertx;
     private transient final Bolt bolt;
+    private transient final WebScope scope;
 
     public WallAxis(final Vertx vertx) {
         this.vertx = vertx;
         this.bolt = Bolt.get();
+        this.scope = Ut.singleton(WebScope.class);
     }
 
     @Override
     public void mount(final Router router) {
-        // Session Global for Authorzation
-        router.route().order(Orders.SESSION).handler(
-                SessionHandler.create(LocalSessionStore.create(this.vertx))
-        );
+        // Session for selected paths only, stateless routes do not create session
+        if (!this.scope.getSessions().isEmpty()) {
+            this.scope.session(router, SessionHandler.create(LocalSessionStore.create(this.vertx)));
+        }
         Pool.WALL_MAP.forEach((path, cliffes) -> {
             // 1. Build Handler
             final AuthHandler handler = this.create(this.vertx, cliffes);
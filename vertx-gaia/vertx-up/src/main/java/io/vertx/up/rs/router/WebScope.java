@@ -0,0 +1,211 @@
+package io.vertx.up.rs.router;
+
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.Session;
+import io.vertx.ext.web.handler.CookieHandler;
+import io.vertx.ext.web.handler.CorsHandler;
+import io.vertx.ext.web.handler.SessionHandler;
+import io.vertx.up.annotations.Cors;
+import io.vertx.up.annotations.SessionData;
+import io.vertx.up.annotations.Stateful;
+import io.vertx.up.atom.agent.Event;
+import io.vertx.up.eon.Orders;
+import io.vertx.up.log.Annal;
+import io.vertx.up.web.ZeroAnno;
+import io.vertx.zero.marshal.node.Node;
+import io.vertx.zero.marshal.node.ZeroVertx;
+import io.zero.epic.Ut;
+
+import javax.ws.rs.CookieParam;
+import javax.ws.rs.SessionParam;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Paths of cookie / session / cors handlers, stateless routes do not pay for them.
+ * 1. The path patterns of `zero.web`;
+ * 2. The routes of @Stateful / @Cors class or method;
+ * 3. The routes that read cookie ( @CookieParam ) or session ( @SessionParam, @SessionData, Session );
+ * 4. The paths of @WebFilter, the filter may read session / cookie of context ( HttpFilter ).
+ * The session paths are cookie paths also because the session id is stored in cookie.
+ * The session of @Address / @Queue worker ( Ux.getSession ) comes from the route that sent the message,
+ * the route should be @Stateful or configured in `session`.
+ */
+public class WebScope {
+
+    private static final Annal LOGGER = Annal.get(WebScope.class);
+
+    private static final Node<JsonObject> VERTX = Ut.singleton(ZeroVertx.class);
+
+    private static final String COOKIE = "cookie";
+    private static final String SESSION = "session";
+    private static final String CORS = "cors";
+    private static final String PATHS = "paths";
+    private static final String ORIGINS = "origins";
+    private static final String CREDENTIALS = "credentials";
+    private static final String MAX_AGE = "maxAge";
+    private static final String HEADERS = "headers";
+    private static final String METHODS = "methods";
+    private static final String ANY = "*";
+
+    private transient final JsonObject config;
+    private transient final Set<String> cookies = new TreeSet<>();
+    private transient final Set<String> sessions = new TreeSet<>();
+    private transient final Set<String> cors = new TreeSet<>();
+
+    public WebScope() {
+        this(Ut.visitJObject(VERTX.read(), "web"), ZeroAnno.getEvents(), ZeroAnno.getFilters().values().stream()
+                .flatMap(Set::stream).collect(Collectors.toSet()));
+    }
+
+    /**
+     * Scope of given `web` config and events instead of the scanned ones, such as benchmark.
+     */
+    public static WebScope create(final JsonObject config, final Set<Event> events) {
+        return new WebScope(config, events);
+    }
+
+    WebScope(final JsonObject config, final Set<Event> events) {
+        this(config, events, new HashSet<>());
+    }
+
+    WebScope(final JsonObject config, final Set<Event> events, final Set<Event> filters) {
+        this.config = null == config ? new JsonObject() : config;
+        final JsonObject cors = this.config.getJsonObject(CORS, new JsonObject());
+        this.sessions.addAll(this.paths(this.config.getJsonArray(SESSION)));
+        this.cookies.addAll(this.paths(this.config.getJsonArray(COOKIE)));
+        this.cors.addAll(this.paths(cors.getJsonArray(PATHS)));
+        events.stream().filter(event -> null != event && null != event.getAction()).forEach(event -> {
+            final Method action = event.getAction();
+            if (this.isSession(action)) {
+                this.sessions.add(event.getPath());
+            } else if (this.isCookie(action)) {
+                this.cookies.add(event.getPath());
+            }
+            if (this.isAnnotated(action, Cors.class)) {
+                this.cors.add(event.getPath());
+            }
+        });
+        filters.stream().filter(Objects::nonNull).forEach(filter -> this.sessions.add(filter.getPath()));
+        this.cookies.addAll(this.sessions);
+    }
+
+    public Set<String> getCookies() {
+        return this.cookies;
+    }
+
+    public Set<String> getSessions() {
+        return this.sessions;
+    }
+
+    public Set<String> getCors() {
+        return this.cors;
+    }
+
+    /**
+     * Mount cookie handler on cookie paths.
+     *
+     * @param router Router of vertx
+     */
+    public void cookie(final Router router) {
+        this.mount(router, COOKIE, this.cookies, Orders.COOKIE, CookieHandler.create());
+    }
+
+    /**
+     * Mount session handler on session paths.
+     *
+     * @param router  Router of vertx
+     * @param handler Session handler that bind to session store.
+     */
+    public void session(final Router router, final SessionHandler handler) {
+        this.mount(router, SESSION, this.sessions, Orders.SESSION, handler);
+    }
+
+    /**
+     * Mount cors handler on cors paths, the preflight request is replied by
+     * cors handler directly and cached by browser in `maxAge` seconds.
+     *
+     * @param router Router of vertx
+     */
+    public void cors(final Router router) {
+        if (!this.cors.isEmpty()) {
+            this.mount(router, CORS, this.cors, Orders.CORS, this.corsHandler());
+        }
+    }
+
+    private void mount(final Router router, final String name, final Set<String> paths,
+                       final int order, final Handler<RoutingContext> handler) {
+        // The paths may overlap ( /api/* and /api/user ), the handler is executed once.
+        final String key = "$$" + name.toUpperCase() + "_HANDLED$$";
+        final Handler<RoutingContext> once = context -> {
+            if (null == context.get(key)) {
+                context.put(key, Boolean.TRUE);
+                handler.handle(context);
+            } else {
+                context.next();
+            }
+        };
+        paths.forEach(path -> {
+            LOGGER.info(Info.WEB_SCOPE, name, path);
+            router.route(path).order(order).handler(once);
+        });
+    }
+
+    private CorsHandler corsHandler() {
+        final JsonObject cors = this.config.getJsonObject(CORS, new JsonObject());
+        final JsonArray origins = cors.getJsonArray(ORIGINS, new JsonArray().add(ANY));
+        final String origin = origins.contains(ANY) ? ANY : origins.stream()
+                .map(item -> Pattern.quote(item.toString()))
+                .collect(Collectors.joining("|"));
+        final Set<String> headers = cors.getJsonArray(HEADERS, new JsonArray()).stream()
+                .map(Object::toString).collect(Collectors.toSet());
+        final Set<HttpMethod> methods = cors.getJsonArray(METHODS, new JsonArray()).stream()
+                .map(item -> HttpMethod.valueOf(item.toString())).collect(Collectors.toSet());
+        return CorsHandler.create(origin)
+                .allowCredentials(cors.getBoolean(CREDENTIALS, Boolean.FALSE))
+                .maxAgeSeconds(cors.getInteger(MAX_AGE, -1))
+                .allowedHeaders(headers)
+                .allowedMethods(methods);
+    }
+
+    private Set<String> paths(final JsonArray paths) {
+        final Set<String> result = new HashSet<>();
+        if (null != paths) {
+            paths.forEach(path -> result.add(path.toString()));
+        }
+        return result;
+    }
+
+    private boolean isSession(final Method action) {
+        return this.isAnnotated(action, Stateful.class)
+                || action.isAnnotationPresent(SessionData.class)
+                || Arrays.stream(action.getParameterTypes()).anyMatch(Session.class::isAssignableFrom)
+                || this.isParameter(action, annotation -> SessionParam.class == annotation.annotationType());
+    }
+
+    private boolean isCookie(final Method action) {
+        return this.isParameter(action, annotation -> CookieParam.class == annotation.annotationType());
+    }
+
+    private boolean isAnnotated(final Method action, final Class<? extends Annotation> clazz) {
+        return action.isAnnotationPresent(clazz) || action.getDeclaringClass().isAnnotationPresent(clazz);
+    }
+
+    private boolean isParameter(final Method action, final Predicate<Annotation> predicate) {
+        return Arrays.stream(action.getParameterAnnotations())
+                .flatMap(Arrays::stream).anyMatch(predicate);
+    }
+}
@@ -19,6 +19,16 @@ interface Info {
 
     String DY_SKIP = "[ ZERO ] ( {0} ) Skip dynamic routing because clazz is null or class {1} is not assignable from \"io.vertx.up.rs.PlugRouter\".";
 
+    String BODY_MODE = "[ ZERO ] ( Body ) The body of route {0} ( {1} ) is handled in mode {2}.";
+
+    String WEB_SCOPE = "[ ZERO ] ( Web ) The {0} handler is mounted on path {1}.";
+
+    String SOCK_MOUNT = "[ ZERO ] ( Sock ) The socket endpoint {0} is mounted on path {1}, handler = {2}, broadcast = {3}.";
+
+    String SOCK_DROPPED = "[ ZERO ] ( Sock ) The write queue of connection {0} on {1} is full, the broadcast frame is skipped.";
+
+    String SOCK_IDLE = "[ ZERO ] ( Sock ) The connection {0} on {1} is idle more than {2} ms and will be closed.";
+
     String DY_FOUND = "[ ZERO ] ( {0} ) Zero system detect class {1} ( io.vertx.up.rs.PlugRouter ) with config {2}.";
 }
 
@@ -34,6 +44,9 @@ interface Pool {
     ConcurrentMap<String, Hub<Route>> MEDIAHUBS
             = new ConcurrentHashMap<>();
 
+    ConcurrentMap<String, Hub<Route>> BODYHUBS
+            = new ConcurrentHashMap<>();
+
     ConcurrentMap<String, Set<Cliff>> WALL_MAP =
             new ConcurrentHashMap<>();
 
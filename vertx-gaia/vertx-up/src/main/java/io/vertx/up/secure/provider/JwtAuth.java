@@ -17,6 +17,16 @@ public interface JwtAuth extends AuthProvider {
         return new JwtAuthProvider(vertx, config, fnVerify);
     }
 
+    /**
+     * Create by secure config, the "cache" node of config is for local jwt cache ( enabled: true ).
+     */
+    static JwtAuth create(final Vertx vertx,
+                          final JsonObject config,
+                          final Function<JsonObject, Future<Boolean>> fnVerify) {
+        final JsonObject cache = config.getJsonObject("cache", new JsonObject());
+        return new JwtAuthProvider(vertx, new JWTAuthOptions(config), cache, fnVerify);
+    }
+
     static JwtAuth create(final Vertx vertx,
                           final JWTAuthOptions config) {
         return new JwtAuthProvider(vertx, config, null);
@@ -24,6 +34,19 @@ public interface JwtAuth extends AuthProvider {
 
     String generateToken(JsonObject data, JWTOptions options);
 
+    /**
+     * Revoke token such as logout, the cached principal will be removed from all nodes.
+     */
+    default void revoke(final String token) {
+    }
+
+    /**
+     * Unregister the revoke consumer of local cache, it's called when the context that created
+     * the provider is closed ( verticle undeployed ), or when the provider is replaced.
+     */
+    default void close() {
+    }
+
     default String generateToken(final JsonObject claims) {
         return this.generateToken(claims, new JWTOptions());
     }
@@ -1,9 +1,12 @@
 package io.vertx.up.secure.provider;
 
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Closeable;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.MessageConsumer;
 import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -14,6 +17,7 @@ import io.vertx.ext.auth.jwt.impl.JWTUser;
 import io.vertx.ext.jwt.JWT;
 import io.vertx.ext.jwt.JWTOptions;
 import io.vertx.up.aiki.Ux;
+import io.vertx.up.eon.ID;
 import io.vertx.up.exception.*;
 import io.vertx.up.log.Annal;
 import io.zero.epic.fn.Fn;
@@ -24,30 +28,74 @@ import java.util.function.Function;
 public class JwtAuthProvider implements JwtAuth {
     private static final JsonArray EMPTY_ARRAY = new JsonArray();
     private static final String AUTH_POOL = "JWT_AUTH_TOKEN_POOL";
+    private static final int CACHE_SIZE = 10000;
     private static final Annal LOGGER = Annal.get(JwtAuthProvider.class);
     private final JWT jwt;
     private final String permissionsClaimKey;
     private final JWTOptions jwtOptions;
     private final Function<JsonObject, Future<Boolean>> executor;
+    private final transient Vertx vertx;
+    private final transient JwtCache cache;
+    private final transient boolean broadcast;
+    private transient MessageConsumer<String> revoker;
+    private transient Context context;
+    private transient Closeable closer;
     private transient AsyncMap<String, Boolean> authorizeMap;
 
     public JwtAuthProvider(final Vertx vertx, final JWTAuthOptions config, final Function<JsonObject, Future<Boolean>> executor) {
+        this(vertx, config, new JsonObject(), executor);
+    }
+
+    /**
+     * @param vertx    Vertx instance
+     * @param config   Jwt auth options
+     * @param cache    Local cache configuration: enabled ( false by default ), size, ttl ( seconds ), broadcast,
+     *                 the shared async map of previous version is used when the cache is not enabled.
+     * @param executor Verification function when token is not cached
+     */
+    public JwtAuthProvider(final Vertx vertx, final JWTAuthOptions config, final JsonObject cache,
+                           final Function<JsonObject, Future<Boolean>> executor) {
+        this.vertx = vertx;
         this.executor = executor;
         this.permissionsClaimKey = config.getPermissionsClaimKey();
         this.jwtOptions = config.getJWTOptions();
         // File reading here.
         this.jwt = Ux.Jwt.create(config, vertx.fileSystem()::readFileBlocking);
-        vertx.sharedData().<String, Boolean>getAsyncMap(AUTH_POOL, res -> {
-            if (res.succeeded()) {
-                LOGGER.debug(Info.MAP_INITED, AUTH_POOL);
-                this.authorizeMap = res.result();
+        if (cache.getBoolean("enabled", Boolean.FALSE)) {
+            this.cache = new JwtCache(cache.getInteger("size", CACHE_SIZE), cache.getLong("ttl", 0L));
+            this.broadcast = cache.getBoolean("broadcast", Boolean.TRUE);
+            if (this.broadcast) {
+                // Revoked by other nodes
+                this.revoker = vertx.eventBus().<String>consumer(ID.Addr.JWT_REVOKE,
+                        message -> this.cache.remove(message.body()));
+                // The provider is built in @Wall when router mounted, it's closed with the verticle.
+                this.context = vertx.getOrCreateContext();
+                this.closer = completion -> {
+                    this.unregister();
+                    completion.handle(Future.succeededFuture());
+                };
+                this.context.addCloseHook(this.closer);
             }
-        });
+            LOGGER.debug(Info.CACHE_INITED, cache.encode());
+        } else {
+            this.cache = null;
+            this.broadcast = false;
+            vertx.sharedData().<String, Boolean>getAsyncMap(AUTH_POOL, res -> {
+                if (res.succeeded()) {
+                    LOGGER.debug(Info.MAP_INITED, AUTH_POOL);
+                    this.authorizeMap = res.result();
+                }
+            });
+        }
     }
 
     @Override
     public void authenticate(final JsonObject authInfo, final Handler<AsyncResult<User>> resultHandler) {
         final String token = authInfo.getString("jwt");
+        if (null != this.cache) {
+            this.authenticateLocal(token, authInfo, resultHandler);
+            return;
+        }
         // Set token as key for async map extraction;
         if (null == this.authorizeMap) {
             // Async map initialized failure, execute common validation flow.
@@ -68,6 +116,55 @@ public class JwtAuthProvider implements JwtAuth {
         }
     }
 
+    private void authenticateLocal(final String token, final JsonObject authInfo,
+                                   final Handler<AsyncResult<User>> resultHandler) {
+        final String key = JwtCache.key(token);
+        final JsonObject payload = this.cache.get(key);
+        if (null != payload) {
+            // Verified principal, decode and executor are both skipped, each user owns its principal.
+            LOGGER.debug(Info.CACHE_HIT, key);
+            resultHandler.handle(Future.succeededFuture(new JWTUser(payload.copy(), this.permissionsClaimKey)));
+        } else {
+            this.authenticate(authInfo).setHandler(res -> {
+                if (res.succeeded()) {
+                    this.cache.put(key, res.result().principal().copy());
+                }
+                resultHandler.handle(res);
+            });
+        }
+    }
+
+    @Override
+    public void revoke(final String token) {
+        final String key = JwtCache.key(token);
+        if (null != this.cache) {
+            this.cache.remove(key);
+            if (this.broadcast) {
+                this.vertx.eventBus().publish(ID.Addr.JWT_REVOKE, key);
+            }
+            LOGGER.info(Info.CACHE_REVOKE, key, this.broadcast);
+        }
+        if (null != this.authorizeMap) {
+            this.authorizeMap.remove(token, res -> LOGGER.debug(Info.MAP_REMOVE, token));
+        }
+    }
+
+    @Override
+    public void close() {
+        if (null != this.closer) {
+            this.context.removeCloseHook(this.closer);
+            this.closer = null;
+        }
+        this.unregister();
+    }
+
+    private void unregister() {
+        if (null != this.revoker) {
+            this.revoker.unregister();
+            this.revoker = null;
+        }
+    }
+
     private Handler<AsyncResult<User>> authenticate(final String token, final Handler<AsyncResult<User>> handler) {
         return (user -> this.authorizeMap.get(token, res -> {
             if (!(null != res && null != res.result() && res.result())) {
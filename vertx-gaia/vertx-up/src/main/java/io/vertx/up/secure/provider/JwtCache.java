@@ -0,0 +1,75 @@
+package io.vertx.up.secure.provider;
+
+import io.vertx.core.json.JsonObject;
+import io.zero.epic.Ut;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Local cache of verified jwt principals, the key is the hash of token.
+ * 1. Bounded by size, the least recently used principal will be removed.
+ * 2. Each principal expired at the "exp" of token, limited by ttl ( seconds ) when configured.
+ */
+class JwtCache {
+
+    private final transient int size;
+    private final transient long ttl;
+    private final transient Map<String, Item> items;
+
+    JwtCache(final int size, final long ttl) {
+        this.size = size;
+        this.ttl = ttl;
+        this.items = new LinkedHashMap<String, Item>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Item> eldest) {
+                return JwtCache.this.size < this.size();
+            }
+        };
+    }
+
+    static String key(final String token) {
+        return Ut.encryptSHA256(token);
+    }
+
+    synchronized JsonObject get(final String key) {
+        final Item item = this.items.get(key);
+        if (null == item) {
+            return null;
+        }
+        if (item.expiredAt <= System.currentTimeMillis()) {
+            this.items.remove(key);
+            return null;
+        }
+        return item.payload;
+    }
+
+    synchronized void put(final String key, final JsonObject payload) {
+        final long now = System.currentTimeMillis();
+        long expiredAt = payload.containsKey("exp") ? payload.getLong("exp") * 1000 : Long.MAX_VALUE;
+        if (0 < this.ttl) {
+            expiredAt = Math.min(expiredAt, now + this.ttl * 1000);
+        }
+        if (now < expiredAt) {
+            this.items.put(key, new Item(payload, expiredAt));
+        }
+    }
+
+    synchronized boolean remove(final String key) {
+        return null != this.items.remove(key);
+    }
+
+    synchronized int size() {
+        return this.items.size();
+    }
+
+    private static class Item {
+        private final transient JsonObject payload;
+        private final transient long expiredAt;
+
+        private Item(final JsonObject payload, final long expiredAt) {
+            this.payload = payload;
+            this.expiredAt = expiredAt;
+        }
+    }
+}
@@ -9,4 +9,12 @@ interface Info {
     String MAP_MISSING = "[ ZERO ] ( Auth ) The async shared map cache has not been hitted by key = {0}";
 
     String MAP_PUT = "[ ZERO ] ( Auth ) The async shared map cache has been put with key = {0}, value = {1}";
+
+    String MAP_REMOVE = "[ ZERO ] ( Auth ) The async shared map cache has been removed by key = {0}";
+
+    String CACHE_INITED = "[ ZERO ] ( Auth ) The local jwt cache has been initialized: config = {0}";
+
+    String CACHE_HIT = "[ ZERO ] ( Auth ) The local jwt cache has been hitted by key = {0}";
+
+    String CACHE_REVOKE = "[ ZERO ] ( Auth ) The jwt principal has been revoked: key = {0}, broadcast = {1}";
 }
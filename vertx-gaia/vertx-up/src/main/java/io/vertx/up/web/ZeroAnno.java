@@ -47,10 +47,12 @@ public class ZeroAnno {
             POINTER = new HashSet<>();
     private final static Set<Class<?>>
             TPS = new HashSet<>();
+    private final static Set<Class<?>>
+            SOCKS = new HashSet<>();
 
     static {
-        /* 1.Scan the packages **/
-        final Set<Class<?>> clazzes = Pack.getClasses(null);
+        /* 1.Scan the packages, the annotated classes of indexed jars are loaded from index **/
+        final Set<Class<?>> clazzes = Pack.getIndexed();
         /* EndPoint **/
         Inquirer<Set<Class<?>>> inquirer =
                 Ut.singleton(EndPointInquirer.class);
@@ -112,6 +114,11 @@ public class ZeroAnno {
                 Ut.singleton(WorkerInquirer.class);
         WORKERS.addAll(worker.scan(clazzes));
 
+        /* Sock **/
+        final Inquirer<Set<Class<?>>> sock =
+                Ut.singleton(SockInquirer.class);
+        SOCKS.addAll(sock.scan(clazzes));
+
         /* Walls **/
 
         /* Injections **/
@@ -190,6 +197,16 @@ public class ZeroAnno {
         return ENDPOINTS;
     }
 
+    /**
+     * Get all socket endpoints
+     *
+     * @return sock set
+     */
+    public static Set<Class<?>>
+    getSocks() {
+        return SOCKS;
+    }
+
     public static ConcurrentMap<String, Method>
     getIpcs() {
         return IPCS;
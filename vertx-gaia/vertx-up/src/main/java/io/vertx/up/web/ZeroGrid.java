@@ -3,8 +3,13 @@ package io.vertx.up.web;
 import io.vertx.core.ClusterOptions;
 import io.vertx.core.ServidorOptions;
 import io.vertx.core.VertxOptions;
+import io.vertx.core.eventbus.EnvelopBinaryCodec;
+import io.vertx.core.eventbus.EnvelopCodec;
+import io.vertx.core.eventbus.MessageCodec;
 import io.vertx.core.http.HttpServerOptions;
 import io.vertx.tp.ipc.marshal.RpcServerVisitor;
+import io.vertx.up.atom.Envelop;
+import io.vertx.up.eon.em.CodecType;
 import io.vertx.up.eon.em.ServerType;
 import io.vertx.up.log.Annal;
 import io.vertx.zero.config.NodeVisitor;
@@ -35,6 +40,7 @@ public class ZeroGrid {
     private static final ConcurrentMap<Integer, HttpServerOptions> SOCK_OPTS =
             new ConcurrentHashMap<>();
     private static ClusterOptions CLUSTER;
+    private static CodecType CODEC;
 
     static {
         Fn.outUp(() -> {
@@ -46,6 +52,7 @@ public class ZeroGrid {
                 VX_OPTS.putAll(visitor.visit());
                 // Must after visit
                 CLUSTER = visitor.getCluster();
+                CODEC = visitor.getCodec();
             }
             // Init for HttpServerOptions
             if (SERVER_OPTS.isEmpty()) {
@@ -109,4 +116,10 @@ public class ZeroGrid {
     public static ClusterOptions getClusterOption() {
         return CLUSTER;
     }
+
+    public static MessageCodec<Envelop, Envelop> getCodec() {
+        return CodecType.JAVA == CODEC ?
+                Ut.singleton(EnvelopCodec.class) :
+                Ut.singleton(EnvelopBinaryCodec.class);
+    }
 }
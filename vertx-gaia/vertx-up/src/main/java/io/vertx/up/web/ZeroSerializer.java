@@ -1,8 +1,10 @@
 package io.vertx.up.web;
 
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.up.exception._400ParameterFromStringException;
 import io.vertx.up.web.serialization.*;
 import io.zero.epic.Ut;
 
@@ -84,22 +86,87 @@ public class ZeroSerializer {
                                   final String literal) {
         Object reference = null;
         if (null != literal) {
-            Saber saber;
-            if (paramType.isEnum()) {
-                saber = SABERS.get(Enum.class);
-            } else if (Collection.class.isAssignableFrom(paramType)) {
-                saber = SABERS.get(Collection.class);
+            reference = getSaber(paramType).from(paramType, literal);
+        }
+        return reference;
+    }
+
+    /**
+     * Object -> T, JsonObject / JsonArray is converted to T directly without literal.
+     *
+     * @param paramType argument types
+     * @param value     input value
+     * @return deserialized object.
+     */
+    public static Object getValue(final Class<?> paramType,
+                                  final Object value) {
+        Object reference = null;
+        if (null != value) {
+            if (paramType == value.getClass() && value instanceof JsonObject) {
+                reference = ((JsonObject) value).copy();
+            } else if (paramType == value.getClass() && value instanceof JsonArray) {
+                reference = ((JsonArray) value).copy();
+            } else if ((value instanceof JsonObject || value instanceof JsonArray) && isEntity(paramType)) {
+                // The same as CommonSaber
+                reference = value instanceof JsonObject ?
+                        Ut.deserialize((JsonObject) value, paramType) :
+                        Ut.deserialize((JsonArray) value, paramType);
             } else {
-                saber = SABERS.get(paramType);
+                reference = getValue(paramType, value.toString());
             }
-            if (null == saber) {
-                saber = Ut.singleton(CommonSaber.class);
+        }
+        return reference;
+    }
+
+    /**
+     * Buffer -> T, the request body is parsed from bytes directly without literal
+     * when T is JsonObject / JsonArray / Entity, other types are the same as String -> T.
+     *
+     * @param paramType argument types
+     * @param body      request body
+     * @return deserialized object.
+     */
+    public static Object getValue(final Class<?> paramType,
+                                  final Buffer body) {
+        Object reference = null;
+        if (null != body && 0 < body.length()) {
+            try {
+                if (JsonObject.class == paramType) {
+                    reference = new JsonObject(body);
+                } else if (JsonArray.class == paramType) {
+                    reference = new JsonArray(body);
+                } else if (isEntity(paramType)) {
+                    reference = Ut.deserialize(body.getBytes(), paramType);
+                } else {
+                    reference = getValue(paramType, body.toString());
+                }
+            } catch (final DecodeException ex) {
+                throw new _400ParameterFromStringException(ZeroSerializer.class, paramType, body.toString());
             }
-            reference = saber.from(paramType, literal);
         }
         return reference;
     }
 
+    private static boolean isEntity(final Class<?> paramType) {
+        return !SABERS.containsKey(paramType) && !SaberTypes.isSupport(paramType)
+                && !paramType.isEnum() && !Collection.class.isAssignableFrom(paramType);
+    }
+
+    private static Saber getSaber(final Class<?> paramType) {
+        Saber saber;
+        if (paramType.isEnum()) {
+            saber = SABERS.get(Enum.class);
+        } else if (Collection.class.isAssignableFrom(paramType)) {
+            saber = SABERS.get(Collection.class);
+        } else {
+            saber = SABERS.get(paramType);
+        }
+        if (null == saber) {
+            saber = Ut.singleton(CommonSaber.class);
+        }
+        return saber;
+    }
+
     public static <T> boolean isDirect(final T input) {
         boolean result = false;
         if (null != input) {
@@ -2,7 +2,9 @@ package io.vertx.up.web.anima;
 
 import io.reactivex.Observable;
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
 import io.vertx.up.annotations.Plugin;
+import io.vertx.up.eon.ID;
 import io.vertx.up.eon.Plugins;
 import io.vertx.up.log.Annal;
 import io.vertx.up.web.Runner;
@@ -12,6 +14,8 @@ import io.vertx.zero.eon.Values;
 import io.vertx.zero.exception.PluginSpecificationException;
 import io.vertx.zero.marshal.node.Node;
 import io.vertx.zero.marshal.node.ZeroLime;
+import io.vertx.zero.marshal.node.ZeroUniform;
+import io.vertx.zero.marshal.node.ZeroVertx;
 import io.zero.epic.Ut;
 import io.zero.epic.fn.Fn;
 
@@ -34,6 +38,8 @@ public class InfixScatter implements Scatter<Vertx> {
     private static final Node<ConcurrentMap<String, String>> node =
             Ut.singleton(ZeroLime.class);
 
+    private static final Node<JsonObject> VERTX = Ut.singleton(ZeroVertx.class);
+
     private static final Set<Class<?>> PLUGINS = ZeroAnno.getTps();
 
     private static final InfixPlugin PLUGIN = InfixPlugin.create(InfixScatter.class);
@@ -75,6 +81,11 @@ public class InfixScatter implements Scatter<Vertx> {
             /** Injects scanner **/
             PLUGIN.inject(reference);
         }, "injects-plugin-scannner"));
+        /** Configuration reload ( opt-in ) **/
+        final JsonObject reload = Ut.visitJObject(VERTX.read(), "reload");
+        if (null != reload && reload.getBoolean("enabled", Boolean.FALSE)) {
+            ZeroUniform.watch(vertx, reload.getLong("interval", 3000L), ID.Addr.CONFIG_RELOAD);
+        }
     }
 
 
@@ -5,6 +5,7 @@ import io.vertx.up.eon.Plugins;
 import io.vertx.up.log.Annal;
 import io.vertx.up.web.thread.AffluxThread;
 import io.vertx.zero.mirror.Anno;
+import io.vertx.zero.mirror.Pack;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -24,11 +25,13 @@ public class AffluxInquirer implements
         final Set<Class<?>> enabled = classes.stream()
                 .filter(item -> Anno.isMark(item, Plugins.INJECT_ANNOTATIONS))
                 .collect(Collectors.toSet());
+        // The implementation of interface may not be annotated, it's found in all the classes.
+        final Set<Class<?>> candidates = enabled.isEmpty() ? classes : Pack.getClasses(null);
         // Scan each class.
         final List<AffluxThread> threadReference = new ArrayList<>();
         for (final Class<?> clazz : enabled) {
             final AffluxThread thread = new
-                    AffluxThread(clazz, classes);
+                    AffluxThread(clazz, candidates);
             threadReference.add(thread);
             thread.start();
         }
@@ -0,0 +1,25 @@
+package io.vertx.up.web.origin;
+
+import io.vertx.up.annotations.Sock;
+import io.vertx.up.eon.Info;
+import io.vertx.up.log.Annal;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * @Sock
+ */
+public class SockInquirer implements Inquirer<Set<Class<?>>> {
+
+    private static final Annal LOGGER = Annal.get(SockInquirer.class);
+
+    @Override
+    public Set<Class<?>> scan(final Set<Class<?>> clazzes) {
+        final Set<Class<?>> socks = clazzes.stream()
+                .filter((item) -> item.isAnnotationPresent(Sock.class))
+                .collect(Collectors.toSet());
+        LOGGER.info(Info.SCANED_SOCK, socks.size());
+        return socks;
+    }
+}
@@ -126,7 +126,8 @@ public class WallInquirer implements Inquirer<Set<Cliff>> {
                     WallKeyMissingException.class, this.getClass(),
                     key, keysRef.get(key));
         }
-        return hitted;
+        // Wall configuration is attached to each wall, copy it from uniform snapshot
+        return hitted.copy();
     }
 
     /**
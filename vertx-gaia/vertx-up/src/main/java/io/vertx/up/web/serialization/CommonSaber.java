@@ -20,8 +20,7 @@ public class CommonSaber extends BaseSaber {
         return Fn.getNull(() -> {
             Object reference = null;
             if (!SaberTypes.isSupport(input.getClass())) {
-                final String literal = Ut.serialize(input);
-                reference = new JsonObject(literal);
+                reference = Ut.serializeJson(input);
             }
             return reference;
         }, input);
@@ -4,6 +4,7 @@ import io.vertx.core.ClusterOptions;
 import io.vertx.core.VertxOptions;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.up.eon.em.CodecType;
 import io.vertx.up.log.Annal;
 import io.vertx.zero.atom.Ruler;
 import io.vertx.zero.config.NodeVisitor;
@@ -33,6 +34,8 @@ public class VertxVisitor implements NodeVisitor {
 
     private transient ClusterOptions clusterOptions;
 
+    private transient CodecType codec = CodecType.BINARY;
+
     @Override
     public ConcurrentMap<String, VertxOptions> visit(final String... keys)
             throws ZeroException {
@@ -46,7 +49,12 @@ public class VertxVisitor implements NodeVisitor {
         Fn.shuntZero(() -> Ruler.verify(KEY, vertxData), vertxData);
         // 4. Set cluster options
         this.clusterOptions = this.clusterTransformer.transform(data.getJsonObject(YKEY_CLUSTERED));
-        // 5. Transfer Data
+        // 5. Set codec type, default is binary
+        final CodecType codec = Ut.toEnum(CodecType.class, vertxData.getString(YKEY_CODEC));
+        if (null != codec) {
+            this.codec = codec;
+        }
+        // 6. Transfer Data
         return this.visit(vertxData.getJsonArray(YKEY_INSTANCE));
     }
 
@@ -55,6 +63,11 @@ public class VertxVisitor implements NodeVisitor {
         return this.clusterOptions;
     }
 
+    @Override
+    public CodecType getCodec() {
+        return this.codec;
+    }
+
     private ConcurrentMap<String, VertxOptions> visit(
             final JsonArray vertxData)
             throws ZeroException {
@@ -0,0 +1,54 @@
+package io.zero.quiz;
+
+import java.io.Serializable;
+import java.sql.Timestamp;
+
+public class H2Item implements Serializable {
+
+    private Integer id;
+    private String name;
+    private Integer score;
+    private Timestamp created;
+
+    public H2Item() {
+    }
+
+    public H2Item(final Integer id, final String name, final Integer score, final Timestamp created) {
+        this.id = id;
+        this.name = name;
+        this.score = score;
+        this.created = created;
+    }
+
+    public Integer getId() {
+        return this.id;
+    }
+
+    public void setId(final Integer id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public void setName(final String name) {
+        this.name = name;
+    }
+
+    public Integer getScore() {
+        return this.score;
+    }
+
+    public void setScore(final Integer score) {
+        this.score = score;
+    }
+
+    public Timestamp getCreated() {
+        return this.created;
+    }
+
+    public void setCreated(final Timestamp created) {
+        this.created = created;
+    }
+}
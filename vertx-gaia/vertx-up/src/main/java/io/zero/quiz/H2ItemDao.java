@@ -0,0 +1,145 @@
+package io.zero.quiz;
+
+import io.github.jklingsporn.vertx.jooq.future.VertxDAO;
+import io.vertx.core.Vertx;
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.ExecuteListener;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.UniqueKey;
+import org.jooq.impl.DAOImpl;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.jooq.impl.Internal;
+import org.jooq.impl.SQLDataType;
+import org.jooq.impl.TableImpl;
+import org.jooq.impl.UpdatableRecordImpl;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Hand written jooq artifacts ( table, record, dao ) of H2 table `H2_ITEM` for testing.
+ */
+public class H2ItemDao extends DAOImpl<H2ItemDao.ItemRecord, H2Item, Integer>
+        implements VertxDAO<H2ItemDao.ItemRecord, H2Item, Integer> {
+
+    private transient Vertx vertx;
+
+    public H2ItemDao(final Configuration configuration) {
+        super(ItemTable.H2_ITEM, H2Item.class, configuration);
+    }
+
+    /*
+     * The connection of private in-memory database is kept open by caller.
+     */
+    public static H2ItemDao create(final Vertx vertx, final Connection connection,
+                                   final ExecuteListener... listeners) {
+        return create(vertx, connection, SQLDialect.H2, listeners);
+    }
+
+    public static H2ItemDao create(final Vertx vertx, final Connection connection, final SQLDialect dialect,
+                                   final ExecuteListener... listeners) {
+        final Configuration configuration = new DefaultConfiguration()
+                .set(connection).set(dialect)
+                .set(DefaultExecuteListenerProvider.providers(listeners));
+        DSL.using(configuration).execute("CREATE TABLE H2_ITEM ( ID INT PRIMARY KEY, " +
+                "NAME VARCHAR(64) NOT NULL, SCORE INT NOT NULL, CREATED TIMESTAMP NOT NULL )");
+        final H2ItemDao dao = new H2ItemDao(configuration);
+        dao.setVertx(vertx);
+        return dao;
+    }
+
+    /*
+     * The dao of the same table without primary key, such as view.
+     */
+    public static H2ItemDao keyless(final H2ItemDao dao) {
+        final H2ItemDao keyless = new H2ItemDao(dao.configuration()) {
+            @Override
+            public Table<ItemRecord> getTable() {
+                return ItemTable.KEYLESS;
+            }
+        };
+        keyless.setVertx(dao.vertx());
+        return keyless;
+    }
+
+    public static Connection connect(final String name) throws SQLException {
+        return DriverManager.getConnection("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+    }
+
+    @Override
+    protected Integer getId(final H2Item item) {
+        return item.getId();
+    }
+
+    @Override
+    public <X> CompletableFuture<X> executeAsync(final Function<DSLContext, X> function) {
+        // Same as generated vertx-jooq dao ( FutureTool.executeBlocking ): ordered worker queue of the context
+        final CompletableFuture<X> future = new CompletableFuture<>();
+        this.vertx.<X>executeBlocking(blocking -> blocking.complete(function.apply(DSL.using(this.configuration()))),
+                handler -> {
+                    if (handler.succeeded()) {
+                        future.complete(handler.result());
+                    } else {
+                        future.completeExceptionally(handler.cause());
+                    }
+                });
+        return future;
+    }
+
+    @Override
+    public Vertx vertx() {
+        return this.vertx;
+    }
+
+    @Override
+    public void setVertx(final Vertx vertx) {
+        this.vertx = vertx;
+    }
+
+    public static class ItemTable extends TableImpl<ItemRecord> {
+
+        public static final ItemTable H2_ITEM = new ItemTable(true);
+        public static final ItemTable KEYLESS = new ItemTable(false);
+
+        public final TableField<ItemRecord, Integer> ID =
+                createField("ID", SQLDataType.INTEGER.nullable(false), this, "");
+        public final TableField<ItemRecord, String> NAME =
+                createField("NAME", SQLDataType.VARCHAR(64).nullable(false), this, "");
+        public final TableField<ItemRecord, Integer> SCORE =
+                createField("SCORE", SQLDataType.INTEGER.nullable(false), this, "");
+        public final TableField<ItemRecord, java.sql.Timestamp> CREATED =
+                createField("CREATED", SQLDataType.TIMESTAMP.nullable(false), this, "");
+
+        private transient final boolean keyed;
+
+        private ItemTable(final boolean keyed) {
+            super(DSL.name("H2_ITEM"));
+            this.keyed = keyed;
+        }
+
+        @Override
+        public Class<ItemRecord> getRecordType() {
+            return ItemRecord.class;
+        }
+
+        @Override
+        public UniqueKey<ItemRecord> getPrimaryKey() {
+            return this.keyed ? Internal.createUniqueKey(this, "PK_H2_ITEM", this.ID) : null;
+        }
+    }
+
+    public static class ItemRecord extends UpdatableRecordImpl<ItemRecord> {
+
+        public ItemRecord() {
+            super(ItemTable.H2_ITEM);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package io.zero.quiz;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.http.HttpServer;
+import io.vertx.ext.web.Router;
+import org.junit.After;
+import org.junit.Before;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vertx instance of each test, the router is mounted on http server of ephemeral port,
+ * the requests should be sent to `port()`.
+ */
+public abstract class HttpBase {
+
+    protected static final long TIMEOUT = 10L;
+
+    protected transient Vertx vertx;
+    protected transient HttpServer server;
+
+    @Before
+    public void startVertx() {
+        this.vertx = Vertx.vertx(this.options());
+    }
+
+    @After
+    public void closeVertx() throws Exception {
+        final CompletableFuture<Void> closed = new CompletableFuture<>();
+        this.vertx.close(res -> closed.complete(null));
+        closed.get(TIMEOUT, TimeUnit.SECONDS);
+    }
+
+    protected VertxOptions options() {
+        return new VertxOptions();
+    }
+
+    protected HttpServer listen(final Router router) throws Exception {
+        final CompletableFuture<HttpServer> started = new CompletableFuture<>();
+        this.vertx.createHttpServer().requestHandler(router).listen(0, "localhost", res -> {
+            if (res.succeeded()) {
+                started.complete(res.result());
+            } else {
+                started.completeExceptionally(res.cause());
+            }
+        });
+        this.server = started.get(TIMEOUT, TimeUnit.SECONDS);
+        return this.server;
+    }
+
+    protected int port() {
+        return this.server.actualPort();
+    }
+}
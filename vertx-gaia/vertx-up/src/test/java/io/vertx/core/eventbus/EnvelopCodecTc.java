@@ -0,0 +1,119 @@
+package io.vertx.core.eventbus;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpStatusCode;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.up.atom.Envelop;
+import io.vertx.up.atom.hold.VirtualSession;
+import io.vertx.up.atom.hold.VirtualUser;
+import io.vertx.up.exception._500InternalServerException;
+import io.zero.quiz.ZeroBase;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+public class EnvelopCodecTc extends ZeroBase {
+
+    private final EnvelopBinaryCodec codec = new EnvelopBinaryCodec();
+
+    private Envelop build() {
+        final JsonObject data = new JsonObject()
+                .put("name", "Lang")
+                .put("age", 33)
+                .put("amount", 1024L)
+                .put("rate", 0.75)
+                .put("enabled", true)
+                .put("bytes", new byte[]{1, 2, 3})
+                .put("time", Instant.ofEpochSecond(1530000000L, 1200))
+                .put("tags", new JsonArray().add("a").add(1).addNull())
+                .put("nested", new JsonObject().put("email", "silentbalanceyh@126.com"));
+        final Envelop envelop = Envelop.success(data, HttpStatusCode.CREATED);
+        final MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+        headers.add("Content-Type", "application/json");
+        headers.add("Accept", "application/json");
+        headers.add("Accept", "text/plain");
+        envelop.setHeaders(headers);
+        envelop.setUser(new VirtualUser(new JsonObject().put("user", "lang.yu")));
+        final VirtualSession session = new VirtualSession("session-id", 1800000L, 1L);
+        session.put("login", "lang.yu");
+        envelop.setSession(session);
+        final Map<String, Object> context = new HashMap<>();
+        context.put("key", "value");
+        context.put("count", 3);
+        envelop.setContext(context);
+        envelop.key("message-key");
+        return envelop;
+    }
+
+    private Envelop roundTrip(final Envelop envelop, final int offset) {
+        final Buffer buffer = Buffer.buffer();
+        // Simulate other content before envelop in the same buffer.
+        buffer.appendBytes(new byte[offset]);
+        this.codec.encodeToWire(buffer, envelop);
+        return this.codec.decodeFromWire(offset, buffer);
+    }
+
+    @Test
+    public void testRoundTrip(final TestContext context) {
+        final Envelop envelop = this.build();
+        final Envelop decoded = this.roundTrip(envelop, 7);
+        context.assertEquals(envelop.responseJson(), decoded.responseJson());
+        context.assertEquals(HttpStatusCode.CREATED, decoded.status());
+        context.assertEquals("message-key", decoded.key());
+        context.assertEquals(2, decoded.headers().getAll("accept").size());
+        context.assertEquals("lang.yu", decoded.identifier("user"));
+        context.assertEquals("session-id", decoded.getSession().id());
+        context.assertEquals("lang.yu", decoded.getSession().get("login"));
+        context.assertEquals(3, decoded.context().get("count"));
+        context.assertTrue(decoded.valid());
+    }
+
+    @Test
+    public void testEmpty(final TestContext context) {
+        final Envelop decoded = this.roundTrip(Envelop.ok(), 0);
+        context.assertEquals(Envelop.ok().responseJson(), decoded.responseJson());
+        context.assertNull(decoded.headers());
+        context.assertNull(decoded.user());
+        context.assertNull(decoded.getSession());
+    }
+
+    @Test
+    public void testFailure(final TestContext context) {
+        final Envelop envelop = Envelop.failure(new _500InternalServerException(this.getClass(), "Failure"));
+        final Envelop decoded = this.roundTrip(envelop, 0);
+        context.assertFalse(decoded.valid());
+        context.assertEquals(envelop.status(), decoded.status());
+        context.assertEquals(envelop.responseJson(), decoded.responseJson());
+    }
+
+    @Test
+    public void testLocal(final TestContext context) {
+        final Envelop envelop = this.build();
+        context.assertTrue(envelop == this.codec.transform(envelop));
+    }
+
+    @Test
+    public void testThroughput(final TestContext context) {
+        final Envelop envelop = this.build();
+        final Buffer sample = Buffer.buffer();
+        this.codec.encodeToWire(sample, envelop);
+        final int rounds = 20000;
+        // Warm up
+        for (int idx = 0; idx < rounds; idx++) {
+            this.roundTrip(envelop, 0);
+        }
+        final long start = System.nanoTime();
+        for (int idx = 0; idx < rounds; idx++) {
+            this.roundTrip(envelop, 0);
+        }
+        final long cost = System.nanoTime() - start;
+        this.getLogger().info("[ ZERO Test ] Envelop binary size = {0} bytes, round trip = {1} ns/op",
+                sample.length(), cost / rounds);
+        context.assertTrue(sample.length() < 1024);
+    }
+}
@@ -0,0 +1,318 @@
+package io.vertx.quiz;
+
+import io.netty.handler.codec.http.QueryStringDecoder;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local fake etcd ( v2 keys api ) for testing, supported:
+ * 1. GET with recursive / wait / waitIndex
+ * 2. PUT with value / ttl / refresh / prevExist
+ * 3. DELETE
+ * 4. Ttl expiration
+ */
+public class EtcdFake {
+
+    private static final int HISTORY = 1000;
+
+    private final transient Vertx vertx;
+    private final transient TreeMap<String, Item> store = new TreeMap<>();
+    private final transient List<JsonObject> events = new ArrayList<>();
+    private final transient List<Waiter> waiters = new ArrayList<>();
+    private transient HttpServer server;
+    private transient long timer;
+    private transient long index = 1;
+
+    private EtcdFake(final Vertx vertx) {
+        this.vertx = vertx;
+    }
+
+    public static EtcdFake start(final Vertx vertx, final int port) throws Exception {
+        final EtcdFake fake = new EtcdFake(vertx);
+        final CompletableFuture<HttpServer> future = new CompletableFuture<>();
+        fake.server = vertx.createHttpServer().requestHandler(fake::handle)
+                .listen(port, "localhost", res -> {
+                    if (res.succeeded()) {
+                        future.complete(res.result());
+                    } else {
+                        future.completeExceptionally(res.cause());
+                    }
+                });
+        future.get(10, TimeUnit.SECONDS);
+        fake.timer = vertx.setPeriodic(100, id -> fake.expire());
+        return fake;
+    }
+
+    public void stop() {
+        this.vertx.cancelTimer(this.timer);
+        this.server.close();
+    }
+
+    public synchronized String get(final String key) {
+        final Item item = this.store.get(key);
+        return null == item ? null : item.value;
+    }
+
+    private void handle(final HttpServerRequest request) {
+        request.bodyHandler(body -> {
+            final Map<String, String> params = new HashMap<>();
+            this.params(request.query(), params);
+            this.params(body.toString(), params);
+            String key = QueryStringDecoder.decodeComponent(request.path().substring("/v2/keys".length()));
+            if (key.endsWith("/")) {
+                key = key.substring(0, key.length() - 1);
+            }
+            synchronized (this) {
+                if (HttpMethod.GET == request.method()) {
+                    if (Boolean.valueOf(params.get("wait"))) {
+                        this.doWait(request, key, params);
+                    } else {
+                        this.doGet(request, key, Boolean.valueOf(params.get("recursive")));
+                    }
+                } else if (HttpMethod.PUT == request.method()) {
+                    this.doPut(request, key, params);
+                } else if (HttpMethod.DELETE == request.method()) {
+                    this.doDelete(request, key);
+                } else {
+                    this.reply(request, 405, new JsonObject());
+                }
+            }
+        });
+    }
+
+    private void params(final String query, final Map<String, String> params) {
+        if (null != query && !query.isEmpty()) {
+            new QueryStringDecoder(query, false).parameters()
+                    .forEach((name, values) -> params.put(name, values.get(0)));
+        }
+    }
+
+    private void doGet(final HttpServerRequest request, final String key, final boolean recursive) {
+        final Item item = this.store.get(key);
+        if (null != item) {
+            this.reply(request, 200, new JsonObject().put("action", "get")
+                    .put("node", item.toJson(key)));
+        } else {
+            final JsonObject node = this.dir(key, recursive);
+            if (null == node) {
+                this.notFound(request, key);
+            } else {
+                this.reply(request, 200, new JsonObject().put("action", "get").put("node", node));
+            }
+        }
+    }
+
+    private JsonObject dir(final String key, final boolean recursive) {
+        final String prefix = key + "/";
+        final JsonArray nodes = new JsonArray();
+        final List<String> children = new ArrayList<>();
+        for (final String stored : this.store.tailMap(prefix).keySet()) {
+            if (!stored.startsWith(prefix)) {
+                break;
+            }
+            final String relative = stored.substring(prefix.length());
+            final int slash = relative.indexOf('/');
+            final String child = prefix + (0 > slash ? relative : relative.substring(0, slash));
+            if (!children.contains(child)) {
+                children.add(child);
+            }
+        }
+        if (children.isEmpty() && !"".equals(key)) {
+            return null;
+        }
+        for (final String child : children) {
+            final Item item = this.store.get(child);
+            if (null != item) {
+                nodes.add(item.toJson(child));
+            } else if (recursive) {
+                nodes.add(this.dir(child, true));
+            } else {
+                nodes.add(new JsonObject().put("key", child).put("dir", true));
+            }
+        }
+        return new JsonObject().put("key", key).put("dir", true).put("nodes", nodes);
+    }
+
+    private void doWait(final HttpServerRequest request, final String key, final Map<String, String> params) {
+        final Waiter waiter = new Waiter(request, key, Boolean.valueOf(params.get("recursive")),
+                params.containsKey("waitIndex") ? Long.parseLong(params.get("waitIndex")) : this.index);
+        if (!this.events.isEmpty() && waiter.index < this.events.get(0).getLong("index")) {
+            this.reply(request, 400, new JsonObject().put("errorCode", 401)
+                    .put("message", "The event in requested index is outdated and cleared")
+                    .put("cause", key).put("index", this.index - 1));
+            return;
+        }
+        for (final JsonObject event : this.events) {
+            if (waiter.match(event)) {
+                this.reply(request, 200, this.response(event));
+                return;
+            }
+        }
+        this.waiters.add(waiter);
+    }
+
+    private void doPut(final HttpServerRequest request, final String key, final Map<String, String> params) {
+        final Item existing = this.store.get(key);
+        if (Boolean.valueOf(params.get("dir"))) {
+            this.reply(request, 201, new JsonObject().put("action", "set")
+                    .put("node", new JsonObject().put("key", key).put("dir", true)));
+            return;
+        }
+        if ((Boolean.valueOf(params.get("refresh")) || Boolean.valueOf(params.get("prevExist")))
+                && null == existing) {
+            this.notFound(request, key);
+            return;
+        }
+        final long ttl = params.containsKey("ttl") && !params.get("ttl").isEmpty()
+                ? Long.parseLong(params.get("ttl")) : 0;
+        if (Boolean.valueOf(params.get("refresh"))) {
+            // Refresh ttl only, watchers will not be notified
+            existing.expire(ttl);
+            this.reply(request, 200, new JsonObject().put("action", "update")
+                    .put("node", existing.toJson(key)));
+            return;
+        }
+        final Item item = new Item();
+        item.value = params.get("value");
+        item.created = null == existing ? this.index : existing.created;
+        item.modified = this.index;
+        item.expire(ttl);
+        this.store.put(key, item);
+        final JsonObject event = this.event("set", key, item.toJson(key), existing);
+        this.reply(request, null == existing ? 201 : 200, this.response(event));
+    }
+
+    private void doDelete(final HttpServerRequest request, final String key) {
+        final Item existing = this.store.remove(key);
+        if (null == existing) {
+            this.notFound(request, key);
+        } else {
+            final JsonObject event = this.event("delete", key,
+                    new JsonObject().put("key", key), existing);
+            this.reply(request, 200, this.response(event));
+        }
+    }
+
+    private synchronized void expire() {
+        final long now = System.currentTimeMillis();
+        final Iterator<Map.Entry<String, Item>> it = this.store.entrySet().iterator();
+        final List<Map.Entry<String, Item>> expired = new ArrayList<>();
+        while (it.hasNext()) {
+            final Map.Entry<String, Item> entry = it.next();
+            if (0 < entry.getValue().expiredAt && entry.getValue().expiredAt <= now) {
+                expired.add(entry);
+                it.remove();
+            }
+        }
+        expired.forEach(entry -> this.event("expire", entry.getKey(),
+                new JsonObject().put("key", entry.getKey()), entry.getValue()));
+    }
+
+    private JsonObject event(final String action, final String key,
+                             final JsonObject node, final Item previous) {
+        final long current = this.index++;
+        node.put("modifiedIndex", current);
+        if (!node.containsKey("createdIndex")) {
+            node.put("createdIndex", current);
+        }
+        final JsonObject event = new JsonObject().put("index", current)
+                .put("action", action).put("key", key).put("node", node);
+        if (null != previous) {
+            event.put("prevNode", previous.toJson(key));
+        }
+        this.events.add(event);
+        if (HISTORY < this.events.size()) {
+            this.events.remove(0);
+        }
+        final Iterator<Waiter> it = this.waiters.iterator();
+        while (it.hasNext()) {
+            final Waiter waiter = it.next();
+            if (waiter.match(event)) {
+                it.remove();
+                this.reply(waiter.request, 200, this.response(event));
+            }
+        }
+        return event;
+    }
+
+    private JsonObject response(final JsonObject event) {
+        final JsonObject response = new JsonObject()
+                .put("action", event.getString("action"))
+                .put("node", event.getJsonObject("node"));
+        if (event.containsKey("prevNode")) {
+            response.put("prevNode", event.getJsonObject("prevNode"));
+        }
+        return response;
+    }
+
+    private void notFound(final HttpServerRequest request, final String key) {
+        this.reply(request, 404, new JsonObject().put("errorCode", 100)
+                .put("message", "Key not found").put("cause", key).put("index", this.index - 1));
+    }
+
+    private void reply(final HttpServerRequest request, final int status, final JsonObject body) {
+        if (request.response().closed() || request.response().ended()) {
+            return;
+        }
+        request.response().setStatusCode(status)
+                .putHeader("Content-Type", "application/json")
+                .putHeader("X-Etcd-Index", String.valueOf(this.index - 1))
+                .end(body.encode());
+    }
+
+    private static class Item {
+        private transient String value;
+        private transient long created;
+        private transient long modified;
+        private transient long ttl;
+        private transient long expiredAt;
+
+        private void expire(final long ttl) {
+            this.ttl = ttl;
+            this.expiredAt = 0 < ttl ? System.currentTimeMillis() + ttl * 1000 : 0;
+        }
+
+        private JsonObject toJson(final String key) {
+            final JsonObject node = new JsonObject().put("key", key).put("value", this.value)
+                    .put("modifiedIndex", this.modified).put("createdIndex", this.created);
+            if (0 < this.ttl) {
+                node.put("ttl", this.ttl);
+            }
+            return node;
+        }
+    }
+
+    private static class Waiter {
+        private final transient HttpServerRequest request;
+        private final transient String key;
+        private final transient boolean recursive;
+        private final transient long index;
+
+        private Waiter(final HttpServerRequest request, final String key,
+                       final boolean recursive, final long index) {
+            this.request = request;
+            this.key = key;
+            this.recursive = recursive;
+            this.index = index;
+        }
+
+        private boolean match(final JsonObject event) {
+            final String changed = event.getString("key");
+            return this.index <= event.getLong("index") &&
+                    (changed.equals(this.key) || (this.recursive && changed.startsWith(this.key + "/")));
+        }
+    }
+}
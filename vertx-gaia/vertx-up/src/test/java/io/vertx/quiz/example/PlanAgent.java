@@ -0,0 +1,31 @@
+package io.vertx.quiz.example;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.up.annotations.Address;
+import io.vertx.up.annotations.Codex;
+import io.vertx.up.annotations.EndPoint;
+
+import javax.ws.rs.*;
+
+@EndPoint
+@Path("/api")
+public class PlanAgent {
+
+    @POST
+    @Path("/plan/{name}")
+    @Address("ZERO://QUEUE/PLAN")
+    public JsonObject plan(@PathParam("name") final String name,
+                           @QueryParam("age") @DefaultValue("18") final Integer age,
+                           @BodyParam @Codex final JsonObject body) {
+        return body.copy().put("name", name).put("age", age);
+    }
+
+    /*
+     * The same route signature of `plan`, the handler is different.
+     */
+    @POST
+    @Path("/plan/{name}")
+    public String name(@PathParam("name") final String name) {
+        return name;
+    }
+}
@@ -0,0 +1,27 @@
+package io.vertx.quiz.example;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.up.media.resolver.UnsetResolver;
+
+import javax.ws.rs.BodyParam;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+
+/**
+ * The resolver is selected by Content-Type ( multipart/form-data ).
+ */
+@Path("/api")
+public class UploadAgent {
+
+    @POST
+    @Path("/upload/buffer")
+    public String buffer(@BodyParam(resolver = UnsetResolver.class) final Buffer content) {
+        return String.valueOf(content.length());
+    }
+
+    @POST
+    @Path("/upload/bytes")
+    public String bytes(@BodyParam(resolver = UnsetResolver.class) final byte[] content) {
+        return String.valueOf(content.length);
+    }
+}
@@ -0,0 +1,219 @@
+package io.vertx.up.aiki;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.zero.exception.JooqKeyMissingException;
+import io.zero.quiz.H2Item;
+import io.zero.quiz.H2ItemDao;
+import org.jooq.ExecuteContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DefaultExecuteListener;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class JooqBatchTc {
+
+    private static final Queue<String> SQL = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger DATABASE = new AtomicInteger();
+    private static final Timestamp CREATED = Timestamp.valueOf("2019-05-01 10:00:00");
+    private static Vertx vertx;
+    private Connection connection;
+    private H2ItemDao dao;
+
+    @BeforeClass
+    public static void setUp() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        vertx.close();
+    }
+
+    @Before
+    public void open() throws Exception {
+        this.open("", SQLDialect.H2);
+    }
+
+    @After
+    public void close() throws Exception {
+        this.connection.close();
+    }
+
+    @Test
+    public void testInsertValues() throws Exception {
+        final UxJooq jooq = this.jooq(new JsonObject().put("size", 4));
+        final List<H2Item> inserted = this.await(jooq.insertBatchAsync(this.items(1, 10, "name")));
+        Assert.assertEquals(10, inserted.size());
+        Assert.assertEquals(10, this.dao.count());
+        // 3 multi-row statements: 4 + 4 + 2
+        Assert.assertEquals(3, this.statements("insert"));
+        Assert.assertTrue(SQL.peek(), SQL.peek().contains("), ("));
+        Assert.assertEquals("name7", this.dao.findById(7).getName());
+    }
+
+    @Test
+    public void testInsertJdbc() throws Exception {
+        final UxJooq jooq = this.jooq(new JsonObject().put("size", 4).put("mode", "jdbc"));
+        jooq.insertBatch(this.items(1, 10, "name"));
+        Assert.assertEquals(10, this.dao.count());
+        // One prepared statement for each chunk
+        Assert.assertEquals(3, this.statements("insert"));
+        Assert.assertFalse(SQL.peek(), SQL.peek().contains("), ("));
+    }
+
+    @Test
+    public void testUpdate() throws Exception {
+        final UxJooq jooq = this.jooq(new JsonObject().put("size", 5));
+        jooq.insertBatch(this.items(1, 8, "name"));
+        SQL.clear();
+        final List<H2Item> updated = this.items(3, 8, "updated");
+        updated.forEach(item -> item.setScore(100));
+        this.await(jooq.updateBatchAsync(updated));
+        Assert.assertEquals(2, this.statements("update"));
+        Assert.assertEquals("name2", this.dao.findById(2).getName());
+        Assert.assertEquals("updated8", this.dao.findById(8).getName());
+        Assert.assertEquals(100, this.dao.findById(3).getScore().intValue());
+    }
+
+    @Test
+    public void testUpsert() throws Exception {
+        final UxJooq jooq = this.jooq(new JsonObject().put("size", 3));
+        jooq.insertBatch(this.items(1, 5, "name"));
+        this.await(jooq.upsertBatchAsync(this.items(4, 9, "upsert")));
+        Assert.assertEquals(9, this.dao.count());
+        Assert.assertEquals("name3", this.dao.findById(3).getName());
+        Assert.assertEquals("upsert4", this.dao.findById(4).getName());
+        Assert.assertEquals("upsert9", this.dao.findById(9).getName());
+    }
+
+    @Test
+    public void testUpsertMySql() throws Exception {
+        this.connection.close();
+        this.open(";MODE=MySQL", SQLDialect.MYSQL);
+        final UxJooq jooq = this.jooq(new JsonObject().put("size", 3));
+        jooq.insertBatch(this.items(1, 5, "name"));
+        SQL.clear();
+        jooq.upsertBatch(this.items(4, 9, "upsert"));
+        // One statement for each chunk
+        Assert.assertEquals(2, this.statements("insert"));
+        Assert.assertTrue(SQL.peek(), SQL.peek().contains("on duplicate key update `H2_ITEM`.`NAME` = values(`NAME`)"));
+        Assert.assertEquals(9, this.dao.count());
+        Assert.assertEquals("name3", this.dao.findById(3).getName());
+        Assert.assertEquals("upsert4", this.dao.findById(4).getName());
+        Assert.assertEquals("upsert9", this.dao.findById(9).getName());
+    }
+
+    @Test
+    public void testInsertDefault() throws Exception {
+        this.dao.configuration().dsl().execute("ALTER TABLE H2_ITEM ALTER COLUMN SCORE SET DEFAULT 7");
+        final List<H2Item> items = this.items(1, 6, "name");
+        // The null of NOT NULL column is not written, the rows are grouped by the written columns
+        items.stream().filter(item -> 0 == item.getId() % 2).forEach(item -> item.setScore(null));
+        this.jooq(new JsonObject().put("size", 10)).insertBatch(items);
+        Assert.assertEquals(6, this.dao.count());
+        Assert.assertEquals(7, this.dao.findById(2).getScore().intValue());
+        Assert.assertEquals(3, this.dao.findById(3).getScore().intValue());
+    }
+
+    @Test
+    public void testUpsertDefault() throws Exception {
+        this.dao.configuration().dsl().execute("ALTER TABLE H2_ITEM ALTER COLUMN SCORE SET DEFAULT 7");
+        final UxJooq jooq = this.jooq(new JsonObject().put("size", 10));
+        jooq.insertBatch(this.items(1, 2, "name"));
+        final List<H2Item> items = this.items(1, 4, "upsert");
+        items.forEach(item -> item.setScore(null));
+        jooq.upsertBatch(items);
+        Assert.assertEquals(4, this.dao.count());
+        // Existing row keeps the score, new row uses the default value
+        Assert.assertEquals(1, this.dao.findById(1).getScore().intValue());
+        Assert.assertEquals(7, this.dao.findById(4).getScore().intValue());
+        Assert.assertEquals("upsert1", this.dao.findById(1).getName());
+    }
+
+    @Test(expected = JooqKeyMissingException.class)
+    public void testUpsertKeyless() {
+        new UxJooq(H2Item.class, H2ItemDao.keyless(this.dao)).upsertBatch(this.items(1, 2, "upsert"));
+    }
+
+    @Test
+    public void testTransactional() throws Exception {
+        this.dao.insert(new H2Item(8, "exist", 0, CREATED));
+        // id = 8 is duplicated in the second chunk
+        final UxJooq jooq = this.jooq(new JsonObject().put("size", 5).put("mode", "jdbc").put("transactional", true));
+        try {
+            this.await(jooq.insertBatchAsync(this.items(1, 12, "name")));
+            Assert.fail("Duplicated primary key should be rejected");
+        } catch (final ExecutionException ex) {
+            // The first chunk has been committed, the second chunk has been rolled back.
+            Assert.assertEquals(6, this.dao.count());
+            Assert.assertNull(this.dao.findById(6));
+            Assert.assertEquals("exist", this.dao.findById(8).getName());
+        }
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        final UxJooq jooq = this.jooq(new JsonObject());
+        Assert.assertTrue(this.await(jooq.insertBatchAsync(new ArrayList<H2Item>())).isEmpty());
+        Assert.assertEquals(0, this.statements("insert"));
+    }
+
+    private void open(final String mode, final SQLDialect dialect) throws Exception {
+        SQL.clear();
+        this.connection = H2ItemDao.connect("batch" + DATABASE.incrementAndGet() + mode);
+        this.dao = H2ItemDao.create(vertx, this.connection, dialect, new DefaultExecuteListener() {
+            @Override
+            public void executeStart(final ExecuteContext ctx) {
+                if (null != ctx.sql()) {
+                    SQL.add(ctx.sql());
+                }
+            }
+        });
+        SQL.clear();
+    }
+
+    private UxJooq jooq(final JsonObject options) {
+        return new UxJooq(H2Item.class, this.dao).batch(options);
+    }
+
+    private List<H2Item> items(final int from, final int to, final String prefix) {
+        final List<H2Item> items = new ArrayList<>();
+        for (int idx = from; idx <= to; idx++) {
+            items.add(new H2Item(idx, prefix + idx, idx % 4, CREATED));
+        }
+        return items;
+    }
+
+    private long statements(final String prefix) {
+        return SQL.stream().filter(sql -> sql.startsWith(prefix)).count();
+    }
+
+    private <T> T await(final Future<T> future) throws Exception {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        future.setHandler(handler -> {
+            if (handler.succeeded()) {
+                result.complete(handler.result());
+            } else {
+                result.completeExceptionally(handler.cause());
+            }
+        });
+        return result.get(10, TimeUnit.SECONDS);
+    }
+}
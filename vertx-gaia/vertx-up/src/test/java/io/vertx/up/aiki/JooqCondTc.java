@@ -1,11 +1,18 @@
 package io.vertx.up.aiki;
 
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.zero.quiz.JooqBase;
 import org.jooq.Condition;
+import org.jooq.Operator;
+import org.jooq.impl.DSL;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
 public class JooqCondTc extends JooqBase {
 
     @Test
@@ -36,6 +43,38 @@ public class JooqCondTc extends JooqBase {
         Assert.assertEquals(condition, expected);
     }
 
+    @Test
+    public void testShape() {
+        final JsonObject filters = new JsonObject().put("name", "Lang").put("age,>", 16);
+        final JsonObject another = new JsonObject().put("name", "Zero").put("age,>", 20);
+        Assert.assertEquals(JooqCond.shape(filters, Operator.AND), JooqCond.shape(another, Operator.AND));
+        Assert.assertNotEquals(JooqCond.shape(filters, Operator.AND), JooqCond.shape(filters, Operator.OR));
+        // The "" flag is structure
+        Assert.assertNotEquals(JooqCond.shape(filters.copy().put("", true), null),
+                JooqCond.shape(filters.copy().put("", false), null));
+        // Keys containing separators
+        Assert.assertNotEquals(JooqCond.shape(new JsonObject().put("a;1:b", 1), null),
+                JooqCond.shape(new JsonObject().put("a", 1).put("b", 1), null));
+    }
+
+    @Test
+    public void testPlan() {
+        final ConcurrentMap<String, Function<JsonObject, Condition>> plans = new ConcurrentHashMap<>();
+        final JsonObject tree = new JsonObject().put("", false).put("name,c", "Lang")
+                .put("$1", new JsonObject().put("", true).put("code,s", "zero").put("status,i",
+                        new JsonArray().add("A").add("B")));
+        JooqCond.transform(tree, null, null, plans);
+        final JsonObject rebind = tree.copy().put("name,c", "Huan");
+        rebind.getJsonObject("$1").put("code,s", "up").put("status,i", new JsonArray().add("C"));
+        final Condition cached = JooqCond.transform(rebind, null, null, plans);
+        Assert.assertEquals(1, plans.size());
+        Assert.assertEquals(JooqCond.transform(rebind, null, null, null), cached);
+        // Sub-tree first, then the linear conditions of current level
+        final Condition expected = DSL.field("code").startsWith("up").and(DSL.field("status").in("C"))
+                .or(DSL.field("name").contains("Huan"));
+        Assert.assertEquals(expected, cached);
+    }
+
     @Test
     public void testParse() {
         final JsonObject filters = this.getJson("double.json");
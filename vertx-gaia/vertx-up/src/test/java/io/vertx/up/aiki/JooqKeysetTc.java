@@ -0,0 +1,209 @@
+package io.vertx.up.aiki;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.up.exception._400PagerCursorException;
+import io.vertx.up.exception._400PagerOrderException;
+import io.zero.quiz.H2Item;
+import io.zero.quiz.H2ItemDao;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+public class JooqKeysetTc {
+
+    private static final int ROWS = 37;
+    private static final List<H2Item> ITEMS = new ArrayList<>();
+    private static Vertx vertx;
+    private static Connection connection;
+    private static H2ItemDao dao;
+    private static UxJooq jooq;
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        vertx = Vertx.vertx();
+        connection = H2ItemDao.connect("keyset");
+        dao = H2ItemDao.create(vertx, connection);
+        // Few distinct values for a lot of ties
+        final Random random = new Random(1024L);
+        final long base = Timestamp.valueOf("2019-05-01 10:00:00").getTime();
+        for (int idx = 1; idx <= ROWS; idx++) {
+            ITEMS.add(new H2Item(idx, "name" + random.nextInt(3), random.nextInt(4),
+                    new Timestamp(base + random.nextInt(3) * 1500L)));
+        }
+        dao.insert(ITEMS);
+        jooq = new UxJooq(H2Item.class, dao);
+    }
+
+    @AfterClass
+    public static void tearDown() throws Exception {
+        connection.close();
+        vertx.close();
+    }
+
+    @Test
+    public void testTies() throws Exception {
+        final List<Integer> ids = this.seekAll(new JsonArray().add("score,ASC"), null, 5);
+        final List<Integer> expected = this.expected(Comparator.comparing(H2Item::getScore));
+        Assert.assertEquals(expected, ids);
+    }
+
+    @Test
+    public void testMixed() throws Exception {
+        final List<Integer> ids = this.seekAll(new JsonArray().add("score,DESC").add("name,ASC"), null, 4);
+        final List<Integer> expected = this.expected(Comparator.comparing(H2Item::getScore).reversed()
+                .thenComparing(H2Item::getName));
+        Assert.assertEquals(expected, ids);
+        // Primary key desc in sorter instead of tie-breaker
+        final List<Integer> desc = this.seekAll(new JsonArray().add("name,DESC").add("id,DESC"), null, 6);
+        final List<Integer> descExpected = ITEMS.stream()
+                .sorted(Comparator.comparing(H2Item::getName).thenComparing(H2Item::getId).reversed())
+                .map(H2Item::getId).collect(Collectors.toList());
+        Assert.assertEquals(descExpected, desc);
+    }
+
+    @Test
+    public void testTimestamp() throws Exception {
+        final List<Integer> ids = this.seekAll(new JsonArray().add("created,DESC"), null, 3);
+        final List<Integer> expected = this.expected(Comparator.comparing(H2Item::getCreated).reversed());
+        Assert.assertEquals(expected, ids);
+    }
+
+    @Test
+    public void testCriteria() throws Exception {
+        final JsonObject criteria = new JsonObject().put("score,>", 1);
+        final List<Integer> ids = this.seekAll(new JsonArray().add("name,ASC").add("score,DESC"), criteria, 4);
+        final List<Integer> expected = ITEMS.stream().filter(item -> 1 < item.getScore())
+                .sorted(Comparator.comparing(H2Item::getName)
+                        .thenComparing(Comparator.comparing(H2Item::getScore).reversed())
+                        .thenComparing(H2Item::getId))
+                .map(H2Item::getId).collect(Collectors.toList());
+        Assert.assertEquals(expected, ids);
+    }
+
+    @Test
+    public void testCounter() throws Exception {
+        final JsonArray sorter = new JsonArray().add("score,ASC");
+        final JsonObject exact = this.await(jooq.searchAsync(this.params(sorter, null, 10, "")));
+        Assert.assertEquals(ROWS, exact.getInteger("count").intValue());
+        Assert.assertNotNull(exact.getString("next"));
+
+        final JsonObject params = this.params(sorter, null, 10, "");
+        params.getJsonObject("pager").put("count", "skip");
+        final JsonObject skipped = this.await(jooq.searchAsync(params));
+        Assert.assertFalse(skipped.containsKey("count"));
+        Assert.assertEquals(10, skipped.getJsonArray("list").size());
+
+        params.getJsonObject("pager").put("count", "estimate");
+        final JsonObject estimated = this.await(jooq.searchAsync(params));
+        Assert.assertEquals(ROWS, estimated.getInteger("count").intValue());
+        Assert.assertFalse(estimated.getBoolean("estimated"));
+
+        // Offset mode with counter
+        final JsonObject offset = new JsonObject().put("sorter", sorter)
+                .put("pager", new JsonObject().put("page", 2).put("size", 10).put("count", "skip"));
+        final JsonObject paged = this.await(jooq.searchAsync(offset));
+        Assert.assertFalse(paged.containsKey("count"));
+        Assert.assertEquals(10, paged.getJsonArray("list").size());
+    }
+
+    @Test
+    public void testInvalidCursor() throws Exception {
+        final JsonArray sorter = new JsonArray().add("score,ASC");
+        final JsonObject first = this.await(jooq.searchAsync(this.params(sorter, null, 5, "")));
+        final String next = first.getString("next");
+        // Cursor of another sorter
+        this.assertInvalid(this.params(new JsonArray().add("score,DESC"), null, 5, next));
+        // Corrupted cursor
+        this.assertInvalid(this.params(sorter, null, 5, next.substring(3)));
+        this.assertInvalid(this.params(sorter, null, 5, "%%%"));
+    }
+
+    @Test
+    public void testNoOrder() throws Exception {
+        // Table or view without primary key
+        final H2ItemDao keyless = H2ItemDao.keyless(dao);
+        final JsonObject params = new JsonObject()
+                .put("pager", new JsonObject().put("size", 5).put("cursor", "").put("count", "skip"));
+        try {
+            this.await(new UxJooq(H2Item.class, keyless).searchAsync(params));
+            Assert.fail("Keyset pager without ordering should be rejected");
+        } catch (final ExecutionException ex) {
+            Assert.assertTrue(ex.getCause() instanceof _400PagerOrderException);
+        }
+    }
+
+    private void assertInvalid(final JsonObject params) throws Exception {
+        try {
+            this.await(jooq.searchAsync(params));
+            Assert.fail("Invalid cursor should be rejected");
+        } catch (final ExecutionException ex) {
+            Assert.assertTrue(ex.getCause() instanceof _400PagerCursorException);
+        }
+    }
+
+    private List<Integer> expected(final Comparator<H2Item> comparator) {
+        return ITEMS.stream().sorted(comparator.thenComparing(H2Item::getId))
+                .map(H2Item::getId).collect(Collectors.toList());
+    }
+
+    private List<Integer> seekAll(final JsonArray sorter, final JsonObject criteria, final int size)
+            throws Exception {
+        final List<Integer> ids = new ArrayList<>();
+        final Set<String> cursors = new HashSet<>();
+        String cursor = "";
+        while (null != cursor) {
+            final JsonObject params = this.params(sorter, criteria, size, cursor);
+            params.getJsonObject("pager").put("count", "skip");
+            final JsonObject page = this.await(jooq.searchAsync(params));
+            final JsonArray list = page.getJsonArray("list");
+            Assert.assertTrue(list.size() <= size);
+            list.forEach(item -> ids.add(((JsonObject) item).getInteger("id")));
+            cursor = page.getString("next");
+            if (null != cursor) {
+                Assert.assertEquals(size, list.size());
+                Assert.assertTrue(cursors.add(cursor));
+            }
+        }
+        return ids;
+    }
+
+    private JsonObject params(final JsonArray sorter, final JsonObject criteria, final int size,
+                              final String cursor) {
+        final JsonObject params = new JsonObject()
+                .put("sorter", sorter)
+                .put("pager", new JsonObject().put("size", size).put("cursor", cursor));
+        if (null != criteria) {
+            params.put("criteria", criteria);
+        }
+        return params;
+    }
+
+    private <T> T await(final Future<T> future) throws Exception {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        future.setHandler(handler -> {
+            if (handler.succeeded()) {
+                result.complete(handler.result());
+            } else {
+                result.completeExceptionally(handler.cause());
+            }
+        });
+        return result.get(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,159 @@
+package io.vertx.up.aiki;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.zero.quiz.H2Item;
+import io.zero.quiz.H2ItemDao;
+import org.jooq.ExecuteContext;
+import org.jooq.impl.DefaultExecuteListener;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class JooqParallelTc {
+
+    /* Latency of every query in slow jdbc driver */
+    private static final long DELAY = 200L;
+    private static final AtomicBoolean SLOW = new AtomicBoolean();
+    private static final AtomicInteger COUNTS = new AtomicInteger();
+    private static Vertx vertx;
+    /* Requests are sent in the same context, the ordered worker queue is shared */
+    private static Context context;
+    private static Connection connection;
+    private static H2ItemDao dao;
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        vertx = Vertx.vertx();
+        context = vertx.getOrCreateContext();
+        connection = H2ItemDao.connect("parallel");
+        // Slow jdbc driver: each query waits DELAY ms before execution
+        dao = H2ItemDao.create(vertx, connection, new DefaultExecuteListener() {
+            @Override
+            public void executeStart(final ExecuteContext ctx) {
+                if (!SLOW.get()) {
+                    return;
+                }
+                if (ctx.sql().startsWith("select count")) {
+                    COUNTS.incrementAndGet();
+                }
+                try {
+                    Thread.sleep(DELAY);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        final List<H2Item> items = new ArrayList<>();
+        final Timestamp created = Timestamp.valueOf("2019-05-01 10:00:00");
+        for (int idx = 1; idx <= 30; idx++) {
+            items.add(new H2Item(idx, "name" + idx % 3, idx % 4, created));
+        }
+        dao.insert(items);
+        SLOW.set(true);
+    }
+
+    @AfterClass
+    public static void tearDown() throws Exception {
+        connection.close();
+        vertx.close();
+    }
+
+    @Before
+    public void clear() {
+        COUNTS.set(0);
+    }
+
+    @Test
+    public void testLatency() throws Exception {
+        final UxJooq sequential = new UxJooq(H2Item.class, dao).parallel(false);
+        final UxJooq parallel = new UxJooq(H2Item.class, dao).parallel(true);
+        final JsonObject params = this.params(new JsonObject().put("score,>", 0));
+        // Warm up
+        this.await(() -> parallel.searchAsync(params));
+        final long sequentialMs = this.elapsed(sequential, params);
+        final long parallelMs = this.elapsed(parallel, params);
+        Assert.assertTrue("sequential = " + sequentialMs, sequentialMs >= 2 * DELAY);
+        // One round trip of slow driver instead of two
+        Assert.assertTrue("sequential = " + sequentialMs + ", parallel = " + parallelMs,
+                parallelMs < sequentialMs * 3 / 4);
+        Assert.assertEquals(this.await(() -> sequential.searchAsync(params)),
+                this.await(() -> parallel.searchAsync(params)));
+    }
+
+    @Test
+    public void testCounted() throws Exception {
+        final UxJooq pooled = new UxJooq(H2Item.class, dao);
+        final UxJooq jooq = pooled.parallel(true).counted(600L);
+        final JsonObject params = this.params(new JsonObject().put("name", "name1"));
+        final JsonObject first = this.await(() -> jooq.searchAsync(params));
+        Assert.assertEquals(10, first.getInteger("count").intValue());
+        Assert.assertEquals(1, COUNTS.get());
+        // Identical criteria of another page
+        params.getJsonObject("pager").put("page", 2);
+        final JsonObject second = this.await(() -> jooq.searchAsync(params));
+        Assert.assertEquals(10, second.getInteger("count").intValue());
+        Assert.assertEquals(5, second.getJsonArray("list").size());
+        Assert.assertEquals(1, COUNTS.get());
+        // Different criteria
+        final JsonObject other = this.await(() -> jooq.searchAsync(this.params(new JsonObject().put("name", "name2"))));
+        Assert.assertEquals(10, other.getInteger("count").intValue());
+        Assert.assertEquals(2, COUNTS.get());
+        // Expired
+        Thread.sleep(700L);
+        this.await(() -> jooq.searchAsync(params));
+        Assert.assertEquals(3, COUNTS.get());
+        // Disabled
+        final UxJooq disabled = jooq.counted(0L);
+        this.await(() -> disabled.searchAsync(params));
+        this.await(() -> disabled.searchAsync(params));
+        Assert.assertEquals(5, COUNTS.get());
+        // The options of one call are not leaked to the other callers
+        this.await(() -> pooled.searchAsync(params));
+        this.await(() -> pooled.searchAsync(params));
+        Assert.assertEquals(7, COUNTS.get());
+    }
+
+    private long elapsed(final UxJooq jooq, final JsonObject params) throws Exception {
+        final int rounds = 3;
+        final long start = System.nanoTime();
+        for (int idx = 0; idx < rounds; idx++) {
+            this.await(() -> jooq.searchAsync(params));
+        }
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) / rounds;
+    }
+
+    private JsonObject params(final JsonObject criteria) {
+        return new JsonObject()
+                .put("criteria", criteria)
+                .put("pager", new JsonObject().put("page", 1).put("size", 5))
+                .put("sorter", new JsonArray().add("id,ASC"));
+    }
+
+    private <T> T await(final Supplier<Future<T>> supplier) throws Exception {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        context.runOnContext(nil -> supplier.get().setHandler(handler -> {
+            if (handler.succeeded()) {
+                result.complete(handler.result());
+            } else {
+                result.completeExceptionally(handler.cause());
+            }
+        }));
+        return result.get(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,196 @@
+package io.vertx.up.aiki;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.zero.exception.JooqFieldMissingException;
+import io.zero.epic.Ut;
+import io.zero.quiz.H2Item;
+import io.zero.quiz.H2ItemDao;
+import org.jooq.ExecuteContext;
+import org.jooq.impl.DefaultExecuteListener;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+public class JooqProjectionTc {
+
+    private static final Queue<String> SQL = new ConcurrentLinkedQueue<>();
+    private static Vertx vertx;
+    private static Connection connection;
+    private static H2ItemDao dao;
+    private static UxJooq jooq;
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        vertx = Vertx.vertx();
+        connection = H2ItemDao.connect("projection");
+        dao = H2ItemDao.create(vertx, connection, new DefaultExecuteListener() {
+            @Override
+            public void executeStart(final ExecuteContext ctx) {
+                SQL.add(ctx.sql());
+            }
+        });
+        final List<H2Item> items = new ArrayList<>();
+        final Timestamp created = Timestamp.valueOf("2019-05-01 10:00:00");
+        for (int idx = 1; idx <= 12; idx++) {
+            items.add(new H2Item(idx, "name" + idx % 3, idx % 4, created));
+        }
+        dao.insert(items);
+        jooq = new UxJooq(H2Item.class, dao);
+    }
+
+    @AfterClass
+    public static void tearDown() throws Exception {
+        connection.close();
+        vertx.close();
+    }
+
+    @Before
+    public void clear() {
+        SQL.clear();
+    }
+
+    @Test
+    public void testSearch() throws Exception {
+        final JsonObject params = new JsonObject()
+                .put("pager", new JsonObject().put("page", 1).put("size", 5))
+                .put("sorter", new JsonArray().add("score,DESC"))
+                .put("projection", new JsonArray().add("created").add("SCORE").add("unknown"));
+        final JsonObject result = this.await(jooq.searchAsync(params));
+        final String select = this.select();
+        Assert.assertTrue(select, select.contains("\"H2_ITEM\".\"ID\", \"H2_ITEM\".\"NAME\" from"));
+        Assert.assertFalse(select, select.contains("\"H2_ITEM\".\"CREATED\""));
+        // Sorted by excluded column
+        Assert.assertTrue(select, select.contains("order by SCORE desc"));
+        final JsonArray list = result.getJsonArray("list");
+        Assert.assertEquals(5, list.size());
+        list.forEach(item -> this.assertShape((JsonObject) item, "id", "name"));
+    }
+
+    @Test
+    public void testKeyset() throws Exception {
+        final JsonObject params = new JsonObject()
+                .put("pager", new JsonObject().put("size", 5).put("cursor", "").put("count", "skip"))
+                .put("sorter", new JsonArray().add("score,ASC"))
+                .put("projection", new JsonArray().add("id").add("score").add("created"));
+        final Set<String> names = new HashSet<>();
+        String cursor = "";
+        while (null != cursor) {
+            params.getJsonObject("pager").put("cursor", cursor);
+            final JsonObject page = this.await(jooq.searchAsync(params));
+            page.getJsonArray("list").forEach(item -> {
+                this.assertShape((JsonObject) item, "name");
+                names.add(((JsonObject) item).getString("name"));
+            });
+            cursor = page.getString("next");
+        }
+        Assert.assertEquals(3, names.size());
+        // Sort columns are selected for the cursor
+        final String select = this.select();
+        Assert.assertTrue(select, select.contains("\"H2_ITEM\".\"NAME\", \"H2_ITEM\".\"SCORE\", \"H2_ITEM\".\"ID\" from"));
+    }
+
+    @Test
+    public void testFetch() throws Exception {
+        final List<H2Item> list = this.await(jooq.fetchAsync("name", "name1",
+                new JsonArray().add("created").add("name")));
+        Assert.assertEquals(4, list.size());
+        final String select = this.select();
+        Assert.assertTrue(select, select.contains("\"H2_ITEM\".\"ID\", \"H2_ITEM\".\"SCORE\" from"));
+        list.forEach(item -> this.assertShape(Ut.serializeJson(item), "id", "score"));
+
+        final H2Item one = this.await(jooq.fetchOneAsync("id", 3, new JsonArray().add("score")));
+        Assert.assertFalse(this.select().contains("\"H2_ITEM\".\"SCORE\""));
+        this.assertShape(Ut.serializeJson(one), "id", "name", "created");
+
+        final H2Item and = this.await(jooq.fetchOneAndAsync(new JsonObject().put("id", 4).put("score", 0),
+                new JsonArray().add("name").add("created")));
+        this.assertShape(Ut.serializeJson(and), "id", "score");
+
+        final List<H2Item> or = this.await(jooq.fetchOrAsync(new JsonObject().put("id", 4).put("score", 1),
+                new JsonArray().add("created")));
+        Assert.assertEquals(4, or.size());
+    }
+
+    @Test
+    public void testFindAll() throws Exception {
+        final List<H2Item> all = this.await(jooq.findAllAsync(new JsonArray().add("name").add("score")));
+        Assert.assertEquals(12, all.size());
+        final String select = this.select();
+        Assert.assertTrue(select, select.contains("\"H2_ITEM\".\"ID\", \"H2_ITEM\".\"CREATED\" from"));
+        all.forEach(item -> this.assertShape(Ut.serializeJson(item), "id", "created"));
+        // Everything excluded, primary key kept
+        final List<H2Item> keys = this.await(jooq.findAllAsync(
+                new JsonArray().add("id").add("name").add("score").add("created")));
+        keys.forEach(item -> this.assertShape(Ut.serializeJson(item), "id"));
+        // Everything excluded on table ( view ) without primary key, all columns selected
+        final UxJooq keyless = new UxJooq(H2Item.class, H2ItemDao.keyless(dao));
+        final List<H2Item> views = this.await(keyless.findAllAsync(
+                new JsonArray().add("id").add("name").add("score").add("created")));
+        Assert.assertEquals(12, views.size());
+        views.forEach(item -> this.assertShape(Ut.serializeJson(item), "id", "name", "score", "created"));
+    }
+
+    @Test
+    public void testPojo() throws Exception {
+        final UxJooq bound = jooq.on("h2item");
+        // The pooled instance of dao is not bound to pojo
+        Assert.assertNotSame(jooq, bound);
+        Assert.assertSame(jooq, jooq.on(""));
+        final JsonObject pojo = new JsonObject().put("label", "name1");
+        final JsonObject entity = new JsonObject().put("name", "name1");
+        for (int idx = 0; idx < 2; idx++) {
+            Assert.assertEquals(4, this.<List<H2Item>>await(bound.fetchAndAsync(pojo, new JsonArray())).size());
+            Assert.assertEquals(4, this.<List<H2Item>>await(jooq.on("h2item").fetchAndAsync(pojo, new JsonArray())).size());
+            Assert.assertEquals(4, this.<List<H2Item>>await(jooq.fetchAndAsync(entity, new JsonArray())).size());
+        }
+        // Pojo field is unknown to dao
+        try {
+            jooq.fetchAndAsync(pojo, new JsonArray());
+            Assert.fail();
+        } catch (final JooqFieldMissingException ex) {
+            Assert.assertNotNull(ex.getMessage());
+        }
+    }
+
+    private void assertShape(final JsonObject item, final String... fields) {
+        final Set<String> expected = new HashSet<>();
+        for (final String field : fields) {
+            expected.add(field);
+        }
+        Assert.assertEquals(expected, item.fieldNames());
+    }
+
+    private String select() {
+        return SQL.stream()
+                .filter(sql -> sql.startsWith("select") && !sql.startsWith("select count"))
+                .reduce((left, right) -> right).orElse("");
+    }
+
+    private <T> T await(final Future<T> future) throws Exception {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        future.setHandler(handler -> {
+            if (handler.succeeded()) {
+                result.complete(handler.result());
+            } else {
+                result.completeExceptionally(handler.cause());
+            }
+        });
+        return result.get(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,112 @@
+package io.vertx.up.atom.agent;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.quiz.example.PlanAgent;
+import io.vertx.up.annotations.Address;
+import io.vertx.up.atom.Epsilon;
+import io.vertx.up.eon.ID;
+import io.zero.epic.Ut;
+import io.zero.quiz.ZeroBase;
+import org.junit.Test;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.List;
+
+public class PlanTc extends ZeroBase {
+
+    private Event event() throws NoSuchMethodException {
+        return this.event(PlanAgent.class.getDeclaredMethod("plan",
+                String.class, Integer.class, JsonObject.class));
+    }
+
+    private Event event(final Method method) {
+        final Event event = new Event();
+        event.setPath("/api/plan/:name");
+        event.setAction(method);
+        event.setProxy(new PlanAgent());
+        return event;
+    }
+
+    @Test
+    public void testPlan(final TestContext context) throws NoSuchMethodException {
+        final Plan plan = Plan.get(this.event());
+        context.assertEquals("ZERO://QUEUE/PLAN", plan.getAddress());
+        context.assertEquals(2, plan.getCodex().getKey());
+        context.assertEquals(JsonObject.class, plan.getCodex().getValue());
+        final List<Epsilon<Object>> epsilons = plan.getEpsilons();
+        context.assertEquals(3, epsilons.size());
+        context.assertEquals("name", epsilons.get(0).getName());
+        context.assertEquals(18, epsilons.get(1).getValue());
+        context.assertEquals(ID.DIRECT, epsilons.get(2).getName());
+        // Each request get new epsilon
+        context.assertFalse(epsilons.get(0) == plan.getEpsilons().get(0));
+        final JsonObject result = plan.invoke(new Object[]{"Lang", 33, new JsonObject()});
+        context.assertEquals("Lang", result.getString("name"));
+        context.assertEquals(33, result.getInteger("age"));
+    }
+
+    @Test
+    public void testCache(final TestContext context) throws NoSuchMethodException {
+        final Event event = this.event();
+        final Event named = this.event(PlanAgent.class.getDeclaredMethod("name", String.class));
+        // Same path / method / order, the events are equal
+        context.assertEquals(event, named);
+        final Plan plan = Plan.get(event);
+        final Plan namedPlan = Plan.get(named);
+        context.assertFalse(plan == namedPlan);
+        context.assertEquals(event.getAction(), plan.getEvent().getAction());
+        context.assertEquals(named.getAction(), namedPlan.getEvent().getAction());
+        // Each plan is compiled once
+        context.assertTrue(plan == Plan.get(this.event()));
+        context.assertTrue(namedPlan == Plan.get(named));
+        context.assertEquals("Lang", namedPlan.invoke(new Object[]{"Lang"}));
+    }
+
+    @Test
+    public void testBenchmark(final TestContext context) throws NoSuchMethodException {
+        final Event event = this.event();
+        final Object[] args = new Object[]{"Lang", 33, new JsonObject()};
+        final int rounds = 100000;
+        // Old dispatch: reflection on each request
+        final Runnable legacy = () -> {
+            final Method method = event.getAction();
+            final Annotation address = method.getDeclaredAnnotation(Address.class);
+            context.assertNotNull(Ut.invoke(address, "value"));
+            method.getParameterTypes();
+            for (final Annotation[] annotations : method.getParameterAnnotations()) {
+                for (final Annotation annotation : annotations) {
+                    annotation.annotationType();
+                }
+            }
+            method.getParameters();
+            Ut.invoke(event.getProxy(), method.getName(), args);
+        };
+        // New dispatch: plan only
+        final Plan plan = Plan.get(event);
+        final Runnable planned = () -> {
+            context.assertTrue(plan == Plan.get(event));
+            context.assertNotNull(plan.getAddress());
+            plan.getEpsilons();
+            plan.getCodex();
+            plan.invoke(args);
+        };
+        final long legacyCost = this.measure(legacy, rounds);
+        final long plannedCost = this.measure(planned, rounds);
+        this.getLogger().info("[ ZERO Test ] Dispatch legacy = {0} ns/op, plan = {1} ns/op",
+                legacyCost, plannedCost);
+    }
+
+    private long measure(final Runnable runnable, final int rounds) {
+        // Warm up
+        for (int idx = 0; idx < rounds; idx++) {
+            runnable.run();
+        }
+        final long start = System.nanoTime();
+        for (int idx = 0; idx < rounds; idx++) {
+            runnable.run();
+        }
+        return (System.nanoTime() - start) / rounds;
+    }
+}
@@ -0,0 +1,44 @@
+package io.vertx.up.media.parse;
+
+import io.vertx.up.media.Resolver;
+import io.vertx.up.media.resolver.BufferResolver;
+import io.vertx.up.media.resolver.FileResolver;
+import io.vertx.up.media.resolver.JsonResolver;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MimeResolverTc {
+
+    @Test
+    public void testBind() {
+        final Resolver<Object> resolver = MimeResolver.bind(null);
+        // Parameter without annotation config is bound to the same resolver
+        Assert.assertSame(resolver, MimeResolver.bind(null));
+        Assert.assertTrue(resolver instanceof MimeResolver);
+    }
+
+    @Test
+    public void testSelect() {
+        final MimeResolver<Object> resolver = (MimeResolver<Object>) MimeResolver.<Object>bind(null);
+        Assert.assertTrue(resolver.get("application/json") instanceof JsonResolver);
+        Assert.assertTrue(resolver.get("Application/JSON; charset=UTF-8") instanceof JsonResolver);
+        // Boundary is ignored, the same resolver is used
+        final Resolver<Object> file = resolver.get("multipart/form-data; boundary=first");
+        Assert.assertTrue(file instanceof FileResolver);
+        Assert.assertSame(file, resolver.get("multipart/form-data; boundary=second"));
+        Assert.assertTrue(resolver.get(null) instanceof BufferResolver);
+        Assert.assertTrue(resolver.get("text/unknown") instanceof BufferResolver);
+    }
+
+    @Test
+    public void testUnknown() {
+        final MimeResolver<Object> resolver = (MimeResolver<Object>) MimeResolver.<Object>bind(null);
+        final Resolver<Object> fallback = resolver.get(null);
+        // Content-Type of client is not configured, the `default` resolver is shared
+        for (int idx = 0; idx < 100; idx++) {
+            Assert.assertSame(fallback, resolver.get("text/unknown-" + idx));
+        }
+        Assert.assertSame(fallback, resolver.get("default/unknown"));
+        Assert.assertSame(fallback, resolver.get("invalid"));
+    }
+}
@@ -0,0 +1,179 @@
+package io.vertx.up.media.resolver;
+
+import io.vertx.core.Handler;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.handler.BodyHandler;
+import io.vertx.quiz.example.UploadAgent;
+import io.vertx.up.atom.agent.Depot;
+import io.vertx.up.atom.agent.Event;
+import io.vertx.up.atom.agent.Plan;
+import io.vertx.up.rs.dispatch.StandardVerifier;
+import io.vertx.up.rs.hunt.SyncAim;
+import io.zero.quiz.HttpBase;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.ws.rs.core.MediaType;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * Large uploads must not block the event loop ( Plan.isUpload ), the BlockedThreadChecker
+ * warnings are collected from java.util.logging ( default logging of vert.x ).
+ */
+public class FileResolverTc extends HttpBase {
+
+    private static final int SIZE = 32 * 1024 * 1024;
+    private static final String BOUNDARY = "----ZeroUploadBoundary";
+
+    private final transient List<LogRecord> warnings = Collections.synchronizedList(new ArrayList<>());
+    private final transient java.util.logging.Handler collector = new java.util.logging.Handler() {
+        @Override
+        public void publish(final LogRecord record) {
+            if (Level.WARNING.intValue() <= record.getLevel().intValue()) {
+                FileResolverTc.this.warnings.add(record);
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    private transient File uploads;
+
+    @Before
+    public void setUp() throws Exception {
+        Logger.getLogger("io.vertx.core.impl.BlockedThreadChecker").addHandler(this.collector);
+        this.uploads = Files.createTempDirectory("zero-uploads").toFile();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        Logger.getLogger("io.vertx.core.impl.BlockedThreadChecker").removeHandler(this.collector);
+        final File[] files = this.uploads.listFiles();
+        if (null != files) {
+            for (final File file : files) {
+                Files.deleteIfExists(file.toPath());
+            }
+        }
+        Files.deleteIfExists(this.uploads.toPath());
+    }
+
+    @Override
+    protected VertxOptions options() {
+        return new VertxOptions()
+                .setBlockedThreadCheckInterval(20)
+                .setMaxEventLoopExecuteTime(TimeUnit.MILLISECONDS.toNanos(200));
+    }
+
+    @Test
+    public void testUploadBuffer() throws Exception {
+        this.start(this.event("buffer", Buffer.class));
+        Assert.assertEquals(String.valueOf(SIZE), new JsonObject(this.upload(SIZE)).getString("data"));
+        Assert.assertTrue(this.warnings.isEmpty());
+    }
+
+    @Test
+    public void testUploadBytes() throws Exception {
+        this.start(this.event("bytes", byte[].class));
+        Assert.assertEquals(String.valueOf(SIZE), new JsonObject(this.upload(SIZE)).getString("data"));
+        Assert.assertTrue(this.warnings.isEmpty());
+    }
+
+    @Test
+    public void testChecker() throws Exception {
+        // The collector could catch the warning when event loop is blocked
+        this.start(context -> {
+            try {
+                Thread.sleep(600);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            context.response().end("blocked");
+        });
+        Assert.assertEquals("blocked", this.upload(SIZE));
+        Assert.assertFalse(this.warnings.isEmpty());
+    }
+
+    private Event event(final String name, final Class<?> argType) throws Exception {
+        final Event event = new Event();
+        event.setPath("/upload");
+        event.setMethod(HttpMethod.POST);
+        event.setConsumes(Collections.singleton(MediaType.WILDCARD_TYPE));
+        event.setProduces(Collections.singleton(MediaType.WILDCARD_TYPE));
+        event.setAction(UploadAgent.class.getDeclaredMethod(name, argType));
+        event.setProxy(new UploadAgent());
+        return event;
+    }
+
+    /*
+     * Same handlers as request of agent: verifier ( arguments ) and aim ( invocation ).
+     */
+    private void start(final Event event) throws Exception {
+        Assert.assertTrue(Plan.get(event).isUpload());
+        final Router router = Router.router(this.vertx);
+        router.route().handler(BodyHandler.create(this.uploads.getAbsolutePath()));
+        router.post("/upload")
+                .handler(new StandardVerifier().signal(Depot.create(event)))
+                .handler(new SyncAim().attack(event));
+        this.listen(router);
+        // Warm up: the validation metadata of agent is built in first request
+        Assert.assertEquals("1024", new JsonObject(this.upload(1024)).getString("data"));
+        this.warnings.clear();
+    }
+
+    private void start(final Handler<RoutingContext> handler) throws Exception {
+        final Router router = Router.router(this.vertx);
+        router.route().handler(BodyHandler.create(this.uploads.getAbsolutePath()));
+        router.post("/upload").handler(handler);
+        this.listen(router);
+    }
+
+    private String upload(final int size) throws Exception {
+        final Buffer body = Buffer.buffer(size + 512)
+                .appendString("--" + BOUNDARY + "\r\n")
+                .appendString("Content-Disposition: form-data; name=\"file\"; filename=\"large.bin\"\r\n")
+                .appendString("Content-Type: application/octet-stream\r\n\r\n");
+        final byte[] chunk = new byte[Math.min(size, 1024 * 1024)];
+        for (int idx = 0; idx < chunk.length; idx++) {
+            chunk[idx] = (byte) idx;
+        }
+        for (int idx = 0; idx < size / chunk.length; idx++) {
+            body.appendBytes(chunk);
+        }
+        body.appendString("\r\n--" + BOUNDARY + "--\r\n");
+        final CompletableFuture<String> response = new CompletableFuture<>();
+        final HttpClient client = this.vertx.createHttpClient(new HttpClientOptions());
+        client.post(this.port(), "localhost", "/upload", res -> res.bodyHandler(buffer -> response.complete(buffer.toString())))
+                .exceptionHandler(response::completeExceptionally)
+                .putHeader("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                .end(body);
+        try {
+            return response.get(60, TimeUnit.SECONDS);
+        } finally {
+            client.close();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package io.vertx.up.micro.discovery;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.quiz.EtcdFake;
+import io.vertx.servicediscovery.Record;
+import io.vertx.tp.etcd.center.EtcdData;
+import io.vertx.up.eon.em.Etat;
+import io.vertx.up.micro.center.ZeroRegistry;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.net.ServerSocket;
+import java.util.Arrays;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+public class EtcdWatcherTc {
+
+    private static Vertx VERTX;
+    private static EtcdFake FAKE;
+    private static EtcdData ETCD;
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        final int port;
+        try (final ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        VERTX = Vertx.vertx();
+        FAKE = EtcdFake.start(VERTX, port);
+        final JsonObject config = new JsonObject().put("etcd", new JsonObject()
+                .put("micro", "zero-watch")
+                .put("timeout", 2)
+                .put("ttl", 2)
+                .put("nodes", new JsonArray().add(new JsonObject()
+                        .put("host", "localhost").put("port", port))));
+        ETCD = EtcdData.create(EtcdWatcherTc.class, config);
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        FAKE.stop();
+        VERTX.close();
+    }
+
+    @Test
+    public void testWatch() throws Exception {
+        final ZeroRegistry alive = ZeroRegistry.create(this.getClass(), ETCD);
+        final ZeroRegistry dead = ZeroRegistry.create(this.getClass(), ETCD);
+        final HttpServerOptions options = new HttpServerOptions().setPort(6083);
+        alive.registryHttp("api-alive", options, Etat.RUNNING);
+        alive.registryRoute("api-alive", options, new TreeSet<>(Arrays.asList("/api/a", "/api/b")));
+
+        // 1. Full loading at the first time
+        final Origin origin = new ApiOrigin(alive);
+        final Snapshot loaded = origin.getSnapshot();
+        Assert.assertEquals(2, loaded.getRecords().size());
+        Assert.assertNotNull(loaded.find("api-alive", "/api/a"));
+        Assert.assertNull(loaded.find("api-alive", "/api/c"));
+
+        // 2. Watching: new service published
+        final HttpServerOptions deadOptions = new HttpServerOptions().setPort(6084);
+        dead.registryHttp("api-dead", deadOptions, Etat.RUNNING);
+        dead.registryRoute("api-dead", deadOptions, new TreeSet<>(Arrays.asList("/api/d")));
+        this.await(() -> null != origin.getSnapshot().find("api-dead", "/api/d"));
+        final Snapshot watched = origin.getSnapshot();
+        Assert.assertTrue(watched.getVersion() > loaded.getVersion());
+        Assert.assertEquals(3, watched.getRecords().size());
+        // The record of unchanged service is reused
+        final Record record = loaded.find("api-alive", "/api/a");
+        Assert.assertSame(record, watched.find("api-alive", "/api/a"));
+
+        // 3. Lease: the service without heartbeat will be expired
+        this.await(() -> {
+            alive.heartbeat();
+            return null == origin.getSnapshot().find("api-dead", "/api/d");
+        });
+        Assert.assertNotNull(origin.getSnapshot().find("api-alive", "/api/b"));
+
+        // 4. Stopped service will be removed
+        alive.registryHttp("api-alive", options, Etat.STOPPED);
+        this.await(() -> origin.getSnapshot().getRecords().isEmpty());
+    }
+
+    private void await(final Supplier<Boolean> condition) throws InterruptedException {
+        final long end = System.currentTimeMillis() + 10000;
+        while (!condition.get()) {
+            Assert.assertTrue("Timeout for waiting", System.currentTimeMillis() < end);
+            Thread.sleep(200);
+        }
+    }
+}
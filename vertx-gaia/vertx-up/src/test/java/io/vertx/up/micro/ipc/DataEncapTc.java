@@ -0,0 +1,155 @@
+package io.vertx.up.micro.ipc;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.tp.ipc.eon.IpcRequest;
+import io.vertx.tp.ipc.eon.IpcResponse;
+import io.vertx.tp.ipc.eon.em.Compression;
+import io.vertx.tp.ipc.eon.em.Format;
+import io.vertx.tp.ipc.service.UnityServiceGrpc;
+import io.vertx.up.atom.Envelop;
+import io.vertx.up.atom.flux.IpcData;
+import io.vertx.up.eon.em.IpcType;
+import io.vertx.up.log.Annal;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class DataEncapTc {
+
+    private static final Annal LOGGER = Annal.get(DataEncapTc.class);
+    private static final String NAME = "zero-ipc-bench";
+
+    private static Server SERVER;
+    private static ManagedChannel CHANNEL;
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        // Echo service with the same flow of UnityTunnel
+        SERVER = InProcessServerBuilder.forName(NAME).directExecutor()
+                .addService(new UnityServiceGrpc.UnityServiceVertxImplBase() {
+                    @Override
+                    public void unityCall(final IpcRequest request, final Future<IpcResponse> future) {
+                        final IpcData data = DataEncap.consume(request, IpcType.UNITY);
+                        final Envelop envelop = DataEncap.consume(data);
+                        final IpcData response = new IpcData();
+                        response.setFormat(data.getFormat());
+                        response.setCompression(data.getCompression());
+                        response.setThreshold(data.getThreshold());
+                        DataEncap.in(response, envelop);
+                        future.complete(DataEncap.out(response));
+                    }
+                }).build().start();
+        CHANNEL = InProcessChannelBuilder.forName(NAME).directExecutor().build();
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        CHANNEL.shutdownNow();
+        SERVER.shutdownNow();
+    }
+
+    private static JsonObject payload(final int items) {
+        final JsonArray list = new JsonArray();
+        for (int idx = 0; idx < items; idx++) {
+            list.add(new JsonObject().put("id", idx).put("name", "user-" + idx)
+                    .put("email", "user" + idx + "@zero.io").put("active", 0 == idx % 2)
+                    .put("score", idx * 1.5));
+        }
+        return new JsonObject().put("list", list).put("count", items);
+    }
+
+    private static IpcRequest request(final JsonObject data, final Format format,
+                                      final Compression compression) {
+        final IpcData ipc = new IpcData();
+        ipc.setAddress("ZERO://IPC/BENCH");
+        DataEncap.in(ipc, new JsonObject().put("format", format.name())
+                .put("compression", compression.name()).put("threshold", 1024));
+        DataEncap.in(ipc, Envelop.success(data));
+        return DataEncap.in(ipc);
+    }
+
+    private static IpcResponse call(final IpcRequest request) throws Exception {
+        final CompletableFuture<IpcResponse> future = new CompletableFuture<>();
+        UnityServiceGrpc.newVertxStub(CHANNEL).unityCall(request, res -> {
+            if (res.succeeded()) {
+                future.complete(res.result());
+            } else {
+                future.completeExceptionally(res.cause());
+            }
+        });
+        return future.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testNegotiate() throws Exception {
+        final JsonObject data = payload(200);
+        // Legacy: json in body
+        final IpcRequest legacy = request(data, Format.JSON, Compression.NONE);
+        Assert.assertTrue(legacy.getEnvelop().getStream().isEmpty());
+        Assert.assertEquals(data, new JsonObject(legacy.getEnvelop().getBody())
+                .getJsonObject("data"));
+        for (final Format format : new Format[]{Format.JSON, Format.BINARY}) {
+            for (final Compression compression : Compression.values()) {
+                if (Compression.UNRECOGNIZED == compression) {
+                    continue;
+                }
+                final IpcResponse response = call(request(data, format, compression));
+                // Reply with the same format / compression
+                Assert.assertEquals(format, response.getEnvelop().getType());
+                if (Compression.NONE != compression) {
+                    Assert.assertEquals(compression.getNumber(), response.getEnvelop().getStream().byteAt(0));
+                }
+                Assert.assertEquals(data, DataEncap.outJson(response).getJsonObject("data"));
+            }
+        }
+        // Small content under threshold will not be compressed
+        final IpcRequest small = request(new JsonObject().put("id", 1), Format.BINARY, Compression.GZIP);
+        Assert.assertEquals(Compression.NONE.getNumber(), small.getEnvelop().getStream().byteAt(0));
+    }
+
+    @Test
+    public void testBenchmark() throws Exception {
+        final int rounds = 10;
+        for (final int items : new int[]{10, 1000, 5000}) {
+            final JsonObject data = payload(items);
+            final StringBuilder report = new StringBuilder();
+            long plain = 0;
+            long compressed = 0;
+            for (final Format format : new Format[]{Format.JSON, Format.BINARY}) {
+                for (final Compression compression : new Compression[]{Compression.NONE, Compression.GZIP, Compression.DEFLATE}) {
+                    final IpcRequest probe = request(data, format, compression);
+                    final int size = probe.getSerializedSize();
+                    if (Format.JSON == format && Compression.NONE == compression) {
+                        plain = size;
+                    } else if (Format.JSON == format && Compression.GZIP == compression) {
+                        compressed = size;
+                    }
+                    // Warm up
+                    for (int idx = 0; idx < rounds; idx++) {
+                        DataEncap.out(call(request(data, format, compression)));
+                    }
+                    final long start = System.nanoTime();
+                    for (int idx = 0; idx < rounds; idx++) {
+                        DataEncap.out(call(request(data, format, compression)));
+                    }
+                    final long cost = (System.nanoTime() - start) / rounds / 1000;
+                    report.append(String.format("%n\t%s/%s: %d bytes, %d us/op", format, compression, size, cost));
+                }
+            }
+            LOGGER.info("[ ZERO Test ] Ipc payload ( {0} items ): {1}", items, report.toString());
+            if (1000 <= items) {
+                Assert.assertTrue(compressed < plain);
+            }
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package io.vertx.up.micro.ipc;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.vertx.core.Handler;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.Pump;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.core.streams.WriteStream;
+import io.vertx.up.atom.Envelop;
+import io.vertx.up.atom.flux.IpcData;
+import io.vertx.up.eon.em.IpcType;
+import io.vertx.up.micro.ipc.client.StreamSpear;
+import io.vertx.up.micro.ipc.server.ConsumeTunnel;
+import io.vertx.up.micro.ipc.server.DupliexTunnel;
+import io.vertx.up.micro.ipc.server.ProduceTunnel;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class StreamTunnelTc {
+
+    private static final String NAME = "zero-ipc-stream";
+    private static final String CONSUME = "ZERO://STREAM/CONSUME";
+    private static final String PRODUCE = "ZERO://STREAM/PRODUCE";
+    private static final String DUPLIEX = "ZERO://STREAM/DUPLIEX";
+
+    /* Tunnel.IPCS is scanned from classpath, the test methods are registered here */
+    private static final Map<String, Method> METHODS = new ConcurrentHashMap<>();
+    private static final AtomicInteger WRITTEN = new AtomicInteger();
+    private static final List<JsonObject> PRODUCED = new CopyOnWriteArrayList<>();
+
+    private static Server SERVER;
+    private static ManagedChannel CHANNEL;
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        METHODS.put(CONSUME, StreamActor.class.getMethod("consume", Envelop.class, WriteStream.class));
+        METHODS.put(PRODUCE, StreamActor.class.getMethod("produce", Envelop.class, ReadStream.class));
+        METHODS.put(DUPLIEX, StreamActor.class.getMethod("dupliex", Envelop.class,
+                ReadStream.class, WriteStream.class));
+        SERVER = InProcessServerBuilder.forName(NAME).directExecutor()
+                .addService(new ConsumeTunnel() {
+                    @Override
+                    protected Method find(final String address) {
+                        return METHODS.get(address);
+                    }
+                }.init(null))
+                .addService(new ProduceTunnel() {
+                    @Override
+                    protected Method find(final String address) {
+                        return METHODS.get(address);
+                    }
+                }.init(null))
+                .addService(new DupliexTunnel() {
+                    @Override
+                    protected Method find(final String address) {
+                        return METHODS.get(address);
+                    }
+                }.init(null))
+                .build().start();
+        CHANNEL = InProcessChannelBuilder.forName(NAME).directExecutor().build();
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        CHANNEL.shutdownNow();
+        SERVER.shutdownNow();
+    }
+
+    private static IpcData header(final String address, final IpcType type, final int count) {
+        final IpcData data = new IpcData();
+        data.setType(type);
+        data.setAddress(address);
+        DataEncap.in(data, Envelop.success(new JsonObject().put("count", count)));
+        return data;
+    }
+
+    private static CompletableFuture<List<JsonObject>> collect(final ReadStream<JsonObject> stream) {
+        final List<JsonObject> items = new CopyOnWriteArrayList<>();
+        final CompletableFuture<List<JsonObject>> future = new CompletableFuture<>();
+        stream.exceptionHandler(future::completeExceptionally);
+        stream.endHandler(nil -> future.complete(items));
+        stream.handler(items::add);
+        return future;
+    }
+
+    private static void assertOrdered(final List<JsonObject> items, final int count) {
+        Assert.assertEquals(count, items.size());
+        for (int idx = 0; idx < count; idx++) {
+            Assert.assertEquals(idx, items.get(idx).getInteger("id").intValue());
+        }
+    }
+
+    @Test
+    public void testConsume() throws Exception {
+        WRITTEN.set(0);
+        final ReadStream<JsonObject> stream = StreamSpear.create(CHANNEL)
+                .consume(header(CONSUME, IpcType.CONSUME, 500));
+        stream.pause();
+        final CompletableFuture<List<JsonObject>> future = collect(stream);
+        // Paused: server could not write more than prefetch ( + 1 requested by grpc stub when started )
+        Thread.sleep(200);
+        Assert.assertTrue("Written: " + WRITTEN.get(), WRITTEN.get() <= IpcReadStream.PREFETCH + 1);
+        stream.resume();
+        assertOrdered(future.get(10, TimeUnit.SECONDS), 500);
+        Assert.assertEquals(500, WRITTEN.get());
+    }
+
+    @Test
+    public void testProduce() throws Exception {
+        PRODUCED.clear();
+        final CompletableFuture<Integer> future = new CompletableFuture<>();
+        StreamSpear.create(CHANNEL)
+                .produce(header(PRODUCE, IpcType.PRODUCE, 0), new Generator(300))
+                .setHandler(res -> {
+                    if (res.succeeded()) {
+                        future.complete(res.result());
+                    } else {
+                        future.completeExceptionally(res.cause());
+                    }
+                });
+        Assert.assertEquals(300, future.get(10, TimeUnit.SECONDS).intValue());
+        assertOrdered(PRODUCED, 300);
+    }
+
+    @Test
+    public void testDupliex() throws Exception {
+        final ReadStream<JsonObject> stream = StreamSpear.create(CHANNEL)
+                .dupliex(header(DUPLIEX, IpcType.DUPLIEX, 0), new Generator(300));
+        assertOrdered(collect(stream).get(10, TimeUnit.SECONDS), 300);
+    }
+
+    public static class StreamActor {
+
+        public void consume(final Envelop envelop, final WriteStream<JsonObject> out) {
+            final JsonObject data = envelop.data();
+            final int count = data.getInteger("count");
+            final Runnable[] writer = new Runnable[1];
+            writer[0] = () -> {
+                while (WRITTEN.get() < count && !out.writeQueueFull()) {
+                    out.write(new JsonObject().put("id", WRITTEN.getAndIncrement()));
+                }
+                if (WRITTEN.get() < count) {
+                    out.drainHandler(nil -> writer[0].run());
+                } else {
+                    out.end();
+                }
+            };
+            writer[0].run();
+        }
+
+        public void produce(final Envelop envelop, final ReadStream<JsonObject> in) {
+            in.handler(PRODUCED::add);
+        }
+
+        public void dupliex(final Envelop envelop, final ReadStream<JsonObject> in,
+                            final WriteStream<JsonObject> out) {
+            in.endHandler(nil -> out.end());
+            Pump.pump(in, out).start();
+        }
+    }
+
+    /*
+     * Items source that honors pause / resume
+     */
+    private static class Generator implements ReadStream<JsonObject> {
+        private final transient int count;
+        private transient int current;
+        private transient boolean paused;
+        private transient boolean emitting;
+        private transient Handler<JsonObject> handler;
+        private transient Handler<Void> endHandler;
+
+        private Generator(final int count) {
+            this.count = count;
+        }
+
+        @Override
+        public Generator exceptionHandler(final Handler<Throwable> handler) {
+            return this;
+        }
+
+        @Override
+        public Generator handler(final Handler<JsonObject> handler) {
+            this.handler = handler;
+            this.emit();
+            return this;
+        }
+
+        @Override
+        public Generator pause() {
+            this.paused = true;
+            return this;
+        }
+
+        @Override
+        public Generator resume() {
+            this.paused = false;
+            this.emit();
+            return this;
+        }
+
+        @Override
+        public Generator fetch(final long amount) {
+            return this.resume();
+        }
+
+        @Override
+        public Generator endHandler(final Handler<Void> endHandler) {
+            this.endHandler = endHandler;
+            return this;
+        }
+
+        private synchronized void emit() {
+            if (this.emitting) {
+                return;
+            }
+            this.emitting = true;
+            try {
+                while (!this.paused && null != this.handler && this.current < this.count) {
+                    this.handler.handle(new JsonObject().put("id", this.current++));
+                }
+                if (this.current == this.count && null != this.endHandler) {
+                    this.current++;
+                    this.endHandler.handle(null);
+                }
+            } finally {
+                this.emitting = false;
+            }
+        }
+    }
+}
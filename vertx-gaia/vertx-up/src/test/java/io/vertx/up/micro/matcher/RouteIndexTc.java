@@ -0,0 +1,152 @@
+package io.vertx.up.micro.matcher;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.servicediscovery.Record;
+import io.vertx.servicediscovery.types.HttpEndpoint;
+import io.vertx.up.log.Annal;
+import io.vertx.up.micro.discovery.Origin;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+public class RouteIndexTc {
+
+    private static final Annal LOGGER = Annal.get(RouteIndexTc.class);
+
+    private static Record record(final String name, final int port, final String path) {
+        return HttpEndpoint.createRecord(name, "localhost", port, "/*",
+                new JsonObject().put(Origin.ID, name + port + path).put(Origin.PATH, path));
+    }
+
+    private static List<Record> routes(final int size) {
+        final List<Record> records = new ArrayList<>();
+        for (int idx = 0; idx < size; idx++) {
+            records.add(record("api-" + idx % 10, 6000, "/api/module" + idx + "/list"));
+            records.add(record("api-" + idx % 10, 6000, "/api/module" + idx + "/:key"));
+            records.add(record("api-" + idx % 10, 6000, "/api/module" + idx + "/:key/item/:id"));
+        }
+        return records;
+    }
+
+    @Test
+    public void testMatch() {
+        final List<Record> records = new ArrayList<>(Arrays.asList(
+                record("api-user", 6083, "/api/user"),
+                record("api-user", 6084, "/api/user"),
+                record("api-user", 6083, "/api/user/:id"),
+                record("api-user", 6083, "/api/user/search"),
+                record("api-user", 6083, "/api/:module/list/all"),
+                record("api-file", 6085, "/api/file/:name.json")
+        ));
+        final RouteIndex index = RouteIndex.create(1L, records);
+        // Static path ( ignore case ) with two candidates
+        Assert.assertEquals(2, index.match("/API/User").size());
+        // Literal segment takes precedence
+        Assert.assertEquals("/api/user/search", this.path(index.match("/api/user/search")));
+        Assert.assertEquals("/api/user/:id", this.path(index.match("/api/user/lang")));
+        // Backtracking from literal to path variable
+        Assert.assertEquals("/api/:module/list/all", this.path(index.match("/api/user/list/all")));
+        // Regex
+        Assert.assertEquals("/api/file/:name.json", this.path(index.match("/api/file/zero.json")));
+        // Nothing matched
+        Assert.assertTrue(index.match("/api/user/").isEmpty());
+        Assert.assertTrue(index.match("/api/order").isEmpty());
+    }
+
+    @Test
+    public void testBalancer() {
+        final List<Record> candidates = Arrays.asList(
+                record("api-user", 6083, "/api/user"),
+                record("api-user", 6084, "/api/user"),
+                record("api-user", 6085, "/api/user"));
+        // Round robin
+        final Balancer robin = new RoundRobinBalancer();
+        Assert.assertNotSame(robin.select(candidates, null), robin.select(candidates, null));
+        // Least outstanding: the released one will be selected again
+        final LeastBalancer least = new LeastBalancer();
+        final Record first = least.select(candidates, null);
+        least.select(candidates, null);
+        least.select(candidates, null);
+        least.release(first);
+        Assert.assertSame(first, least.select(candidates, null));
+        Assert.assertEquals(1, least.getOutstanding(first));
+        // Weighted: 6083 = 3, others = 1
+        final Balancer weight = new WeightBalancer(new JsonObject().put("localhost:6083", 3));
+        final Map<Integer, Integer> counter = new HashMap<>();
+        for (int idx = 0; idx < 50; idx++) {
+            counter.merge(weight.select(candidates, null).getLocation().getInteger(Origin.PORT), 1, Integer::sum);
+        }
+        Assert.assertEquals(30, counter.get(6083).intValue());
+        Assert.assertEquals(10, counter.get(6084).intValue());
+        // Consistent hash: same value, same endpoint
+        final HashBalancer hash = new HashBalancer("X-Session", 160);
+        final Record hashed = hash.locate(candidates, "session-lang");
+        for (int idx = 0; idx < 10; idx++) {
+            Assert.assertSame(hashed, hash.locate(candidates, "session-lang"));
+        }
+        final Map<Record, Integer> spread = new HashMap<>();
+        for (int idx = 0; idx < 3000; idx++) {
+            spread.merge(hash.locate(candidates, "session-" + idx), 1, Integer::sum);
+        }
+        Assert.assertEquals(3, spread.size());
+        spread.values().forEach(count -> Assert.assertTrue(count > 500));
+    }
+
+    @Test
+    public void testBenchmark() {
+        final List<Record> records = routes(1000);
+        final String[] uris = new String[]{
+                "/api/module10/list", "/api/module500/lang", "/api/module999/lang/item/11"
+        };
+        final int rounds = 2000;
+        // Old matching: scanning and compiling regex on each request
+        final Runnable legacy = () -> {
+            for (final String uri : uris) {
+                Assert.assertTrue(records.stream().anyMatch(record -> {
+                    final String path = record.getMetadata().getString(Origin.PATH);
+                    if (path.contains(":")) {
+                        final Pattern pattern = RegexPath.createRegex(path);
+                        return pattern.matcher(uri).matches();
+                    } else {
+                        return path.equalsIgnoreCase(uri);
+                    }
+                }));
+            }
+        };
+        // New matching: route index built once
+        final RouteIndex index = RouteIndex.create(1L, records);
+        final Runnable indexed = () -> {
+            for (final String uri : uris) {
+                Assert.assertFalse(index.match(uri).isEmpty());
+            }
+        };
+        final long legacyCost = this.measure(legacy, rounds / 100);
+        final long indexedCost = this.measure(indexed, rounds);
+        LOGGER.info("[ ZERO Test ] Route matching ( {0} routes ) legacy = {1} ns/op, index = {2} ns/op",
+                records.size(), legacyCost, indexedCost);
+        Assert.assertTrue(indexedCost < legacyCost);
+    }
+
+    private String path(final List<Record> records) {
+        Assert.assertFalse(records.isEmpty());
+        return records.get(0).getMetadata().getString(Origin.PATH);
+    }
+
+    private long measure(final Runnable runnable, final int rounds) {
+        // Warm up
+        for (int idx = 0; idx < rounds; idx++) {
+            runnable.run();
+        }
+        final long start = System.nanoTime();
+        for (int idx = 0; idx < rounds; idx++) {
+            runnable.run();
+        }
+        return (System.nanoTime() - start) / rounds;
+    }
+}
@@ -0,0 +1,174 @@
+package io.vertx.up.plugin.shared;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.up.log.Annal;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class SharedClientTc {
+
+    private static final Annal LOGGER = Annal.get(SharedClientTc.class);
+    private static final int KEYS = 1000000;
+    private static Vertx VERTX;
+
+    @BeforeClass
+    public static void setUp() {
+        VERTX = Vertx.vertx();
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        VERTX.close();
+    }
+
+    private SharedClient<String, Integer> create(final String name, final JsonObject ttl) {
+        return new SharedClientImpl<String, Integer>(VERTX)
+                .create(new JsonObject().put("ttl", ttl), name);
+    }
+
+    @Test
+    public void testStress() throws Exception {
+        final SharedClient<String, Integer> client = this.create("zero-ttl-stress",
+                new JsonObject().put("tick", 100).put("slots", 64));
+        final long start = System.currentTimeMillis();
+        for (int idx = 0; idx < KEYS; idx++) {
+            client.put("key" + idx, idx, 1 + idx % 2);
+        }
+        LOGGER.info("[ ZERO Test ] {0} keys put in {1} ms", KEYS, System.currentTimeMillis() - start);
+        Assert.assertEquals(KEYS, client.statistics().getLong("scheduled").longValue());
+        // No more timers in event loop, all the keys expired by the wheel.
+        this.await(() -> client.fetchSync().isEmpty(), 20000);
+        final JsonObject statistics = client.statistics();
+        LOGGER.info("[ ZERO Test ] {0} keys expired in {1} ms, statistics = {2}",
+                KEYS, System.currentTimeMillis() - start, statistics.encode());
+        Assert.assertEquals(0, statistics.getInteger("pending").intValue());
+        Assert.assertEquals(KEYS, statistics.getLong("expired") + statistics.getLong("expiredOnRead"));
+    }
+
+    @Test
+    public void testRenew() throws Exception {
+        final SharedClient<String, Integer> client = this.create("zero-ttl-renew",
+                new JsonObject().put("tick", 100).put("slots", 8));
+        client.put("renew", 1, 1);
+        client.put("forever", 1, 1);
+        // Ttl replaced / cancelled by later put
+        client.put("renew", 2, 3);
+        client.put("forever", 2);
+        Thread.sleep(1500);
+        Assert.assertEquals(Integer.valueOf(2), client.get("renew"));
+        Assert.assertEquals(Integer.valueOf(2), client.get("forever"));
+        this.await(() -> null == client.get("renew"), 5000);
+        Assert.assertEquals(Integer.valueOf(2), client.get("forever"));
+    }
+
+    @Test
+    public void testLazy() throws Exception {
+        final SharedClient<String, Integer> client = this.create("zero-ttl-lazy",
+                new JsonObject().put("mode", "lazy"));
+        client.put("lazy", 1, 1);
+        Thread.sleep(1200);
+        // No timer, the key is still in map until it's read.
+        Assert.assertEquals(1, client.fetchSync().size());
+        Assert.assertNull(client.get("lazy"));
+        Assert.assertEquals(0, client.fetchSync().size());
+        Assert.assertEquals(1L, client.statistics().getLong("expiredOnRead").longValue());
+        // Expired key is absent
+        client.put("lazy", 1, 1);
+        Thread.sleep(1200);
+        Assert.assertEquals(Integer.valueOf(2), client.putIfAbsent("lazy", 2).getValue());
+    }
+
+    @Test
+    public void testExpiredValue() throws Exception {
+        final SharedClient<String, Integer> client = this.create("zero-ttl-expired",
+                new JsonObject().put("mode", "lazy"));
+        client.put("written", 1, 1);
+        Thread.sleep(1200);
+        // Written again after deadline, but before the expired value is removed
+        client.fetchSync().put("written", 2);
+        Assert.assertEquals(Integer.valueOf(2), client.get("written"));
+        Assert.assertEquals(1L, client.statistics().getLong("expiredOnRead").longValue());
+    }
+
+    @Test
+    public void testAtomic() throws Exception {
+        final SharedClient<String, Integer> client = this.create("zero-ttl-atomic", new JsonObject());
+        final AtomicInteger added = new AtomicInteger();
+        final List<Thread> threads = new ArrayList<>();
+        for (int thread = 0; thread < 4; thread++) {
+            final int value = thread;
+            threads.add(new Thread(() -> {
+                for (int idx = 0; idx < 10000; idx++) {
+                    if (value == client.putIfAbsent("key" + idx, value, 60).getValue()) {
+                        added.incrementAndGet();
+                    }
+                    client.compute("counter", (key, current) -> null == current ? 1 : current + 1);
+                }
+            }));
+        }
+        for (final Thread thread : threads) {
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        // Each key is added by only one writer
+        Assert.assertEquals(10000, added.get());
+        Assert.assertEquals(Integer.valueOf(40000), client.get("counter"));
+        // Removed by null
+        Assert.assertNull(client.compute("counter", (key, current) -> null));
+        Assert.assertNull(client.get("counter"));
+    }
+
+    @Test
+    public void testAsync() throws Exception {
+        final SharedClientImpl<String, Integer> impl = new SharedClientImpl<>(VERTX);
+        impl.create(new JsonObject().put("async", true), "zero-ttl-async");
+        this.await(() -> null != impl.fetchAsync(), 5000);
+        final List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int idx = 0; idx < 100; idx++) {
+            final CompletableFuture<Integer> future = new CompletableFuture<>();
+            VERTX.runOnContext(nil -> impl.compute("counter", (key, current) -> null == current ? 1 : current + 1,
+                    res -> future.complete(res.result())));
+            futures.add(future);
+        }
+        for (final CompletableFuture<Integer> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        final CompletableFuture<Integer> value = new CompletableFuture<>();
+        impl.get("counter", res -> value.complete(res.result()));
+        Assert.assertEquals(Integer.valueOf(100), value.get(10, TimeUnit.SECONDS));
+        // Async put with ttl
+        final CompletableFuture<Integer> expired = new CompletableFuture<>();
+        impl.put("expired", 1, 1, put -> VERTX.setTimer(1500,
+                id -> impl.get("expired", res -> expired.complete(res.result()))));
+        Assert.assertNull(expired.get(10, TimeUnit.SECONDS));
+        // Async get once of expired value, it's removed on read only
+        final SharedClientImpl<String, Integer> lazy = new SharedClientImpl<>(VERTX);
+        lazy.create(new JsonObject().put("async", true)
+                .put("ttl", new JsonObject().put("mode", "lazy")), "zero-ttl-async-lazy");
+        this.await(() -> null != lazy.fetchAsync(), 5000);
+        final CompletableFuture<Integer> once = new CompletableFuture<>();
+        lazy.put("once", 1, 1, put -> VERTX.setTimer(1500,
+                id -> lazy.get("once", true, res -> once.complete(res.result()))));
+        Assert.assertNull(once.get(10, TimeUnit.SECONDS));
+    }
+
+    private void await(final Supplier<Boolean> condition, final long timeout) throws InterruptedException {
+        final long end = System.currentTimeMillis() + timeout;
+        while (!condition.get()) {
+            Assert.assertTrue("Timeout for waiting", System.currentTimeMillis() < end);
+            Thread.sleep(100);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package io.vertx.up.rs.router;
+
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.up.annotations.Body;
+import io.vertx.up.eon.em.BodyMode;
+
+import javax.ws.rs.BodyParam;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.StreamParam;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class BodyApi {
+
+    @Body(limit = 1024)
+    public JsonObject limited(@BodyParam final JsonObject data) {
+        return data;
+    }
+
+    public String query(@QueryParam("name") final String name) {
+        return name;
+    }
+
+    @Body(BodyMode.NONE)
+    public String none() {
+        return "none";
+    }
+
+    public Future<Long> stream(@StreamParam final ReadStream<Buffer> stream) {
+        final Future<Long> future = Future.future();
+        final AtomicLong size = new AtomicLong();
+        stream.exceptionHandler(future::tryFail)
+                .endHandler(nil -> future.tryComplete(size.get()))
+                .handler(buffer -> size.addAndGet(buffer.length()));
+        return future;
+    }
+}
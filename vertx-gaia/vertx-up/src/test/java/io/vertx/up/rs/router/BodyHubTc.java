@@ -0,0 +1,196 @@
+package io.vertx.up.rs.router;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.Route;
+import io.vertx.ext.web.Router;
+import io.vertx.up.atom.agent.Event;
+import io.vertx.up.eon.ID;
+import io.vertx.up.eon.Orders;
+import io.vertx.up.eon.em.BodyMode;
+import io.vertx.up.rs.hunt.SyncAim;
+import io.zero.quiz.HttpBase;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.ws.rs.core.MediaType;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class BodyHubTc extends HttpBase {
+
+    private static final long STREAM_SIZE = 2L * 1024 * 1024 * 1024;
+
+    private final transient BodyHub hub = new BodyHub(new JsonObject()
+            .put("limit", 4096)
+            .put("empty", new JsonArray().add("GET").add("DELETE")));
+    private final transient AtomicReference<Object> body = new AtomicReference<>();
+
+    private transient HttpClient client;
+
+    @Before
+    public void setUp() throws Exception {
+        final Router router = Router.router(this.vertx);
+        new RouterAxis(new WebScope(new JsonObject(), Collections.emptySet())).mount(router);
+        this.mount(router, "limited", HttpMethod.POST, "/body/limited");
+        this.mount(router, "query", HttpMethod.GET, "/body/query");
+        this.mount(router, "none", HttpMethod.POST, "/body/none");
+        this.mount(router, "stream", HttpMethod.POST, "/body/stream");
+        this.listen(router);
+        // The connection is not reused, the body of rejected request is left unread by server
+        this.client = this.vertx.createHttpClient(new HttpClientOptions().setKeepAlive(false));
+    }
+
+    @Test
+    public void testMode() throws Exception {
+        Assert.assertEquals(BodyMode.BUFFER, this.hub.mode(this.event("limited", HttpMethod.POST, "/mode/limited"), null));
+        Assert.assertEquals(BodyMode.NONE, this.hub.mode(this.event("query", HttpMethod.GET, "/mode/query"), null));
+        // The method is not in `empty` list
+        Assert.assertEquals(BodyMode.BUFFER, this.hub.mode(this.event("query", HttpMethod.PUT, "/mode/query"), null));
+        Assert.assertEquals(BodyMode.STREAM, this.hub.mode(this.event("stream", HttpMethod.POST, "/mode/stream"), null));
+    }
+
+    @Test
+    public void testLimit() throws Exception {
+        final JsonObject data = new JsonObject().put("name", "Lang");
+        final JsonObject accepted = this.request(HttpMethod.POST, "/body/limited", data.toBuffer(), 200);
+        Assert.assertEquals(data, accepted.getJsonObject("data"));
+        // @Body(limit = 1024) overwrites configured limit 4096
+        final StringBuilder content = new StringBuilder();
+        for (int idx = 0; idx < 2048; idx++) {
+            content.append('x');
+        }
+        final JsonObject rejected = this.request(HttpMethod.POST, "/body/limited",
+                new JsonObject().put("name", content.toString()).toBuffer(), 413);
+        Assert.assertEquals(-60038, rejected.getInteger("code").intValue());
+    }
+
+    @Test
+    public void testNone() throws Exception {
+        final JsonObject query = this.request(HttpMethod.GET, "/body/query?name=Lang", null, 200);
+        Assert.assertEquals("Lang", query.getString("data"));
+        Assert.assertEquals(BodyMode.NONE, this.body.get());
+        // Body is not read even if it's sent
+        final JsonObject none = this.request(HttpMethod.POST, "/body/none", Buffer.buffer("ignored"), 200);
+        Assert.assertEquals("none", none.getString("data"));
+        Assert.assertEquals(BodyMode.NONE, this.body.get());
+    }
+
+    @Test
+    public void testStream() throws Exception {
+        final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        final long baseline = memory.getHeapMemoryUsage().getUsed();
+        final AtomicLong peak = new AtomicLong();
+        final AtomicBoolean running = new AtomicBoolean(true);
+        // Retained heap ( after gc ) is sampled while streaming
+        final Thread sampler = new Thread(() -> {
+            while (running.get()) {
+                System.gc();
+                peak.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+                try {
+                    Thread.sleep(200);
+                } catch (final InterruptedException ex) {
+                    return;
+                }
+            }
+        });
+        sampler.start();
+        final CompletableFuture<JsonObject> response = new CompletableFuture<>();
+        final HttpClientRequest request = this.client.post(this.port(), "localhost", "/body/stream",
+                res -> res.bodyHandler(buffer -> response.complete(buffer.toJsonObject())))
+                .exceptionHandler(response::completeExceptionally)
+                .putHeader("Content-Type", "application/octet-stream")
+                .setChunked(true);
+        final Buffer chunk = Buffer.buffer(new byte[64 * 1024]);
+        // Write after connected, otherwise the chunks are queued before the write queue is checked
+        request.sendHead(version -> this.write(request, chunk, STREAM_SIZE / chunk.length()));
+        try {
+            final JsonObject result = response.get(300, TimeUnit.SECONDS);
+            Assert.assertEquals(STREAM_SIZE, result.getLong("data").longValue());
+            Assert.assertEquals(BodyMode.STREAM, this.body.get());
+        } finally {
+            running.set(false);
+            sampler.join();
+        }
+        // The body is not buffered, retained heap is not related to the size of body
+        Assert.assertTrue("Retained heap grows " + (peak.get() - baseline),
+                peak.get() - baseline < 64L * 1024 * 1024);
+    }
+
+    private void write(final HttpClientRequest request, final Buffer chunk, final long remaining) {
+        long left = remaining;
+        while (0 < left && !request.writeQueueFull()) {
+            request.write(chunk.copy());
+            left--;
+        }
+        if (0 == left) {
+            request.end();
+        } else {
+            final long next = left;
+            request.drainHandler(nil -> this.write(request, chunk, next));
+        }
+    }
+
+    private JsonObject request(final HttpMethod method, final String uri,
+                               final Buffer data, final int status) throws Exception {
+        final CompletableFuture<JsonObject> response = new CompletableFuture<>();
+        final AtomicInteger code = new AtomicInteger();
+        final HttpClientRequest request = this.client.request(method, this.port(), "localhost", uri, res -> {
+            code.set(res.statusCode());
+            res.bodyHandler(buffer -> response.complete(buffer.toJsonObject()));
+        }).exceptionHandler(response::completeExceptionally);
+        if (null == data) {
+            request.end();
+        } else {
+            request.putHeader("Content-Type", "application/json").end(data);
+        }
+        final JsonObject result = response.get(TIMEOUT, TimeUnit.SECONDS);
+        Assert.assertEquals(status, code.get());
+        return result;
+    }
+
+    private void mount(final Router router, final String name,
+                       final HttpMethod method, final String path) throws Exception {
+        final Event event = this.event(name, method, path);
+        this.hub.mount(router.route(), event);
+        router.route(path).method(method).order(Orders.EVENT - 1).handler(context -> {
+            this.body.set(context.get(ID.BODY_HANDLED));
+            context.next();
+        });
+        final Route route = router.route();
+        new UriHub().mount(route, event);
+        route.handler(new SyncAim().attack(event));
+    }
+
+    private Event event(final String name, final HttpMethod method, final String path) {
+        Method action = null;
+        for (final Method item : BodyApi.class.getDeclaredMethods()) {
+            if (name.equals(item.getName())) {
+                action = item;
+            }
+        }
+        final Event event = new Event();
+        event.setPath(path);
+        event.setMethod(method);
+        event.setAction(action);
+        event.setProxy(new BodyApi());
+        event.setConsumes(Collections.singleton(MediaType.WILDCARD_TYPE));
+        event.setProduces(Collections.singleton(MediaType.WILDCARD_TYPE));
+        return event;
+    }
+}
@@ -0,0 +1,17 @@
+package io.vertx.up.rs.router;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.up.annotations.Sock;
+import io.vertx.up.atom.Envelop;
+
+@Sock(value = "/ws/notify", broadcast = "ZERO://SOCK/NOTIFY")
+public class NotifySock {
+
+    public Envelop echo(final Envelop envelop) {
+        final JsonObject data = envelop.data();
+        if (null != envelop.user()) {
+            data.put("user", envelop.user().principal());
+        }
+        return Envelop.success(data);
+    }
+}
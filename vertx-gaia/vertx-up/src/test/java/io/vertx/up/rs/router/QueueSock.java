@@ -0,0 +1,15 @@
+package io.vertx.up.rs.router;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.up.annotations.Address;
+import io.vertx.up.annotations.Sock;
+import io.vertx.up.atom.Envelop;
+
+@Sock("/ws/queue")
+public class QueueSock {
+
+    @Address("ZERO://SOCK/QUEUE")
+    public JsonObject send(final Envelop envelop) {
+        return envelop.data();
+    }
+}
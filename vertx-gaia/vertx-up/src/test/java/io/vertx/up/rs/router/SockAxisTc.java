@@ -0,0 +1,228 @@
+package io.vertx.up.rs.router;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.EnvelopCodec;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.WebSocket;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.auth.AbstractUser;
+import io.vertx.ext.auth.AuthProvider;
+import io.vertx.ext.web.Router;
+import io.vertx.up.atom.Envelop;
+import io.vertx.up.eon.Orders;
+import io.vertx.up.web.origin.Inquirer;
+import io.vertx.up.web.origin.SockInquirer;
+import io.vertx.zero.mirror.Pack;
+import io.zero.epic.Ut;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SockAxisTc {
+
+    private static final int PORT = 6400;
+    private static final int CLIENTS = 2000;
+    private static final String NOTIFY = "/ws/notify/websocket";
+    private static final String BROADCAST = "ZERO://SOCK/NOTIFY";
+
+    private transient Vertx vertx;
+    private transient Vertx client;
+    private transient HttpServer server;
+    private transient HttpClient http;
+    private transient SockAxis axis;
+
+    @After
+    public void tearDown() throws Exception {
+        if (null == this.vertx) {
+            return;
+        }
+        final CompletableFuture<Void> clientClosed = new CompletableFuture<>();
+        this.client.close(res -> clientClosed.complete(null));
+        clientClosed.get(30, TimeUnit.SECONDS);
+        final CompletableFuture<Void> closed = new CompletableFuture<>();
+        this.vertx.close(res -> closed.complete(null));
+        closed.get(30, TimeUnit.SECONDS);
+    }
+
+    /*
+     * Same as ZeroAnno.getSocks(), the static block of ZeroAnno could not be initialized
+     * in this module because of the duplicated walls ( io.vertx.quiz.example.WallKeeper* ).
+     */
+    private static Set<Class<?>> socks() {
+        final Inquirer<Set<Class<?>>> inquirer = Ut.singleton(SockInquirer.class);
+        return inquirer.scan(Pack.getClasses(null));
+    }
+
+    @Test
+    public void testScanned() {
+        // Class index ( META-INF/zero/index ) -> @Sock classes mounted by ZeroSockAgent
+        Assert.assertTrue(socks().containsAll(Arrays.asList(NotifySock.class, QueueSock.class)));
+    }
+
+    @Test
+    public void testMessage() throws Exception {
+        this.start(new JsonObject());
+        final WebSocket socket = this.connect(NOTIFY);
+        Assert.assertEquals(SockChannel.PONG, this.send(socket, SockChannel.PING).toString());
+        final JsonObject echo = this.send(socket, new JsonObject().put("name", "Lang").encode()).toJsonObject();
+        Assert.assertEquals("Lang", echo.getJsonObject("data").getString("name"));
+        // User of handshake request ( @Wall )
+        Assert.assertEquals("zero", echo.getJsonObject("data").getJsonObject("user").getString("username"));
+        final JsonObject invalid = this.send(socket, "{invalid").toJsonObject();
+        Assert.assertEquals(-60011, invalid.getInteger("code").intValue());
+    }
+
+    @Test
+    public void testAddress() throws Exception {
+        this.start(new JsonObject());
+        this.vertx.eventBus().<Envelop>consumer("ZERO://SOCK/QUEUE", message -> {
+            final JsonObject data = message.body().data();
+            message.reply(Envelop.success(data.put("worker", true)));
+        });
+        final WebSocket socket = this.connect("/ws/queue/websocket");
+        final JsonObject reply = this.send(socket, new JsonObject().put("name", "Lang").encode()).toJsonObject();
+        Assert.assertTrue(reply.getJsonObject("data").getBoolean("worker"));
+    }
+
+    @Test
+    public void testIdle() throws Exception {
+        this.start(new JsonObject().put("idle", 400));
+        final CompletableFuture<Long> silentClosed = new CompletableFuture<>();
+        final long started = System.currentTimeMillis();
+        final WebSocket silent = this.connect(NOTIFY);
+        silent.closeHandler(nil -> silentClosed.complete(System.currentTimeMillis() - started));
+        final WebSocket active = this.connect(NOTIFY);
+        final AtomicInteger pongs = new AtomicInteger();
+        active.handler(buffer -> pongs.incrementAndGet());
+        final long timer = this.client.setPeriodic(100, id -> active.writeTextMessage(SockChannel.PING));
+        final long elapsed = silentClosed.get(10, TimeUnit.SECONDS);
+        Assert.assertTrue(elapsed >= 400);
+        Thread.sleep(600);
+        this.client.cancelTimer(timer);
+        Assert.assertEquals(1, this.axis.channel("/ws/notify").size());
+        Assert.assertTrue(pongs.get() > 0);
+    }
+
+    @Test
+    public void testBackpressure() throws Exception {
+        this.start(new JsonObject().put("writeQueue", 65536));
+        final WebSocket slow = this.connect(NOTIFY);
+        slow.handler(buffer -> {
+        }).pause();
+        final WebSocket fast = this.connect(NOTIFY);
+        final AtomicInteger received = new AtomicInteger();
+        fast.binaryMessageHandler(buffer -> received.incrementAndGet());
+        final char[] chars = new char[128 * 1024];
+        Arrays.fill(chars, 'x');
+        final Envelop frame = Envelop.success(new JsonObject().put("payload", new String(chars)));
+        for (int idx = 0; idx < 200; idx++) {
+            this.vertx.eventBus().publish(BROADCAST, frame);
+        }
+        final SockChannel channel = this.axis.channel("/ws/notify");
+        final long deadline = System.currentTimeMillis() + 30000;
+        // Frames written to paused connection are neither received nor dropped
+        while (received.get() + channel.dropped() < 200 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        // The frames to paused connection are skipped instead of queued in memory
+        Assert.assertTrue(channel.dropped() > 0);
+        Assert.assertTrue(received.get() > 0);
+        Assert.assertEquals(2, channel.size());
+    }
+
+    @Test
+    public void testBroadcast() throws Exception {
+        this.start(new JsonObject());
+        final CountDownLatch latch = new CountDownLatch(CLIENTS);
+        final List<WebSocket> sockets = new ArrayList<>();
+        // Connect in batches, the accept backlog is limited
+        for (int batch = 0; batch < CLIENTS; batch += 200) {
+            final List<CompletableFuture<WebSocket>> connecting = new ArrayList<>();
+            for (int idx = batch; idx < Math.min(CLIENTS, batch + 200); idx++) {
+                final CompletableFuture<WebSocket> future = new CompletableFuture<>();
+                this.http.websocket(PORT, "localhost", NOTIFY, socket -> {
+                    socket.binaryMessageHandler(buffer -> latch.countDown());
+                    future.complete(socket);
+                }, future::completeExceptionally);
+                connecting.add(future);
+            }
+            for (final CompletableFuture<WebSocket> future : connecting) {
+                sockets.add(future.get(60, TimeUnit.SECONDS));
+            }
+        }
+        final SockChannel channel = this.axis.channel("/ws/notify");
+        Assert.assertEquals(CLIENTS, sockets.size());
+        Assert.assertEquals(CLIENTS, channel.size());
+        this.vertx.eventBus().publish(BROADCAST, Envelop.success(new JsonObject().put("notice", "zero")));
+        Assert.assertTrue(latch.await(60, TimeUnit.SECONDS));
+        Assert.assertEquals(0, channel.dropped());
+    }
+
+    private void start(final JsonObject config) throws Exception {
+        this.vertx = Vertx.vertx();
+        this.vertx.eventBus().registerDefaultCodec(Envelop.class, new EnvelopCodec());
+        this.client = Vertx.vertx();
+        // Each websocket holds one connection of the pool
+        this.http = this.client.createHttpClient(new HttpClientOptions().setMaxPoolSize(CLIENTS));
+        final Router router = Router.router(this.vertx);
+        // Authenticated handshake, same as the handler of @Wall
+        router.route("/ws/notify/*").order(Orders.SECURE).handler(context -> {
+            context.setUser(new AbstractUser() {
+                @Override
+                protected void doIsPermitted(final String permission,
+                                             final Handler<AsyncResult<Boolean>> handler) {
+                    handler.handle(Future.succeededFuture(true));
+                }
+
+                @Override
+                public JsonObject principal() {
+                    return new JsonObject().put("username", "zero");
+                }
+
+                @Override
+                public void setAuthProvider(final AuthProvider provider) {
+                }
+            });
+            context.next();
+        });
+        this.axis = new SockAxis(this.vertx, config, socks());
+        this.axis.mount(router);
+        final CompletableFuture<HttpServer> started = new CompletableFuture<>();
+        this.vertx.createHttpServer().requestHandler(router).listen(PORT, "localhost", res -> {
+            if (res.succeeded()) {
+                started.complete(res.result());
+            } else {
+                started.completeExceptionally(res.cause());
+            }
+        });
+        this.server = started.get(10, TimeUnit.SECONDS);
+    }
+
+    private WebSocket connect(final String uri) throws Exception {
+        final CompletableFuture<WebSocket> future = new CompletableFuture<>();
+        this.http.websocket(PORT, "localhost", uri, future::complete, future::completeExceptionally);
+        return future.get(10, TimeUnit.SECONDS);
+    }
+
+    private Buffer send(final WebSocket socket, final String frame) throws Exception {
+        final CompletableFuture<Buffer> future = new CompletableFuture<>();
+        socket.handler(future::complete);
+        socket.writeTextMessage(frame);
+        return future.get(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,23 @@
+package io.vertx.up.rs.router;
+
+import io.vertx.up.annotations.Cors;
+import io.vertx.up.annotations.Stateful;
+
+import javax.ws.rs.CookieParam;
+
+@Cors
+public class WebApi {
+
+    @Stateful
+    public String login() {
+        return "login";
+    }
+
+    public String cookie(@CookieParam("name") final String name) {
+        return name;
+    }
+
+    public String plain() {
+        return "plain";
+    }
+}
@@ -0,0 +1,172 @@
+package io.vertx.up.rs.router;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.Cookie;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.handler.SessionHandler;
+import io.vertx.ext.web.sstore.LocalSessionStore;
+import io.vertx.up.atom.agent.Event;
+import io.vertx.up.eon.Orders;
+import io.zero.quiz.HttpBase;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class WebScopeTc extends HttpBase {
+
+    private static final String ORIGIN = "http://www.vertxup.cn";
+
+    private transient HttpClient client;
+    private transient LocalSessionStore store;
+    private transient WebScope scope;
+
+    @Before
+    public void setUp() throws Exception {
+        final Set<Event> events = new HashSet<>();
+        events.add(this.event("login", "/web/login"));
+        events.add(this.event("cookie", "/web/cookie"));
+        events.add(this.event("plain", "/web/plain"));
+        // @WebFilter, the filter may read session
+        final Event filter = new Event();
+        filter.setPath("/filter/*");
+        this.scope = new WebScope(new JsonObject()
+                .put("cookie", new JsonArray().add("/web/*"))
+                .put("cors", new JsonObject()
+                        .put("origins", new JsonArray().add(ORIGIN))
+                        .put("maxAge", 600)
+                        .put("headers", new JsonArray().add("Content-Type"))
+                        .put("methods", new JsonArray().add("GET"))), events, Collections.singleton(filter));
+        this.store = LocalSessionStore.create(this.vertx);
+        final Router router = Router.router(this.vertx);
+        new RouterAxis(this.scope).mount(router);
+        this.scope.session(router, SessionHandler.create(this.store));
+        router.get("/web/cookie").order(Orders.EVENT - 1).handler(context -> {
+            context.addCookie(Cookie.cookie("name", "Lang"));
+            context.next();
+        });
+        router.get().order(Orders.EVENT).handler(context -> context.response()
+                .end(null == context.session() ? "stateless" : "session"));
+        this.listen(router);
+        this.client = this.vertx.createHttpClient(new HttpClientOptions().setKeepAlive(false));
+    }
+
+    @Test
+    public void testScope() {
+        Assert.assertTrue(this.scope.getCookies().contains("/web/*"));
+        Assert.assertTrue(this.scope.getCookies().contains("/web/login"));
+        Assert.assertTrue(this.scope.getCookies().contains("/web/cookie"));
+        Assert.assertFalse(this.scope.getCookies().contains("/web/plain"));
+        Assert.assertEquals(2, this.scope.getSessions().size());
+        Assert.assertTrue(this.scope.getSessions().contains("/web/login"));
+        Assert.assertTrue(this.scope.getSessions().contains("/filter/*"));
+        Assert.assertTrue(this.scope.getCookies().contains("/filter/*"));
+        // @Cors on class
+        Assert.assertEquals(3, this.scope.getCors().size());
+    }
+
+    @Test
+    public void testStateless() throws Exception {
+        for (int idx = 0; idx < 32; idx++) {
+            final Response response = this.request(HttpMethod.GET, "/plain", MultiMap.caseInsensitiveMultiMap()
+                    .add("Origin", ORIGIN)
+                    .add("Cookie", "vertx-web.session=invalid"));
+            Assert.assertEquals(200, response.status);
+            Assert.assertEquals("stateless", response.body);
+            Assert.assertFalse(response.headers.contains("Set-Cookie"));
+            Assert.assertFalse(response.headers.contains("Access-Control-Allow-Origin"));
+        }
+        Assert.assertEquals(0, this.size());
+    }
+
+    @Test
+    public void testStateful() throws Exception {
+        final Response response = this.request(HttpMethod.GET, "/web/login", MultiMap.caseInsensitiveMultiMap());
+        Assert.assertEquals("session", response.body);
+        Assert.assertEquals(1, response.headers.getAll("Set-Cookie").size());
+        Assert.assertEquals(1, this.size());
+        // Cookie only
+        final Response cookie = this.request(HttpMethod.GET, "/web/cookie", MultiMap.caseInsensitiveMultiMap());
+        Assert.assertEquals("stateless", cookie.body);
+        // The paths /web/* and /web/cookie overlap, cookie handler is executed once
+        Assert.assertEquals(1, cookie.headers.getAll("Set-Cookie").size());
+        Assert.assertEquals(1, this.size());
+        // Filter path
+        final Response filtered = this.request(HttpMethod.GET, "/filter/user", MultiMap.caseInsensitiveMultiMap());
+        Assert.assertEquals("session", filtered.body);
+        Assert.assertEquals(2, this.size());
+    }
+
+    @Test
+    public void testCors() throws Exception {
+        final MultiMap preflight = MultiMap.caseInsensitiveMultiMap()
+                .add("Origin", ORIGIN)
+                .add("Access-Control-Request-Method", "GET");
+        final Response allowed = this.request(HttpMethod.OPTIONS, "/web/plain", preflight);
+        Assert.assertEquals(200, allowed.status);
+        Assert.assertEquals(ORIGIN, allowed.headers.get("Access-Control-Allow-Origin"));
+        Assert.assertEquals("600", allowed.headers.get("Access-Control-Max-Age"));
+        // Origin is not in whitelist
+        final Response rejected = this.request(HttpMethod.OPTIONS, "/web/plain", MultiMap.caseInsensitiveMultiMap()
+                .add("Origin", "http://www.unknown.cn")
+                .add("Access-Control-Request-Method", "GET"));
+        Assert.assertEquals(403, rejected.status);
+        final Response simple = this.request(HttpMethod.GET, "/web/plain", MultiMap.caseInsensitiveMultiMap()
+                .add("Origin", ORIGIN));
+        Assert.assertEquals(ORIGIN, simple.headers.get("Access-Control-Allow-Origin"));
+    }
+
+    private int size() throws Exception {
+        final CompletableFuture<Integer> size = new CompletableFuture<>();
+        this.store.size(res -> size.complete(res.result()));
+        return size.get(TIMEOUT, TimeUnit.SECONDS);
+    }
+
+    private Response request(final HttpMethod method, final String uri,
+                             final MultiMap headers) throws Exception {
+        final CompletableFuture<Response> response = new CompletableFuture<>();
+        final HttpClientRequest request = this.client.request(method, this.port(), "localhost", uri, res -> res.bodyHandler(buffer -> {
+            final Response result = new Response();
+            result.status = res.statusCode();
+            result.headers = res.headers();
+            result.body = buffer.toString();
+            response.complete(result);
+        })).exceptionHandler(response::completeExceptionally);
+        request.headers().addAll(headers);
+        request.end();
+        return response.get(TIMEOUT, TimeUnit.SECONDS);
+    }
+
+    private Event event(final String name, final String path) {
+        Method action = null;
+        for (final Method item : WebApi.class.getDeclaredMethods()) {
+            if (name.equals(item.getName())) {
+                action = item;
+            }
+        }
+        final Event event = new Event();
+        event.setPath(path);
+        event.setMethod(HttpMethod.GET);
+        event.setAction(action);
+        event.setProxy(new WebApi());
+        return event;
+    }
+
+    private static class Response {
+        private transient int status;
+        private transient MultiMap headers;
+        private transient String body;
+    }
+}
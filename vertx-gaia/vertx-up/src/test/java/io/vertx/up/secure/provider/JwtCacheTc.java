@@ -0,0 +1,210 @@
+package io.vertx.up.secure.provider;
+
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.auth.User;
+import io.vertx.ext.jwt.JWTOptions;
+import io.zero.epic.Ut;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class JwtCacheTc {
+
+    private static final JsonObject CONFIG = new JsonObject()
+            .put("pubSecKeys", new JsonArray().add(new JsonObject()
+                    .put("algorithm", "HS256")
+                    .put("publicKey", "zero-jwt-cache")
+                    .put("symmetric", true)))
+            .put("cache", new JsonObject().put("enabled", true));
+
+    private static Vertx VERTX;
+
+    @BeforeClass
+    public static void setUp() {
+        VERTX = Vertx.vertx();
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        VERTX.close();
+    }
+
+    @Test
+    public void testCache() throws Exception {
+        final AtomicInteger counter = new AtomicInteger();
+        final JwtAuth auth = JwtAuth.create(VERTX, CONFIG.copy(), this.executor(counter));
+        final String token = auth.generateToken(new JsonObject().put("user", "lang"),
+                new JWTOptions().setExpiresInSeconds(60));
+        // Verified once and cached
+        Assert.assertEquals("lang", this.authenticate(auth, token).result().principal().getString("user"));
+        Assert.assertEquals("lang", this.authenticate(auth, token).result().principal().getString("user"));
+        Assert.assertEquals(1, counter.get());
+        // Revoked
+        auth.revoke(token);
+        Assert.assertTrue(this.authenticate(auth, token).succeeded());
+        Assert.assertEquals(2, counter.get());
+    }
+
+    @Test
+    public void testExpired() throws Exception {
+        final AtomicInteger counter = new AtomicInteger();
+        final JwtAuth auth = JwtAuth.create(VERTX, CONFIG.copy(), this.executor(counter));
+        final String token = auth.generateToken(new JsonObject().put("user", "lang"),
+                new JWTOptions().setExpiresInSeconds(1));
+        Assert.assertTrue(this.authenticate(auth, token).succeeded());
+        Thread.sleep(2100);
+        // Cached principal expired at "exp" of token
+        Assert.assertTrue(this.authenticate(auth, token).failed());
+        Assert.assertEquals(2, counter.get());
+    }
+
+    @Test
+    public void testBroadcast() throws Exception {
+        final AtomicInteger counter = new AtomicInteger();
+        final JwtAuth first = JwtAuth.create(VERTX, CONFIG.copy(), this.executor(counter));
+        final JwtAuth second = JwtAuth.create(VERTX, CONFIG.copy(), this.executor(counter));
+        final String token = first.generateToken(new JsonObject().put("user", "broadcast"),
+                new JWTOptions().setExpiresInSeconds(60));
+        this.authenticate(first, token);
+        this.authenticate(second, token);
+        Assert.assertEquals(2, counter.get());
+        // Revoked on the first one, removed from the second one by event bus
+        first.revoke(token);
+        this.await(() -> {
+            try {
+                this.authenticate(second, token);
+            } catch (final Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+            return 3 <= counter.get();
+        });
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        final AtomicInteger counter = new AtomicInteger();
+        final JwtAuth first = JwtAuth.create(VERTX, CONFIG.copy(), this.executor(counter));
+        final JwtAuth second = JwtAuth.create(VERTX, CONFIG.copy(), this.executor(counter));
+        final String token = first.generateToken(new JsonObject().put("user", "close"),
+                new JWTOptions().setExpiresInSeconds(60));
+        this.authenticate(second, token);
+        // Closed provider does not consume revoked tokens any more
+        second.close();
+        first.revoke(token);
+        Thread.sleep(300);
+        this.authenticate(second, token);
+        Assert.assertEquals(1, counter.get());
+    }
+
+    @Test
+    public void testUndeploy() throws Exception {
+        final AtomicInteger counter = new AtomicInteger();
+        final AtomicReference<JwtAuth> created = new AtomicReference<>();
+        // The provider of @Wall is created when the router of agent is mounted
+        final CompletableFuture<String> deployed = new CompletableFuture<>();
+        VERTX.deployVerticle(new AbstractVerticle() {
+            @Override
+            public void start() {
+                created.set(JwtAuth.create(this.vertx, CONFIG.copy(), JwtCacheTc.this.executor(counter)));
+            }
+        }, res -> deployed.complete(res.result()));
+        final String id = deployed.get(10, TimeUnit.SECONDS);
+        final JwtAuth first = JwtAuth.create(VERTX, CONFIG.copy(), this.executor(new AtomicInteger()));
+        final String token = first.generateToken(new JsonObject().put("user", "undeploy"),
+                new JWTOptions().setExpiresInSeconds(60));
+        this.authenticate(created.get(), token);
+        // The provider is closed with the verticle
+        final CompletableFuture<Void> undeployed = new CompletableFuture<>();
+        VERTX.undeploy(id, res -> undeployed.complete(null));
+        undeployed.get(10, TimeUnit.SECONDS);
+        Assert.assertNull(Ut.field(created.get(), "revoker"));
+        first.revoke(token);
+        Thread.sleep(300);
+        this.authenticate(created.get(), token);
+        Assert.assertEquals(1, counter.get());
+    }
+
+    @Test
+    public void testCopy() throws Exception {
+        final JwtAuth auth = JwtAuth.create(VERTX, CONFIG.copy(), this.executor(new AtomicInteger()));
+        final String token = auth.generateToken(new JsonObject().put("user", "lang"),
+                new JWTOptions().setExpiresInSeconds(60));
+        this.authenticate(auth, token).result().principal().put("user", "changed");
+        final User cached = this.authenticate(auth, token).result();
+        cached.principal().put("user", "changed");
+        Assert.assertEquals("lang", this.authenticate(auth, token).result().principal().getString("user"));
+    }
+
+    @Test
+    public void testDisabled() throws Exception {
+        final JsonObject config = CONFIG.copy();
+        config.remove("cache");
+        // Local cache is opt-in, the shared async map of previous version is used by default
+        final JwtAuth auth = JwtAuth.create(VERTX, config, this.executor(new AtomicInteger()));
+        final String token = auth.generateToken(new JsonObject().put("user", "lang"),
+                new JWTOptions().setExpiresInSeconds(60));
+        this.await(() -> {
+            try {
+                this.authenticate(auth, token);
+                final CompletableFuture<Boolean> pooled = new CompletableFuture<>();
+                VERTX.sharedData().<String, Boolean>getAsyncMap("JWT_AUTH_TOKEN_POOL",
+                        map -> map.result().get(token, res -> pooled.complete(res.result())));
+                return Boolean.TRUE.equals(pooled.get(10, TimeUnit.SECONDS));
+            } catch (final Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+    }
+
+    @Test
+    public void testSize() {
+        final JwtCache cache = new JwtCache(2, 0);
+        final JsonObject payload = new JsonObject().put("exp", System.currentTimeMillis() / 1000 + 60);
+        cache.put("a", payload);
+        cache.put("b", payload);
+        cache.get("a");
+        cache.put("c", payload);
+        Assert.assertEquals(2, cache.size());
+        // Least recently used "b" removed
+        Assert.assertNull(cache.get("b"));
+        Assert.assertNotNull(cache.get("a"));
+        // Ttl limitation
+        final JwtCache limited = new JwtCache(2, 1);
+        limited.put("a", new JsonObject());
+        Assert.assertNotNull(limited.get("a"));
+    }
+
+    private Function<JsonObject, Future<Boolean>> executor(final AtomicInteger counter) {
+        return authInfo -> {
+            counter.incrementAndGet();
+            return Future.succeededFuture(Boolean.TRUE);
+        };
+    }
+
+    private AsyncResult<User> authenticate(final JwtAuth auth, final String token) throws Exception {
+        final CompletableFuture<AsyncResult<User>> future = new CompletableFuture<>();
+        auth.authenticate(new JsonObject().put("jwt", token), future::complete);
+        return future.get(10, TimeUnit.SECONDS);
+    }
+
+    private void await(final Supplier<Boolean> condition) throws InterruptedException {
+        final long end = System.currentTimeMillis() + 10000;
+        while (!condition.get()) {
+            Assert.assertTrue("Timeout for waiting", System.currentTimeMillis() < end);
+            Thread.sleep(100);
+        }
+    }
+}
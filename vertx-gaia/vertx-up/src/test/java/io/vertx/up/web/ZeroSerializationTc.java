@@ -1,9 +1,12 @@
 package io.vertx.up.web;
 
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.zero.quiz.ZeroBase;
+import io.zero.quiz.H2Item;
 import io.vertx.up.exception._400ParameterFromStringException;
+import org.junit.Assert;
 import org.junit.Test;
 
 import java.math.BigDecimal;
@@ -176,6 +179,43 @@ public class ZeroSerializationTc extends ZeroBase {
                 "\t}\n" +
                 "]");
     }
+
+    @Test
+    public void testJsonDirect() {
+        final JsonObject json = new JsonObject().put("id", 7).put("name", "Lang").put("created", "2019-05-01T10:00:00.000Z");
+        // Json body is converted without literal
+        final H2Item direct = (H2Item) ZeroSerializer.getValue(H2Item.class, json);
+        final H2Item literal = get(H2Item.class, json.encode());
+        Assert.assertEquals(literal.getName(), direct.getName());
+        Assert.assertEquals(literal.getCreated(), direct.getCreated());
+        Assert.assertNull(direct.getScore());
+        // The same type is copied
+        final Object copied = ZeroSerializer.getValue(JsonObject.class, json);
+        Assert.assertEquals(json, copied);
+        Assert.assertNotSame(json, copied);
+        final JsonArray array = new JsonArray().add(json);
+        Assert.assertEquals(get(List.class, array.encode()), ZeroSerializer.getValue(List.class, array));
+    }
+
+    @Test
+    public void testJsonBuffer() {
+        final JsonObject json = new JsonObject().put("id", 7).put("name", "Lang").put("created", "2019-05-01T10:00:00.000Z");
+        // Request body is parsed from bytes without literal
+        final H2Item direct = (H2Item) ZeroSerializer.getValue(H2Item.class, json.toBuffer());
+        final H2Item literal = get(H2Item.class, json.encode());
+        Assert.assertEquals("Lang", direct.getName());
+        Assert.assertEquals(literal.getCreated(), direct.getCreated());
+        Assert.assertEquals(json, ZeroSerializer.getValue(JsonObject.class, json.toBuffer()));
+        final JsonArray array = new JsonArray().add(json);
+        Assert.assertEquals(array, ZeroSerializer.getValue(JsonArray.class, array.toBuffer()));
+        Assert.assertEquals("Lang", ZeroSerializer.getValue(String.class, Buffer.buffer("Lang")));
+        Assert.assertNull(ZeroSerializer.getValue(JsonObject.class, Buffer.buffer()));
+    }
+
+    @Test(expected = _400ParameterFromStringException.class)
+    public void testJsonBufferInvalid() {
+        ZeroSerializer.getValue(JsonObject.class, Buffer.buffer("{\"name\":"));
+    }
 }
 
 enum TestEnum {
@@ -0,0 +1,75 @@
+package io.vertx.zero.mirror;
+
+import io.vertx.up.annotations.Agent;
+import io.vertx.up.annotations.EndPoint;
+import io.vertx.up.annotations.Plugin;
+import io.vertx.up.annotations.Queue;
+import io.vertx.up.annotations.Sock;
+import io.vertx.up.annotations.Wall;
+import io.vertx.up.annotations.Worker;
+import io.vertx.up.micro.ZeroHttpAgent;
+import io.vertx.up.rs.router.NotifySock;
+import io.vertx.up.web.origin.AffluxInquirer;
+import io.vertx.zero.eon.Protocols;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+public class PackIndexTc {
+
+    private static final String ROOT = "io.vertx";
+
+    private static final Predicate<Class<?>> ANNOTATED = clazz ->
+            Arrays.asList(Agent.class, Worker.class, EndPoint.class, Queue.class, Wall.class, Plugin.class,
+                    Sock.class)
+                    .stream().anyMatch(clazz::isAnnotationPresent);
+
+    @Test
+    public void testStartup() {
+        final Set<Class<?>> indexed = new HashSet<>(PackIndex.getClasses());
+        indexed.addAll(PackScanner.getClasses(null, ROOT, true));
+        final Set<Class<?>> scanned = PackScanner.getClasses(null, ROOT, false);
+        // Index + un-indexed roots is the subset of scanning
+        Assert.assertTrue(scanned.containsAll(indexed));
+        // All the annotated classes could be found by index
+        final Set<Class<?>> missing = scanned.stream().filter(ANNOTATED)
+                .filter(clazz -> !indexed.contains(clazz)).collect(Collectors.toSet());
+        Assert.assertTrue("Missing: " + missing, missing.isEmpty());
+        Assert.assertTrue(indexed.contains(ZeroHttpAgent.class));
+        // Each indexed jar skips its un-annotated classes
+        if (!PackIndex.getRoots().isEmpty()) {
+            Assert.assertTrue(indexed.size() < scanned.size());
+        }
+    }
+
+    @Test
+    public void testIndex() throws Exception {
+        final Set<String> written = new HashSet<>();
+        final Enumeration<URL> indexes = Thread.currentThread()
+                .getContextClassLoader().getResources(PackIndex.INDEX);
+        while (indexes.hasMoreElements()) {
+            PackIndex.read(indexes.nextElement(), written);
+        }
+        Assert.assertTrue(written.contains(ZeroHttpAgent.class.getName()));
+        // @Sock without any member annotations
+        Assert.assertTrue(written.contains(NotifySock.class.getName()));
+        // The index of directory may be partial ( incremental compile ), only jar index is trusted
+        Assert.assertTrue(PackIndex.getRoots().stream()
+                .allMatch(root -> root.startsWith(Protocols.JAR + ":")));
+    }
+
+    @Test
+    public void testInjection() {
+        // Un-annotated classes are required by injection, they're not in index
+        final Set<Class<?>> classes = Pack.getClasses(null);
+        Assert.assertTrue(classes.contains(AffluxInquirer.class));
+        Assert.assertTrue(classes.containsAll(Pack.getIndexed()));
+    }
+}
@@ -3,7 +3,6 @@ package up.wall;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
-import io.vertx.ext.auth.jwt.JWTAuthOptions;
 import io.vertx.ext.web.handler.AuthHandler;
 import io.vertx.up.aiki.Ux;
 import io.vertx.up.annotations.Authenticate;
@@ -19,7 +18,7 @@ public class JwtWall implements Security {
     @Authenticate
     public AuthHandler authenticate(final Vertx vertx,
                                     final JsonObject config) {
-        return JwtOstium.create(JwtAuth.create(vertx, new JWTAuthOptions(config), this::verify));
+        return JwtOstium.create(JwtAuth.create(vertx, config, this::verify));
     }
 
     @Override